@@ -0,0 +1,108 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.events;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EventListener;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.ale.o2g.events.O2GEvent;
+import com.ale.o2g.events.telephony.OnCallModifiedEvent;
+import com.ale.o2g.events.telephony.TelephonyEventAdapter;
+
+/**
+ * Compare the dispatch of an event to its listeners with the generated
+ * invokers, and with the former reflective path (method lookup,
+ * {@code setAccessible} and {@code Method.invoke} for each listener).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChunkEventDispatcherBenchmark {
+
+    public static class CountingListener extends TelephonyEventAdapter {
+        private Blackhole blackhole;
+
+        CountingListener(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void onCallModified(OnCallModifiedEvent e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Param({ "1", "4", "16" })
+    private int listenerCount;
+
+    private List<EventListener> listeners;
+    private O2GEventDescriptor descriptor;
+
+    @Setup
+    public void setUp(Blackhole blackhole) throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/events/OnCallModified.json")) {
+            descriptor = EventBuilder.get(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        listeners = new ArrayList<EventListener>();
+        for (int i = 0; i < listenerCount; i++) {
+            listeners.add(new CountingListener(blackhole));
+        }
+    }
+
+    @Benchmark
+    public void reflective() throws Exception {
+        O2GEvent o2gEvent = descriptor.event();
+        for (EventListener listener : listeners) {
+            Method invocationMethod = listener.getClass().getMethod(descriptor.methodName(), o2gEvent.getClass());
+            invocationMethod.setAccessible(true);
+            invocationMethod.invoke(listener, o2gEvent);
+        }
+    }
+
+    @Benchmark
+    public void invoker() {
+        O2GEvent o2gEvent = descriptor.event();
+        for (EventListener listener : listeners) {
+            descriptor.invoker().invoke(listener, o2gEvent);
+        }
+    }
+}
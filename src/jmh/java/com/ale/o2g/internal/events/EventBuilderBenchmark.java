@@ -0,0 +1,97 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.events;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ale.o2g.events.O2GEvent;
+import com.ale.o2g.internal.util.JsonUtil;
+import com.google.gson.Gson;
+
+/**
+ * Compare the event decoding of {@link EventBuilder}, where the name is read by
+ * a streaming scan of the top level members, with the former two pass decoding
+ * where the whole document is bound a first time only to get the event name.
+ * <p>
+ * The payloads are recorded events stored under {@code src/jmh/resources/events}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBuilderBenchmark {
+
+    @Param({ "OnCallModified", "OnAgentRtiChanged" })
+    private String event;
+
+    private String payload;
+    private Class<? extends O2GEvent> eventType;
+
+    private Gson gson = JsonUtil.GSON;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/events/" + event + ".json")) {
+            payload = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        eventType = EventBuilder.get(payload).event().getClass().asSubclass(O2GEvent.class);
+    }
+
+    @Benchmark
+    public O2GEvent twoPass() {
+        // The event name is read with a first full parsing of the document
+        String eventName = gson.fromJson(payload, O2GEvent.class).getName();
+        if (eventName == null) {
+            return null;
+        }
+        return gson.fromJson(payload, eventType);
+    }
+
+    @Benchmark
+    public O2GEvent singlePass() {
+        String eventName = EventBuilder.readEventName(payload);
+        if (eventName == null) {
+            return null;
+        }
+        return gson.fromJson(payload, eventType);
+    }
+
+    @Benchmark
+    public O2GEventDescriptor eventBuilder() {
+        return EventBuilder.get(payload);
+    }
+}
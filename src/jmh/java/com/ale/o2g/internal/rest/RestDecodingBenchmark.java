@@ -0,0 +1,191 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.rest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient.Version;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse.BodySubscriber;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.net.http.HttpResponse.ResponseInfo;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ale.o2g.internal.types.telephony.O2GTelephonicState;
+import com.ale.o2g.types.telephony.TelephonicState;
+import com.google.gson.Gson;
+
+/**
+ * Measure the decoding of REST response bodies by the {@link Gson} instance of
+ * the services, and the cost of a service whose {@code Gson} has never been
+ * used, as after the creation of a new session.
+ * <p>
+ * The payloads are stored under {@code src/jmh/resources/rest}. The large
+ * query result repeats the records 100 times, about 1.6 MB, to compare the
+ * decoding of a body copied in a string with the decoding of the bytes
+ * received. Run with {@code -prof gc} to get the allocations per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RestDecodingBenchmark {
+
+    private static final URI URI = java.net.URI.create("https://o2g/api/rest/1.0/telephony");
+
+    private String telephonicState;
+    private String comRecords;
+    private List<ByteBuffer> largeComRecords;
+    private Gson gson;
+
+    @Setup
+    public void setUp() throws IOException {
+        telephonicState = read("telephonicState.json");
+        comRecords = read("comRecords.json");
+        largeComRecords = chunks(largeQueryResult(comRecords, 100), 16 * 1024);
+        gson = new TelephonyRest(null, URI).gson;
+    }
+
+    private String read(String name) throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/rest/" + name)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Repeat the records of a query result.
+     */
+    private static String largeQueryResult(String queryResult, int times) {
+        int start = queryResult.indexOf('[') + 1;
+        int end = queryResult.lastIndexOf(']');
+        String records = queryResult.substring(start, end);
+
+        StringBuilder builder = new StringBuilder(queryResult.substring(0, start));
+        for (int i = 0; i < times; i++) {
+            builder.append((i == 0) ? "" : ",").append(records);
+        }
+        return builder.append(queryResult.substring(end)).toString();
+    }
+
+    /**
+     * Split the body in the buffers received by the http client.
+     */
+    private static List<ByteBuffer> chunks(String body, int size) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        List<ByteBuffer> chunks = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += size) {
+            chunks.add(ByteBuffer.wrap(bytes, i, Math.min(size, bytes.length - i)).slice().asReadOnlyBuffer());
+        }
+        return chunks;
+    }
+
+    /**
+     * Deliver the buffers when the subscriber requests them, as the http client
+     * does.
+     */
+    private <B> B receive(BodySubscriber<B> subscriber) throws Exception {
+        Iterator<ByteBuffer> chunks = largeComRecords.iterator();
+        subscriber.onSubscribe(new Flow.Subscription() {
+
+            private boolean completed = false;
+
+            @Override
+            public void request(long n) {
+                for (long i = 0; (i < n) && chunks.hasNext(); i++) {
+                    subscriber.onNext(List.of(chunks.next().duplicate()));
+                }
+                if (!chunks.hasNext() && !completed) {
+                    completed = true;
+                    subscriber.onComplete();
+                }
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        return subscriber.getBody().toCompletableFuture().get();
+    }
+
+    @Benchmark
+    public TelephonicState telephonicState() {
+        return gson.fromJson(telephonicState, O2GTelephonicState.class).toTelephonicState();
+    }
+
+    @Benchmark
+    public CommunicationLogRest.O2GQueryResult comRecords() {
+        return gson.fromJson(comRecords, CommunicationLogRest.O2GQueryResult.class);
+    }
+
+    @Benchmark
+    public TelephonicState newService() {
+        return new TelephonyRest(null, URI).gson.fromJson(telephonicState, O2GTelephonicState.class).toTelephonicState();
+    }
+
+    @Benchmark
+    public CommunicationLogRest.O2GQueryResult largeComRecordsString() throws Exception {
+        String body = receive(BodySubscribers.ofString(StandardCharsets.UTF_8));
+        return gson.fromJson(body, CommunicationLogRest.O2GQueryResult.class);
+    }
+
+    @Benchmark
+    public CommunicationLogRest.O2GQueryResult largeComRecordsStreamed() throws Exception {
+        JsonBodyHandler<CommunicationLogRest.O2GQueryResult> handler = new JsonBodyHandler<>(gson, CommunicationLogRest.O2GQueryResult.class);
+        return receive(handler.apply(OK)).get().getValue();
+    }
+
+    private static final ResponseInfo OK = new ResponseInfo() {
+
+        @Override
+        public int statusCode() {
+            return 200;
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return HttpHeaders.of(Map.of(), (name, value) -> true);
+        }
+
+        @Override
+        public Version version() {
+            return Version.HTTP_1_1;
+        }
+    };
+}
@@ -0,0 +1,145 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.util;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ale.o2g.EventOverflowPolicy;
+import com.ale.o2g.EventWaitStrategy;
+import com.ale.o2g.internal.events.EventBuilder;
+import com.ale.o2g.internal.events.EventQueue;
+import com.ale.o2g.internal.events.O2GEventDescriptor;
+
+/**
+ * Hand-off of a burst of events from the listener thread to a dispatcher
+ * thread: the time to put the whole burst and have it taken by the consumer.
+ * Compare the former {@code ArrayBlockingQueue}, the {@code EventQueue} and
+ * the ring buffer with its wait strategies.
+ * <p>
+ * The busy spin strategy needs one core for each thread, run it on a machine
+ * with at least 2 cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageQueueBenchmark {
+
+    @Param({ "ArrayBlockingQueue", "EventQueue", "RingBuffer-PARK", "RingBuffer-YIELD", "RingBuffer-BUSY_SPIN" })
+    public String queueType;
+
+    @Param({ "1000" })
+    public int burst;
+
+    private static final int CAPACITY = 1024;
+
+    private O2GEventDescriptor event;
+    private MessageQueue<O2GEventDescriptor> queue;
+    private Thread consumer;
+    private final AtomicLong consumed = new AtomicLong();
+    private long produced = 0;
+
+    private static MessageQueue<O2GEventDescriptor> blockingQueue() {
+        BlockingQueue<O2GEventDescriptor> queue = new ArrayBlockingQueue<O2GEventDescriptor>(CAPACITY);
+        return new MessageQueue<O2GEventDescriptor>() {
+
+            @Override
+            public void put(O2GEventDescriptor e) throws InterruptedException {
+                queue.put(e);
+            }
+
+            @Override
+            public O2GEventDescriptor take() throws InterruptedException {
+                return queue.take();
+            }
+
+            @Override
+            public int size() {
+                return queue.size();
+            }
+        };
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        event = EventBuilder.get("{\"eventName\":\"OnCallModified\", \"loginName\":\"oxe1000\", \"callRef\":\"1\"}");
+
+        if (queueType.equals("ArrayBlockingQueue")) {
+            queue = blockingQueue();
+        }
+        else if (queueType.equals("EventQueue")) {
+            queue = new EventQueue(CAPACITY, EventOverflowPolicy.BLOCK);
+        }
+        else {
+            queue = new RingBufferQueue<O2GEventDescriptor>(CAPACITY,
+                    EventWaitStrategy.valueOf(queueType.substring("RingBuffer-".length())));
+        }
+
+        consumer = new Thread(() -> {
+            try {
+                for (;;) {
+                    queue.take();
+                    consumed.lazySet(consumed.get() + 1);
+                }
+            }
+            catch (InterruptedException ignored) {
+            }
+        }, "Consumer");
+        consumer.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        consumer.interrupt();
+        consumer.join();
+    }
+
+    @Benchmark
+    public long handOff() throws InterruptedException {
+        for (int i = 0; i < burst; i++) {
+            queue.put(event);
+        }
+        produced += burst;
+
+        // Wait for the dispatcher to drain the burst
+        while (consumed.get() < produced) {
+            Thread.yield();
+        }
+        return produced;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.util;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Load test of blocking REST calls: a number of callers each run a sequence
+ * of blocking requests ({@code sendAsync().get()}, like the SDK services)
+ * against a local stub server which answers after a fixed delay. It reports
+ * the peak thread count and the latency percentiles.
+ * <p>
+ * Run it from the multi-release jar, once with platform threads and once
+ * with virtual threads:
+ * <pre>
+ * mvn -P java21,jmh package -DskipTests -Dgpg.skip
+ * mvn -q dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/o2g-sdk-3.4.1.jar:target/test-classes:$(cat target/cp.txt) com.ale.o2g.internal.util.ThreadModeLoadTest 1000 10 50
+ * java -Do2g.virtual.threads=true -cp ... com.ale.o2g.internal.util.ThreadModeLoadTest 1000 10 50
+ * </pre>
+ * Arguments are the number of concurrent callers, the number of requests
+ * per caller and the server delay in milliseconds.
+ */
+public class ThreadModeLoadTest {
+
+    public static void main(String[] args) throws Exception {
+
+        int callers = (args.length > 0) ? Integer.parseInt(args[0]) : 1000;
+        int requests = (args.length > 1) ? Integer.parseInt(args[1]) : 10;
+        int delay = (args.length > 2) ? Integer.parseInt(args[2]) : 50;
+
+        // Without it the stub pays the Nagle / delayed ack penalty on each response
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+
+        // The stub answers from a scheduler, so it only uses a few threads whatever the load
+        byte[] body = "{\"result\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        server.createContext("/api/rest/1.0/telephony/calls", exchange -> {
+            scheduler.schedule(() -> {
+                try {
+                    exchange.sendResponseHeaders(200, body.length);
+                    exchange.getResponseBody().write(body);
+                }
+                catch (Exception ignored) {
+                }
+                exchange.close();
+            }, delay, TimeUnit.MILLISECONDS);
+        });
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.start();
+
+        URI uri = URI.create(String.format("http://127.0.0.1:%d/api/rest/1.0/telephony/calls", server.getAddress().getPort()));
+        HttpClientWrapper httpClient = HttpClientBuilder.getInstance().build(ThreadUtil.newExecutor());
+
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        threadBean.resetPeakThreadCount();
+
+        long[] latencies = new long[callers * requests];
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(callers);
+        long start = System.nanoTime();
+
+        for (int i = 0; i < callers; i++) {
+            int caller = i;
+            ThreadUtil.newThread(() -> {
+                try {
+                    for (int r = 0; r < requests; r++) {
+                        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+                        long t0 = System.nanoTime();
+                        HttpResponse<String> response = httpClient.sendAsync(request, BodyHandlers.ofString()).get();
+                        if (response.statusCode() != 200) {
+                            throw new IllegalStateException("Unexpected status " + response.statusCode());
+                        }
+                        latencies[caller * requests + r] = System.nanoTime() - t0;
+                    }
+                }
+                catch (Exception e) {
+                    errors.incrementAndGet();
+                }
+                done.countDown();
+            }, "Caller-" + i).start();
+        }
+
+        done.await();
+        long elapsed = System.nanoTime() - start;
+
+        server.stop(0);
+        scheduler.shutdownNow();
+
+        // Failed callers leave 0 entries, they are removed before computing the percentiles
+        long[] sorted = Arrays.stream(latencies).filter(l -> l > 0).sorted().toArray();
+        System.out.printf("mode=%s callers=%d requests=%d delay=%dms%n",
+                ThreadUtil.isVirtual() ? "virtual" : "platform", callers, requests, delay);
+        System.out.printf("peak threads=%d, throughput=%.0f req/s, failed callers=%d%n",
+                threadBean.getPeakThreadCount(), sorted.length / (elapsed / 1e9), errors.get());
+        System.out.printf("latency p50=%.1fms p99=%.1fms max=%.1fms%n",
+                percentile(sorted, 0.50), percentile(sorted, 0.99), sorted[sorted.length - 1] / 1e6);
+        System.exit(0);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        return sorted[(int) Math.ceil(p * sorted.length) - 1] / 1e6;
+    }
+}
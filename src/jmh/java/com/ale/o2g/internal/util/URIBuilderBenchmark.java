@@ -0,0 +1,80 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.util;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measure the building of a service request uri, with the appendPath and
+ * appendQuery calls of {@link URIBuilder} and with a compiled
+ * {@link URITemplate}. Run with {@code -prof gc} to get the allocations per
+ * operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class URIBuilderBenchmark {
+
+    private static final URITemplate CALLS_HOLD = URITemplate.compile("calls/{+callRef}/hold{?loginName}");
+    private static final URITemplate DAYS_DATA = URITemplate.compile(
+            "scope/{+requesterId}/ctx/{+ctxId}/days/data{?begindate,enddate,format,shortHeader}");
+
+    private final URI uri = URI.create("https://o2g.company.com/api/rest/1.0/telephony");
+    private final String callRef = "0123456789abcdef";
+    private final String loginName = "oxe32000";
+
+    @Benchmark
+    public URI callBuilder() {
+        URI uriPost = URIBuilder.appendPath(uri, "calls", callRef, "hold");
+        return URIBuilder.appendQuery(uriPost, "loginName", loginName);
+    }
+
+    @Benchmark
+    public URI callTemplate() {
+        return CALLS_HOLD.expand(uri, callRef, loginName);
+    }
+
+    @Benchmark
+    public URI dataBuilder() {
+        URI uriGet = URIBuilder.appendPath(uri, "scope", "sup1", "ctx", "ctx1", "days/data");
+        uriGet = URIBuilder.appendQuery(uriGet, "begindate", "2026-01-01 00:00");
+        uriGet = URIBuilder.appendQuery(uriGet, "enddate", "2026-01-02 00:00");
+        uriGet = URIBuilder.appendQuery(uriGet, "format", "json");
+        return URIBuilder.appendQuery(uriGet, "shortHeader");
+    }
+
+    @Benchmark
+    public URI dataTemplate() {
+        return DAYS_DATA.expand(uri, "sup1", "ctx1", "2026-01-01 00:00", "2026-01-02 00:00", "json", "");
+    }
+}
@@ -0,0 +1,346 @@
+/*
+* Copyright 2021 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.ale.o2g.types.RestResult;
+import com.ale.o2g.types.cca.IntrusionMode;
+import com.ale.o2g.types.cca.OperatorConfiguration;
+import com.ale.o2g.types.cca.OperatorState;
+import com.ale.o2g.types.cca.WithdrawReason;
+
+/**
+ * The asynchronous version of the {@link CallCenterAgentService}. Each method
+ * sends its request and returns at once a {@code CompletableFuture}, completed
+ * when the O2G server has answered.
+ * <p>
+ * The future is completed with a {@link com.ale.o2g.types.RestResult
+ * RestResult} holding the value the {@code CallCenterAgentService} method would
+ * return, and the error of this request in case of failure. It is completed
+ * exceptionally if the server cannot be reached. Use {@code null} for the {@code loginName} parameter to act for the
+ * user who opened the session.
+ * 
+ * @see Session#getAsyncCallCenterAgentService()
+ */
+public interface AsyncCallCenterAgentService {
+
+    /**
+     * Gets the operator configuration.
+     *
+     * @param loginName the operator login name
+     * @return a future completed with a result holding an OperatorConfiguration object that represents the operator
+     *         configuration.
+     */
+    CompletableFuture<RestResult<OperatorConfiguration>> getOperatorConfiguration(String loginName);
+
+    /**
+     * Gets the specified agent or supervisor state.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param loginName the operator login name
+     * @return a future completed with a result holding an OperatorState object thats represents the operator state.
+     */
+    CompletableFuture<RestResult<OperatorState>> getOperatorState(String loginName);
+
+    /**
+     * Logon an agent or a supervisor.
+     * <p>
+     * For a Requester, if the {@code pgNumber} is omitted, the supervisor is
+     * logged on out off group.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param proAcdNumber the pro-acd device number
+     * @param pgNumber     the agent processing group number
+     * @param headset      activate the headset mode
+     * @param loginName    the ccd operator login name.
+     * @return a future completed with a result holding {@code true} in case of success; {@code false} otherwise
+     */
+    CompletableFuture<RestResult<Boolean>> logonOperator(String proAcdNumber, String pgNumber, boolean headset, String loginName);
+
+    /**
+     * Logoff an agent or a supervisor.
+     * <p>
+     * This method does nothing an returns {@code true} if the agent or the
+     * supervisor is already logged off.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param loginName the ccd operator login name
+     * @return a future completed with a result holding {@code true} in case of success; {@code false} otherwise.
+     */
+    CompletableFuture<RestResult<Boolean>> logoffOperator(String loginName);
+
+    /**
+     * Enters in a agent group. Only for a supervisor.
+     * <p>
+     * This method is used by a supervisor to enter an agent group when it is in
+     * pre-assigned state (logged but not in an agent group).
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param pgNumber  the agent processing group number
+     * @param loginName the supervisor login name
+     * @return a future completed with a result holding {@code true} in case of success; {@code false} otherwise.
+     */
+    CompletableFuture<RestResult<Boolean>> enterAgentGroup(String pgNumber, String loginName);
+
+    /**
+     * Exits from an agent group. Only for a supervisor.
+     * <p>
+     * This method is used by a supervisor to leave an agent group an go back in
+     * pre-assigned state (logged but not in an agent group).
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param loginName the supervisor login name
+     * @return a future completed with a result holding {@code true} in case of success; {@code false} otherwise.
+     */
+    CompletableFuture<RestResult<Boolean>> exitAgentGroup(String loginName);
+
+    /**
+     * Puts the specified agent in wrapup.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param loginName the agent login name
+     * @return a future completed with a result holding {@code true} in case of success; {@code false} otherwise.
+     */
+    CompletableFuture<RestResult<Boolean>> setWrapup(String loginName);
+
+    /**
+     * Puts the specified agent in ready state.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param loginName the agent login name
+     * @return a future completed with a result holding {@code true} in case of success; {@code false} otherwise.
+     */
+    CompletableFuture<RestResult<Boolean>> setReady(String loginName);
+
+    /**
+     * Puts the specified agent in pause.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param loginName the agent login name
+     * @return a future completed with a result holding {@code true} in case of success; {@code false} otherwise.
+     */
+    CompletableFuture<RestResult<Boolean>> setPause(String loginName);
+
+    /**
+     * Withdraws an agent with the specified reason.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param reason    the withdraw reason
+     * @param loginName the agent login name
+     * @return a future completed with a result holding {@code true} in case of success; {@code false} otherwise.
+     */
+    CompletableFuture<RestResult<Boolean>> setWithdraw(WithdrawReason reason, String loginName);
+
+    /**
+     * Requests to listen to the agent by a supervisor.
+     * <p>
+     * On success, an {@link com.ale.o2g.events.cca.OnSupervisorHelpRequestedEvent
+     * OnSupervisorHelpRequestedEvent} is raised. for both the agent and the
+     * supervisor.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param agentNumber the listened agent number
+     * @param loginName   the supervisor login name
+     * @return a future completed with a result holding {@code true} in case of success; {@code false} otherwise.
+     * @see com.ale.o2g.events.cca.CallCenterAgentEventListener
+     *      CallCenterAgentEventListener
+     */
+    CompletableFuture<RestResult<Boolean>> requestPermanentListening(String agentNumber, String loginName);
+
+    /**
+     * Requests intrusion in a ccd call.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param agentNumber   the extension number of the ccd agent who answers the
+     *                      ccd call
+     * @param intrusionMode the intrusion mode
+     * @param loginName     the supervisor login name
+     * @return a future completed with a result holding {@code true} in case of success; {@code false} otherwise.
+     */
+    CompletableFuture<RestResult<Boolean>> requestIntrusion(String agentNumber, IntrusionMode intrusionMode, String loginName);
+
+    /**
+     * Changes the intrusion mode.
+     * <p>
+     * Calling this method allows to change the intrusion mode, or to cancel an
+     * intrusion. To cancel an intrusion, the application must pass the current mode
+     * in the {@code newIntrusionMode} parameter.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param newIntrusionMode the new intrusion mode
+     * @param loginName        the supervisor login name
+     * @return a future completed with a result holding {@code true} in case of success; {@code false} otherwise.
+     */
+    CompletableFuture<RestResult<Boolean>> changeIntrusionMode(IntrusionMode newIntrusionMode, String loginName);
+
+    /**
+     * Requests help of the supervisor.
+     * <p>
+     * On success, an {@link com.ale.o2g.events.cca.OnSupervisorHelpRequestedEvent
+     * OnSupervisorHelpRequestedEvent} is raised for both the agent and supervisor.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param loginName the agent login name
+     * @return a future completed with a result holding {@code true} in case of success; {@code false} otherwise.
+     */
+    CompletableFuture<RestResult<Boolean>> requestSupervisorHelp(String loginName);
+
+    /**
+     * Rejects an help request from an agent.
+     * <p>
+     * This method is invoked by a supervisor when he reject an help request from an
+     * agent. On success, an
+     * {@link com.ale.o2g.events.cca.OnSupervisorHelpCancelledEvent
+     * OnSupervisorHelpCancelledEvent} is raised.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param agentNumber the extension number of the agent who has requested help
+     * @param loginName   the supervisor login name
+     * @return a future completed with a result holding {@code true} in case of success; {@code false} otherwise.
+     */
+    CompletableFuture<RestResult<Boolean>> rejectAgentHelpRequest(String agentNumber, String loginName);
+
+    /**
+     * Cancels a supervisor help request.
+     * <p>
+     * This method is invoked by an agent when he want to cancel an help request. On
+     * success, an {@link com.ale.o2g.events.cca.OnSupervisorHelpCancelledEvent
+     * OnSupervisorHelpCancelledEvent} is raised.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param supervisorNumber the requested supervisor extension number
+     * @param loginName        the agent login name
+     * @return a future completed with a result holding {@code true} in case of success; {@code false} otherwise.
+     */
+    CompletableFuture<RestResult<Boolean>> cancelSupervisorHelpRequest(String supervisorNumber, String loginName);
+
+    /**
+     * Asks a snapshot event to receive an
+     * {@link com.ale.o2g.events.cca.OnAgentStateChangedEvent
+     * OnAgentStateChangedEvent}.
+     * <p>
+     * The {@link com.ale.o2g.events.cca.OnAgentStateChangedEvent
+     * OnAgentStateChangedEvent} event contain the operator
+     * {@link com.ale.o2g.types.cca.OperatorState OperatorState} object. If a second
+     * request is asked since the previous one is still in progress, it has no
+     * effect.
+     * <p>
+     * If an administrator invokes this method with {@code loginName=null}, the
+     * snapshot event request is done for all the agents. The event processing can
+     * be long depending on the number of users.
+     *
+     * @param loginName the agent login name
+     * @return a future completed with a result holding {@code true} in case of success; {@code false} otherwise.
+     */
+    CompletableFuture<RestResult<Boolean>> requestSnaphot(String loginName);
+
+    /**
+     * Returns the list of withdraw reason for the specified processing group.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param pgNumber  the agent processing group number
+     * @param loginName the agent login name
+     * @return a future completed with a result holding a list of WithdrawReason or {@code null} in case of error.
+     */
+    CompletableFuture<RestResult<List<WithdrawReason>>> getWithdrawReasons(String pgNumber, String loginName);
+
+    /**
+     * Activates the specified skills.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     * <p>
+     * This method doesn't control the skills number. If a skill number is invalid
+     * (not assigned to the operator), it is ignored and the method returns
+     * {@code true}.
+     *
+     * @param skills    the list of skills to activate.
+     * @param loginName the agent login name
+     * @return a future completed with a result holding {@code true} in case of success; {@code false} otherwise.
+     */
+    CompletableFuture<RestResult<Boolean>> activateSkills(List<Integer> skills, String loginName);
+
+    /**
+     * Deactivates the specified skills.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     * <p>
+     * This method doesn't control the skills number. If a skill number is invalid
+     * (not assigned to the operator), it is ignored and the method returns
+     * {@code true}.
+     *
+     * @param skills    the list of skills to activate.
+     * @param loginName the agent login name
+     * @return a future completed with a result holding {@code true} in case of success; {@code false} otherwise.
+     */
+    CompletableFuture<RestResult<Boolean>> deactivateSkills(List<Integer> skills, String loginName);
+}
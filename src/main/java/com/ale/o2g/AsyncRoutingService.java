@@ -0,0 +1,253 @@
+/*
+* Copyright 2021 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.ale.o2g.types.RestResult;
+import com.ale.o2g.types.routing.DndState;
+import com.ale.o2g.types.routing.Forward;
+import com.ale.o2g.types.routing.Overflow;
+import com.ale.o2g.types.routing.RoutingCapabilities;
+import com.ale.o2g.types.routing.RoutingState;
+
+/**
+ * The asynchronous version of the {@link RoutingService}. Each method sends its
+ * request and returns at once a {@code CompletableFuture}, completed when the
+ * O2G server has answered.
+ * <p>
+ * The future is completed with a {@link com.ale.o2g.types.RestResult
+ * RestResult} holding the value the {@code RoutingService} method would
+ * return, and the error of this request in case of failure. It is completed
+ * exceptionally if the server cannot be reached.
+ * Use {@code null} for the {@code loginName} parameter to act for the user who
+ * opened the session.
+ * 
+ * @see Session#getAsyncRoutingService()
+ */
+public interface AsyncRoutingService {
+
+    /**
+     * Allows to know what the specified user is allowed to do.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param loginName the user login name
+     * @return a future completed with a result holding the {@link RoutingCapabilities RoutingCapabilities} in case of
+     *         success; {@code null} otherwise.
+     */
+    CompletableFuture<RestResult<RoutingCapabilities>> getCapabilities(String loginName);
+
+    /**
+     * Sets the activation state of the remote extension device for the specified
+     * user.
+     * <p>
+     * When the remote extension is activated, it rings on incoming call on the user
+     * company phone. When it is deactivated, it never rings, but it can be used to
+     * place an outgoing call.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param active    the remote extension device state
+     * @param loginName the user login name
+     * @return a future completed with a result holding {@code true} in case of success; {@code false} otherwise.
+     */
+    CompletableFuture<RestResult<Boolean>> setRemoteExtensionActivation(boolean active, String loginName);
+
+    /**
+     * Gets the Do Not Disturb state of the specified user.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param loginName the user login name
+     * @return a future completed with a result holding the {@link DndState DndState} in case of success; {@code null}
+     *         otherwise.
+     */
+    CompletableFuture<RestResult<DndState>> getDndState(String loginName);
+
+    /**
+     * Activates the Do Not Disturb for the specified user.
+     * <p>
+     * This method does nothing and return {@code true} if the Do Not Disturb is
+     * already activated.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param loginName the user login name
+     * @return a future completed with a result holding {@code true} in case of success; {@code false} otherwise.
+     */
+    CompletableFuture<RestResult<Boolean>> activateDnd(String loginName);
+
+    /**
+     * Cancels the Do Not Disturb for the specified user.
+     * <p>
+     * This method does nothing and return {@code true} if the Do Not Disturb was
+     * not activated.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param loginName the user login name
+     * @return a future completed with a result holding {@code true} in case of success; {@code false} otherwise.
+     */
+    CompletableFuture<RestResult<Boolean>> cancelDnd(String loginName);
+
+    /**
+     * Gets the forward state of the specified user.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param loginName the user login name
+     * @return a future completed with a result holding the {@link Forward Forward} in case of success; {@code null}
+     *         otherwise.
+     */
+    CompletableFuture<RestResult<Forward>> getForward(String loginName);
+
+    /**
+     * Cancels the forward for the specified user.
+     * <p>
+     * This method does nothing and return {@code true} if there is no forward
+     * activated.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param loginName the user login name
+     * @return a future completed with a result holding {@code true} in case of success; {@code false} otherwise.
+     */
+    CompletableFuture<RestResult<Boolean>> cancelForward(String loginName);
+
+    /**
+     * Sets a forward on voice mail with the specified condition, for the specified
+     * user.
+     * <p>
+     * This method will fail and return {@code false} if the user does not have a
+     * voice mail. This can be check by using
+     * {@link UsersService#getByLoginName(String)}.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param condition the forward condition
+     * @param loginName the user login name
+     * @return a future completed with a result holding {@code true} in case of success; {@code false} otherwise.
+     */
+    CompletableFuture<RestResult<Boolean>> forwardOnVoiceMail(Forward.Condition condition, String loginName);
+
+    /**
+     * Sets a forward on the specified number, with the specified condition, for the
+     * specified user.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param number    the phone number on which the forward is activated
+     * @param condition the forward condition
+     * @param loginName the user login name
+     * @return a future completed with a result holding {@code true} in case of success; {@code false} otherwise.
+     */
+    CompletableFuture<RestResult<Boolean>> forwardOnNumber(String number, Forward.Condition condition, String loginName);
+
+    /**
+     * Cancels the overflow for the specified user.
+     * <p>
+     * This method does nothing and return {@code true} if there is no overflow
+     * activated.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param loginName the user login name
+     * @return a future completed with a result holding {@code true} in case of success; {@code false} otherwise.
+     */
+    CompletableFuture<RestResult<Boolean>> cancelOverflow(String loginName);
+
+    /**
+     * Gets the overflow state for the specified user.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param loginName the user login name
+     * @return a future completed with a result holding the {@link Overflow Overflow} in case of success; {@code null}
+     *         otherwise.
+     */
+    CompletableFuture<RestResult<Overflow>> getOverflow(String loginName);
+
+    /**
+     * Activates an overflow on voice mail with the specified condition, for the
+     * specified user.
+     * <p>
+     * This method will fail and return {@code false} if the user does not have a
+     * voice mail. This can be check by using
+     * {@link UsersService#getByLoginName(String)}.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param condition the overflow condition
+     * @param loginName the user login name
+     * @return a future completed with a result holding {@code true} in case of success; {@code false} otherwise.
+     */
+    CompletableFuture<RestResult<Boolean>> overflowOnVoiceMail(Overflow.Condition condition, String loginName);
+
+    /**
+     * Gets the routing state of the specified user.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored, but it is mandatory if the session has been opened by an
+     * administrator.
+     *
+     * @param loginName the user login name
+     * @return a future completed with a result holding the {@link RoutingState} in case of success; {@code null} otherwise.
+     */
+    CompletableFuture<RestResult<RoutingState>> getRoutingState(String loginName);
+
+    /**
+     * Asks a snapshot event on the specified user.
+     * <p>
+     * The event OnRoutingStateChanged will contain the DynamicState
+     * (forward/overflow/dnd state). If a second request is asked since the previous
+     * one is still in progress, it has no effect.
+     * <p>
+     * If the session has been opened for a user, the {@code loginName} parameter is
+     * ignored.
+     *
+     * @param loginName the login name
+     * @return a future completed with a result holding {@code true} in case of success; {@code false} otherwise.
+     */
+    CompletableFuture<RestResult<Boolean>> requestSnapshot(String loginName);
+}
@@ -0,0 +1,220 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import com.ale.o2g.types.RestErrorInfo;
+import com.ale.o2g.types.RestResult;
+
+/**
+ * {@code Batch} applies the same asynchronous operation to a collection of
+ * items, typically login names, with a bounded number of requests in flight.
+ * <p>
+ * The operation is usually a method of an asynchronous service, like
+ * {@link AsyncCallCenterAgentService} or {@link AsyncRoutingService}. Instead
+ * of one blocking round trip per user, up to {@code maxInFlight} requests are
+ * sent concurrently and a new request is sent as soon as one completes.
+ * <pre>
+ * {@code
+ *      AsyncCallCenterAgentService agentService = session.getAsyncCallCenterAgentService();
+ *
+ *      Map<String, RestResult<Boolean>> results = Batch.run(loginNames, 32, agentService::setReady).join();
+ *      results.forEach((loginName, result) -> {
+ *          if (!result.isSucceeded()) {
+ *              System.out.println(loginName + " is not ready: " + result.getError());
+ *          }
+ *      });
+ * }
+ * </pre>
+ * Different operations can be mixed in the same batch by selecting the
+ * operation from the item:
+ * <pre>
+ * {@code
+ *      Map<String, Function<String, CompletableFuture<RestResult<Boolean>>>> operations = ...;
+ *      operations.put("agent1", agentService::setReady);
+ *      operations.put("agent2", agentService::setPause);
+ *      operations.put("user3", routingService::activateDnd);
+ *
+ *      Batch.run(operations.keySet(), loginName -> operations.get(loginName).apply(loginName));
+ * }
+ * </pre>
+ * Each item has its own result: a failed request does not stop the batch.
+ * When the request of an item could not be sent, or the O2G server could not
+ * be reached, its result is failed with a {@code null} value, even for the
+ * operations returning a {@code Boolean}, and an error holding the cause
+ * message. The error can be retried only if the cause is an
+ * {@code IOException}.
+ */
+public final class Batch {
+
+    /**
+     * The default maximum number of requests in flight.
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 16;
+
+    private static class Run<K, T> {
+
+        private final List<K> items;
+        private final Function<? super K, CompletableFuture<RestResult<T>>> operation;
+        private final RestResult<T>[] results;
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicInteger pending;
+        private final CompletableFuture<Map<K, RestResult<T>>> future = new CompletableFuture<>();
+
+        @SuppressWarnings("unchecked")
+        Run(Collection<K> items, Function<? super K, CompletableFuture<RestResult<T>>> operation) {
+            this.items = new ArrayList<K>(items);
+            this.operation = operation;
+            this.results = (RestResult<T>[]) new RestResult<?>[this.items.size()];
+            this.pending = new AtomicInteger(this.items.size());
+        }
+
+        private void sendNext() {
+            while (true) {
+                int index = next.getAndIncrement();
+                if (index >= items.size()) {
+                    return;
+                }
+
+                CompletableFuture<RestResult<T>> request;
+                try {
+                    request = operation.apply(items.get(index));
+                }
+                catch (RuntimeException e) {
+                    request = CompletableFuture.failedFuture(e);
+                }
+
+                if (!request.isDone()) {
+                    request.whenComplete((result, exception) -> {
+                        if (done(index, result, exception)) {
+                            sendNext();
+                        }
+                    });
+                    return;
+                }
+
+                // The request has completed at once, loop instead of recursing
+                RestResult<T> result = null;
+                Throwable exception = null;
+                try {
+                    result = request.join();
+                }
+                catch (CompletionException | CancellationException e) {
+                    exception = e;
+                }
+
+                if (!done(index, result, exception)) {
+                    return;
+                }
+            }
+        }
+
+        private boolean done(int index, RestResult<T> result, Throwable exception) {
+            results[index] = (exception == null) ? result : failure(exception);
+
+            if (pending.decrementAndGet() == 0) {
+                complete();
+                return false;
+            }
+            else {
+                return true;
+            }
+        }
+
+        private void complete() {
+            Map<K, RestResult<T>> map = new LinkedHashMap<K, RestResult<T>>();
+            for (int i = 0; i < results.length; i++) {
+                map.put(items.get(i), results[i]);
+            }
+            future.complete(map);
+        }
+
+        private RestResult<T> failure(Throwable exception) {
+            Throwable cause = (exception instanceof CompletionException) && (exception.getCause() != null) ? exception.getCause() : exception;
+            return RestResult.failed(null, new RestErrorInfo(cause.toString(), cause instanceof IOException) {});
+        }
+
+        CompletableFuture<Map<K, RestResult<T>>> start(int maxInFlight) {
+            if (items.isEmpty()) {
+                future.complete(new LinkedHashMap<K, RestResult<T>>());
+            }
+            else {
+                for (int i = 0; i < Math.min(maxInFlight, items.size()); i++) {
+                    sendNext();
+                }
+            }
+            return future;
+        }
+    }
+
+    /**
+     * Applies the operation to each item, with at most
+     * {@link #DEFAULT_MAX_IN_FLIGHT} requests in flight.
+     * 
+     * @param <K>       the type of the items
+     * @param <T>       the type of the result values
+     * @param items     the items, typically login names
+     * @param operation the operation to apply to each item
+     * @return a future completed, when all requests have completed, with the
+     *         result of each item, in the order of the items.
+     */
+    public static <K, T> CompletableFuture<Map<K, RestResult<T>>> run(Collection<K> items,
+            Function<? super K, CompletableFuture<RestResult<T>>> operation) {
+        return run(items, DEFAULT_MAX_IN_FLIGHT, operation);
+    }
+
+    /**
+     * Applies the operation to each item, with at most {@code maxInFlight}
+     * requests in flight.
+     * <p>
+     * The items are expected to be distinct: if the same item is present
+     * several times, the operation is applied each time but only the last
+     * result is kept.
+     * 
+     * @param <K>         the type of the items
+     * @param <T>         the type of the result values
+     * @param items       the items, typically login names
+     * @param maxInFlight the maximum number of requests in flight
+     * @param operation   the operation to apply to each item
+     * @return a future completed, when all requests have completed, with the
+     *         result of each item, in the order of the items.
+     * @throws IllegalArgumentException if {@code maxInFlight} is not positive.
+     */
+    public static <K, T> CompletableFuture<Map<K, RestResult<T>>> run(Collection<K> items, int maxInFlight,
+            Function<? super K, CompletableFuture<RestResult<T>>> operation) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive");
+        }
+        return new Run<K, T>(items, operation).start(maxInFlight);
+    }
+
+    protected Batch() {
+    }
+}
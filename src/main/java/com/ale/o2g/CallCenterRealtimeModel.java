@@ -0,0 +1,710 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.ale.o2g.events.ccrt.AgentPhoneState;
+import com.ale.o2g.events.ccrt.AgentServiceState;
+import com.ale.o2g.events.ccrt.CallCenterRealtimeEventAdapter;
+import com.ale.o2g.events.ccrt.OnAgentRtiChangedEvent;
+import com.ale.o2g.events.ccrt.OnPilotRtiChangedEvent;
+import com.ale.o2g.events.ccrt.OnQueueRtiChangedEvent;
+import com.ale.o2g.types.ccrt.AgentAttributes;
+import com.ale.o2g.types.ccrt.PilotAttributes;
+import com.ale.o2g.types.ccrt.QueueAttributes;
+import com.ale.o2g.types.ccrt.RtiObjectIdentifier;
+import com.ale.o2g.types.ccrt.RtiObjects;
+import com.ale.o2g.types.common.ServiceState;
+
+/**
+ * {@code CallCenterRealtimeModel} is an in-memory model of the CCD agents,
+ * pilots and queues monitored with the {@link CallCenterRealtimeService},
+ * with the totals usually displayed on a wallboard.
+ * <p>
+ * The model is seeded with the CCD objects returned by
+ * {@link CallCenterRealtimeService#getRtiObjects() getRtiObjects}, then
+ * updated from the {@code OnAgentRtiChangedEvent},
+ * {@code OnPilotRtiChangedEvent} and {@code OnQueueRtiChangedEvent} events. It
+ * must therefore be added as a listener to the session subscription:
+ * <pre>
+ * {@code
+ *      CallCenterRealtimeModel model = CallCenterRealtimeModel.create();
+ *
+ *      Subscription subscription = Subscription.newBuilder()
+ *              .addCallCenterRealtimeEventListener(model)
+ *              .build();
+ *      session.listenEvents(subscription);
+ *
+ *      CallCenterRealtimeService rti = session.getCallCenterRealtimeService();
+ *      RtiObjects objects = rti.getRtiObjects();
+ *      model.reset(objects);
+ *      rti.setContext(new Context(30, 5, objects.createFilter()));
+ *      rti.start();
+ *
+ *      // Refresh the wallboard
+ *      Snapshot snapshot = model.getSnapshot();
+ *      int available = snapshot.getAgentCount(AgentServiceState.ASSIGNED);
+ * }
+ * </pre>
+ * The totals are updated incrementally on each event: the cost of an event
+ * does not depend on the number of monitored objects. The immutable
+ * {@link Snapshot} of the totals is republished by the event thread at most
+ * once per refresh period, so the totals are copied at most once per period
+ * whatever the event rate, and {@link #getSnapshot()} never blocks: it only
+ * reads the last published snapshot.
+ */
+public final class CallCenterRealtimeModel extends CallCenterRealtimeEventAdapter {
+
+    /**
+     * {@code Agent} is the last known state of a CCD agent.
+     */
+    public static final class Agent {
+        private final int key;
+        private final String number;
+        private final String name;
+        private final String firstName;
+        private final AgentServiceState serviceState;
+        private final AgentPhoneState phoneState;
+        private final String pilotName;
+        private final String queueName;
+        private final String processingGroup;
+        private final int nbOfServedACDCalls;
+
+        private Agent(int key, String number, String name, String firstName, AgentServiceState serviceState,
+                AgentPhoneState phoneState, String pilotName, String queueName, String processingGroup, int nbOfServedACDCalls) {
+            this.key = key;
+            this.number = number;
+            this.name = name;
+            this.firstName = firstName;
+            this.serviceState = serviceState;
+            this.phoneState = phoneState;
+            this.pilotName = pilotName;
+            this.queueName = queueName;
+            this.processingGroup = processingGroup;
+            this.nbOfServedACDCalls = nbOfServedACDCalls;
+        }
+
+        private Agent merge(OnAgentRtiChangedEvent e) {
+            return new Agent(key,
+                    (e.getNumber() != null) ? e.getNumber() : number,
+                    (e.getName() != null) ? e.getName() : name,
+                    (e.getFirstName() != null) ? e.getFirstName() : firstName,
+                    e.isSet(AgentAttributes.ServiceState) ? e.getServiceState() : serviceState,
+                    e.isSet(AgentAttributes.PhoneState) ? e.getPhoneState() : phoneState,
+                    e.isSet(AgentAttributes.PilotName) ? e.getPilotName() : pilotName,
+                    e.isSet(AgentAttributes.QueueName) ? e.getQueueName() : queueName,
+                    e.isSet(AgentAttributes.CurrentPG) ? e.getCurrentProcessingGroup() : processingGroup,
+                    e.isSet(AgentAttributes.NbOfServedACDCalls) ? e.getNbOfServedACDCalls() : nbOfServedACDCalls);
+        }
+
+        /**
+         * Returns the CCD key of this agent.
+         * 
+         * @return the CCD key
+         */
+        public int getKey() {
+            return key;
+        }
+
+        /**
+         * Returns the directory number of this agent.
+         * 
+         * @return the directory number
+         */
+        public String getNumber() {
+            return number;
+        }
+
+        /**
+         * Returns the last name of this agent.
+         * 
+         * @return the last name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the first name of this agent.
+         * 
+         * @return the first name
+         */
+        public String getFirstName() {
+            return firstName;
+        }
+
+        /**
+         * Returns the service state of this agent.
+         * 
+         * @return the service state, or {@code null} if it has not been received
+         *         yet
+         */
+        public AgentServiceState getServiceState() {
+            return serviceState;
+        }
+
+        /**
+         * Returns the phone state of this agent.
+         * 
+         * @return the phone state, or {@code null} if it has not been received
+         *         yet
+         */
+        public AgentPhoneState getPhoneState() {
+            return phoneState;
+        }
+
+        /**
+         * Returns the name of the pilot of the current call of this agent.
+         * 
+         * @return the pilot name
+         */
+        public String getPilotName() {
+            return pilotName;
+        }
+
+        /**
+         * Returns the name of the queue of the current call of this agent.
+         * 
+         * @return the queue name
+         */
+        public String getQueueName() {
+            return queueName;
+        }
+
+        /**
+         * Returns the current processing group of this agent.
+         * 
+         * @return the processing group
+         */
+        public String getProcessingGroup() {
+            return processingGroup;
+        }
+
+        /**
+         * Returns the number of ACD calls served by this agent.
+         * 
+         * @return the number of served ACD calls
+         */
+        public int getNbOfServedACDCalls() {
+            return nbOfServedACDCalls;
+        }
+    }
+
+    /**
+     * {@code Pilot} is the last known state of a CCD pilot.
+     */
+    public static final class Pilot {
+        private final int key;
+        private final String number;
+        private final String name;
+        private final ServiceState state;
+        private final int nbOfWaitingCalls;
+        private final int nbOfCallsInConversation;
+
+        private Pilot(int key, String number, String name, ServiceState state, int nbOfWaitingCalls, int nbOfCallsInConversation) {
+            this.key = key;
+            this.number = number;
+            this.name = name;
+            this.state = state;
+            this.nbOfWaitingCalls = nbOfWaitingCalls;
+            this.nbOfCallsInConversation = nbOfCallsInConversation;
+        }
+
+        private Pilot merge(OnPilotRtiChangedEvent e) {
+            return new Pilot(key,
+                    (e.getNumber() != null) ? e.getNumber() : number,
+                    (e.getName() != null) ? e.getName() : name,
+                    e.isSet(PilotAttributes.State) ? e.getState() : state,
+                    e.isSet(PilotAttributes.NbOfWaitingCalls) ? e.getNbOfWaitingCalls() : nbOfWaitingCalls,
+                    e.isSet(PilotAttributes.NbOfCallsInConversation) ? e.getNbOfCallsInConversation() : nbOfCallsInConversation);
+        }
+
+        /**
+         * Returns the CCD key of this pilot.
+         * 
+         * @return the CCD key
+         */
+        public int getKey() {
+            return key;
+        }
+
+        /**
+         * Returns the directory number of this pilot.
+         * 
+         * @return the directory number
+         */
+        public String getNumber() {
+            return number;
+        }
+
+        /**
+         * Returns the name of this pilot.
+         * 
+         * @return the name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the service state of this pilot.
+         * 
+         * @return the service state, or {@code null} if it has not been received
+         *         yet
+         */
+        public ServiceState getState() {
+            return state;
+        }
+
+        /**
+         * Returns the number of calls waiting on this pilot.
+         * 
+         * @return the number of waiting calls
+         */
+        public int getNbOfWaitingCalls() {
+            return nbOfWaitingCalls;
+        }
+
+        /**
+         * Returns the number of calls in conversation on this pilot.
+         * 
+         * @return the number of calls in conversation
+         */
+        public int getNbOfCallsInConversation() {
+            return nbOfCallsInConversation;
+        }
+    }
+
+    /**
+     * {@code Queue} is the last known state of a CCD queue.
+     */
+    public static final class Queue {
+        private final int key;
+        private final String number;
+        private final String name;
+        private final ServiceState state;
+        private final int nbOfWaitingCalls;
+
+        private Queue(int key, String number, String name, ServiceState state, int nbOfWaitingCalls) {
+            this.key = key;
+            this.number = number;
+            this.name = name;
+            this.state = state;
+            this.nbOfWaitingCalls = nbOfWaitingCalls;
+        }
+
+        private Queue merge(OnQueueRtiChangedEvent e) {
+            return new Queue(key,
+                    (e.getNumber() != null) ? e.getNumber() : number,
+                    (e.getName() != null) ? e.getName() : name,
+                    e.isSet(QueueAttributes.State) ? e.getState() : state,
+                    e.isSet(QueueAttributes.NbOfWaitingCalls) ? e.getNbOfWaitingCalls() : nbOfWaitingCalls);
+        }
+
+        /**
+         * Returns the CCD key of this queue.
+         * 
+         * @return the CCD key
+         */
+        public int getKey() {
+            return key;
+        }
+
+        /**
+         * Returns the directory number of this queue.
+         * 
+         * @return the directory number
+         */
+        public String getNumber() {
+            return number;
+        }
+
+        /**
+         * Returns the name of this queue.
+         * 
+         * @return the name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the service state of this queue.
+         * 
+         * @return the service state, or {@code null} if it has not been received
+         *         yet
+         */
+        public ServiceState getState() {
+            return state;
+        }
+
+        /**
+         * Returns the number of calls waiting in this queue.
+         * 
+         * @return the number of waiting calls
+         */
+        public int getNbOfWaitingCalls() {
+            return nbOfWaitingCalls;
+        }
+    }
+
+    /**
+     * {@code Snapshot} is an immutable view of the totals of the model at a given
+     * time.
+     */
+    public static final class Snapshot {
+        private final Map<AgentServiceState, Integer> agentsByServiceState;
+        private final Map<String, Integer> waitingCallsByPilot;
+        private final Map<String, Integer> servedACDCallsByProcessingGroup;
+        private final int nbOfQueuedCalls;
+
+        private Snapshot(Map<AgentServiceState, Integer> agentsByServiceState, Map<String, Integer> waitingCallsByPilot,
+                Map<String, Integer> servedACDCallsByProcessingGroup, int nbOfQueuedCalls) {
+            this.agentsByServiceState = Collections.unmodifiableMap(agentsByServiceState);
+            this.waitingCallsByPilot = Collections.unmodifiableMap(waitingCallsByPilot);
+            this.servedACDCallsByProcessingGroup = Collections.unmodifiableMap(servedACDCallsByProcessingGroup);
+            this.nbOfQueuedCalls = nbOfQueuedCalls;
+        }
+
+        /**
+         * Returns the number of agents in the specified service state. The agents
+         * whose service state has not been received yet are counted as
+         * {@link AgentServiceState#UNKNOWN UNKNOWN}.
+         * 
+         * @param serviceState the service state
+         * @return the number of agents
+         */
+        public int getAgentCount(AgentServiceState serviceState) {
+            return agentsByServiceState.getOrDefault(serviceState, 0);
+        }
+
+        /**
+         * Returns the number of agents by service state.
+         * 
+         * @return an unmodifiable map of the number of agents by service state
+         */
+        public Map<AgentServiceState, Integer> getAgentsByServiceState() {
+            return agentsByServiceState;
+        }
+
+        /**
+         * Returns the number of waiting calls by pilot.
+         * 
+         * @return an unmodifiable map of the number of waiting calls by pilot
+         *         number
+         */
+        public Map<String, Integer> getWaitingCallsByPilot() {
+            return waitingCallsByPilot;
+        }
+
+        /**
+         * Returns the number of ACD calls served by the agents, by the current
+         * processing group of the agents.
+         * 
+         * @return an unmodifiable map of the number of served ACD calls by
+         *         processing group
+         */
+        public Map<String, Integer> getServedACDCallsByProcessingGroup() {
+            return servedACDCallsByProcessingGroup;
+        }
+
+        /**
+         * Returns the total number of calls waiting in the queues.
+         * 
+         * @return the number of waiting calls
+         */
+        public int getNbOfQueuedCalls() {
+            return nbOfQueuedCalls;
+        }
+    }
+
+    /**
+     * The default refresh period of the snapshot.
+     */
+    public static final Duration DEFAULT_REFRESH_PERIOD = Duration.ofMillis(100);
+
+    private final Map<Integer, Agent> agents = new ConcurrentHashMap<>();
+    private final Map<Integer, Pilot> pilots = new ConcurrentHashMap<>();
+    private final Map<Integer, Queue> queues = new ConcurrentHashMap<>();
+
+    // The totals, guarded by this
+    private final int[] agentsByServiceState = new int[AgentServiceState.values().length];
+    private final Map<String, Integer> waitingCallsByPilot = new HashMap<>();
+    private final Map<String, Integer> servedACDCallsByProcessingGroup = new HashMap<>();
+    private int nbOfQueuedCalls;
+
+    // The last published snapshot, and the republishing state guarded by this
+    private volatile Snapshot snapshot;
+    private final long refreshPeriodNanos;
+    private long lastPublished;
+    private boolean changed = false;
+    private boolean publishScheduled = false;
+
+    private CallCenterRealtimeModel(Duration refreshPeriod) {
+        this.refreshPeriodNanos = refreshPeriod.toNanos();
+        this.snapshot = newSnapshot();
+        this.lastPublished = System.nanoTime() - refreshPeriodNanos;
+    }
+
+    /**
+     * Creates a new empty model, whose snapshot is republished at most once per
+     * {@link #DEFAULT_REFRESH_PERIOD}.
+     * 
+     * @return the new model
+     */
+    public static CallCenterRealtimeModel create() {
+        return create(DEFAULT_REFRESH_PERIOD);
+    }
+
+    /**
+     * Creates a new empty model, whose snapshot is republished at most once per
+     * refresh period. A change is published at once if the last publication is
+     * older than the period, otherwise at the end of the period. With a zero
+     * period, the snapshot is republished on each change.
+     * 
+     * @param refreshPeriod the refresh period of the snapshot
+     * @return the new model
+     * @throws IllegalArgumentException if {@code refreshPeriod} is negative.
+     */
+    public static CallCenterRealtimeModel create(Duration refreshPeriod) {
+        if (refreshPeriod.isNegative()) {
+            throw new IllegalArgumentException("refreshPeriod must not be negative");
+        }
+        return new CallCenterRealtimeModel(refreshPeriod);
+    }
+
+    /**
+     * Resets the model with the specified CCD objects. The state of the objects
+     * is unknown until their first event is received.
+     * 
+     * @param objects the CCD objects, as returned by
+     *                {@link CallCenterRealtimeService#getRtiObjects()}
+     */
+    public synchronized void reset(RtiObjects objects) {
+        if (objects == null) {
+            throw new IllegalArgumentException("objects must not be null");
+        }
+
+        agents.clear();
+        pilots.clear();
+        queues.clear();
+        Arrays.fill(agentsByServiceState, 0);
+        waitingCallsByPilot.clear();
+        servedACDCallsByProcessingGroup.clear();
+        nbOfQueuedCalls = 0;
+
+        for (RtiObjectIdentifier id : objects.getAgents()) {
+            putAgent(new Agent(id.getKey(), id.getNumber(), id.getName(), id.getFirstName(), null, null, null, null, null, 0));
+        }
+        for (RtiObjectIdentifier id : objects.getPilots()) {
+            putPilot(new Pilot(id.getKey(), id.getNumber(), id.getName(), null, 0, 0));
+        }
+        for (RtiObjectIdentifier id : objects.getQueues()) {
+            putQueue(new Queue(id.getKey(), id.getNumber(), id.getName(), null, 0));
+        }
+
+        // A reset is published at once
+        publish(System.nanoTime());
+    }
+
+    /**
+     * Returns the last published totals. This method never blocks, the
+     * snapshot is the same until it is republished: it can be up to one
+     * refresh period late.
+     * 
+     * @return the snapshot of the totals
+     */
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns the specified agent.
+     * 
+     * @param key the CCD key of the agent
+     * @return the agent, or {@code null} if it is unknown
+     */
+    public Agent getAgent(int key) {
+        return agents.get(key);
+    }
+
+    /**
+     * Returns the agents.
+     * 
+     * @return an unmodifiable collection of the agents
+     */
+    public Collection<Agent> getAgents() {
+        return Collections.unmodifiableCollection(agents.values());
+    }
+
+    /**
+     * Returns the specified pilot.
+     * 
+     * @param key the CCD key of the pilot
+     * @return the pilot, or {@code null} if it is unknown
+     */
+    public Pilot getPilot(int key) {
+        return pilots.get(key);
+    }
+
+    /**
+     * Returns the pilots.
+     * 
+     * @return an unmodifiable collection of the pilots
+     */
+    public Collection<Pilot> getPilots() {
+        return Collections.unmodifiableCollection(pilots.values());
+    }
+
+    /**
+     * Returns the specified queue.
+     * 
+     * @param key the CCD key of the queue
+     * @return the queue, or {@code null} if it is unknown
+     */
+    public Queue getQueue(int key) {
+        return queues.get(key);
+    }
+
+    /**
+     * Returns the queues.
+     * 
+     * @return an unmodifiable collection of the queues
+     */
+    public Collection<Queue> getQueues() {
+        return Collections.unmodifiableCollection(queues.values());
+    }
+
+    @Override
+    public synchronized void onAgentRtiChanged(OnAgentRtiChangedEvent e) {
+        Agent agent = agents.get(e.getKey());
+        if (agent == null) {
+            agent = new Agent(e.getKey(), null, null, null, null, null, null, null, null, 0);
+        }
+        else {
+            count(agent, -1);
+        }
+        putAgent(agent.merge(e));
+        changed();
+    }
+
+    @Override
+    public synchronized void onPilotRtiChanged(OnPilotRtiChangedEvent e) {
+        Pilot pilot = pilots.get(e.getKey());
+        if (pilot == null) {
+            pilot = new Pilot(e.getKey(), null, null, null, 0, 0);
+        }
+        else if (pilot.getNumber() != null) {
+            waitingCallsByPilot.remove(pilot.getNumber());
+        }
+        putPilot(pilot.merge(e));
+        changed();
+    }
+
+    @Override
+    public synchronized void onQueueRtiChanged(OnQueueRtiChangedEvent e) {
+        Queue queue = queues.get(e.getKey());
+        if (queue == null) {
+            queue = new Queue(e.getKey(), null, null, null, 0);
+        }
+        else {
+            nbOfQueuedCalls -= queue.getNbOfWaitingCalls();
+        }
+        putQueue(queue.merge(e));
+        changed();
+    }
+
+    private void putAgent(Agent agent) {
+        agents.put(agent.getKey(), agent);
+        count(agent, 1);
+    }
+
+    private void putPilot(Pilot pilot) {
+        pilots.put(pilot.getKey(), pilot);
+        if (pilot.getNumber() != null) {
+            waitingCallsByPilot.put(pilot.getNumber(), pilot.getNbOfWaitingCalls());
+        }
+    }
+
+    private void putQueue(Queue queue) {
+        queues.put(queue.getKey(), queue);
+        nbOfQueuedCalls += queue.getNbOfWaitingCalls();
+    }
+
+    private void count(Agent agent, int sign) {
+        AgentServiceState serviceState = (agent.getServiceState() == null) ? AgentServiceState.UNKNOWN : agent.getServiceState();
+        agentsByServiceState[serviceState.ordinal()] += sign;
+
+        if ((agent.getProcessingGroup() != null) && (agent.getNbOfServedACDCalls() != 0)) {
+            servedACDCallsByProcessingGroup.merge(agent.getProcessingGroup(), sign * agent.getNbOfServedACDCalls(),
+                    (a, b) -> ((a + b) == 0) ? null : a + b);
+        }
+    }
+
+    /**
+     * Republishes the snapshot after a change, at most once per refresh
+     * period. Called with the lock held.
+     */
+    private void changed() {
+        long now = System.nanoTime();
+        if (now - lastPublished >= refreshPeriodNanos) {
+            publish(now);
+        }
+        else {
+            changed = true;
+            if (!publishScheduled) {
+                // Publish the last changes at the end of the period
+                publishScheduled = true;
+                CompletableFuture.delayedExecutor(lastPublished + refreshPeriodNanos - now, TimeUnit.NANOSECONDS).execute(() -> {
+                    synchronized (this) {
+                        publishScheduled = false;
+                        if (changed) {
+                            publish(System.nanoTime());
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    private void publish(long now) {
+        snapshot = newSnapshot();
+        lastPublished = now;
+        changed = false;
+    }
+
+    private Snapshot newSnapshot() {
+        Map<AgentServiceState, Integer> byServiceState = new EnumMap<>(AgentServiceState.class);
+        for (AgentServiceState serviceState : AgentServiceState.values()) {
+            byServiceState.put(serviceState, agentsByServiceState[serviceState.ordinal()]);
+        }
+        return new Snapshot(byServiceState, new HashMap<>(waitingCallsByPilot),
+                new HashMap<>(servedACDCallsByProcessingGroup), nbOfQueuedCalls);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g;
+
+/**
+ * {@code EventOverflowPolicy} defines what happens when the events are
+ * received faster than the listeners treat them, and the event queue is full.
+ * <p>
+ * With a blocking policy, the SDK stops reading the event channel until the
+ * listeners have treated some events. If this lasts too long, the O2G server
+ * can consider the subscription as dead and delete it. The other policies
+ * keep reading the event channel, at the price of losing or delaying events.
+ * 
+ * @see Subscription.Builder#setEventQueue(int, EventOverflowPolicy)
+ */
+public enum EventOverflowPolicy {
+
+    /**
+     * Wait until there is room in the queue. This is the default policy, no
+     * event is lost.
+     */
+    BLOCK,
+
+    /**
+     * Drop the oldest pending event with the same key as the new event (the
+     * user login name, the call center object number, ...), or the oldest
+     * pending event if there is no such event.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Replace a pending state event by a newer one for the same key, the
+     * listeners only receive the last state. This applies to
+     * {@code OnDeviceStateModifiedEvent}, {@code OnUserStateModifiedEvent},
+     * {@code OnTelephonyStateEvent}, {@code OnRoutingStateChangedEvent},
+     * {@code OnAgentStateChangedEvent} and {@code OnEventSummaryUpdatedEvent}.
+     * A pending state is not replaced once other events for the same key have
+     * been queued after it, so the events of a key keep their order.
+     * When the queue is full of other events, wait until there is room in the
+     * queue.
+     */
+    COALESCE,
+
+    /**
+     * Write the events to a temporary file when the queue is full. They are
+     * read back in order as soon as the listeners have treated the pending
+     * events. No event is lost.
+     */
+    SPILL_TO_DISK
+}
@@ -0,0 +1,110 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g;
+
+/**
+ * {@code EventQueueStatistics} gives the counters of the event queue, it
+ * allows to size the queue and choose the overflow policy. When the events
+ * are dispatched on several threads, the counters are the sum of the counters
+ * of each dispatcher queue.
+ * 
+ * @see Session#getEventQueueStatistics()
+ * @see Subscription.Builder#setEventQueue(int, EventOverflowPolicy)
+ */
+public interface EventQueueStatistics {
+
+    /**
+     * Returns the overflow policy of the queue.
+     * 
+     * @return the overflow policy.
+     */
+    EventOverflowPolicy getPolicy();
+
+    /**
+     * Returns the capacity of the queue.
+     * 
+     * @return the capacity.
+     */
+    int getCapacity();
+
+    /**
+     * Returns the number of events currently waiting in memory.
+     * 
+     * @return the number of pending events.
+     */
+    int getSize();
+
+    /**
+     * Returns the highest number of events that have been waiting in memory.
+     * It is not tracked, and is {@code 0}, when the events are queued in a
+     * ring buffer.
+     * 
+     * @return the high watermark.
+     */
+    int getMaxSize();
+
+    /**
+     * Returns the number of events that have been queued.
+     * 
+     * @return the number of received events.
+     */
+    long getReceived();
+
+    /**
+     * Returns the number of times the event channel reading has been blocked
+     * because the queue was full.
+     * 
+     * @return the number of blocked events.
+     */
+    long getBlocked();
+
+    /**
+     * Returns the number of events that have been dropped with the
+     * {@link EventOverflowPolicy#DROP_OLDEST DROP_OLDEST} policy, or because
+     * they could not be written to or read from the disk with the
+     * {@link EventOverflowPolicy#SPILL_TO_DISK SPILL_TO_DISK} policy.
+     * 
+     * @return the number of dropped events.
+     */
+    long getDropped();
+
+    /**
+     * Returns the number of state events that have been replaced by a newer
+     * one with the {@link EventOverflowPolicy#COALESCE COALESCE} policy, and
+     * the number of realtime events that have been merged into a pending one.
+     * 
+     * @return the number of coalesced events.
+     */
+    long getCoalesced();
+
+    /**
+     * Returns the number of events that have been written to the disk with
+     * the {@link EventOverflowPolicy#SPILL_TO_DISK SPILL_TO_DISK} policy.
+     * 
+     * @return the number of spilled events.
+     */
+    long getSpilled();
+
+    /**
+     * Returns the number of events currently waiting on the disk.
+     * 
+     * @return the number of events on the disk.
+     */
+    long getSpillSize();
+}
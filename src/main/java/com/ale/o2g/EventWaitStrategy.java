@@ -0,0 +1,48 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g;
+
+/**
+ * {@code EventWaitStrategy} defines how the event dispatch threads wait for
+ * the events when the events are queued in a ring buffer.
+ * 
+ * @see Subscription.Builder#setEventRingBuffer(int, EventWaitStrategy)
+ */
+public enum EventWaitStrategy {
+
+    /**
+     * Spin on the buffer. This gives the lowest latency, but each dispatch
+     * thread uses a full CPU core even when there is no event. Only use it
+     * when there are more cores than busy threads.
+     */
+    BUSY_SPIN,
+
+    /**
+     * Spin a short time, then yield the CPU to the other threads. The latency
+     * stays low, and the CPU is available to other threads, but remains busy.
+     */
+    YIELD,
+
+    /**
+     * Spin and yield a short time, then park the thread until a new event is
+     * received. The CPU is released when there is no event, the latency is
+     * higher after an idle period.
+     */
+    PARK
+}
@@ -0,0 +1,192 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g;
+
+import java.time.Duration;
+
+/**
+ * {@code HedgingPolicy} reduces the tail latency of the read operations that
+ * are latency critical. When the answer to such a request is late, a second
+ * identical request is sent and the first answer is used.
+ * <p>
+ * A request is late when it has not completed after the given percentile of
+ * the latencies recently observed for the hedged requests, for example the
+ * 95th percentile. To protect the O2G server, the number of duplicate
+ * requests is limited by a budget: a ratio of the number of hedged requests.
+ * <p>
+ * The hedged operations are the following:
+ * <ul>
+ * <li>{@link TelephonyService#getState()}</li>
+ * <li>{@link TelephonyService#getDeviceState(String)}</li>
+ * <li>{@link UsersService#getByLoginName(String)}</li>
+ * <li>{@link RoutingService#getRoutingState()}</li>
+ * </ul>
+ * and their versions with a {@code loginName} and in the asynchronous
+ * services.
+ * <pre>
+ * {@code
+ *      HedgingPolicy hedgingPolicy = HedgingPolicy.newBuilder()
+ *              .setPercentile(95)
+ *              .setMinDelay(Duration.ofMillis(20))
+ *              .setBudget(0.05)
+ *              .build();
+ *
+ *      ServiceEndPoint endPoint = O2G.connect(host, HttpClientConfiguration.newBuilder()
+ *              .setHedgingPolicy(hedgingPolicy)
+ *              .build());
+ * }
+ * </pre>
+ * 
+ * @see HttpClientConfiguration.Builder#setHedgingPolicy(HedgingPolicy)
+ */
+public final class HedgingPolicy {
+
+    /**
+     * Builder for {@link HedgingPolicy}.
+     * <p>
+     * Instances are created via {@link HedgingPolicy#newBuilder()}. By default,
+     * a request is hedged after the 95th percentile of the latencies, but not
+     * before 10 milliseconds, with a budget of 10% of the hedged requests.
+     */
+    public static interface Builder {
+
+        /**
+         * Sets the percentile of the observed latencies after which a request
+         * is hedged.
+         * 
+         * @param percentile the percentile, greater than 0 and lower than 100
+         * @return this builder
+         * @throws IllegalArgumentException if the percentile is not in the
+         *                                  range.
+         */
+        Builder setPercentile(double percentile);
+
+        /**
+         * Sets the minimum delay before a request is hedged.
+         * 
+         * @param minDelay the minimum delay
+         * @return this builder
+         * @throws IllegalArgumentException if {@code minDelay} is negative.
+         */
+        Builder setMinDelay(Duration minDelay);
+
+        /**
+         * Sets the maximum number of duplicate requests, as a ratio of the
+         * number of hedged requests. A budget of {@code 0.1} allows at most one
+         * duplicate request for 10 requests.
+         * 
+         * @param budget the ratio, greater than 0 and at most 1
+         * @return this builder
+         * @throws IllegalArgumentException if the ratio is not in the range.
+         */
+        Builder setBudget(double budget);
+
+        /**
+         * Builds a new {@link HedgingPolicy} instance.
+         *
+         * @return the hedging policy
+         */
+        HedgingPolicy build();
+    }
+
+    private final double percentile;
+    private final Duration minDelay;
+    private final double budget;
+
+    /**
+     * Returns the percentile of the observed latencies after which a request
+     * is hedged.
+     * 
+     * @return the percentile
+     */
+    public final double getPercentile() {
+        return percentile;
+    }
+
+    /**
+     * Returns the minimum delay before a request is hedged.
+     * 
+     * @return the minimum delay
+     */
+    public final Duration getMinDelay() {
+        return minDelay;
+    }
+
+    /**
+     * Returns the maximum number of duplicate requests, as a ratio of the
+     * number of hedged requests.
+     * 
+     * @return the budget
+     */
+    public final double getBudget() {
+        return budget;
+    }
+
+    protected HedgingPolicy(double percentile, Duration minDelay, double budget) {
+        this.percentile = percentile;
+        this.minDelay = minDelay;
+        this.budget = budget;
+    }
+
+    /**
+     * Creates a new {@link Builder} instance for constructing a
+     * {@link HedgingPolicy}.
+     *
+     * @return a new builder
+     */
+    public static Builder newBuilder() {
+        return new Builder() {
+            private double percentile = 95;
+            private Duration minDelay = Duration.ofMillis(10);
+            private double budget = 0.1;
+
+            @Override
+            public Builder setPercentile(double percentile) {
+                if (!(percentile > 0) || !(percentile < 100)) {
+                    throw new IllegalArgumentException("percentile must be between 0 and 100");
+                }
+                this.percentile = percentile;
+                return this;
+            }
+
+            @Override
+            public Builder setMinDelay(Duration minDelay) {
+                if (minDelay.isNegative()) {
+                    throw new IllegalArgumentException("minDelay must not be negative");
+                }
+                this.minDelay = minDelay;
+                return this;
+            }
+
+            @Override
+            public Builder setBudget(double budget) {
+                if (!(budget > 0) || (budget > 1)) {
+                    throw new IllegalArgumentException("budget must be greater than 0 and at most 1");
+                }
+                this.budget = budget;
+                return this;
+            }
+
+            @Override
+            public HedgingPolicy build() {
+                return new HedgingPolicy(percentile, minDelay, budget);
+            }
+        };
+    }
+}
@@ -0,0 +1,329 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * {@code HttpClientConfiguration} configures the http client used by the SDK
+ * to send the requests to the O2G server.
+ * <p>
+ * By default, the http client negotiates the protocol version, has no connect
+ * or request timeout, uses an executor created by the SDK, and the event
+ * channel uses its own http client. No {@link RequestLimiter} controls the
+ * flow of the requests, and the requests are neither retried nor hedged.
+ * <p>
+ * When the O2G server supports HTTP/2, the concurrent requests of the services
+ * are multiplexed over the same connection. Sharing the http client with the
+ * event channel avoids opening a second connection.
+ * <pre>
+ * {@code
+ *      HttpClientConfiguration configuration = HttpClientConfiguration.newBuilder()
+ *              .setVersion(HttpClient.Version.HTTP_2)
+ *              .setConnectTimeout(Duration.ofSeconds(5))
+ *              .setRequestTimeout(Duration.ofSeconds(30))
+ *              .setSharedWithEventing(true)
+ *              .build();
+ *
+ *      ServiceEndPoint endPoint = O2G.connect(host, configuration);
+ * }
+ * </pre>
+ * 
+ * @see O2G#connect(com.ale.o2g.types.Host, HttpClientConfiguration)
+ */
+public final class HttpClientConfiguration {
+
+    /**
+     * Builder for {@link HttpClientConfiguration}.
+     * <p>
+     * Instances are created via {@link HttpClientConfiguration#newBuilder()}.
+     * Each call to {@link #build()} returns a new immutable
+     * {@code HttpClientConfiguration}.
+     */
+    public static interface Builder {
+
+        /**
+         * Sets the http protocol version. Use {@link HttpClient.Version#HTTP_2
+         * HTTP_2} to use HTTP/2 when the server supports it, or
+         * {@link HttpClient.Version#HTTP_1_1 HTTP_1_1} to always use HTTP/1.1.
+         * 
+         * @param version the http protocol version, or {@code null} to use the
+         *                default version of the http client
+         * @return this builder
+         */
+        Builder setVersion(HttpClient.Version version);
+
+        /**
+         * Sets the maximum time to establish a connection with the O2G server.
+         * 
+         * @param connectTimeout the connect timeout, or {@code null} for no timeout
+         * @return this builder
+         */
+        Builder setConnectTimeout(Duration connectTimeout);
+
+        /**
+         * Sets the maximum time to wait for the response of a service request.
+         * When the timeout expires, the request fails with an
+         * {@link java.net.http.HttpTimeoutException HttpTimeoutException}. The
+         * timeout does not apply to the event channel.
+         * 
+         * @param requestTimeout the request timeout, or {@code null} for no timeout
+         * @return this builder
+         */
+        Builder setRequestTimeout(Duration requestTimeout);
+
+        /**
+         * Sets the executor used by the http client for the asynchronous tasks.
+         * The executor is not shut down by the SDK.
+         * 
+         * @param executor the executor, or {@code null} to use an executor created
+         *                 by the SDK
+         * @return this builder
+         */
+        Builder setExecutor(Executor executor);
+
+        /**
+         * Sets whether the event channel uses the same http client as the
+         * services.
+         * 
+         * @param shared {@code true} to share the http client with the event
+         *               channel; {@code false} otherwise
+         * @return this builder
+         */
+        Builder setSharedWithEventing(boolean shared);
+
+        /**
+         * Sets the limiter that controls the flow of the service requests.
+         * 
+         * @param requestLimiter the limiter, or {@code null} to send the
+         *                       requests at once
+         * @return this builder
+         * @see RequestLimiter
+         */
+        Builder setRequestLimiter(RequestLimiter requestLimiter);
+
+        /**
+         * Sets the policy to retry the service requests that have failed on a
+         * transient error. Each retry goes through the request limiter, if
+         * any.
+         * 
+         * @param retryPolicy the retry policy, or {@code null} to never retry
+         * @return this builder
+         * @see RetryPolicy
+         */
+        Builder setRetryPolicy(RetryPolicy retryPolicy);
+
+        /**
+         * Sets the policy to hedge the latency critical read operations.
+         * 
+         * @param hedgingPolicy the hedging policy, or {@code null} to never
+         *                      hedge the requests
+         * @return this builder
+         * @see HedgingPolicy
+         */
+        Builder setHedgingPolicy(HedgingPolicy hedgingPolicy);
+
+        /**
+         * Builds a new {@link HttpClientConfiguration} instance.
+         *
+         * @return the configuration
+         */
+        HttpClientConfiguration build();
+    }
+
+    private final HttpClient.Version version;
+    private final Duration connectTimeout;
+    private final Duration requestTimeout;
+    private final Executor executor;
+    private final boolean sharedWithEventing;
+    private final RequestLimiter requestLimiter;
+    private final RetryPolicy retryPolicy;
+    private final HedgingPolicy hedgingPolicy;
+
+    /**
+     * Returns the http protocol version.
+     * 
+     * @return the version, or {@code null} if the default version of the http
+     *         client is used
+     */
+    public final HttpClient.Version getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the connect timeout.
+     * 
+     * @return the connect timeout, or {@code null} if there is no timeout
+     */
+    public final Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * Returns the request timeout.
+     * 
+     * @return the request timeout, or {@code null} if there is no timeout
+     */
+    public final Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    /**
+     * Returns the executor used by the http client.
+     * 
+     * @return the executor, or {@code null} if the SDK creates the executor
+     */
+    public final Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Returns whether the event channel uses the same http client as the
+     * services.
+     * 
+     * @return {@code true} if the http client is shared; {@code false} otherwise
+     */
+    public final boolean isSharedWithEventing() {
+        return sharedWithEventing;
+    }
+
+    /**
+     * Returns the limiter that controls the flow of the service requests.
+     * 
+     * @return the limiter, or {@code null} if the requests are sent at once
+     */
+    public final RequestLimiter getRequestLimiter() {
+        return requestLimiter;
+    }
+
+    /**
+     * Returns the policy to retry the service requests.
+     * 
+     * @return the retry policy, or {@code null} if the requests are never
+     *         retried
+     */
+    public final RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Returns the policy to hedge the latency critical read operations.
+     * 
+     * @return the hedging policy, or {@code null} if the requests are never
+     *         hedged
+     */
+    public final HedgingPolicy getHedgingPolicy() {
+        return hedgingPolicy;
+    }
+
+    protected HttpClientConfiguration(HttpClient.Version version, Duration connectTimeout, Duration requestTimeout,
+            Executor executor, boolean sharedWithEventing, RequestLimiter requestLimiter, RetryPolicy retryPolicy,
+            HedgingPolicy hedgingPolicy) {
+        this.version = version;
+        this.connectTimeout = connectTimeout;
+        this.requestTimeout = requestTimeout;
+        this.executor = executor;
+        this.sharedWithEventing = sharedWithEventing;
+        this.requestLimiter = requestLimiter;
+        this.retryPolicy = retryPolicy;
+        this.hedgingPolicy = hedgingPolicy;
+    }
+
+    /**
+     * Creates a new {@link Builder} instance for constructing a
+     * {@link HttpClientConfiguration}.
+     *
+     * @return a new builder
+     */
+    public static Builder newBuilder() {
+        return new Builder() {
+            private HttpClient.Version version;
+            private Duration connectTimeout;
+            private Duration requestTimeout;
+            private Executor executor;
+            private boolean sharedWithEventing = false;
+            private RequestLimiter requestLimiter;
+            private RetryPolicy retryPolicy;
+            private HedgingPolicy hedgingPolicy;
+
+            @Override
+            public Builder setVersion(HttpClient.Version version) {
+                this.version = version;
+                return this;
+            }
+
+            @Override
+            public Builder setConnectTimeout(Duration connectTimeout) {
+                this.connectTimeout = requirePositive(connectTimeout, "connectTimeout");
+                return this;
+            }
+
+            @Override
+            public Builder setRequestTimeout(Duration requestTimeout) {
+                this.requestTimeout = requirePositive(requestTimeout, "requestTimeout");
+                return this;
+            }
+
+            @Override
+            public Builder setExecutor(Executor executor) {
+                this.executor = executor;
+                return this;
+            }
+
+            @Override
+            public Builder setSharedWithEventing(boolean shared) {
+                this.sharedWithEventing = shared;
+                return this;
+            }
+
+            @Override
+            public Builder setRequestLimiter(RequestLimiter requestLimiter) {
+                this.requestLimiter = requestLimiter;
+                return this;
+            }
+
+            @Override
+            public Builder setRetryPolicy(RetryPolicy retryPolicy) {
+                this.retryPolicy = retryPolicy;
+                return this;
+            }
+
+            @Override
+            public Builder setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+                this.hedgingPolicy = hedgingPolicy;
+                return this;
+            }
+
+            @Override
+            public HttpClientConfiguration build() {
+                return new HttpClientConfiguration(version, connectTimeout, requestTimeout, executor, sharedWithEventing,
+                        requestLimiter, retryPolicy, hedgingPolicy);
+            }
+        };
+    }
+
+    private static Duration requirePositive(Duration duration, String name) {
+        if ((duration != null) && (duration.isNegative() || duration.isZero())) {
+            throw new IllegalArgumentException(name + " must be positive");
+        }
+        return duration;
+    }
+}
@@ -42,8 +42,22 @@ public final class O2G {
      * @throws O2GException when the service end point can not be reached.
      */
     public static ServiceEndPoint connect(Host host) throws O2GException {
+        return connect(host, null);
+    }
+
+    /**
+     * Attemps to establish a connection on the specified Host, using the
+     * specified http client configuration.
+     * 
+     * @param host          the host
+     * @param configuration the http client configuration, or {@code null} to use
+     *                      the default configuration
+     * @return the connected endpoint
+     * @throws O2GException when the service end point can not be reached.
+     */
+    public static ServiceEndPoint connect(Host host, HttpClientConfiguration configuration) throws O2GException {
 
-        ServiceFactory serviceFactory = new ServiceFactory(ApiVersion);
+        ServiceFactory serviceFactory = new ServiceFactory(ApiVersion, configuration);
         ServerInfo serverInfo = serviceFactory.bootstrap(host);
 
         return new ServiceEndPointImpl(serviceFactory, serverInfo);
@@ -0,0 +1,292 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import com.ale.o2g.events.common.ChannelInformationEventListener;
+import com.ale.o2g.events.common.OnChannelInformationEvent;
+import com.ale.o2g.events.management.ManagementEventListener;
+import com.ale.o2g.events.management.OnPbxObjectInstanceCreatedEvent;
+import com.ale.o2g.events.management.OnPbxObjectInstanceDeletedEvent;
+import com.ale.o2g.events.management.OnPbxObjectInstanceModifiedEvent;
+import com.ale.o2g.internal.util.LoadingCache;
+import com.ale.o2g.types.RestResult;
+import com.ale.o2g.types.management.Model;
+import com.ale.o2g.types.management.PbxObject;
+import com.ale.o2g.types.management.PbxObjectDefinition;
+
+/**
+ * {@code PbxObjectCache} caches the object models and the object instances
+ * read with the {@link ManagementService}, for the provisioning tools that read
+ * the same objects again and again.
+ * <p>
+ * The object models almost never change: they stay in the cache until they are
+ * explicitly invalidated. The object instances are cached for a limited time,
+ * and the least recently used instances are evicted when the cache is full.
+ * When several threads read the same object which is not in the cache, a
+ * single request is sent to the O2G server.
+ * <p>
+ * When the cache is also added as a management event listener to the session
+ * subscription, an instance is invalidated as soon as it is modified or
+ * deleted, as well as its father when one of its sub-objects is created or
+ * deleted:
+ * <pre>
+ * {@code
+ *      PbxObjectCache cache = PbxObjectCache.create(session.getManagementService(), 10000, Duration.ofMinutes(5));
+ *
+ *      Subscription subscription = Subscription.newBuilder()
+ *              .addManagementEventListener(cache)
+ *              .build();
+ *      session.listenEvents(subscription);
+ *
+ *      // Load all the models of the node in parallel
+ *      cache.warmUp(1, null, 8, executor).join();
+ *
+ *      PbxObject subscriber = cache.getObject(1, "Subscriber", "35000");
+ * }
+ * </pre>
+ * Events may have been lost while the event channel was down, so the
+ * instances are invalidated each time the channel is established.
+ */
+public final class PbxObjectCache implements ManagementEventListener, ChannelInformationEventListener {
+
+    private record ModelKey(int nodeId, String objectName) {
+    }
+
+    private record InstanceKey(int nodeId, String objectInstanceDefinition, String objectId, String attributes) {
+
+        String objectName() {
+            int index = objectInstanceDefinition.lastIndexOf('/');
+            return (index < 0) ? objectInstanceDefinition : objectInstanceDefinition.substring(index + 1);
+        }
+
+        boolean isInstanceOf(int nodeId, PbxObjectDefinition object) {
+            return (this.nodeId == nodeId) && Objects.equals(objectId, object.getObjectId())
+                    && objectName().equals(object.getObjectName());
+        }
+
+        boolean isSubObjectOf(int nodeId, PbxObjectDefinition object) {
+            String path = object.getObjectName() + "/" + object.getObjectId() + "/";
+            return (this.nodeId == nodeId)
+                    && (objectInstanceDefinition.startsWith(path) || objectInstanceDefinition.contains("/" + path));
+        }
+    }
+
+    private final ManagementService managementService;
+    private final LoadingCache<ModelKey, Model> models;
+    private final LoadingCache<InstanceKey, PbxObject> instances;
+
+    private PbxObjectCache(ManagementService managementService, int maxSize, Duration ttl) {
+        this.managementService = managementService;
+        this.models = new LoadingCache<>(Integer.MAX_VALUE, null);
+        this.instances = new LoadingCache<>(maxSize, ttl);
+    }
+
+    /**
+     * Creates a new empty cache.
+     * 
+     * @param managementService the service used to read the objects
+     * @param maxSize           the maximum number of object instances in the
+     *                          cache
+     * @param ttl               the time to live of a cached object instance
+     * @return the new cache
+     */
+    public static PbxObjectCache create(ManagementService managementService, int maxSize, Duration ttl) {
+        if (managementService == null) {
+            throw new IllegalArgumentException("managementService must not be null");
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        if ((ttl == null) || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        return new PbxObjectCache(managementService, maxSize, ttl);
+    }
+
+    /**
+     * Returns the model of the specified object.
+     * 
+     * @param nodeId     the OmniPCX Enterprise node id
+     * @param objectName the object name, or {@code null} for the global object
+     *                   model of the node
+     * @return the object model, or {@code null} if it could not be read
+     * @see ManagementService#getObjectModel(int, String)
+     */
+    public Model getObjectModel(int nodeId, String objectName) {
+        return models.get(new ModelKey(nodeId, objectName), key -> managementService.getObjectModel(key.nodeId(), key.objectName()));
+    }
+
+    /**
+     * Returns the object specified by its instance definition and its instance
+     * id.
+     * 
+     * @param nodeId                   the OmniPCX Enterprise node id
+     * @param objectInstanceDefinition the object instance definition
+     * @param objectId                 the object instance id
+     * @return the object, or {@code null} if it could not be read
+     * @see ManagementService#getObject(int, String, String)
+     */
+    public PbxObject getObject(int nodeId, String objectInstanceDefinition, String objectId) {
+        return getObject(nodeId, objectInstanceDefinition, objectId, null);
+    }
+
+    /**
+     * Returns the object specified by its instance definition and its instance
+     * id, with the specified attributes only. The objects read with different
+     * attributes are cached separately.
+     * 
+     * @param nodeId                   the OmniPCX Enterprise node id
+     * @param objectInstanceDefinition the object instance definition
+     * @param objectId                 the object instance id
+     * @param attributes               the optional object attributes to
+     *                                 retrieve
+     * @return the object, or {@code null} if it could not be read
+     * @see ManagementService#getObject(int, String, String, String)
+     */
+    public PbxObject getObject(int nodeId, String objectInstanceDefinition, String objectId, String attributes) {
+        if (objectInstanceDefinition == null) {
+            throw new IllegalArgumentException("objectInstanceDefinition must not be null");
+        }
+        return instances.get(new InstanceKey(nodeId, objectInstanceDefinition, objectId, attributes), key -> (key.attributes() == null)
+                ? managementService.getObject(key.nodeId(), key.objectInstanceDefinition(), key.objectId())
+                : managementService.getObject(key.nodeId(), key.objectInstanceDefinition(), key.objectId(), key.attributes()));
+    }
+
+    /**
+     * Loads the models of the specified objects, with at most
+     * {@code parallelism} requests in flight.
+     * 
+     * @param nodeId      the OmniPCX Enterprise node id
+     * @param objectNames the names of the objects, or {@code null} to load the
+     *                    global object model and the models of its children
+     * @param parallelism the maximum number of requests in flight
+     * @param executor    the executor used to send the requests
+     * @return a future completed with the number of models loaded
+     */
+    public CompletableFuture<Integer> warmUp(int nodeId, Collection<String> objectNames, int parallelism, Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("executor must not be null");
+        }
+
+        CompletableFuture<Collection<String>> names;
+        if (objectNames != null) {
+            names = CompletableFuture.completedFuture(objectNames);
+        }
+        else {
+            names = CompletableFuture.supplyAsync(() -> getObjectModel(nodeId, null), executor)
+                    .thenApply(model -> (model == null)
+                            ? List.<String>of()
+                            : model.getChildModels().stream().map(Model::getName).collect(Collectors.toList()));
+        }
+
+        return names.thenCompose(n -> Batch.<String, Model>run(n, parallelism,
+                name -> CompletableFuture.supplyAsync(() -> RestResult.succeeded(getObjectModel(nodeId, name)), executor)))
+                .thenApply(results -> (int) results.values().stream().filter(result -> result.getValue() != null).count());
+    }
+
+    /**
+     * Invalidates the models and the object instances of the specified node.
+     * 
+     * @param nodeId the OmniPCX Enterprise node id
+     */
+    public void invalidateNode(int nodeId) {
+        models.invalidateIf((key, model) -> key.nodeId() == nodeId);
+        instances.invalidateIf((key, object) -> key.nodeId() == nodeId);
+    }
+
+    /**
+     * Invalidates all the object instances. The models are kept.
+     */
+    public void invalidateInstances() {
+        instances.invalidateAll();
+    }
+
+    /**
+     * Invalidates all the models and object instances.
+     */
+    public void invalidateAll() {
+        models.invalidateAll();
+        instances.invalidateAll();
+    }
+
+    /**
+     * Returns the number of object instances in the cache.
+     * 
+     * @return the number of object instances
+     */
+    public int getInstanceCount() {
+        return instances.size();
+    }
+
+    /**
+     * Returns the number of reads served from the cache.
+     * 
+     * @return the number of cache hits
+     */
+    public long getHitCount() {
+        return models.getHitCount() + instances.getHitCount();
+    }
+
+    /**
+     * Returns the number of reads sent to the O2G server.
+     * 
+     * @return the number of cache misses
+     */
+    public long getMissCount() {
+        return models.getMissCount() + instances.getMissCount();
+    }
+
+    @Override
+    public void pbxObjectInstanceCreated(OnPbxObjectInstanceCreatedEvent e) {
+        // The father gets a new sub-object
+        invalidate(e.getNodeId(), e.getFather(), false);
+    }
+
+    @Override
+    public void pbxObjectInstanceModified(OnPbxObjectInstanceModifiedEvent e) {
+        invalidate(e.getNodeId(), e.getObject(), false);
+    }
+
+    @Override
+    public void pbxObjectInstanceDeleted(OnPbxObjectInstanceDeletedEvent e) {
+        invalidate(e.getNodeId(), e.getObject(), true);
+        invalidate(e.getNodeId(), e.getFather(), false);
+    }
+
+    @Override
+    public void OnChannelInformation(OnChannelInformationEvent e) {
+        invalidateInstances();
+    }
+
+    private void invalidate(int nodeId, PbxObjectDefinition object, boolean withSubObjects) {
+        if ((object == null) || (object.getObjectName() == null)) {
+            return;
+        }
+        instances.invalidateIf((key, instance) -> key.isInstanceOf(nodeId, object)
+                || (withSubObjects && key.isSubObjectOf(nodeId, object)));
+    }
+}
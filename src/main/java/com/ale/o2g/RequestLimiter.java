@@ -0,0 +1,156 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.ale.o2g.internal.util.AdaptiveRequestLimiter;
+import com.ale.o2g.internal.util.TokenBucketRequestLimiter;
+
+/**
+ * {@code RequestLimiter} controls the flow of the service requests sent to the
+ * O2G server. A request is sent when the limiter grants a permit; otherwise it
+ * waits in the limiter queue, or it is rejected when the queue is full.
+ * <p>
+ * Two limiters are provided:
+ * <ul>
+ * <li>{@link #tokenBucket(double, int, int)} limits the rate of the
+ * requests.</li>
+ * <li>{@link #adaptive(int, int, int, Duration, int)} limits the number of
+ * requests in flight, and adapts this limit to the server: it is increased
+ * while the server answers quickly, and decreased when the latency rises or
+ * when the server answers {@code 503 Service Unavailable} or
+ * {@code 429 Too Many Requests}.</li>
+ * </ul>
+ * The limiter is set in the {@link HttpClientConfiguration}. It applies to all
+ * the services of the endpoint, but not to the event channel.
+ * <pre>
+ * {@code
+ *      RequestLimiter limiter = RequestLimiter.adaptive(10, 2, 100, Duration.ofMillis(500), 1000);
+ *
+ *      ServiceEndPoint endPoint = O2G.connect(host, HttpClientConfiguration.newBuilder()
+ *              .setRequestLimiter(limiter)
+ *              .build());
+ *      ...
+ *      logger.info("in flight: {}, queued: {}, rejected: {}", limiter.getInFlight(), limiter.getQueued(), limiter.getRejected());
+ * }
+ * </pre>
+ * A rejected request fails with a {@link RejectedExecutionException}.
+ * <p>
+ * The application can provide its own limiter by implementing this interface.
+ * 
+ * @see HttpClientConfiguration.Builder#setRequestLimiter(RequestLimiter)
+ */
+public interface RequestLimiter {
+
+    /**
+     * Asks a permit to send a request. Each granted permit is given back with
+     * {@link #release(Duration, boolean)} when the request has completed.
+     * 
+     * @return a future completed when the request can be sent, or completed
+     *         exceptionally with a {@link RejectedExecutionException} if the
+     *         request is rejected.
+     */
+    CompletableFuture<Void> acquire();
+
+    /**
+     * Gives back the permit of a completed request.
+     * 
+     * @param latency    the time between the sending of the request and its
+     *                   completion
+     * @param overloaded {@code true} if the server has answered it is
+     *                   overloaded, or has not answered in time; {@code false}
+     *                   otherwise
+     */
+    void release(Duration latency, boolean overloaded);
+
+    /**
+     * Returns the current maximum number of requests in flight.
+     * 
+     * @return the limit, or {@link Integer#MAX_VALUE} if the limiter does not
+     *         bound the number of requests in flight.
+     */
+    int getLimit();
+
+    /**
+     * Returns the number of requests that have been granted a permit and are
+     * not completed.
+     * 
+     * @return the number of requests in flight.
+     */
+    int getInFlight();
+
+    /**
+     * Returns the number of requests waiting for a permit.
+     * 
+     * @return the number of queued requests.
+     */
+    int getQueued();
+
+    /**
+     * Returns the number of requests that have been rejected because the
+     * queue was full.
+     * 
+     * @return the number of rejected requests.
+     */
+    long getRejected();
+
+    /**
+     * Returns a limiter that sends at most {@code permitsPerSecond} requests
+     * per second on average, and allows bursts of {@code burst} requests.
+     * 
+     * @param permitsPerSecond the average rate
+     * @param burst            the maximum number of requests sent at once
+     * @param maxQueued        the maximum number of requests waiting for a
+     *                         permit
+     * @return the limiter.
+     * @throws IllegalArgumentException if a parameter is not positive, except
+     *                                  {@code maxQueued} which can be
+     *                                  {@code 0}.
+     */
+    static RequestLimiter tokenBucket(double permitsPerSecond, int burst, int maxQueued) {
+        return new TokenBucketRequestLimiter(permitsPerSecond, burst, maxQueued);
+    }
+
+    /**
+     * Returns a limiter that adapts the number of requests in flight to the
+     * server, with an additive increase and multiplicative decrease (AIMD)
+     * algorithm. The limit is increased by one each time a full window of
+     * requests has completed in less than {@code latencyThreshold}, and
+     * reduced by 10% when a request is slower or the server is overloaded.
+     * The limit is reduced at most once per window: the requests already in
+     * flight at a decrease don't decrease it again.
+     * 
+     * @param initialLimit     the initial number of requests in flight
+     * @param minLimit         the minimum number of requests in flight
+     * @param maxLimit         the maximum number of requests in flight
+     * @param latencyThreshold the latency above which the limit is decreased
+     * @param maxQueued        the maximum number of requests waiting for a
+     *                         permit
+     * @return the limiter.
+     * @throws IllegalArgumentException if the limits are not positive or not
+     *                                  ordered, or if {@code maxQueued} is
+     *                                  negative.
+     */
+    static RequestLimiter adaptive(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold, int maxQueued) {
+        return new AdaptiveRequestLimiter(initialLimit, minLimit, maxLimit, latencyThreshold, maxQueued);
+    }
+}
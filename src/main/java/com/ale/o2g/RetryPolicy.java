@@ -0,0 +1,207 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g;
+
+import java.time.Duration;
+
+/**
+ * {@code RetryPolicy} defines how the service requests that have failed on a
+ * transient error are sent again.
+ * <p>
+ * A request is retried when the O2G server cannot be reached, when it does not
+ * answer in time, or when it answers {@code 502 Bad Gateway},
+ * {@code 503 Service Unavailable} or {@code 504 Gateway Timeout}. Only the
+ * requests that can be sent several times without side effect are retried:
+ * the {@code GET}, {@code PUT} and {@code DELETE} requests, like
+ * {@link TelephonyService#getCalls()} or {@link RoutingService#getForward()},
+ * and the requests that set a state, like
+ * {@link RoutingService#activateDnd()}. A request like
+ * {@link TelephonyService#basicMakeCall(String, String)} is never retried.
+ * <p>
+ * The delay before each retry is drawn at random between zero and an
+ * exponential backoff, so that the clients do not retry at the same time. No
+ * retry is done once the deadline is reached, and each attempt times out at
+ * the deadline.
+ * <pre>
+ * {@code
+ *      RetryPolicy retryPolicy = RetryPolicy.newBuilder()
+ *              .setMaxAttempts(4)
+ *              .setBackoff(Duration.ofMillis(200), Duration.ofSeconds(2))
+ *              .setDeadline(Duration.ofSeconds(10))
+ *              .build();
+ *
+ *      ServiceEndPoint endPoint = O2G.connect(host, HttpClientConfiguration.newBuilder()
+ *              .setRetryPolicy(retryPolicy)
+ *              .build());
+ * }
+ * </pre>
+ * 
+ * @see HttpClientConfiguration.Builder#setRetryPolicy(RetryPolicy)
+ */
+public final class RetryPolicy {
+
+    /**
+     * Builder for {@link RetryPolicy}.
+     * <p>
+     * Instances are created via {@link RetryPolicy#newBuilder()}. By default,
+     * a request is sent at most 3 times, with a backoff from 100 milliseconds
+     * to 2 seconds, within 10 seconds.
+     */
+    public static interface Builder {
+
+        /**
+         * Sets the maximum number of times a request is sent, including the
+         * first one.
+         * 
+         * @param maxAttempts the maximum number of attempts
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maxAttempts} is not
+         *                                  positive.
+         */
+        Builder setMaxAttempts(int maxAttempts);
+
+        /**
+         * Sets the backoff. The delay before the retry {@code n} is drawn at
+         * random between zero and {@code initialBackoff * 2^(n-1)}, limited to
+         * {@code maxBackoff}.
+         * 
+         * @param initialBackoff the backoff before the first retry
+         * @param maxBackoff     the maximum backoff
+         * @return this builder
+         * @throws IllegalArgumentException if a backoff is not positive, or if
+         *                                  {@code maxBackoff} is lower than
+         *                                  {@code initialBackoff}.
+         */
+        Builder setBackoff(Duration initialBackoff, Duration maxBackoff);
+
+        /**
+         * Sets the maximum time from the first attempt after which a request is
+         * no longer retried.
+         * 
+         * @param deadline the deadline
+         * @return this builder
+         * @throws IllegalArgumentException if {@code deadline} is not positive.
+         */
+        Builder setDeadline(Duration deadline);
+
+        /**
+         * Builds a new {@link RetryPolicy} instance.
+         *
+         * @return the retry policy
+         */
+        RetryPolicy build();
+    }
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration deadline;
+
+    /**
+     * Returns the maximum number of times a request is sent.
+     * 
+     * @return the maximum number of attempts
+     */
+    public final int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Returns the backoff before the first retry.
+     * 
+     * @return the initial backoff
+     */
+    public final Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    /**
+     * Returns the maximum backoff.
+     * 
+     * @return the maximum backoff
+     */
+    public final Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    /**
+     * Returns the time from the first attempt after which a request is no
+     * longer retried.
+     * 
+     * @return the deadline
+     */
+    public final Duration getDeadline() {
+        return deadline;
+    }
+
+    protected RetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff, Duration deadline) {
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Creates a new {@link Builder} instance for constructing a
+     * {@link RetryPolicy}.
+     *
+     * @return a new builder
+     */
+    public static Builder newBuilder() {
+        return new Builder() {
+            private int maxAttempts = 3;
+            private Duration initialBackoff = Duration.ofMillis(100);
+            private Duration maxBackoff = Duration.ofSeconds(2);
+            private Duration deadline = Duration.ofSeconds(10);
+
+            @Override
+            public Builder setMaxAttempts(int maxAttempts) {
+                if (maxAttempts <= 0) {
+                    throw new IllegalArgumentException("maxAttempts must be positive");
+                }
+                this.maxAttempts = maxAttempts;
+                return this;
+            }
+
+            @Override
+            public Builder setBackoff(Duration initialBackoff, Duration maxBackoff) {
+                if (initialBackoff.isNegative() || initialBackoff.isZero() || (maxBackoff.compareTo(initialBackoff) < 0)) {
+                    throw new IllegalArgumentException("Backoffs must be positive and initialBackoff <= maxBackoff");
+                }
+                this.initialBackoff = initialBackoff;
+                this.maxBackoff = maxBackoff;
+                return this;
+            }
+
+            @Override
+            public Builder setDeadline(Duration deadline) {
+                if (deadline.isNegative() || deadline.isZero()) {
+                    throw new IllegalArgumentException("deadline must be positive");
+                }
+                this.deadline = deadline;
+                return this;
+            }
+
+            @Override
+            public RetryPolicy build() {
+                return new RetryPolicy(maxAttempts, initialBackoff, maxBackoff, deadline);
+            }
+        };
+    }
+}
@@ -0,0 +1,264 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.ale.o2g.events.common.ChannelInformationEventListener;
+import com.ale.o2g.events.common.OnChannelInformationEvent;
+import com.ale.o2g.events.routing.OnRoutingStateChangedEvent;
+import com.ale.o2g.events.routing.RoutingEventListener;
+import com.ale.o2g.types.routing.DndState;
+import com.ale.o2g.types.routing.Forward;
+import com.ale.o2g.types.routing.Overflow;
+import com.ale.o2g.types.routing.RoutingState;
+
+/**
+ * {@code RoutingStateCache} keeps the routing state of the most recently used
+ * users, so that it can be read without a round trip to the O2G server.
+ * <p>
+ * The cache is filled lazily: the routing state of a user is read with
+ * {@link RoutingService#getRoutingState(String) getRoutingState} on the first
+ * access, then kept current from the {@code OnRoutingStateChangedEvent}
+ * events, which also add the users they concern. The cache must therefore be
+ * added as a routing event listener to the session subscription:
+ * <pre>
+ * {@code
+ *      RoutingStateCache cache = RoutingStateCache.create(session.getRoutingService(), 20000);
+ *
+ *      Subscription subscription = Subscription.newBuilder()
+ *              .addRoutingEventListener(cache)
+ *              .build();
+ *      session.listenEvents(subscription);
+ *
+ *      if (cache.getDndState("oxe1000").isActivated()) {
+ *          ...
+ *      }
+ * }
+ * </pre>
+ * When the cache is full, the least recently used user is evicted. Events may
+ * have been lost while the event channel was down, so the cache is cleared
+ * each time the channel is established.
+ */
+public final class RoutingStateCache implements RoutingEventListener, ChannelInformationEventListener {
+
+    private final RoutingService routingService;
+    private final int maxSize;
+    private final Map<String, RoutingState> states;
+
+    // Incremented on each invalidation, to discard the states read before it
+    private long epoch;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private RoutingStateCache(RoutingService routingService, int maxSize) {
+        this.routingService = routingService;
+        this.maxSize = maxSize;
+        this.states = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, RoutingState> eldest) {
+                return size() > RoutingStateCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Creates a new empty cache.
+     * 
+     * @param routingService the service used to read the routing state on a
+     *                       cache miss
+     * @param maxSize        the maximum number of users in the cache
+     * @return the new cache
+     */
+    public static RoutingStateCache create(RoutingService routingService, int maxSize) {
+        if (routingService == null) {
+            throw new IllegalArgumentException("routingService must not be null");
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        return new RoutingStateCache(routingService, maxSize);
+    }
+
+    /**
+     * Returns the routing state of the specified user. On a cache miss, the
+     * routing state is read from the O2G server.
+     * 
+     * @param loginName the user login name
+     * @return the routing state, or {@code null} if it could not be read
+     * @see RoutingService#getRoutingState(String)
+     */
+    public RoutingState getRoutingState(String loginName) {
+        if (loginName == null) {
+            throw new IllegalArgumentException("loginName must not be null");
+        }
+
+        long readEpoch;
+        synchronized (states) {
+            RoutingState state = states.get(loginName);
+            if (state != null) {
+                hits.incrementAndGet();
+                return state;
+            }
+            readEpoch = epoch;
+        }
+
+        misses.incrementAndGet();
+        RoutingState state = routingService.getRoutingState(loginName);
+        if (state == null) {
+            return null;
+        }
+
+        synchronized (states) {
+            if (readEpoch == epoch) {
+                // An event received during the request is more recent
+                RoutingState current = states.putIfAbsent(loginName, state);
+                if (current != null) {
+                    return current;
+                }
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Returns the forward of the specified user.
+     * 
+     * @param loginName the user login name
+     * @return the forward, or {@code null} if it could not be read
+     * @see RoutingService#getForward(String)
+     */
+    public Forward getForward(String loginName) {
+        RoutingState state = getRoutingState(loginName);
+        return (state == null) ? null : state.getForward();
+    }
+
+    /**
+     * Returns the overflow of the specified user.
+     * 
+     * @param loginName the user login name
+     * @return the overflow, or {@code null} if it could not be read
+     * @see RoutingService#getOverflow(String)
+     */
+    public Overflow getOverflow(String loginName) {
+        RoutingState state = getRoutingState(loginName);
+        return (state == null) ? null : state.getOverflow();
+    }
+
+    /**
+     * Returns the "Do Not Disturb" state of the specified user.
+     * 
+     * @param loginName the user login name
+     * @return the "Do Not Disturb" state, or {@code null} if it could not be read
+     * @see RoutingService#getDndState(String)
+     */
+    public DndState getDndState(String loginName) {
+        RoutingState state = getRoutingState(loginName);
+        return (state == null) ? null : state.getDndState();
+    }
+
+    /**
+     * Removes the routing state of the specified user from the cache.
+     * 
+     * @param loginName the user login name
+     */
+    public void invalidate(String loginName) {
+        synchronized (states) {
+            epoch++;
+            states.remove(loginName);
+        }
+    }
+
+    /**
+     * Removes all the routing states from the cache. This method is invoked each
+     * time the event channel is established.
+     */
+    public void invalidateAll() {
+        synchronized (states) {
+            epoch++;
+            states.clear();
+        }
+    }
+
+    /**
+     * Returns the number of users in the cache.
+     * 
+     * @return the number of users
+     */
+    public int getSize() {
+        synchronized (states) {
+            return states.size();
+        }
+    }
+
+    /**
+     * Returns the maximum number of users in the cache.
+     * 
+     * @return the maximum number of users
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the number of reads served from the cache.
+     * 
+     * @return the number of cache hits
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of reads sent to the O2G server.
+     * 
+     * @return the number of cache misses
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    @Override
+    public void onRoutingStateChanged(OnRoutingStateChangedEvent e) {
+        if (e.getLoginName() == null) {
+            return;
+        }
+
+        synchronized (states) {
+            if (e.getRoutingState() == null) {
+                // The state is unknown, a read in progress must not cache its older state
+                epoch++;
+                states.remove(e.getLoginName());
+            }
+            else {
+                states.put(e.getLoginName(), e.getRoutingState());
+            }
+        }
+    }
+
+    @Override
+    public void OnChannelInformation(OnChannelInformationEvent e) {
+        invalidateAll();
+    }
+}
@@ -18,6 +18,7 @@
 */
 package com.ale.o2g;
 
+import com.ale.o2g.events.EventPackage;
 import com.ale.o2g.types.Account;
 
 /**
@@ -85,6 +86,13 @@ public interface Session {
      */
     TelephonyService getTelephonyService();
 
+    /**
+     * Returns the asynchronous version of the TelephonyService.
+     * 
+     * @return the {@link AsyncTelephonyService AsyncTelephonyService } object.
+     */
+    AsyncTelephonyService getAsyncTelephonyService();
+
     /**
      * Returns the EventSummaryService.
      * 
@@ -120,6 +128,13 @@ public interface Session {
      */
     RoutingService getRoutingService();
 
+    /**
+     * Returns the asynchronous version of the RoutingService.
+     * 
+     * @return the {@link AsyncRoutingService AsyncRoutingService } object.
+     */
+    AsyncRoutingService getAsyncRoutingService();
+
     /**
      * Returns the CallCenterAgentService.
      * 
@@ -127,6 +142,13 @@ public interface Session {
      */
     CallCenterAgentService getCallCenterAgentService();
 
+    /**
+     * Returns the asynchronous version of the CallCenterAgentService.
+     * 
+     * @return the {@link AsyncCallCenterAgentService AsyncCallCenterAgentService } object.
+     */
+    AsyncCallCenterAgentService getAsyncCallCenterAgentService();
+
     /**
      * Returns the RsiService.
      * 
@@ -186,6 +208,56 @@ public interface Session {
      */
     void listenEvents(Subscription subscription) throws O2GException;
 
+    /**
+     * Add identifiers to the events subscription of this session.
+     * <p>
+     * The filter of the running subscription is updated on the O2G server, the
+     * event channel is not closed and the events of the other identifiers keep
+     * being received. For example, to start receiving the telephony events of a
+     * new user:
+     * <pre>
+     * {@code
+     *      session.addSubscriptionIds(EventPackage.TELEPHONY, new String[] { "oxe1002" });
+     * }
+     * </pre>
+     * If the package is subscribed for all the identifiers, the subscription is
+     * not changed. The listener of the package must have been added to the
+     * subscription to receive the events.
+     * 
+     * @param eventPackage the event package, for example
+     *                     {@link EventPackage#TELEPHONY TELEPHONY},
+     *                     {@link EventPackage#AGENT AGENT} or
+     *                     {@link EventPackage#RTI RTI}
+     * @param ids          the identifiers to add
+     * @throws O2GException when the session does not listen to events or the
+     *                      update is refused by the server.
+     */
+    void addSubscriptionIds(EventPackage eventPackage, String[] ids) throws O2GException;
+
+    /**
+     * Remove identifiers from the events subscription of this session.
+     * <p>
+     * The filter of the running subscription is updated on the O2G server, the
+     * event channel is not closed. If the package is subscribed for all the
+     * identifiers, the subscription is not changed.
+     * 
+     * @param eventPackage the event package
+     * @param ids          the identifiers to remove
+     * @throws O2GException when the session does not listen to events or the
+     *                      update is refused by the server.
+     * @see #addSubscriptionIds(EventPackage, String[])
+     */
+    void removeSubscriptionIds(EventPackage eventPackage, String[] ids) throws O2GException;
+
+    /**
+     * Returns the counters of the event queue.
+     * 
+     * @return the {@link EventQueueStatistics} object, or {@code null} if the
+     *         session does not listen to events.
+     * @see Subscription.Builder#setEventQueue(int, EventOverflowPolicy)
+     */
+    EventQueueStatistics getEventQueueStatistics();
+
     /**
      * Close an open session. This method closes the session on server, stop the
      * keep alive and the eventing if any. If the communication with the server is
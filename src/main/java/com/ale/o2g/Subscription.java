@@ -20,10 +20,16 @@ package com.ale.o2g;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.ale.o2g.events.EventPackage;
+import com.ale.o2g.events.O2GEvent;
 import com.ale.o2g.events.cca.CallCenterAgentEventListener;
 import com.ale.o2g.events.ccp.CallCenterPilotEventListener;
 import com.ale.o2g.events.ccrt.CallCenterRealtimeEventListener;
@@ -63,6 +69,14 @@ public abstract class Subscription {
         public Filter() {
         }
 
+        /**
+         * Constructs a copy of the specified filter.
+         * @param filter the filter to copy
+         */
+        public Filter(Filter filter) {
+            this.selectors.addAll(filter.selectors);
+        }
+
         /**
          * Add the specified event names to the filter.
          * @param ids the identifiers the events must contains.
@@ -182,6 +196,86 @@ public abstract class Subscription {
         public void addPackages(EventPackage eventPackage) {
             this.add(eventPackage.toString());
         }
+
+        /**
+         * Add identifiers to the specified event package of this filter. The
+         * identifiers are merged with the ones already selected for this package.
+         * If the package is selected for all the identifiers, the filter is not
+         * changed.
+         * @param eventPackage the event package
+         * @param ids the identifiers to add
+         * @return {@code true} if the filter has been changed
+         */
+        public boolean addIds(EventPackage eventPackage, String[] ids) {
+            String name = eventPackage.toString();
+
+            int index = -1;
+            for (int i = 0; i < selectors.size(); i++) {
+                Selector selector = selectors.get(i);
+                if (selector.names().contains(name)) {
+                    if (selector.ids() == null) {
+                        return false;
+                    }
+                    else if ((index < 0) && (selector.names().size() == 1)) {
+                        index = i;
+                    }
+                }
+            }
+
+            if (index < 0) {
+                selectors.add(new Selector(List.of(ids), List.of(name)));
+                return true;
+            }
+
+            Set<String> merged = new LinkedHashSet<>(selectors.get(index).ids());
+            if (!merged.addAll(Arrays.asList(ids))) {
+                return false;
+            }
+
+            selectors.set(index, new Selector(List.copyOf(merged), List.of(name)));
+            return true;
+        }
+
+        /**
+         * Remove identifiers from the specified event package of this filter. A
+         * package selected for all the identifiers is not changed, and the
+         * package is no more selected when its last identifier is removed.
+         * @param eventPackage the event package
+         * @param ids the identifiers to remove
+         * @return {@code true} if the filter has been changed
+         */
+        public boolean removeIds(EventPackage eventPackage, String[] ids) {
+            String name = eventPackage.toString();
+            List<String> removed = Arrays.asList(ids);
+
+            boolean changed = false;
+            ListIterator<Selector> it = selectors.listIterator();
+            while (it.hasNext()) {
+                Selector selector = it.next();
+                if ((selector.ids() == null) || !selector.names().contains(name)
+                        || Collections.disjoint(selector.ids(), removed)) {
+                    continue;
+                }
+
+                List<String> kept = selector.ids().stream().filter(id -> !removed.contains(id)).collect(Collectors.toList());
+                List<String> others = selector.names().stream().filter(n -> !n.equals(name)).collect(Collectors.toList());
+
+                // Keep the selector for the other packages
+                if (others.isEmpty()) {
+                    it.remove();
+                }
+                else {
+                    it.set(new Selector(selector.ids(), others));
+                }
+
+                if (!kept.isEmpty()) {
+                    it.add(new Selector(kept, List.of(name)));
+                }
+                changed = true;
+            }
+
+            return changed;
+        }
     }
 
   
@@ -231,6 +325,14 @@ public abstract class Subscription {
      * server. Each methods modifies the state of the builder and returns the same
      * instance. The {@link #build() build} method returns a new
      * {@code Subscription} each time it is invoked.
+     *
+     * <p>
+     * A users, telephony, routing or management event listener which also
+     * implements
+     * {@link com.ale.o2g.events.common.ChannelInformationEventListener
+     * ChannelInformationEventListener} is notified each time the event channel
+     * is established, for instance to resynchronize a local state after a
+     * reconnection.
      */
     public static interface Builder {
 
@@ -414,6 +516,104 @@ public abstract class Subscription {
          */
         Builder setTimeout(int timeout);
 
+        /**
+         * Dispatch the events to the listeners on several threads instead of a
+         * single one.
+         * <p>
+         * By default, all the events are dispatched in sequence on one thread, so a
+         * listener that takes time delays all the other events. With parallel
+         * dispatch, each event is assigned to a worker according to its key: the
+         * events with the same key are delivered in order on the same worker, and
+         * the events with different keys can be delivered concurrently. The
+         * listeners must then be thread safe.
+         * <p>
+         * The key of an event is the user login name when the event has one, the
+         * agent, pilot or queue number for the call center realtime events, the
+         * pilot number for the call center pilot events, and the node id for the
+         * maintenance and management events. Events without key are dispatched on
+         * the same worker.
+         * @param workers the number of dispatch threads
+         * @return this builder
+         */
+        Builder setParallelDispatch(int workers);
+
+        /**
+         * Dispatch the events to the listeners on several threads, using a specific
+         * key. The events for which the key function returns the same value are
+         * delivered in order on the same worker.
+         * <pre>
+         * {@code
+         *      // Keep the events of a same call in order
+         *      builder.setParallelDispatch(8, e -> (e instanceof OnCallModifiedEvent m) ? m.getCallRef() : null);
+         * }
+         * </pre>
+         * @param workers the number of dispatch threads
+         * @param keyExtractor a function that returns the key of an event, may return {@code null}
+         * @return this builder
+         * @see #setParallelDispatch(int)
+         */
+        Builder setParallelDispatch(int workers, Function<O2GEvent, ?> keyExtractor);
+
+        /**
+         * Set the capacity of the event queue and the policy applied when it is
+         * full.
+         * <p>
+         * The events are read from the O2G server and queued until they are
+         * dispatched to the listeners. By default, the queue can hold 1000 events
+         * and the reading of the events is blocked when the queue is full. With
+         * parallel dispatch, each dispatch thread has its own queue with this
+         * capacity.
+         * <p>
+         * The counters of the queue are available with
+         * {@link Session#getEventQueueStatistics()}.
+         * 
+         * @param capacity the maximum number of events waiting in memory
+         * @param policy   the overflow policy
+         * @return this builder
+         * @see EventOverflowPolicy
+         */
+        Builder setEventQueue(int capacity, EventOverflowPolicy policy);
+
+        /**
+         * Queue the events in a preallocated ring buffer instead of the event
+         * queue.
+         * <p>
+         * The ring buffer takes no lock and does no allocation to pass the events
+         * from the reading thread to the dispatch threads, this reduces the
+         * latency of the event delivery. When the buffer is full, the reading of
+         * the events is blocked, as with the {@link EventOverflowPolicy#BLOCK BLOCK}
+         * policy. This replaces the settings of
+         * {@link #setEventQueue(int, EventOverflowPolicy)}.
+         * 
+         * @param capacity     the capacity of the buffer, rounded up to a power of two
+         * @param waitStrategy the way the dispatch threads wait for the events
+         * @return this builder
+         * @see EventWaitStrategy
+         */
+        Builder setEventRingBuffer(int capacity, EventWaitStrategy waitStrategy);
+
+        /**
+         * Merge the pending call center realtime events of a same object.
+         * <p>
+         * The realtime events ({@code OnAgentRtiChangedEvent},
+         * {@code OnPilotRtiChangedEvent}, {@code OnQueueRtiChangedEvent},
+         * {@code OnPGAgentRtiChangedEvent} and {@code OnPGOtherRtiChangedEvent})
+         * only contain the attributes that have changed. When this option is
+         * enabled and a new realtime event is received for an agent, pilot, queue
+         * or processing group that has already an event waiting to be dispatched,
+         * the two events are merged into one, the newer attribute values
+         * overriding the older ones. The listeners then receive fewer events
+         * with the same final values, this bounds the dispatch work on large call
+         * centers.
+         * <p>
+         * By default, the realtime events are not merged. This option has no
+         * effect with {@link #setEventRingBuffer(int, EventWaitStrategy)}.
+         * 
+         * @param enable {@code true} to merge the realtime events
+         * @return this builder
+         */
+        Builder setRealtimeEventsCoalescing(boolean enable);
+
         /**
          * Builds and returns a {@link Subscription}.
          *
@@ -0,0 +1,404 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.ale.o2g.events.common.ChannelInformationEventListener;
+import com.ale.o2g.events.common.OnChannelInformationEvent;
+import com.ale.o2g.events.telephony.OnCallCreatedEvent;
+import com.ale.o2g.events.telephony.OnCallModifiedEvent;
+import com.ale.o2g.events.telephony.OnCallRemovedEvent;
+import com.ale.o2g.events.telephony.OnTelephonyStateEvent;
+import com.ale.o2g.events.telephony.TelephonyEventAdapter;
+import com.ale.o2g.internal.util.JsonUtil;
+import com.ale.o2g.types.telephony.Call;
+import com.ale.o2g.types.telephony.TelephonicState;
+import com.ale.o2g.types.telephony.call.CallData;
+import com.ale.o2g.types.telephony.call.Leg;
+import com.ale.o2g.types.telephony.call.Participant;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * {@code TelephonyStateCache} keeps a local copy of the calls, legs and
+ * participants of a set of supervised users, so that they can be read without
+ * a round trip to the O2G server.
+ * <p>
+ * The state of a user is loaded once with
+ * {@link AsyncTelephonyService#getState(String) getState} when the user is
+ * supervised, then kept current from the {@code OnCallCreatedEvent},
+ * {@code OnCallModifiedEvent}, {@code OnCallRemovedEvent} and
+ * {@code OnTelephonyStateEvent} events. The cache must therefore be added as a
+ * telephony event listener to the session subscription:
+ * <pre>
+ * {@code
+ *      TelephonyStateCache cache = TelephonyStateCache.create(session.getAsyncTelephonyService());
+ *
+ *      Subscription subscription = Subscription.newBuilder()
+ *              .addTelephonyEventListener(cache, new String[] { "oxe1000", "oxe1001" })
+ *              .build();
+ *      session.listenEvents(subscription);
+ *
+ *      cache.supervise("oxe1000").join();
+ *      cache.supervise("oxe1001").join();
+ *
+ *      Collection<Call> calls = cache.getCalls("oxe1000");
+ * }
+ * </pre>
+ * Events may have been lost while the event channel was down. Each time the
+ * channel is established, the cache requests a
+ * {@link AsyncTelephonyService#requestSnapshot(String) snapshot} of each
+ * supervised user, and the user is not synchronized until the resulting
+ * {@code OnTelephonyStateEvent} is received. The read methods return
+ * {@code null} for a user that is not synchronized, so that the caller can
+ * fall back to the {@link TelephonyService}.
+ * <p>
+ * The returned objects are copies: they are not updated by the events
+ * received afterwards.
+ */
+public final class TelephonyStateCache extends TelephonyEventAdapter implements ChannelInformationEventListener {
+
+    private static class UserCalls {
+        private volatile Map<String, Call> calls = Collections.emptyMap();
+        private volatile boolean synced;
+        private long version;
+
+        synchronized long version() {
+            return version;
+        }
+
+        synchronized boolean load(long loadVersion, Collection<Call> loadedCalls) {
+            if (loadVersion != version) {
+                // The calls have changed while the state was loading
+                return false;
+            }
+            reset(loadedCalls);
+            return true;
+        }
+
+        synchronized void reset(Collection<Call> newCalls) {
+            Map<String, Call> map = new LinkedHashMap<>();
+            for (Call call : newCalls) {
+                map.put(call.getCallRef(), call);
+            }
+            update(map);
+            synced = true;
+        }
+
+        synchronized void desync() {
+            version++;
+            synced = false;
+        }
+
+        synchronized void put(String callRef, Call call) {
+            Map<String, Call> map = new LinkedHashMap<>(calls);
+            map.put(callRef, call);
+            update(map);
+        }
+
+        synchronized void modify(OnCallModifiedEvent e) {
+            Map<String, Call> map = new LinkedHashMap<>(calls);
+
+            Call current = map.get(e.getCallRef());
+            if (e.getPreviousCallRef() != null && !e.getPreviousCallRef().equals(e.getCallRef())) {
+                Call previous = map.remove(e.getPreviousCallRef());
+                if (current == null) {
+                    current = previous;
+                }
+            }
+
+            if (e.getReplacedByCallRef() != null && !e.getReplacedByCallRef().equals(e.getCallRef())) {
+                // The new call is described by its own events
+                map.remove(e.getCallRef());
+            }
+            else {
+                Map<String, Leg> legs = new LinkedHashMap<>();
+                Map<String, Participant> participants = new LinkedHashMap<>();
+                CallData callData = e.getCallData();
+
+                if (current != null) {
+                    putAll(legs, current.getLegs(), Leg::getDeviceId);
+                    putAll(participants, current.getParticipants(), Participant::getId);
+                    if (callData == null) {
+                        callData = current.getCallData();
+                    }
+                }
+
+                if (e.getRemovedLegs() != null) {
+                    e.getRemovedLegs().forEach(leg -> legs.remove(leg.getDeviceId()));
+                }
+                putAll(legs, e.getModifiedLegs(), Leg::getDeviceId);
+                putAll(legs, e.getAddedLegs(), Leg::getDeviceId);
+
+                if (e.getRemovedParticipantIds() != null) {
+                    e.getRemovedParticipantIds().forEach(participants::remove);
+                }
+                putAll(participants, e.getModifiedParticipants(), Participant::getId);
+                putAll(participants, e.getAddedParticipants(), Participant::getId);
+
+                map.put(e.getCallRef(), newCall(e.getCallRef(), callData, legs.values(), participants.values()));
+            }
+            update(map);
+        }
+
+        synchronized void remove(String callRef) {
+            if (calls.containsKey(callRef)) {
+                Map<String, Call> map = new LinkedHashMap<>(calls);
+                map.remove(callRef);
+                update(map);
+            }
+            else {
+                version++;
+            }
+        }
+
+        private void update(Map<String, Call> map) {
+            version++;
+            calls = Collections.unmodifiableMap(map);
+        }
+
+        Map<String, Call> calls() {
+            return synced ? calls : null;
+        }
+    }
+
+    private final AsyncTelephonyService telephonyService;
+    private final Map<String, UserCalls> users = new ConcurrentHashMap<>();
+
+    private TelephonyStateCache(AsyncTelephonyService telephonyService) {
+        this.telephonyService = telephonyService;
+    }
+
+    /**
+     * Creates a new empty cache.
+     * 
+     * @param telephonyService the service used to load the state of the
+     *                         supervised users
+     * @return the new cache
+     */
+    public static TelephonyStateCache create(AsyncTelephonyService telephonyService) {
+        if (telephonyService == null) {
+            throw new IllegalArgumentException("telephonyService must not be null");
+        }
+        return new TelephonyStateCache(telephonyService);
+    }
+
+    /**
+     * Starts caching the telephonic state of the specified user.
+     * <p>
+     * The returned future completes with {@code true} when the state has been
+     * loaded. If calls of the user have changed while the state was loading, a
+     * snapshot is requested instead, and the user is synchronized when the
+     * resulting {@code OnTelephonyStateEvent} is received.
+     * 
+     * @param loginName the user login name
+     * @return a future completed with {@code true} if the state has been loaded
+     *         or a snapshot has been requested; {@code false} otherwise.
+     */
+    public CompletableFuture<Boolean> supervise(String loginName) {
+        if (loginName == null) {
+            throw new IllegalArgumentException("loginName must not be null");
+        }
+        return load(loginName, users.computeIfAbsent(loginName, l -> new UserCalls()));
+    }
+
+    /**
+     * Stops caching the telephonic state of the specified user.
+     * 
+     * @param loginName the user login name
+     */
+    public void unsupervise(String loginName) {
+        users.remove(loginName);
+    }
+
+    /**
+     * Returns whether the state of the specified user is synchronized with the
+     * O2G server.
+     * 
+     * @param loginName the user login name
+     * @return {@code true} if the user is supervised and its state is
+     *         synchronized; {@code false} otherwise.
+     */
+    public boolean isSynchronized(String loginName) {
+        return calls(loginName) != null;
+    }
+
+    /**
+     * Returns the calls of the specified user.
+     * 
+     * @param loginName the user login name
+     * @return an unmodifiable collection of calls, or {@code null} if the user
+     *         is not synchronized.
+     * @see TelephonyService#getCalls(String)
+     */
+    public Collection<Call> getCalls(String loginName) {
+        Map<String, Call> calls = calls(loginName);
+        return (calls == null) ? null : calls.values();
+    }
+
+    /**
+     * Returns the specified call of the specified user.
+     * 
+     * @param callRef   the call reference
+     * @param loginName the user login name
+     * @return the call, or {@code null} if the user is not synchronized or the
+     *         call does not exist.
+     */
+    public Call getCall(String callRef, String loginName) {
+        Map<String, Call> calls = calls(loginName);
+        return (calls == null) ? null : calls.get(callRef);
+    }
+
+    /**
+     * Returns the legs of the specified call of the specified user.
+     * 
+     * @param callRef   the call reference
+     * @param loginName the user login name
+     * @return an unmodifiable collection of legs, or {@code null} if the user is
+     *         not synchronized or the call does not exist.
+     * @see TelephonyService#getLegs(String, String)
+     */
+    public Collection<Leg> getLegs(String callRef, String loginName) {
+        Call call = getCall(callRef, loginName);
+        return (call == null) ? null : call.getLegs();
+    }
+
+    /**
+     * Returns the participants of the specified call of the specified user.
+     * 
+     * @param callRef   the call reference
+     * @param loginName the user login name
+     * @return an unmodifiable collection of participants, or {@code null} if the
+     *         user is not synchronized or the call does not exist.
+     * @see TelephonyService#getParticipants(String, String)
+     */
+    public Collection<Participant> getParticipants(String callRef, String loginName) {
+        Call call = getCall(callRef, loginName);
+        return (call == null) ? null : call.getParticipants();
+    }
+
+    /**
+     * Resynchronizes all the supervised users. This method is invoked each time
+     * the event channel is established.
+     * <p>
+     * A snapshot is requested for each supervised user. If the request fails,
+     * the state is loaded again.
+     */
+    public void resynchronize() {
+        users.forEach((loginName, user) -> {
+            user.desync();
+            telephonyService.requestSnapshot(loginName).thenAccept(result -> {
+                if (!isTrue(result.getValue()) && users.get(loginName) == user) {
+                    load(loginName, user);
+                }
+            });
+        });
+    }
+
+    @Override
+    public void OnChannelInformation(OnChannelInformationEvent e) {
+        resynchronize();
+    }
+
+    @Override
+    public void onCallCreated(OnCallCreatedEvent e) {
+        UserCalls user = users.get(e.getLoginName());
+        if (user != null) {
+            user.put(e.getCallRef(), newCall(e.getCallRef(), e.getCallData(), e.getLegs(), e.getParticipants()));
+        }
+    }
+
+    @Override
+    public void onCallModified(OnCallModifiedEvent e) {
+        UserCalls user = users.get(e.getLoginName());
+        if (user != null) {
+            user.modify(e);
+        }
+    }
+
+    @Override
+    public void onCallRemoved(OnCallRemovedEvent e) {
+        UserCalls user = users.get(e.getLoginName());
+        if (user != null) {
+            user.remove(e.getCallRef());
+        }
+    }
+
+    @Override
+    public void onTelephonyState(OnTelephonyStateEvent e) {
+        UserCalls user = users.get(e.getLoginName());
+        if ((user != null) && (e.getState() != null)) {
+            user.reset(copyCalls(e.getState()));
+        }
+    }
+
+    private CompletableFuture<Boolean> load(String loginName, UserCalls user) {
+        long version = user.version();
+        return telephonyService.getState(loginName).thenCompose(result -> {
+            if (!result.isSucceeded() || (result.getValue() == null)) {
+                return CompletableFuture.completedFuture(false);
+            }
+            else if (user.load(version, copyCalls(result.getValue()))) {
+                return CompletableFuture.completedFuture(true);
+            }
+            else {
+                return telephonyService.requestSnapshot(loginName).thenApply(r -> isTrue(r.getValue()));
+            }
+        });
+    }
+
+    private Map<String, Call> calls(String loginName) {
+        UserCalls user = users.get(loginName);
+        return (user == null) ? null : user.calls();
+    }
+
+    private static boolean isTrue(Boolean value) {
+        return (value != null) && value;
+    }
+
+    private static List<Call> copyCalls(TelephonicState state) {
+        return state.getCalls().stream()
+                .map(call -> newCall(call.getCallRef(), call.getCallData(), call.getLegs(), call.getParticipants()))
+                .toList();
+    }
+
+    private static Call newCall(String callRef, CallData callData, Collection<Leg> legs, Collection<Participant> participants) {
+        // Bind a deep copy, the call is not shared with the event it comes from
+        JsonObject json = new JsonObject();
+        json.addProperty("callRef", callRef);
+        json.add("callData", JsonUtil.GSON.toJsonTree(callData));
+        json.add("legs", (legs == null) ? new JsonArray() : JsonUtil.GSON.toJsonTree(legs));
+        json.add("participants", (participants == null) ? new JsonArray() : JsonUtil.GSON.toJsonTree(participants));
+        return JsonUtil.GSON.fromJson(json, Call.class);
+    }
+
+    private static <T> void putAll(Map<String, T> map, Collection<T> values, Function<T, String> key) {
+        if (values != null) {
+            values.forEach(value -> map.put(key.apply(value), value));
+        }
+    }
+}
@@ -0,0 +1,250 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+import com.ale.o2g.events.common.ChannelInformationEventListener;
+import com.ale.o2g.events.common.OnChannelInformationEvent;
+import com.ale.o2g.events.users.OnUserCreatedEvent;
+import com.ale.o2g.events.users.OnUserDeletedEvent;
+import com.ale.o2g.events.users.OnUserInfoChangedEvent;
+import com.ale.o2g.events.users.UsersEventListener;
+import com.ale.o2g.internal.util.LoadingCache;
+import com.ale.o2g.types.users.User;
+
+/**
+ * {@code UserDirectoryCache} caches the user lookups done to resolve a caller,
+ * like {@link UsersService#getByLoginName(String) getByLoginName},
+ * {@link UsersService#getByCompanyPhone(String) getByCompanyPhone} and
+ * {@link UserManagementService#getLogin(String) getLogin}.
+ * <p>
+ * Each lookup is cached for a limited time, and the least recently used
+ * lookups are evicted when the cache is full. When several threads look up
+ * the same key which is not in the cache, a single request is sent to the O2G
+ * server and all the threads get its result. A lookup that fails or finds
+ * nothing returns {@code null} and is not cached.
+ * <pre>
+ * {@code
+ *      UserDirectoryCache directory = UserDirectoryCache.create(session.getUsersService(),
+ *              session.getUserManagementService(), 20000, Duration.ofMinutes(10));
+ *
+ *      User caller = directory.getByCompanyPhone(callerNumber);
+ * }
+ * </pre>
+ * When the cache is also added as a users event listener to the session
+ * subscription, the cached lookups of a user are invalidated as soon as the
+ * user is created, modified or deleted, and all the lookups are invalidated
+ * each time the event channel is established:
+ * <pre>
+ * {@code
+ *      Subscription subscription = Subscription.newBuilder()
+ *              .addUsersEventListener(directory)
+ *              .build();
+ *      session.listenEvents(subscription);
+ * }
+ * </pre>
+ */
+public final class UserDirectoryCache implements UsersEventListener, ChannelInformationEventListener {
+
+    private final UsersService usersService;
+    private final UserManagementService userManagementService;
+    private final int maxSize;
+    private final Duration ttl;
+
+    private final LoadingCache<String, User> usersByLoginName;
+    private final LoadingCache<String, User> usersByCompanyPhone;
+    private final LoadingCache<String, String> loginsByDevice;
+
+    UserDirectoryCache(UsersService usersService, UserManagementService userManagementService, int maxSize, Duration ttl,
+            LongSupplier nanoTime) {
+        this.usersService = usersService;
+        this.userManagementService = userManagementService;
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+
+        usersByLoginName = new LoadingCache<>(maxSize, ttl, nanoTime);
+        usersByCompanyPhone = new LoadingCache<>(maxSize, ttl, nanoTime);
+        loginsByDevice = new LoadingCache<>(maxSize, ttl, nanoTime);
+    }
+
+    /**
+     * Creates a new empty cache.
+     * 
+     * @param usersService          the service used to look up the users
+     * @param userManagementService the service used to look up the login of a
+     *                              device, or {@code null} if
+     *                              {@link #getLogin(String) getLogin} is not
+     *                              used. This service is only available to an
+     *                              administrator.
+     * @param maxSize               the maximum number of lookups of each kind in
+     *                              the cache
+     * @param ttl                   the time to live of a cached lookup
+     * @return the new cache
+     */
+    public static UserDirectoryCache create(UsersService usersService, UserManagementService userManagementService,
+            int maxSize, Duration ttl) {
+        if (usersService == null) {
+            throw new IllegalArgumentException("usersService must not be null");
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        if ((ttl == null) || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        return new UserDirectoryCache(usersService, userManagementService, maxSize, ttl, System::nanoTime);
+    }
+
+    /**
+     * Returns the user with the specified login name.
+     * 
+     * @param loginName the user login name
+     * @return the user, or {@code null} if it could not be found
+     * @see UsersService#getByLoginName(String)
+     */
+    public User getByLoginName(String loginName) {
+        if (loginName == null) {
+            throw new IllegalArgumentException("loginName must not be null");
+        }
+        return usersByLoginName.get(loginName, usersService::getByLoginName);
+    }
+
+    /**
+     * Returns the user with the specified company phone number.
+     * 
+     * @param companyPhone the user company phone number
+     * @return the user, or {@code null} if it could not be found
+     * @see UsersService#getByCompanyPhone(String)
+     */
+    public User getByCompanyPhone(String companyPhone) {
+        if (companyPhone == null) {
+            throw new IllegalArgumentException("companyPhone must not be null");
+        }
+        return usersByCompanyPhone.get(companyPhone, usersService::getByCompanyPhone);
+    }
+
+    /**
+     * Returns the login name of the user associated to the specified device.
+     * 
+     * @param deviceNumber the device number
+     * @return the login name, or {@code null} if it could not be found
+     * @throws IllegalStateException if the cache has been created without a
+     *                               {@code UserManagementService}
+     * @see UserManagementService#getLogin(String)
+     */
+    public String getLogin(String deviceNumber) {
+        if (deviceNumber == null) {
+            throw new IllegalArgumentException("deviceNumber must not be null");
+        }
+        if (userManagementService == null) {
+            throw new IllegalStateException("The cache has been created without a UserManagementService");
+        }
+        return loginsByDevice.get(deviceNumber, userManagementService::getLogin);
+    }
+
+    /**
+     * Invalidates all the cached lookups of the specified user.
+     * 
+     * @param loginName the user login name
+     */
+    public void invalidate(String loginName) {
+        usersByLoginName.invalidate(loginName);
+        usersByCompanyPhone.invalidateIf((companyPhone, user) -> Objects.equals(user.getLoginName(), loginName));
+        loginsByDevice.invalidateIf((deviceNumber, login) -> Objects.equals(login, loginName));
+    }
+
+    /**
+     * Invalidates all the cached lookups.
+     */
+    public void invalidateAll() {
+        usersByLoginName.invalidateAll();
+        usersByCompanyPhone.invalidateAll();
+        loginsByDevice.invalidateAll();
+    }
+
+    /**
+     * Returns the maximum number of lookups of each kind in the cache.
+     * 
+     * @return the maximum number of lookups
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the time to live of a cached lookup.
+     * 
+     * @return the time to live
+     */
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    /**
+     * Returns the number of lookups served from the cache, including the
+     * lookups that waited for the request of another thread.
+     * 
+     * @return the number of cache hits
+     */
+    public long getHitCount() {
+        return usersByLoginName.getHitCount() + usersByCompanyPhone.getHitCount() + loginsByDevice.getHitCount();
+    }
+
+    /**
+     * Returns the number of lookups sent to the O2G server.
+     * 
+     * @return the number of cache misses
+     */
+    public long getMissCount() {
+        return usersByLoginName.getMissCount() + usersByCompanyPhone.getMissCount() + loginsByDevice.getMissCount();
+    }
+
+    @Override
+    public void onUserCreated(OnUserCreatedEvent e) {
+        if ((e.getUser() != null) && (e.getUser().getLoginName() != null)) {
+            invalidate(e.getUser().getLoginName());
+        }
+    }
+
+    @Override
+    public void onUserDeleted(OnUserDeletedEvent e) {
+        if (e.getLoginName() != null) {
+            invalidate(e.getLoginName());
+        }
+    }
+
+    @Override
+    public void onUserInfoChanged(OnUserInfoChangedEvent e) {
+        if (e.getLoginName() != null) {
+            invalidate(e.getLoginName());
+        }
+        if ((e.getUser() != null) && (e.getUser().getCompanyPhone() != null)) {
+            // The company phone may have been given to this user
+            usersByCompanyPhone.invalidate(e.getUser().getCompanyPhone());
+        }
+    }
+
+    @Override
+    public void OnChannelInformation(OnChannelInformationEvent e) {
+        invalidateAll();
+    }
+}
@@ -22,6 +22,7 @@ import java.time.LocalDateTime;
 
 import com.ale.o2g.events.O2GEvent;
 import com.ale.o2g.internal.util.FormatUtil;
+import com.ale.o2g.types.ccrt.AgentAttributes;
 
 /**
  * Event delivered by {@link CallCenterRealtimeEventListener#onAgentRtiChanged(OnAgentRtiChangedEvent) onAgentRtiChanged(OnAcdStatsProgressEvent)}
@@ -61,18 +62,18 @@ public class OnAgentRtiChangedEvent extends O2GEvent {
 
     private String pilotName;
     private String queueName;
-    private int nbOfWithdrawals;
-    private int withdrawalsTotalDuration;
-    private int nbOfPrivateCalls;
-    private int privateCallsTotalDuration;
-    private int nbOfServedACDCalls;
-    private int nbOfOutgoingACDCalls;
-    private int nbOfRefusedACDCalls;
-    private int nbOfInterceptedACDCalls;
-    private int nbOfTransferedACDCalls;
+    private Integer nbOfWithdrawals;
+    private Integer withdrawalsTotalDuration;
+    private Integer nbOfPrivateCalls;
+    private Integer privateCallsTotalDuration;
+    private Integer nbOfServedACDCalls;
+    private Integer nbOfOutgoingACDCalls;
+    private Integer nbOfRefusedACDCalls;
+    private Integer nbOfInterceptedACDCalls;
+    private Integer nbOfTransferedACDCalls;
     private String currentPG;
     private String associatedSet;
-    private int withdrawReason;
+    private Integer withdrawReason;
     private int afeKey;
 
     /**
@@ -188,7 +189,7 @@ public class OnAgentRtiChangedEvent extends O2GEvent {
      * @see #getWithdrawalsTotalDuration()
      */
     public final int getNbOfWithdrawals() {
-        return nbOfWithdrawals;
+        return (nbOfWithdrawals == null) ? 0 : nbOfWithdrawals;
     }
 
     /**
@@ -199,7 +200,7 @@ public class OnAgentRtiChangedEvent extends O2GEvent {
      * @see #getNbOfWithdrawals()
      */
     public final int getWithdrawalsTotalDuration() {
-        return withdrawalsTotalDuration;
+        return (withdrawalsTotalDuration == null) ? 0 : withdrawalsTotalDuration;
     }
 
     /**
@@ -209,7 +210,7 @@ public class OnAgentRtiChangedEvent extends O2GEvent {
      * @see #getPrivateCallsTotalDuration()
      */
     public final int getNbOfPrivateCalls() {
-        return nbOfPrivateCalls;
+        return (nbOfPrivateCalls == null) ? 0 : nbOfPrivateCalls;
     }
 
     /**
@@ -219,7 +220,7 @@ public class OnAgentRtiChangedEvent extends O2GEvent {
      * @see #getNbOfPrivateCalls()
      */
     public final int getPrivateCallsTotalDuration() {
-        return privateCallsTotalDuration;
+        return (privateCallsTotalDuration == null) ? 0 : privateCallsTotalDuration;
     }
 
     /**
@@ -228,7 +229,7 @@ public class OnAgentRtiChangedEvent extends O2GEvent {
      * @return the number of ACD calls handled by the agent
      */
     public final int getNbOfServedACDCalls() {
-        return nbOfServedACDCalls;
+        return (nbOfServedACDCalls == null) ? 0 : nbOfServedACDCalls;
     }
 
     /**
@@ -238,7 +239,7 @@ public class OnAgentRtiChangedEvent extends O2GEvent {
      * @see #getNbOfServedACDCalls()
      */
     public final int getNbOfOutgoingACDCalls() {
-        return nbOfOutgoingACDCalls;
+        return (nbOfOutgoingACDCalls == null) ? 0 : nbOfOutgoingACDCalls;
     }
 
     /**
@@ -248,7 +249,7 @@ public class OnAgentRtiChangedEvent extends O2GEvent {
      * @see #getNbOfServedACDCalls()
      */
     public final int getNbOfRefusedACDCalls() {
-        return nbOfRefusedACDCalls;
+        return (nbOfRefusedACDCalls == null) ? 0 : nbOfRefusedACDCalls;
     }
 
     /**
@@ -258,7 +259,7 @@ public class OnAgentRtiChangedEvent extends O2GEvent {
      * @see #getNbOfServedACDCalls()
      */
     public final int getNbOfInterceptedACDCalls() {
-        return nbOfInterceptedACDCalls;
+        return (nbOfInterceptedACDCalls == null) ? 0 : nbOfInterceptedACDCalls;
     }
 
     /**
@@ -268,7 +269,7 @@ public class OnAgentRtiChangedEvent extends O2GEvent {
      * @see #getNbOfServedACDCalls()
      */
     public final int getNbOfTransferedACDCalls() {
-        return nbOfTransferedACDCalls;
+        return (nbOfTransferedACDCalls == null) ? 0 : nbOfTransferedACDCalls;
     }
 
     /**
@@ -295,7 +296,7 @@ public class OnAgentRtiChangedEvent extends O2GEvent {
      * @return the withdraw reason
      */
     public final int getWithdrawReason() {
-        return withdrawReason;
+        return (withdrawReason == null) ? 0 : withdrawReason;
     }
 
     /**
@@ -307,6 +308,39 @@ public class OnAgentRtiChangedEvent extends O2GEvent {
         return afeKey;
     }
 
+    /**
+     * Returns whether the specified attribute is set in this event. An event
+     * contains only the attributes that have changed since the previous
+     * notification: the getter of an attribute that is not set returns
+     * {@code null} or {@code 0}.
+     * 
+     * @param attribute the attribute
+     * @return {@code true} if the attribute is set in this event; {@code false}
+     *         otherwise.
+     */
+    public final boolean isSet(AgentAttributes attribute) {
+        switch (attribute) {
+            case AssociatedSet: return associatedSet != null;
+            case CurrentPG: return currentPG != null;
+            case PhoneState: return phoneState != null;
+            case LogonDate: return logonDate != null;
+            case PrivateCallsTotalDuration: return privateCallsTotalDuration != null;
+            case NBOfPrivateCalls: return nbOfPrivateCalls != null;
+            case NbOfServedACDCalls: return nbOfServedACDCalls != null;
+            case NbOfRefusedACDCalls: return nbOfRefusedACDCalls != null;
+            case NbOfTransferredACDCalls: return nbOfTransferedACDCalls != null;
+            case NbOfOutgoingACDCalls: return nbOfOutgoingACDCalls != null;
+            case NbOfInterceptedACDCalls: return nbOfInterceptedACDCalls != null;
+            case ServiceState: return serviceState != null;
+            case NbOfWithdrawals: return nbOfWithdrawals != null;
+            case WithdrawalsTotalDuration: return withdrawalsTotalDuration != null;
+            case WithdrawReason: return withdrawReason != null;
+            case PilotName: return pilotName != null;
+            case QueueName: return queueName != null;
+            default: return false;
+        }
+    }
+
     protected OnAgentRtiChangedEvent() {
     }
 }
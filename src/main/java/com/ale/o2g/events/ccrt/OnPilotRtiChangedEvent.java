@@ -19,6 +19,7 @@
 package com.ale.o2g.events.ccrt;
 
 import com.ale.o2g.events.O2GEvent;
+import com.ale.o2g.types.ccrt.PilotAttributes;
 import com.ale.o2g.types.common.ServiceState;
 
 /**
@@ -48,18 +49,18 @@ public class OnPilotRtiChangedEvent extends O2GEvent {
     private String name;
     private String number;
     private ServiceState state;
-    private int nbOfRunningCalls;
-    private int serviceLevel;
-    private int efficiency;
-    private int nbOfWaitingCalls;
-    private int nbOfRingingACDCalls;
-    private int nbOfMutualAidCalls;
-    private int nbOfDissuadedCalls;
-    private int nbOfCallsInConversation;
-    private int nbOfCallsInGeneralForwarding;
-    private int nbOfCallsInRemotePG;
-    private int incomingTraffic;
-    private int averageWaitingTime;
+    private Integer nbOfRunningCalls;
+    private Integer serviceLevel;
+    private Integer efficiency;
+    private Integer nbOfWaitingCalls;
+    private Integer nbOfRingingACDCalls;
+    private Integer nbOfMutualAidCalls;
+    private Integer nbOfDissuadedCalls;
+    private Integer nbOfCallsInConversation;
+    private Integer nbOfCallsInGeneralForwarding;
+    private Integer nbOfCallsInRemotePG;
+    private Integer incomingTraffic;
+    private Integer averageWaitingTime;
     private int worstServiceLevelInList;
     private int worstEfficiencyInList;
     private int bestServiceLevelInList;
@@ -99,7 +100,7 @@ public class OnPilotRtiChangedEvent extends O2GEvent {
      * @return the number of running calls
      */
     public int getNbOfRunningCalls() {
-        return nbOfRunningCalls;
+        return (nbOfRunningCalls == null) ? 0 : nbOfRunningCalls;
     }
 
     /** 
@@ -108,7 +109,7 @@ public class OnPilotRtiChangedEvent extends O2GEvent {
      * @return the service level as an integer percentage
      */
     public int getServiceLevel() {
-        return serviceLevel;
+        return (serviceLevel == null) ? 0 : serviceLevel;
     }
 
     /** 
@@ -117,7 +118,7 @@ public class OnPilotRtiChangedEvent extends O2GEvent {
      * @return the efficiency as an integer percentage
      */
     public int getEfficiency() {
-        return efficiency;
+        return (efficiency == null) ? 0 : efficiency;
     }
 
     /** 
@@ -126,7 +127,7 @@ public class OnPilotRtiChangedEvent extends O2GEvent {
      * @return the number of calls currently waiting
      */
     public int getNbOfWaitingCalls() {
-        return nbOfWaitingCalls;
+        return (nbOfWaitingCalls == null) ? 0 : nbOfWaitingCalls;
     }
 
     /** 
@@ -135,7 +136,7 @@ public class OnPilotRtiChangedEvent extends O2GEvent {
      * @return the number of calls currently ringing
      */
     public int getNbOfRingingACDCalls() {
-        return nbOfRingingACDCalls;
+        return (nbOfRingingACDCalls == null) ? 0 : nbOfRingingACDCalls;
     }
 
     /** 
@@ -144,7 +145,7 @@ public class OnPilotRtiChangedEvent extends O2GEvent {
      * @return the number of mutual aid calls
      */
     public int getNbOfMutualAidCalls() {
-        return nbOfMutualAidCalls;
+        return (nbOfMutualAidCalls == null) ? 0 : nbOfMutualAidCalls;
     }
 
     /** 
@@ -153,7 +154,7 @@ public class OnPilotRtiChangedEvent extends O2GEvent {
      * @return the number of dissuaded calls
      */
     public int getNbOfDissuadedCalls() {
-        return nbOfDissuadedCalls;
+        return (nbOfDissuadedCalls == null) ? 0 : nbOfDissuadedCalls;
     }
 
     /** 
@@ -162,7 +163,7 @@ public class OnPilotRtiChangedEvent extends O2GEvent {
      * @return the number of active conversations
      */
     public int getNbOfCallsInConversation() {
-        return nbOfCallsInConversation;
+        return (nbOfCallsInConversation == null) ? 0 : nbOfCallsInConversation;
     }
 
     /** 
@@ -171,7 +172,7 @@ public class OnPilotRtiChangedEvent extends O2GEvent {
      * @return the number of calls in general forwarding
      */
     public int getNbOfCallsInGeneralForwarding() {
-        return nbOfCallsInGeneralForwarding;
+        return (nbOfCallsInGeneralForwarding == null) ? 0 : nbOfCallsInGeneralForwarding;
     }
 
     /** 
@@ -180,7 +181,7 @@ public class OnPilotRtiChangedEvent extends O2GEvent {
      * @return the number of calls in a remote processing group
      */
     public int getNbOfCallsInRemoteProcessingGroup() {
-        return nbOfCallsInRemotePG;
+        return (nbOfCallsInRemotePG == null) ? 0 : nbOfCallsInRemotePG;
     }
 
     /** 
@@ -189,7 +190,7 @@ public class OnPilotRtiChangedEvent extends O2GEvent {
      * @return the count of incoming calls in the last minute
      */
     public int getIncomingTraffic() {
-        return incomingTraffic;
+        return (incomingTraffic == null) ? 0 : incomingTraffic;
     }
 
     /** 
@@ -198,7 +199,7 @@ public class OnPilotRtiChangedEvent extends O2GEvent {
      * @return the average waiting time in seconds
      */
     public int getAverageWaitingTime() {
-        return averageWaitingTime;
+        return (averageWaitingTime == null) ? 0 : averageWaitingTime;
     }
 
     /** 
@@ -246,6 +247,35 @@ public class OnPilotRtiChangedEvent extends O2GEvent {
         return afeKey;
     }
 
+    /**
+     * Returns whether the specified attribute is set in this event. An event
+     * contains only the attributes that have changed since the previous
+     * notification: the getter of an attribute that is not set returns
+     * {@code null} or {@code 0}.
+     * 
+     * @param attribute the attribute
+     * @return {@code true} if the attribute is set in this event; {@code false}
+     *         otherwise.
+     */
+    public final boolean isSet(PilotAttributes attribute) {
+        switch (attribute) {
+            case State: return state != null;
+            case ServiceLevel: return serviceLevel != null;
+            case NbOfWaitingCalls: return nbOfWaitingCalls != null;
+            case NbOfMutualAidCalls: return nbOfMutualAidCalls != null;
+            case NbOfCallsInConversation: return nbOfCallsInConversation != null;
+            case NbOfCallsInRemotePG: return nbOfCallsInRemotePG != null;
+            case AverageWaitingTime: return averageWaitingTime != null;
+            case NbOfRunningCalls: return nbOfRunningCalls != null;
+            case NbOfRingingACDCalls: return nbOfRingingACDCalls != null;
+            case NbOfDissuadedCalls: return nbOfDissuadedCalls != null;
+            case NbOfCallsInGeneralForwarding: return nbOfCallsInGeneralForwarding != null;
+            case Efficiency: return efficiency != null;
+            case IncomingTraffic: return incomingTraffic != null;
+            default: return false;
+        }
+    }
+
     protected OnPilotRtiChangedEvent() {
     }
 }
@@ -19,6 +19,7 @@
 package com.ale.o2g.events.ccrt;
 
 import com.ale.o2g.events.O2GEvent;
+import com.ale.o2g.types.ccrt.QueueAttributes;
 import com.ale.o2g.types.common.ServiceState;
 
 /**
@@ -49,14 +50,14 @@ public class OnQueueRtiChangedEvent extends O2GEvent {
     private String number;
     private QueueType type;
     private ServiceState state;
-    private int nbOfAgentsInDistribution;
-    private int incomingTraffic;
-    private int outgoingTraffic;
-    private int nbOfWaitingCalls;
-    private int currentWaitingTime;
-    private int fillingRate;
-    private int expectedWaitingTime;
-    private int longestWaitingTimeInList;
+    private Integer nbOfAgentsInDistribution;
+    private Integer incomingTraffic;
+    private Integer outgoingTraffic;
+    private Integer nbOfWaitingCalls;
+    private Integer currentWaitingTime;
+    private Integer fillingRate;
+    private Integer expectedWaitingTime;
+    private Integer longestWaitingTimeInList;
     private int afeKey;
     /** 
      * Returns the name of the queue.
@@ -100,7 +101,7 @@ public class OnQueueRtiChangedEvent extends O2GEvent {
      * @return the number of agents currently distributing calls in the queue
      */
     public int getNbOfAgentsInDistribution() {
-        return nbOfAgentsInDistribution;
+        return (nbOfAgentsInDistribution == null) ? 0 : nbOfAgentsInDistribution;
     }
 
     /** 
@@ -109,7 +110,7 @@ public class OnQueueRtiChangedEvent extends O2GEvent {
      * @return the count of incoming calls in the last minute
      */
     public int getIncomingTraffic() {
-        return incomingTraffic;
+        return (incomingTraffic == null) ? 0 : incomingTraffic;
     }
 
     /** 
@@ -118,7 +119,7 @@ public class OnQueueRtiChangedEvent extends O2GEvent {
      * @return the count of outgoing calls in the last minute
      */
     public int getOutgoingTraffic() {
-        return outgoingTraffic;
+        return (outgoingTraffic == null) ? 0 : outgoingTraffic;
     }
 
     /** 
@@ -127,7 +128,7 @@ public class OnQueueRtiChangedEvent extends O2GEvent {
      * @return the number of calls currently waiting in the queue
      */
     public int getNbOfWaitingCalls() {
-        return nbOfWaitingCalls;
+        return (nbOfWaitingCalls == null) ? 0 : nbOfWaitingCalls;
     }
 
     /** 
@@ -136,7 +137,7 @@ public class OnQueueRtiChangedEvent extends O2GEvent {
      * @return the current waiting time (in seconds) for calls in the queue
      */
     public int getCurrentWaitingTime() {
-        return currentWaitingTime;
+        return (currentWaitingTime == null) ? 0 : currentWaitingTime;
     }
 
     /** 
@@ -145,7 +146,7 @@ public class OnQueueRtiChangedEvent extends O2GEvent {
      * @return the queue filling rate as a percentage (0-100)
      */
     public int getFillingRate() {
-        return fillingRate;
+        return (fillingRate == null) ? 0 : fillingRate;
     }
 
     /** 
@@ -154,7 +155,7 @@ public class OnQueueRtiChangedEvent extends O2GEvent {
      * @return the expected waiting time (in seconds) for incoming calls
      */
     public int getExpectedWaitingTime() {
-        return expectedWaitingTime;
+        return (expectedWaitingTime == null) ? 0 : expectedWaitingTime;
     }
 
     /** 
@@ -163,7 +164,7 @@ public class OnQueueRtiChangedEvent extends O2GEvent {
      * @return the longest waiting time (in seconds) across the super queue
      */
     public int getLongestWaitingTimeInList() {
-        return longestWaitingTimeInList;
+        return (longestWaitingTimeInList == null) ? 0 : longestWaitingTimeInList;
     }
 
     /** 
@@ -175,6 +176,31 @@ public class OnQueueRtiChangedEvent extends O2GEvent {
         return afeKey;
     }
 
+    /**
+     * Returns whether the specified attribute is set in this event. An event
+     * contains only the attributes that have changed since the previous
+     * notification: the getter of an attribute that is not set returns
+     * {@code null} or {@code 0}.
+     * 
+     * @param attribute the attribute
+     * @return {@code true} if the attribute is set in this event; {@code false}
+     *         otherwise.
+     */
+    public final boolean isSet(QueueAttributes attribute) {
+        switch (attribute) {
+            case State: return state != null;
+            case NbOfAgentsInDistribution: return nbOfAgentsInDistribution != null;
+            case IncomingTraffic: return incomingTraffic != null;
+            case OutgoingTraffic: return outgoingTraffic != null;
+            case NbOfWaitingCalls: return nbOfWaitingCalls != null;
+            case CurrentWaitingTime: return currentWaitingTime != null;
+            case ExpectedWaitingTime: return expectedWaitingTime != null;
+            case FillingRate: return fillingRate != null;
+            case LongestWaitingTimeInList: return longestWaitingTimeInList != null;
+            default: return false;
+        }
+    }
+
     protected OnQueueRtiChangedEvent() {
     }
 }
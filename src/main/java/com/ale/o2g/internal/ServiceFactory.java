@@ -22,12 +22,14 @@ import java.net.URI;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.ale.o2g.AnalyticsService;
+import com.ale.o2g.AsyncCallCenterAgentService;
+import com.ale.o2g.AsyncRoutingService;
+import com.ale.o2g.AsyncTelephonyService;
 import com.ale.o2g.CallCenterAgentService;
 import com.ale.o2g.CallCenterManagementService;
 import com.ale.o2g.CallCenterPilotService;
@@ -36,6 +38,7 @@ import com.ale.o2g.CallCenterStatisticsService;
 import com.ale.o2g.CommunicationLogService;
 import com.ale.o2g.DirectoryService;
 import com.ale.o2g.EventSummaryService;
+import com.ale.o2g.HttpClientConfiguration;
 import com.ale.o2g.MaintenanceService;
 import com.ale.o2g.ManagementService;
 import com.ale.o2g.MessagingService;
@@ -76,6 +79,7 @@ import com.ale.o2g.internal.types.SessionInfo;
 import com.ale.o2g.internal.util.EventListenersMap;
 import com.ale.o2g.internal.util.HttpClientBuilder;
 import com.ale.o2g.internal.util.HttpClientWrapper;
+import com.ale.o2g.internal.util.ThreadUtil;
 import com.ale.o2g.types.Host;
 import com.ale.o2g.types.ServerInfo;
 
@@ -103,19 +107,38 @@ public class ServiceFactory {
 	private String apiVersion;
 	private AccessMode accessMode;
 	private ExecutorService executorService;
+	private HttpClientConfiguration httpClientConfiguration;
 
 	public ServiceFactory(String apiVersion) throws O2GException {
+		this(apiVersion, null);
+	}
+
+	public ServiceFactory(String apiVersion, HttpClientConfiguration httpClientConfiguration) throws O2GException {
 		this.apiVersion = apiVersion;
+		this.httpClientConfiguration = httpClientConfiguration;
 
 		try {
-		    executorService = Executors.newCachedThreadPool();
-		    httpClientWrapper = HttpClientBuilder.getInstance().build(executorService);
+		    executorService = ThreadUtil.newExecutor();
+		    httpClientWrapper = HttpClientBuilder.getInstance().build(executorService, httpClientConfiguration);
 		}
 		catch (Exception e) {
 			throw new O2GException(e);
 		}
 	}
 
+	/**
+	 * Returns the http client to use for the event channel, or null if the event
+	 * channel must use its own http client.
+	 */
+	public HttpClientWrapper getEventingHttpClient() {
+		if ((httpClientConfiguration != null) && httpClientConfiguration.isSharedWithEventing()) {
+			return httpClientWrapper;
+		}
+		else {
+			return null;
+		}
+	}
+
 	public String getApiVersion() {
 		return apiVersion;
 	}
@@ -257,10 +280,20 @@ public class ServiceFactory {
 		return getOrCreate(Service.Telephony, TelephonyRest.class);
 	}
 
+	public AsyncTelephonyService getAsyncTelephonyService() {
+		TelephonyRest service = getOrCreate(Service.Telephony, TelephonyRest.class);
+		return (service == null) ? null : service.getAsyncService();
+	}
+
 	public RoutingService getRoutingService() {
 		return getOrCreate(Service.Routing, RoutingRest.class);
 	}
 
+	public AsyncRoutingService getAsyncRoutingService() {
+		RoutingRest service = getOrCreate(Service.Routing, RoutingRest.class);
+		return (service == null) ? null : service.getAsyncService();
+	}
+
     public MessagingService getMessagingService() {
         return getOrCreate(Service.Messaging, MessagingRest.class);
     }
@@ -289,6 +322,11 @@ public class ServiceFactory {
         return getOrCreate(Service.CallCenterAgent, CallCenterAgentRest.class);
     }
 
+    public AsyncCallCenterAgentService getAsyncCallCenterAgentService() {
+        CallCenterAgentRest service = getOrCreate(Service.CallCenterAgent, CallCenterAgentRest.class);
+        return (service == null) ? null : service.getAsyncService();
+    }
+
     public ManagementService getManagementService() {
         return getOrCreate(Service.Management, ManagementRest.class);
     }
@@ -25,6 +25,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.ale.o2g.AnalyticsService;
+import com.ale.o2g.AsyncCallCenterAgentService;
+import com.ale.o2g.AsyncRoutingService;
+import com.ale.o2g.AsyncTelephonyService;
 import com.ale.o2g.CallCenterAgentService;
 import com.ale.o2g.CallCenterManagementService;
 import com.ale.o2g.CallCenterPilotService;
@@ -32,6 +35,7 @@ import com.ale.o2g.CallCenterRealtimeService;
 import com.ale.o2g.CallCenterStatisticsService;
 import com.ale.o2g.CommunicationLogService;
 import com.ale.o2g.DirectoryService;
+import com.ale.o2g.EventQueueStatistics;
 import com.ale.o2g.EventSummaryService;
 import com.ale.o2g.MaintenanceService;
 import com.ale.o2g.ManagementService;
@@ -41,15 +45,18 @@ import com.ale.o2g.RoutingService;
 import com.ale.o2g.Session;
 import com.ale.o2g.SessionMonitoringPolicy;
 import com.ale.o2g.Subscription;
+import com.ale.o2g.Subscription.Filter;
 import com.ale.o2g.TelephonyService;
 import com.ale.o2g.UserManagementService;
 import com.ale.o2g.UsersService;
+import com.ale.o2g.events.EventPackage;
 import com.ale.o2g.internal.events.ChunkEventing;
 import com.ale.o2g.internal.events.SubscriptionImpl;
 import com.ale.o2g.internal.services.ISessions;
 import com.ale.o2g.internal.services.ISubscriptions;
 import com.ale.o2g.internal.types.SessionInfo;
 import com.ale.o2g.internal.types.SubscriptionResult;
+import com.ale.o2g.internal.util.AssertUtil;
 import com.ale.o2g.types.Account;
 
 public class SessionImpl implements Session {    
@@ -104,6 +111,7 @@ public class SessionImpl implements Session {
     private SessionMonitoringHandler sessionMonitoringHandler = null;
 
     private String subscriptionId = null;
+    private SubscriptionImpl subscription = null;
 
 	private Account account = null;
 	private String loginName;
@@ -147,11 +155,21 @@ public class SessionImpl implements Session {
 		return this.serviceFactory.getTelephonyService();
 	}
 
+	@Override
+	public AsyncTelephonyService getAsyncTelephonyService() {
+		return this.serviceFactory.getAsyncTelephonyService();
+	}
+
 	@Override
 	public RoutingService getRoutingService() {
 		return this.serviceFactory.getRoutingService();
 	}
 
+	@Override
+	public AsyncRoutingService getAsyncRoutingService() {
+		return this.serviceFactory.getAsyncRoutingService();
+	}
+
 	@Override
 	public EventSummaryService getEventSummaryService() {
 		return this.serviceFactory.getEventSummaryService();
@@ -187,6 +205,11 @@ public class SessionImpl implements Session {
         return this.serviceFactory.getCallCenterAgentService();
     }
 
+    @Override
+    public AsyncCallCenterAgentService getAsyncCallCenterAgentService() {
+        return this.serviceFactory.getAsyncCallCenterAgentService();
+    }
+
     @Override
     public ManagementService getManagementService() {
         return this.serviceFactory.getManagementService();
@@ -233,6 +256,29 @@ public class SessionImpl implements Session {
     */
 
 
+    @Override
+    public EventQueueStatistics getEventQueueStatistics() {
+        return (chunkEventing == null) ? null : chunkEventing.getStatistics();
+    }
+
+
+    @Override
+    public synchronized void addSubscriptionIds(EventPackage eventPackage, String[] ids) throws O2GException {
+        Filter filter = new Filter(requireSubscription().getFilter());
+        if (filter.addIds(AssertUtil.requireNotNull(eventPackage, "eventPackage"), AssertUtil.requireNotEmpty(ids, "ids"))) {
+            updateFilter(filter);
+        }
+    }
+
+    @Override
+    public synchronized void removeSubscriptionIds(EventPackage eventPackage, String[] ids) throws O2GException {
+        Filter filter = new Filter(requireSubscription().getFilter());
+        if (filter.removeIds(AssertUtil.requireNotNull(eventPackage, "eventPackage"), AssertUtil.requireNotEmpty(ids, "ids"))) {
+            updateFilter(filter);
+        }
+    }
+
+
     @Override
 	public void listenEvents(Subscription subscription) throws O2GException {
 		Objects.requireNonNull(subscription);
@@ -281,6 +327,7 @@ public class SessionImpl implements Session {
 	        if ((subscriptionResult != null) && subscriptionResult.isAccepted()) {
 	        	
 	            subscriptionId = subscriptionResult.getId();
+	            this.subscription = subscription;
 	
 	            logger.trace("Subscription has been accepted.");
 	
@@ -292,7 +339,8 @@ public class SessionImpl implements Session {
 	                chunkUri = URI.create(subscriptionResult.getPublicPollingUrl());
 	            }
 	
-	            chunkEventing = new ChunkEventing(chunkUri, subscription.getListeners(), sessionMonitoringHandler);
+	            chunkEventing = new ChunkEventing(chunkUri, subscription, sessionMonitoringHandler,
+	                    serviceFactory.getEventingHttpClient());
 	            chunkEventing.start();
 	
 	            // set the listener reference to sessionFactory
@@ -315,6 +363,26 @@ public class SessionImpl implements Session {
     	}
     }
     
+    private SubscriptionImpl requireSubscription() throws O2GException {
+        if (subscriptionId == null) {
+            throw new O2GException("The session does not listen to events");
+        }
+        return subscription;
+    }
+
+    /*
+     * Update the filter of the running subscription, the chunk channel is kept
+     */
+    private void updateFilter(Filter filter) throws O2GException {
+        ISubscriptions subscriptionsService = serviceFactory.getSubscriptionsService();
+        if (!subscriptionsService.update(subscriptionId, filter)) {
+            throw new O2GException("Subscription update refused");
+        }
+
+        subscription.setFilter(filter);
+        logger.trace("Subscription has been updated.");
+    }
+
     private void stopEventing() {
         
         if (subscriptionId != null) {
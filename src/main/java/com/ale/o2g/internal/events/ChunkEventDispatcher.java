@@ -18,19 +18,18 @@
 */
 package com.ale.o2g.internal.events;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.EventListener;
 import java.util.List;
-import java.util.concurrent.BlockingQueue;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.ale.o2g.events.O2GEvent;
 import com.ale.o2g.internal.SessionMonitoringHandler;
+import com.ale.o2g.internal.events.EventRegistrar.EventInvoker;
 import com.ale.o2g.internal.util.AbstractQueuedThread;
 import com.ale.o2g.internal.util.EventListenersMap;
+import com.ale.o2g.internal.util.MessageQueue;
 
 /**
  *
@@ -41,57 +40,26 @@ public class ChunkEventDispatcher extends AbstractQueuedThread<O2GEventDescripto
     private EventListenersMap listeners;
     private SessionMonitoringHandler sessionMonitoringHandler;
 
-    public ChunkEventDispatcher(BlockingQueue<O2GEventDescriptor> queue, EventListenersMap listeners, SessionMonitoringHandler sessionMonitoringHandler) {
-        super(queue, "ChunkEventDispatcher");
+    public ChunkEventDispatcher(MessageQueue<O2GEventDescriptor> queue, EventListenersMap listeners, SessionMonitoringHandler sessionMonitoringHandler) {
+        this(queue, listeners, sessionMonitoringHandler, "ChunkEventDispatcher");
+    }
+
+    public ChunkEventDispatcher(MessageQueue<O2GEventDescriptor> queue, EventListenersMap listeners, SessionMonitoringHandler sessionMonitoringHandler, String name) {
+        super(queue, name);
         this.listeners = listeners;
         this.sessionMonitoringHandler = sessionMonitoringHandler;
     }
 
-    
-    private Class<?> getEventClass(O2GEvent o2gEvent) {
-
-        Class<?> eventClass = o2gEvent.getClass();
-        if (eventClass.isAnonymousClass()) {
-
-            return eventClass.getSuperclass();
-        }
-        else {
-            return eventClass;
-        }
-    }
 
-    private void dispatchHandler(List<EventListener> listenersList, O2GEvent o2gEvent, String methodName) {
+    private void dispatchHandler(List<EventListener> listenersList, O2GEvent o2gEvent, EventInvoker invoker) {
 
         for (EventListener listener : listenersList) {
-
-            Class<?> listenerClass = listener.getClass();
-            Method invocationMethod;
             try {
-                invocationMethod = listenerClass.getMethod(methodName, getEventClass(o2gEvent));
-                try {
-                    invocationMethod.setAccessible(true);
-                    invocationMethod.invoke(listener, o2gEvent);
-                }
-                catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-
-                    String error = String.format("Invocation error method %s(%s) on interface %s", methodName,
-                            o2gEvent.getClass().getName(), listenerClass.getName());
-                    
-                    logger.error("REFLEXION Error: {}", error);
-                    throw new Error(error);
-                }
-                catch (Exception e) {
-                    logger.error("Exception during event treatment", e);
-                    sessionMonitoringHandler.getPolicy().eventTreatmentException(e);
-                }
+                invoker.invoke(listener, o2gEvent);
             }
-            catch (NoSuchMethodException | SecurityException e) {
-
-                String error = String.format("Unable to find method %s(%s) on interface %s", methodName,
-                        o2gEvent.getClass().getName(), listenerClass.getName());
-
-                logger.error("REFLEXION Error: {}", error);
-                throw new Error(error);
+            catch (Exception e) {
+                logger.error("Exception during event treatment", e);
+                sessionMonitoringHandler.getPolicy().eventTreatmentException(e);
             }
         }
     }
@@ -106,7 +74,7 @@ public class ChunkEventDispatcher extends AbstractQueuedThread<O2GEventDescripto
 
             List<EventListener> ll = listeners.getListeners(listenerClass);
             if ((ll != null) && !ll.isEmpty()) {
-                dispatchHandler(ll, o2gEventDescriptor.event(), o2gEventDescriptor.methodName());
+                dispatchHandler(ll, o2gEventDescriptor.event(), o2gEventDescriptor.invoker());
             }
         }
         
@@ -18,18 +18,15 @@
 */
 package com.ale.o2g.internal.events;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.net.URI;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpResponse.BodyHandlers;
-import java.util.concurrent.BlockingQueue;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
@@ -40,33 +37,51 @@ import com.ale.o2g.SessionMonitoringPolicy.Behavior;
 import com.ale.o2g.events.O2GEvent;
 import com.ale.o2g.events.common.OnChannelInformationEvent;
 import com.ale.o2g.internal.SessionMonitoringHandler;
-import com.ale.o2g.internal.util.AbstractQueuedThread;
+import com.ale.o2g.internal.util.AbstractLoopingThread;
 import com.ale.o2g.internal.util.HttpClientBuilder;
 import com.ale.o2g.internal.util.HttpClientWrapper;
+import com.ale.o2g.internal.util.ThreadUtil;
 
 /**
  *
  */
-public class ChunkEventListener extends AbstractQueuedThread<O2GEventDescriptor> {
+public class ChunkEventListener extends AbstractLoopingThread {
 
     final static Logger logger = LoggerFactory.getLogger(ChunkEventListener.class);
 
-    private ExecutorService executorService = Executors.newCachedThreadPool();
+    private ExecutorService executorService = null;
+    private ChunkEventRouter router;
     private HttpClientWrapper httpClient;
     private URI uri;
     private Semaphore signalReady;
     private SessionMonitoringHandler sessionMonitoringHandler;
     private boolean chunkEstablished = false;
     private InputStream currentEventStream = null;
+    private boolean keepJson;
 
-    public ChunkEventListener(BlockingQueue<O2GEventDescriptor> queue, URI uri, Semaphore signalReady, SessionMonitoringHandler sessionMonitoringHandler)
+    public ChunkEventListener(ChunkEventRouter router, URI uri, Semaphore signalReady, SessionMonitoringHandler sessionMonitoringHandler)
             throws Exception {
-        super(queue, "ChunkEventListener");
+        this(router, uri, signalReady, sessionMonitoringHandler, null, false);
+    }
+
+    public ChunkEventListener(ChunkEventRouter router, URI uri, Semaphore signalReady, SessionMonitoringHandler sessionMonitoringHandler,
+            HttpClientWrapper sharedHttpClient, boolean keepJson) throws Exception {
+        super("ChunkEventListener");
 
+        this.router = router;
         this.uri = uri;
         this.signalReady = signalReady;
         this.sessionMonitoringHandler = sessionMonitoringHandler;
-        httpClient = HttpClientBuilder.getInstance().build(executorService);
+        this.keepJson = keepJson;
+
+        if (sharedHttpClient != null) {
+            // The event channel is multiplexed on the connection used by the REST services
+            httpClient = sharedHttpClient;
+        }
+        else {
+            executorService = ThreadUtil.newExecutor();
+            httpClient = HttpClientBuilder.getInstance().build(executorService);
+        }
     }
 
     
@@ -74,33 +89,35 @@ public class ChunkEventListener extends AbstractQueuedThread<O2GEventDescriptor>
     private void readChunks(InputStream eventStream) throws InterruptedException {
         
         currentEventStream = eventStream;
-        BufferedReader reader = new BufferedReader(new InputStreamReader(eventStream));
+        ChunkEventReader reader = new ChunkEventReader(eventStream);
         
-        // Loop forever
+        // Loop until the end of the stream
         while (true) {
             
             // Read the event
-            String sEvent = null;
+            boolean hasEvent = false;
             try {
-                sEvent = reader.readLine();
+                hasEvent = reader.nextEvent();
             }
             catch (IOException e) {
-                // The connexion has been broken, we have to exit from the reading loop
-                logger.error("Event channel has been closed.");
+                // The connexion has been broken or the event is too large, we have to exit from the reading loop
+                logger.error("Event channel has been closed: {}", e.getMessage());
+                closeQuietly(eventStream);
                 break;
             }
             
-            if (sEvent == null) {
-                // Not sure this can happen, but in case an event can't be read, just ignore
-                logger.error("Reading null event");
-                continue;
+            if (!hasEvent) {
+                // The server has closed the stream, exit from the reading loop to open it again
+                logger.error("Event channel has been closed by the server.");
+                break;
             }
             
-            // Create the descriptor
-            O2GEventDescriptor eventDescriptor = EventBuilder.get(sEvent);
+            // Create the descriptor from the bytes, the json string is only built if the queue needs it
+            O2GEventDescriptor eventDescriptor = EventBuilder.get(reader.eventBytes(), reader.eventOffset(), reader.eventLength(), keepJson);
             if (eventDescriptor == null) {
                 // Unable to create an event descriptor from the event string, do nothing, ignore the event
-                logger.error("Unable to create Event from {event}", sEvent);
+                logger.error("Unable to create Event from {event}",
+                        new String(reader.eventBytes(), reader.eventOffset(), reader.eventLength(), StandardCharsets.UTF_8));
             }
             else {
                 O2GEvent o2gEvent = eventDescriptor.event();
@@ -111,7 +128,7 @@ public class ChunkEventListener extends AbstractQueuedThread<O2GEventDescriptor>
                 }
 
                 // Push event for dispatching
-                add(eventDescriptor);
+                router.push(eventDescriptor);
             }
         }
         
@@ -174,14 +191,18 @@ public class ChunkEventListener extends AbstractQueuedThread<O2GEventDescriptor>
 
 
 
+    private static void closeQuietly(InputStream eventStream) {
+        try {
+            eventStream.close();
+        }
+        catch (IOException e) {
+        }
+    }
+
     @Override
     public void stop() {
         if (currentEventStream != null) {
-            try {
-                currentEventStream.close();
-            }
-            catch (IOException e) {
-            }
+            closeQuietly(currentEventStream);
         }
         
         super.stop();
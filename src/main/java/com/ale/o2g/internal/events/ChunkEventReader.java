@@ -0,0 +1,200 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.events;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Read the events from the chunked event stream. The events are framed on
+ * the UTF-8 bytes by following the nesting of the json objects, so an event
+ * can be on one line or pretty printed on several lines. The bytes outside of
+ * an object (line feeds, keep alive spaces) are ignored. An event larger than
+ * the maximum event size fails the read. This class is not thread safe.
+ */
+public class ChunkEventReader {
+
+    private final static int DEFAULT_BUFFER_SIZE = 8192;
+    private final static int DEFAULT_MAX_EVENT_SIZE = 16 * 1024 * 1024;
+
+    private final InputStream in;
+    private final int maxEventSize;
+    private byte[] buffer;
+
+    // Valid bytes are in [0, end[, the scan has reached position
+    private int end = 0;
+    private int position = 0;
+
+    // Scan state of the current event, eventStart is -1 out of an event
+    private int eventStart = -1;
+    private int depth = 0;
+    private boolean inString = false;
+    private boolean escaped = false;
+
+    // Bytes of the last framed event
+    private int eventOffset = 0;
+    private int eventLength = 0;
+
+    public ChunkEventReader(InputStream in) {
+        this(in, DEFAULT_BUFFER_SIZE, DEFAULT_MAX_EVENT_SIZE);
+    }
+
+    ChunkEventReader(InputStream in, int bufferSize, int maxEventSize) {
+        this.in = in;
+        this.maxEventSize = maxEventSize;
+        this.buffer = new byte[Math.min(bufferSize, maxEventSize)];
+    }
+
+    /**
+     * Return the next event.
+     * @return the json of the event, or {@code null} at the end of the stream
+     * @throws IOException if the stream can't be read, or if the event is too large
+     */
+    public String next() throws IOException {
+        return nextEvent() ? new String(buffer, eventOffset, eventLength, StandardCharsets.UTF_8) : null;
+    }
+
+    /**
+     * Frame the next event. Its bytes are given by {@link #eventBytes()},
+     * {@link #eventOffset()} and {@link #eventLength()}, they remain valid
+     * until the next read.
+     * @return {@code false} at the end of the stream
+     * @throws IOException if the stream can't be read, or if the event is too large
+     */
+    public boolean nextEvent() throws IOException {
+
+        for (;;) {
+            // Scan with local variables, the state is saved before refilling the buffer
+            byte[] buf = buffer;
+            int pos = position;
+            int limit = end;
+            int level = depth;
+            boolean string = inString;
+            boolean escape = escaped;
+
+            // An escape at the end of the previous read skips the first byte
+            if (escape && (pos < limit)) {
+                pos++;
+                escape = false;
+            }
+
+            while (pos < limit) {
+                if (string) {
+                    // Most of the bytes are in strings, skip them in a tight loop
+                    while (pos < limit) {
+                        byte b = buf[pos++];
+                        if (b == '"') {
+                            string = false;
+                            break;
+                        }
+                        else if (b == '\\') {
+                            if (pos < limit) {
+                                pos++;
+                            }
+                            else {
+                                escape = true;
+                            }
+                        }
+                    }
+                    continue;
+                }
+
+                switch (buf[pos++]) {
+                case '"':
+                    string = level > 0;
+                    break;
+
+                case '{':
+                    if (level++ == 0) {
+                        eventStart = pos - 1;
+                    }
+                    break;
+
+                case '}':
+                    if ((level > 0) && (--level == 0)) {
+                        eventOffset = eventStart;
+                        eventLength = pos - eventStart;
+                        eventStart = -1;
+                        position = pos;
+                        depth = 0;
+                        inString = false;
+                        escaped = false;
+                        return true;
+                    }
+                    break;
+
+                default:
+                    break;
+                }
+            }
+
+            position = pos;
+            depth = level;
+            inString = string;
+            escaped = escape;
+
+            if (!fill()) {
+                return false;
+            }
+        }
+    }
+
+    public byte[] eventBytes() {
+        return buffer;
+    }
+
+    public int eventOffset() {
+        return eventOffset;
+    }
+
+    public int eventLength() {
+        return eventLength;
+    }
+
+    private boolean fill() throws IOException {
+
+        // Keep only the beginning of the current event
+        int discard = (eventStart < 0) ? end : eventStart;
+        if (discard > 0) {
+            System.arraycopy(buffer, discard, buffer, 0, end - discard);
+            end -= discard;
+            position -= discard;
+            if (eventStart >= 0) {
+                eventStart -= discard;
+            }
+        }
+
+        if (end == buffer.length) {
+            if (buffer.length >= maxEventSize) {
+                throw new IOException("Event larger than " + maxEventSize + " bytes");
+            }
+            buffer = Arrays.copyOf(buffer, (int) Math.min(2L * buffer.length, maxEventSize));
+        }
+
+        int count = in.read(buffer, end, buffer.length - end);
+        if (count < 0) {
+            return false;
+        }
+
+        end += count;
+        return true;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.events;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import com.ale.o2g.events.O2GEvent;
+import com.ale.o2g.internal.util.MessageQueue;
+
+/**
+ * Route the decoded events to the dispatcher queues. When there are several
+ * queues, an event is routed according to its key: all the events with the
+ * same key go to the same queue, and are so dispatched in order.
+ */
+public class ChunkEventRouter {
+
+    private final List<MessageQueue<O2GEventDescriptor>> queues;
+    private final Function<O2GEvent, ?> keyExtractor;
+
+    /**
+     * Create a router.
+     * @param queues       the dispatcher queues
+     * @param keyExtractor a function that returns the key of an event, or
+     *                     {@code null} to use the default key of the event
+     */
+    public ChunkEventRouter(List<? extends MessageQueue<O2GEventDescriptor>> queues, Function<O2GEvent, ?> keyExtractor) {
+        this.queues = List.copyOf(queues);
+        this.keyExtractor = keyExtractor;
+    }
+
+    int indexOf(O2GEventDescriptor eventDescriptor) {
+        if (queues.size() == 1) {
+            return 0;
+        }
+
+        Object key = (keyExtractor == null) ? eventDescriptor.key() : keyExtractor.apply(eventDescriptor.event());
+
+        // Spread the high bits, keys are often numbers with a common prefix
+        int h = Objects.hashCode(key);
+        return Math.floorMod(h ^ (h >>> 16), queues.size());
+    }
+
+    public void push(O2GEventDescriptor eventDescriptor) throws InterruptedException {
+        queues.get(indexOf(eventDescriptor)).put(eventDescriptor);
+    }
+}
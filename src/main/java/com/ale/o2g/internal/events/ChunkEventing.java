@@ -19,15 +19,19 @@
 package com.ale.o2g.internal.events;
 
 import java.net.URI;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Semaphore;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.ale.o2g.EventOverflowPolicy;
+import com.ale.o2g.EventQueueStatistics;
 import com.ale.o2g.internal.SessionMonitoringHandler;
-import com.ale.o2g.internal.util.EventListenersMap;
+import com.ale.o2g.internal.util.HttpClientWrapper;
+import com.ale.o2g.internal.util.MessageQueue;
+import com.ale.o2g.internal.util.RingBufferQueue;
 
 /**
  * 
@@ -40,25 +44,96 @@ public class ChunkEventing {
     private Semaphore signalReady = new Semaphore(0);
 
     private ChunkEventListener chunkEventListener = null;
-    private ChunkEventDispatcher chunkEventDispatcher = null;
+    private List<MessageQueue<O2GEventDescriptor>> eventQueues = new ArrayList<MessageQueue<O2GEventDescriptor>>();
+    private List<ChunkEventDispatcher> chunkEventDispatchers = new ArrayList<ChunkEventDispatcher>();
 
-    public ChunkEventing(URI chunkUri, EventListenersMap listeners, SessionMonitoringHandler sessionMonitoringHandler) throws Exception {
-        BlockingQueue<O2GEventDescriptor> eventQueue = new ArrayBlockingQueue<O2GEventDescriptor>(1000);
+    public ChunkEventing(URI chunkUri, SubscriptionImpl subscription, SessionMonitoringHandler sessionMonitoringHandler) throws Exception {
+        this(chunkUri, subscription, sessionMonitoringHandler, null);
+    }
+
+    public ChunkEventing(URI chunkUri, SubscriptionImpl subscription, SessionMonitoringHandler sessionMonitoringHandler,
+            HttpClientWrapper sharedHttpClient) throws Exception {
+
+        int workers = subscription.getDispatchWorkers();
+
+        if (workers == 1) {
+            MessageQueue<O2GEventDescriptor> eventQueue = createQueue(subscription);
+            eventQueues.add(eventQueue);
+            chunkEventDispatchers.add(new ChunkEventDispatcher(eventQueue, subscription.getListeners(), sessionMonitoringHandler));
+        }
+        else {
+            for (int i = 0; i < workers; i++) {
+                MessageQueue<O2GEventDescriptor> eventQueue = createQueue(subscription);
+                eventQueues.add(eventQueue);
+                chunkEventDispatchers.add(new ChunkEventDispatcher(eventQueue, subscription.getListeners(), sessionMonitoringHandler, 
+                        "ChunkEventDispatcher-" + i));
+            }
+            
+            logger.debug("Events are dispatched on {} threads", workers);
+        }
 
-        chunkEventDispatcher = new ChunkEventDispatcher(eventQueue, listeners, sessionMonitoringHandler);
-        chunkEventListener = new ChunkEventListener(eventQueue, chunkUri, signalReady, sessionMonitoringHandler);
+        ChunkEventRouter router = new ChunkEventRouter(eventQueues, subscription.getDispatchKey());
+        chunkEventListener = new ChunkEventListener(router, chunkUri, signalReady, sessionMonitoringHandler, sharedHttpClient,
+                needsJson(subscription));
+    }
+
+    /**
+     * The json of the events is only kept by the queues that write it to the disk
+     * or merge realtime events.
+     */
+    private static boolean needsJson(SubscriptionImpl subscription) {
+        return (subscription.getWaitStrategy() == null)
+                && ((subscription.getOverflowPolicy() == EventOverflowPolicy.SPILL_TO_DISK) || subscription.isRtiCoalescing());
+    }
+
+    private static MessageQueue<O2GEventDescriptor> createQueue(SubscriptionImpl subscription) {
+        if (subscription.getWaitStrategy() != null) {
+            return new RingBufferQueue<O2GEventDescriptor>(subscription.getQueueCapacity(), subscription.getWaitStrategy());
+        }
+        else {
+            return new EventQueue(subscription.getQueueCapacity(), subscription.getOverflowPolicy(), subscription.isRtiCoalescing());
+        }
+    }
+
+    private static EventQueueStatisticsImpl getStatistics(MessageQueue<O2GEventDescriptor> queue) {
+        if (queue instanceof EventQueue eventQueue) {
+            return eventQueue.getStatistics();
+        }
+        else {
+            RingBufferQueue<O2GEventDescriptor> ringBuffer = (RingBufferQueue<O2GEventDescriptor>) queue;
+            return new EventQueueStatisticsImpl(EventOverflowPolicy.BLOCK, ringBuffer.capacity(), ringBuffer.size(), 0,
+                    ringBuffer.received(), ringBuffer.blocked(), 0, 0, 0, 0);
+        }
+    }
+
+    public EventQueueStatistics getStatistics() {
+        EventQueueStatisticsImpl statistics = null;
+        for (MessageQueue<O2GEventDescriptor> eventQueue : eventQueues) {
+            statistics = (statistics == null) ? getStatistics(eventQueue) : statistics.add(getStatistics(eventQueue));
+        }
+        return statistics;
     }
 
     public void start() throws InterruptedException {
-        chunkEventDispatcher.start();
+        for (ChunkEventDispatcher chunkEventDispatcher : chunkEventDispatchers) {
+            chunkEventDispatcher.start();
+        }
         chunkEventListener.start();
 
         signalReady.acquire();
     }
 
     public void stop() {
-        chunkEventDispatcher.stop();
+        for (ChunkEventDispatcher chunkEventDispatcher : chunkEventDispatchers) {
+            chunkEventDispatcher.stop();
+        }
         chunkEventListener.stop();
+
+        for (MessageQueue<O2GEventDescriptor> eventQueue : eventQueues) {
+            if (eventQueue instanceof EventQueue closeableQueue) {
+                closeableQueue.close();
+            }
+        }
     }
 
 }
@@ -18,6 +18,15 @@
 */
 package com.ale.o2g.internal.events;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.Supplier;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,15 +43,16 @@ import com.ale.o2g.events.rsi.RsiEventListener;
 import com.ale.o2g.events.telephony.TelephonyEventListener;
 import com.ale.o2g.events.users.UsersEventListener;
 import com.ale.o2g.internal.events.EventRegistrar.EventTranslator;
+import com.ale.o2g.internal.events.EventRegistrar.EventType;
 import com.ale.o2g.internal.events.cca.OnInternalSkillChanged;
 import com.ale.o2g.internal.events.ccstats.CallCenterStatisticsEventListener;
 import com.ale.o2g.internal.events.maintenance.OnInternalNodeIdEvent;
 import com.ale.o2g.internal.events.management.OnInternalPbxObjectEvent;
 import com.ale.o2g.internal.events.routing.OnInternalRoutingStateChangedEvent;
-import com.ale.o2g.internal.util.AnnotationExclusionStrategy;
-import com.ale.o2g.internal.util.EnumAdapterFactory;
+import com.ale.o2g.internal.util.JsonUtil;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 /**
  * 
@@ -52,10 +62,12 @@ public class EventBuilder {
 
 	final static Logger logger = LoggerFactory.getLogger(EventBuilder.class);
 
-	private static EventRegistrar eventRegistrar;
+	private final static String EVENT_NAME = "eventName";
+
+	private final static Map<String, EventType> eventTypes;
 
 	static {
-		eventRegistrar = new EventRegistrar();
+		EventRegistrar eventRegistrar = new EventRegistrar();
 
 		eventRegistrar.registerEventListener(ChannelInformationEventListener.class);
 
@@ -63,80 +75,125 @@ public class EventBuilder {
 
         // register Routing handlers
         eventRegistrar.registerEventListener(RoutingEventListener.class);
-        eventRegistrar.registerAdapter("OnRoutingStateChangedEvent", OnInternalRoutingStateChangedEvent::adapt, OnInternalRoutingStateChangedEvent.class);
+        eventRegistrar.registerAdapter("OnRoutingStateChanged", OnInternalRoutingStateChangedEvent::adapt, OnInternalRoutingStateChangedEvent.class);
 
         eventRegistrar.registerEventListener(ManagementEventListener.class);
-        eventRegistrar.registerAdapter("OnPbxObjectInstanceCreatedEvent", OnInternalPbxObjectEvent::adaptCreated, OnInternalPbxObjectEvent.class);
-        eventRegistrar.registerAdapter("OnPbxObjectInstanceDeletedEvent", OnInternalPbxObjectEvent::adaptDeleted, OnInternalPbxObjectEvent.class);
-        eventRegistrar.registerAdapter("OnPbxObjectInstanceModifiedEvent", OnInternalPbxObjectEvent::adaptModified, OnInternalPbxObjectEvent.class);
+        eventRegistrar.registerAdapter("OnPbxObjectInstanceCreated", OnInternalPbxObjectEvent::adaptCreated, OnInternalPbxObjectEvent.class);
+        eventRegistrar.registerAdapter("OnPbxObjectInstanceDeleted", OnInternalPbxObjectEvent::adaptDeleted, OnInternalPbxObjectEvent.class);
+        eventRegistrar.registerAdapter("OnPbxObjectInstanceModified", OnInternalPbxObjectEvent::adaptModified, OnInternalPbxObjectEvent.class);
         
         eventRegistrar.registerEventListener(MaintenanceEventListener.class);
-        eventRegistrar.registerAdapter("OnCtiLinkDownEvent", OnInternalNodeIdEvent::adaptCtiLinkDown, OnInternalNodeIdEvent.class);
-        eventRegistrar.registerAdapter("OnCtiLinkUpEvent", OnInternalNodeIdEvent::adaptCtiLinkUp, OnInternalNodeIdEvent.class);
-        eventRegistrar.registerAdapter("OnPbxLinkDownEvent", OnInternalNodeIdEvent::adaptPbxLinkDown, OnInternalNodeIdEvent.class);
-        eventRegistrar.registerAdapter("OnPbxLinkUpEvent", OnInternalNodeIdEvent::adaptPbxLinkUp, OnInternalNodeIdEvent.class);
-        eventRegistrar.registerAdapter("OnPbxLoadedEvent", OnInternalNodeIdEvent::adaptPbxLoaded, OnInternalNodeIdEvent.class);
+        eventRegistrar.registerAdapter("OnCtiLinkDown", OnInternalNodeIdEvent::adaptCtiLinkDown, OnInternalNodeIdEvent.class);
+        eventRegistrar.registerAdapter("OnCtiLinkUp", OnInternalNodeIdEvent::adaptCtiLinkUp, OnInternalNodeIdEvent.class);
+        eventRegistrar.registerAdapter("OnPbxLinkDown", OnInternalNodeIdEvent::adaptPbxLinkDown, OnInternalNodeIdEvent.class);
+        eventRegistrar.registerAdapter("OnPbxLinkUp", OnInternalNodeIdEvent::adaptPbxLinkUp, OnInternalNodeIdEvent.class);
+        eventRegistrar.registerAdapter("OnPbxLoaded", OnInternalNodeIdEvent::adaptPbxLoaded, OnInternalNodeIdEvent.class);
 
         eventRegistrar.registerEventListener(TelephonyEventListener.class);
 		eventRegistrar.registerEventListener(UsersEventListener.class);
         eventRegistrar.registerEventListener(CallCenterAgentEventListener.class);
-        eventRegistrar.registerAdapter("OnAgentSkillChangedEvent", OnInternalSkillChanged::adaptSkillChanged, OnInternalSkillChanged.class);
+        eventRegistrar.registerAdapter("OnAgentSkillChanged", OnInternalSkillChanged::adaptSkillChanged, OnInternalSkillChanged.class);
         
         eventRegistrar.registerEventListener(RsiEventListener.class);
         eventRegistrar.registerEventListener(CallCenterPilotEventListener.class);
 
         eventRegistrar.registerEventListener(CallCenterRealtimeEventListener.class);
         eventRegistrar.registerEventListener(CallCenterStatisticsEventListener.class);
+
+        eventTypes = eventRegistrar.build();
 	}
 
-	protected static Gson gson = new GsonBuilder().
-	        registerTypeAdapterFactory(new EnumAdapterFactory()).
-	        setExclusionStrategies(new AnnotationExclusionStrategy()).create();
+	protected static Gson gson = JsonUtil.GSON;
 
-	@SuppressWarnings("unchecked")
-	public static O2GEventDescriptor get(String evJson) {
+	/**
+	 * Read the event name from the top level members of the json event. The
+	 * members are skipped without being bound, and the scan stops as soon as the
+	 * name is found; O2G sends it as the first member.
+	 */
+	static String readEventName(String evJson) {
+		return readEventName(new StringReader(evJson));
+	}
 
-		// retrieve the short event name
-	    String eventName = String.format("%sEvent", gson.fromJson(evJson, O2GEvent.class).getName());
-	    
-		String qualifiedEventName = eventRegistrar.getQualifiedName(eventName);
-		if (qualifiedEventName == null) {
-		    return null;
-		}
+	private static String readEventName(Reader in) {
 		
-		Class<? extends O2GEvent> typeEvent = null;
-
-		// We have the name of the event, check if there is a translator for this event
-		EventTranslator translator = eventRegistrar.getAdapter(qualifiedEventName);
-		if (translator != null) {
-			typeEvent = translator.deserializableType();
-		}
-		else {
-			// No translation,
-			try {
-				typeEvent = (Class<? extends O2GEvent>) Class.forName(qualifiedEventName);
+		try (JsonReader reader = new JsonReader(in)) {
+			if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+				return null;
 			}
-			catch (ClassNotFoundException e) {
-				typeEvent = null;
+			
+			reader.beginObject();
+			while (reader.hasNext()) {
+				if (EVENT_NAME.equals(reader.nextName()) && (reader.peek() == JsonToken.STRING)) {
+					return reader.nextString();
+				}
+				else {
+					reader.skipValue();
+				}
 			}
+			
+			return null;
 		}
-
-		if (typeEvent == null) {
+		catch (IOException | IllegalStateException e) {
 			return null;
 		}
+	}
 
+	public static O2GEventDescriptor get(String evJson) {
+		return get(evJson, true);
+	}
+
+	/**
+	 * Decode an event.
+	 * @param evJson   the json of the event
+	 * @param keepJson keep the json in the descriptor, for the queues which need it
+	 * @return the event descriptor, or {@code null} if the event is unknown
+	 */
+	public static O2GEventDescriptor get(String evJson, boolean keepJson) {
+		return get(() -> new StringReader(evJson), keepJson ? evJson : null);
+	}
+
+	/**
+	 * Decode an event from its UTF-8 bytes. The json string is only built when
+	 * it is kept in the descriptor.
+	 * @param bytes    the buffer holding the event
+	 * @param offset   the offset of the event in the buffer
+	 * @param length   the length of the event
+	 * @param keepJson keep the json in the descriptor, for the queues which need it
+	 * @return the event descriptor, or {@code null} if the event is unknown
+	 */
+	public static O2GEventDescriptor get(byte[] bytes, int offset, int length, boolean keepJson) {
+		if (keepJson) {
+			return get(new String(bytes, offset, length, StandardCharsets.UTF_8), true);
+		}
+		
+		return get(() -> new InputStreamReader(new ByteArrayInputStream(bytes, offset, length), StandardCharsets.UTF_8), null);
+	}
+
+	private static O2GEventDescriptor get(Supplier<Reader> source, String evJson) {
+
+		// retrieve the event name
+		String name = readEventName(source.get());
+		if (name == null) {
+			return null;
+		}
+		
+		EventType eventType = eventTypes.get(name);
+		if (eventType == null) {
+		    return null;
+		}
+		
 		// Now we can deserialize the object
-		O2GEvent ev = gson.fromJson(evJson, typeEvent);
+		O2GEvent ev = gson.fromJson(source.get(), eventType.deserializableType());
 		if (ev == null) {
 			return null;
 		}
 
 		// We have an object try to adapt it if necessary
+		EventTranslator translator = eventType.translator();
 		if (translator != null) {
 			ev = translator.adapter().adapt(ev);
 		}
 
-		// Now search the object interface
-		return new O2GEventDescriptor(ev, eventRegistrar.getInterface(qualifiedEventName), eventRegistrar.getMethodName(qualifiedEventName));
+		return new O2GEventDescriptor(ev, eventType, evJson);
 	}
 }
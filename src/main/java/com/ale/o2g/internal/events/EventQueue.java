@@ -0,0 +1,384 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.events;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ale.o2g.EventOverflowPolicy;
+import com.ale.o2g.events.O2GEvent;
+import com.ale.o2g.events.cca.OnAgentStateChangedEvent;
+import com.ale.o2g.events.ccrt.OnAgentRtiChangedEvent;
+import com.ale.o2g.events.ccrt.OnPGAgentRtiChangedEvent;
+import com.ale.o2g.events.ccrt.OnPGOtherRtiChangedEvent;
+import com.ale.o2g.events.ccrt.OnPilotRtiChangedEvent;
+import com.ale.o2g.events.ccrt.OnQueueRtiChangedEvent;
+import com.ale.o2g.events.eventsummary.OnEventSummaryUpdatedEvent;
+import com.ale.o2g.events.routing.OnRoutingStateChangedEvent;
+import com.ale.o2g.events.telephony.OnDeviceStateModifiedEvent;
+import com.ale.o2g.events.telephony.OnTelephonyStateEvent;
+import com.ale.o2g.events.telephony.OnUserStateModifiedEvent;
+import com.ale.o2g.internal.util.MessageQueue;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * A bounded event queue with an overflow policy.
+ */
+public class EventQueue implements MessageQueue<O2GEventDescriptor> {
+
+    final static Logger logger = LoggerFactory.getLogger(EventQueue.class);
+
+    // State events which give the complete state of their key, a newer one supersedes the pending one
+    private final static Set<Class<? extends O2GEvent>> STATE_EVENTS = Set.of(
+            OnDeviceStateModifiedEvent.class,
+            OnUserStateModifiedEvent.class,
+            OnTelephonyStateEvent.class,
+            OnRoutingStateChangedEvent.class,
+            OnAgentStateChangedEvent.class,
+            OnEventSummaryUpdatedEvent.class);
+
+    // Realtime events which only carry the changed attributes of their object, they are merged
+    private final static Set<Class<? extends O2GEvent>> RTI_EVENTS = Set.of(
+            OnAgentRtiChangedEvent.class,
+            OnPilotRtiChangedEvent.class,
+            OnQueueRtiChangedEvent.class,
+            OnPGAgentRtiChangedEvent.class,
+            OnPGOtherRtiChangedEvent.class);
+
+    private static record StateKey(Class<? extends O2GEvent> eventClass, Object key) {
+    }
+
+    // A queued event, a coalesced event replaces the pending one in its slot and keeps its position
+    private static final class Slot {
+        private O2GEventDescriptor event;
+
+        private Slot(O2GEventDescriptor event) {
+            this.event = event;
+        }
+    }
+
+    private final int capacity;
+    private final EventOverflowPolicy policy;
+    private final boolean coalesceRti;
+
+    private final ArrayDeque<Slot> events;
+    private final Map<StateKey, Slot> pendingStates = new HashMap<StateKey, Slot>();
+    private final Map<Object, Slot> lastSlots = new HashMap<Object, Slot>();
+    private EventSpillFile spillFile = null;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    private int maxSize = 0;
+    private long received = 0;
+    private long blocked = 0;
+    private long dropped = 0;
+    private long coalesced = 0;
+    private long spilled = 0;
+
+    public EventQueue(int capacity, EventOverflowPolicy policy) {
+        this(capacity, policy, false);
+    }
+
+    /**
+     * Create an event queue.
+     * @param capacity    the maximum number of events in memory
+     * @param policy      the overflow policy
+     * @param coalesceRti merge a realtime event into the pending one of the same object
+     */
+    public EventQueue(int capacity, EventOverflowPolicy policy, boolean coalesceRti) {
+        this.capacity = capacity;
+        this.policy = policy;
+        this.coalesceRti = coalesceRti;
+        this.events = new ArrayDeque<Slot>(capacity);
+    }
+
+    private boolean isCoalescing() {
+        return coalesceRti || (policy == EventOverflowPolicy.COALESCE);
+    }
+
+    private StateKey stateKeyOf(O2GEventDescriptor eventDescriptor) {
+        Class<? extends O2GEvent> eventClass = eventDescriptor.event().getClass();
+        if ((policy == EventOverflowPolicy.COALESCE) && STATE_EVENTS.contains(eventClass)) {
+            return new StateKey(eventClass, eventDescriptor.key());
+        }
+        else if (coalesceRti && RTI_EVENTS.contains(eventClass) && (eventDescriptor.key() != null)) {
+            return new StateKey(eventClass, eventDescriptor.key());
+        }
+        else {
+            return null;
+        }
+    }
+
+    /**
+     * Merge the attributes of two realtime events, the newer values override the older ones.
+     */
+    static O2GEventDescriptor merge(O2GEventDescriptor older, O2GEventDescriptor newer) {
+        JsonObject merged = JsonParser.parseString(older.json()).getAsJsonObject();
+        for (Map.Entry<String, JsonElement> entry : JsonParser.parseString(newer.json()).getAsJsonObject().entrySet()) {
+            merged.add(entry.getKey(), entry.getValue());
+        }
+
+        return EventBuilder.get(merged.toString());
+    }
+
+    /**
+     * Return the pending slot that a newer event of the state key can replace, or {@code null}.
+     */
+    private Slot coalescingSlot(StateKey stateKey) {
+        // Only replace the last pending event of the key, a newer event must not overtake the events queued after it
+        Slot slot = pendingStates.get(stateKey);
+        return ((slot != null) && (lastSlots.get(stateKey.key()) == slot)) ? slot : null;
+    }
+
+    private void replace(Slot slot, O2GEventDescriptor eventDescriptor) {
+        slot.event = eventDescriptor;
+        received++;
+        coalesced++;
+    }
+
+    private void dropOldest(Object key) {
+        Slot droppedSlot = null;
+        
+        Iterator<Slot> it = events.iterator();
+        while (it.hasNext()) {
+            Slot slot = it.next();
+            if (Objects.equals(slot.event.key(), key)) {
+                it.remove();
+                droppedSlot = slot;
+                break;
+            }
+        }
+
+        if (droppedSlot == null) {
+            droppedSlot = events.pollFirst();
+        }
+
+        forget(droppedSlot);
+        dropped++;
+    }
+
+    private void forget(Slot slot) {
+        if (isCoalescing()) {
+            StateKey stateKey = stateKeyOf(slot.event);
+            if (stateKey != null) {
+                pendingStates.remove(stateKey, slot);
+            }
+
+            Object key = slot.event.key();
+            if (key != null) {
+                lastSlots.remove(key, slot);
+            }
+        }
+    }
+
+    private void spill(O2GEventDescriptor eventDescriptor) {
+        try {
+            if (spillFile == null) {
+                spillFile = new EventSpillFile();
+            }
+
+            spillFile.write(eventDescriptor.json());
+            spilled++;
+            notEmpty.signal();
+        }
+        catch (IOException e) {
+            logger.error("Unable to write event on disk, the event is lost", e);
+            dropped++;
+        }
+    }
+
+    private boolean hasSpilled() {
+        return (spillFile != null) && !spillFile.isEmpty();
+    }
+
+    @Override
+    public void put(O2GEventDescriptor eventDescriptor) throws InterruptedException {
+
+        StateKey stateKey = isCoalescing() ? stateKeyOf(eventDescriptor) : null;
+        boolean merging = (stateKey != null) && RTI_EVENTS.contains(stateKey.eventClass());
+
+        // The realtime events are merged out of the lock, the merge is only used if the pending event is still the same
+        O2GEventDescriptor pending = null;
+        O2GEventDescriptor merged = null;
+        boolean mergeFailed = false;
+
+        for (;;) {
+            lock.lockInterruptibly();
+            try {
+                // Don't coalesce while events are on the disk, they are older than the event to merge
+                Slot slot = ((stateKey != null) && !hasSpilled() && !mergeFailed) ? coalescingSlot(stateKey) : null;
+                if (slot == null) {
+                    enqueue(eventDescriptor, stateKey);
+                    return;
+                }
+                else if (!merging) {
+                    replace(slot, eventDescriptor);
+                    return;
+                }
+                else if ((merged != null) && (slot.event == pending)) {
+                    replace(slot, merged);
+                    return;
+                }
+
+                pending = slot.event;
+            }
+            finally {
+                lock.unlock();
+            }
+
+            merged = merge(pending, eventDescriptor);
+            mergeFailed = (merged == null);
+        }
+    }
+
+    private void enqueue(O2GEventDescriptor eventDescriptor, StateKey stateKey) throws InterruptedException {
+        received++;
+
+        // Once some events are on the disk, the next ones follow them to keep the order
+        if ((policy == EventOverflowPolicy.SPILL_TO_DISK) && (hasSpilled() || (events.size() >= capacity))) {
+            spill(eventDescriptor);
+            return;
+        }
+
+        if (events.size() >= capacity) {
+            if (policy == EventOverflowPolicy.DROP_OLDEST) {
+                dropOldest(eventDescriptor.key());
+            }
+            else {
+                blocked++;
+                while (events.size() >= capacity) {
+                    notFull.await();
+                }
+            }
+        }
+
+        Slot slot = new Slot(eventDescriptor);
+        events.addLast(slot);
+        if (stateKey != null) {
+            pendingStates.put(stateKey, slot);
+        }
+        if (isCoalescing() && (eventDescriptor.key() != null)) {
+            lastSlots.put(eventDescriptor.key(), slot);
+        }
+        
+        maxSize = Math.max(maxSize, events.size());
+        notEmpty.signal();
+    }
+
+    @Override
+    public O2GEventDescriptor take() throws InterruptedException {
+
+        for (;;) {
+            String json;
+
+            lock.lockInterruptibly();
+            try {
+                while (events.isEmpty() && !hasSpilled()) {
+                    notEmpty.await();
+                }
+
+                Slot slot = events.pollFirst();
+                if (slot != null) {
+                    forget(slot);
+
+                    notFull.signal();
+                    return slot.event;
+                }
+
+                try {
+                    json = spillFile.read();
+                }
+                catch (IOException e) {
+                    logger.error("Unable to read events from disk, {} events are lost", spillFile.size(), e);
+                    dropped += spillFile.size();
+                    clearSpillFile();
+                    continue;
+                }
+            }
+            finally {
+                lock.unlock();
+            }
+
+            // Decode the event out of the lock, the reader thread can go on
+            O2GEventDescriptor eventDescriptor = EventBuilder.get(json);
+            if (eventDescriptor != null) {
+                return eventDescriptor;
+            }
+        }
+    }
+
+    private void clearSpillFile() {
+        try {
+            spillFile.clear();
+        }
+        catch (IOException e) {
+            spillFile.close();
+            spillFile = null;
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return events.size();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    public EventQueueStatisticsImpl getStatistics() {
+        lock.lock();
+        try {
+            return new EventQueueStatisticsImpl(policy, capacity, events.size(), maxSize, received, blocked, dropped,
+                    coalesced, spilled, (spillFile == null) ? 0 : spillFile.size());
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    public void close() {
+        lock.lock();
+        try {
+            if (spillFile != null) {
+                spillFile.close();
+                spillFile = null;
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+}
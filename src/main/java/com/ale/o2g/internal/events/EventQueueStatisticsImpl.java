@@ -0,0 +1,119 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.events;
+
+import com.ale.o2g.EventOverflowPolicy;
+import com.ale.o2g.EventQueueStatistics;
+
+/**
+ *
+ */
+public class EventQueueStatisticsImpl implements EventQueueStatistics {
+
+    private EventOverflowPolicy policy;
+    private int capacity;
+    private int size;
+    private int maxSize;
+    private long received;
+    private long blocked;
+    private long dropped;
+    private long coalesced;
+    private long spilled;
+    private long spillSize;
+
+    public EventQueueStatisticsImpl(EventOverflowPolicy policy, int capacity, int size, int maxSize, long received,
+            long blocked, long dropped, long coalesced, long spilled, long spillSize) {
+        this.policy = policy;
+        this.capacity = capacity;
+        this.size = size;
+        this.maxSize = maxSize;
+        this.received = received;
+        this.blocked = blocked;
+        this.dropped = dropped;
+        this.coalesced = coalesced;
+        this.spilled = spilled;
+        this.spillSize = spillSize;
+    }
+
+    /**
+     * Add the counters of another queue to this one.
+     */
+    public EventQueueStatisticsImpl add(EventQueueStatisticsImpl other) {
+        return new EventQueueStatisticsImpl(policy, capacity + other.capacity, size + other.size,
+                maxSize + other.maxSize, received + other.received, blocked + other.blocked,
+                dropped + other.dropped, coalesced + other.coalesced, spilled + other.spilled,
+                spillSize + other.spillSize);
+    }
+
+    @Override
+    public EventOverflowPolicy getPolicy() {
+        return policy;
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public long getReceived() {
+        return received;
+    }
+
+    @Override
+    public long getBlocked() {
+        return blocked;
+    }
+
+    @Override
+    public long getDropped() {
+        return dropped;
+    }
+
+    @Override
+    public long getCoalesced() {
+        return coalesced;
+    }
+
+    @Override
+    public long getSpilled() {
+        return spilled;
+    }
+
+    @Override
+    public long getSpillSize() {
+        return spillSize;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("EventQueueStatistics[policy=%s, capacity=%d, size=%d, maxSize=%d, received=%d, blocked=%d, dropped=%d, coalesced=%d, spilled=%d, spillSize=%d]",
+                policy, capacity, size, maxSize, received, blocked, dropped, coalesced, spilled, spillSize);
+    }
+}
@@ -18,33 +18,146 @@
 */
 package com.ale.o2g.internal.events;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.util.EventListener;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import com.ale.o2g.events.O2GEvent;
 
 /**
- * 
- *
+ * Collect the event listener interfaces and the event adapters, and build the
+ * table used to decode the events. The table is indexed by the event name as
+ * it is received from O2G (the event class simple name without the "Event"
+ * suffix).
  */
 public class EventRegistrar {
 
+	private final static String EVENT_SUFFIX = "Event";
+
 	@FunctionalInterface
 	public interface EventAdapter {
 		O2GEvent adapt(O2GEvent e);
 	}
 
+	/**
+	 * A direct call of a listener interface method. Invokers are generated once
+	 * per event at registration, so the dispatch does not use reflection.
+	 */
+	@FunctionalInterface
+	public interface EventInvoker {
+		void invoke(EventListener listener, O2GEvent e);
+	}
+
 	static record EventTranslator(Class<? extends O2GEvent> deserializableType, EventAdapter adapter) {
 	}
 
-	private Map<String, Class<? extends EventListener>> eventInterfaces = new HashMap<String, Class<? extends EventListener>>();
-	private Map<String, String> eventClasses = new HashMap<String, String>();
-	private Map<String, String> eventMethods = new HashMap<String, String>();
-	private Map<String, EventTranslator> adapters = new HashMap<String, EventTranslator>();
+	/**
+	 * All what is needed to decode and dispatch an event: the type to deserialize,
+	 * the listener interface and the handler invoker, the extractor of the
+	 * event key and an optional translator.
+	 */
+	static record EventType(Class<? extends O2GEvent> eventClass, Class<? extends EventListener> listener, String methodName, EventInvoker invoker, 
+			Function<O2GEvent, Object> keyExtractor, EventTranslator translator) {
+
+		Class<? extends O2GEvent> deserializableType() {
+			return (translator == null) ? eventClass : translator.deserializableType();
+		}
+	}
+
+	/*
+	 * The getters used to extract the key of an event, by order of preference: the
+	 * user, the call center object number, the pilot, the RSI point, the OXE node.
+	 */
+	private final static List<String> KEY_GETTERS = List.of("getLoginName", "getNumber", "getPilot", "getRsiPoint", "getNodeId");
+
+	private final static MethodType INVOKER_FACTORY_TYPE = MethodType.methodType(EventInvoker.class);
+	private final static MethodType INVOKER_TYPE = MethodType.methodType(void.class, EventListener.class, O2GEvent.class);
+	private final static MethodType KEY_FACTORY_TYPE = MethodType.methodType(Function.class);
+	private final static MethodType KEY_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private Map<String, EventType> eventTypes = new HashMap<String, EventType>();
+
+	private static String wireName(Class<?> eventType) {
+		String name = eventType.getSimpleName();
+		if (name.endsWith(EVENT_SUFFIX)) {
+			return name.substring(0, name.length() - EVENT_SUFFIX.length());
+		}
+		else {
+			return name;
+		}
+	}
+
+	private static EventInvoker createInvoker(Class<? extends EventListener> interfaceType, Method method, Class<?> eventType) {
+		
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			MethodHandle handler = lookup.unreflect(method);
+			
+			CallSite callSite = LambdaMetafactory.metafactory(lookup, "invoke", INVOKER_FACTORY_TYPE, INVOKER_TYPE, 
+					handler, MethodType.methodType(void.class, interfaceType, eventType));
+			
+			return (EventInvoker) callSite.getTarget().invokeExact();
+		}
+		catch (Throwable e) {
+			throw new Error(String.format("Unable to create an invoker for method %s in %s", method.getName(), interfaceType), e);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Function<O2GEvent, Object> createKeyExtractor(Class<?> eventType) {
+		
+		for (String getterName : KEY_GETTERS) {
+			Method getter;
+			try {
+				getter = eventType.getMethod(getterName);
+			}
+			catch (NoSuchMethodException e) {
+				continue;
+			}
+			
+			try {
+				MethodHandles.Lookup lookup = MethodHandles.lookup();
+				
+				// Resolve the getter on the event type, it can be declared in a non public super class
+				MethodHandle handle = lookup.findVirtual(eventType, getterName, MethodType.methodType(getter.getReturnType()));
+				
+				if (!Modifier.isPublic(getter.getDeclaringClass().getModifiers())) {
+					// Such a handle is not direct and can't be spun into a lambda
+					MethodHandle keyHandle = handle.asType(KEY_TYPE);
+					return e -> {
+						try {
+							return keyHandle.invokeExact((Object) e);
+						}
+						catch (Throwable t) {
+							throw new IllegalStateException(t);
+						}
+					};
+				}
+				
+				CallSite callSite = LambdaMetafactory.metafactory(lookup, "apply", KEY_FACTORY_TYPE, KEY_TYPE, 
+						handle, MethodType.methodType(getter.getReturnType(), eventType).wrap());
+				
+				return (Function<O2GEvent, Object>) callSite.getTarget().invokeExact();
+			}
+			catch (Throwable e) {
+				throw new Error(String.format("Unable to create a key extractor for %s", eventType), e);
+			}
+		}
+		
+		return null;
+	}
 
+	@SuppressWarnings("unchecked")
 	public void registerEventListener(Class<? extends EventListener> interfaceType) {
 
 		if (!interfaceType.isInterface()) {
@@ -55,13 +168,11 @@ public class EventRegistrar {
 
 			// Search the parameter
 			Parameter[] parameters = method.getParameters();
-			if (parameters.length == 1) {
+			if ((parameters.length == 1) && O2GEvent.class.isAssignableFrom(parameters[0].getType())) {
 
-				Class<?> eventType = parameters[0].getType();
-				
-				eventClasses.put(eventType.getSimpleName(), eventType.getName());
-				eventInterfaces.put(eventType.getName(), interfaceType);
-				eventMethods.put(eventType.getName(), method.getName());
+				Class<? extends O2GEvent> eventType = (Class<? extends O2GEvent>) parameters[0].getType();
+				eventTypes.put(wireName(eventType), new EventType(eventType, interfaceType, method.getName(), 
+						createInvoker(interfaceType, method, eventType), createKeyExtractor(eventType), null));
 			}
 			else {
 				// Warning !!
@@ -74,46 +185,21 @@ public class EventRegistrar {
 	
 	public void registerAdapter(String eventName, EventAdapter adapter, Class<? extends O2GEvent> deserializeType) {
 		
-		String qualifiedName = getQualifiedName(eventName);
-		if (qualifiedName == null) {
+		EventType eventType = eventTypes.get(eventName);
+		if (eventType == null) {
 			// Warning !!
 			throw new Error(String.format("The specified event %s is not registered as an event", eventName));
 		}
 		
-		adapters.put(qualifiedName, new EventTranslator(deserializeType, adapter));
+		eventTypes.put(eventName, new EventType(eventType.eventClass(), eventType.listener(), eventType.methodName(), eventType.invoker(), eventType.keyExtractor(), 
+				new EventTranslator(deserializeType, adapter)));
 	}
 
-	public Class<? extends EventListener> getInterface(String eventName) {
-
-		if (eventInterfaces.containsKey(eventName)) {
-			return eventInterfaces.get(eventName);
-		}
-
-		return null;
-	}
-	
-	public EventTranslator getAdapter(String eventName) {
-
-		if (adapters.containsKey(eventName)) {
-			return adapters.get(eventName);
-		}
-
-		return null;
-	}
-
-	public String getQualifiedName(String eventName) {
-		if (eventClasses.containsKey(eventName)) {
-			return eventClasses.get(eventName);
-		}
-
-		return null;
-	}
-
-	public String getMethodName(String eventName) {
-		if (eventMethods.containsKey(eventName)) {
-			return eventMethods.get(eventName);
-		}
-
-		return null;
+	/**
+	 * Build the immutable table of the registered events.
+	 * @return the event types indexed by the O2G event name
+	 */
+	public Map<String, EventType> build() {
+		return Map.copyOf(eventTypes);
 	}
 }
@@ -0,0 +1,95 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.events;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A temporary file used as a FIFO of json events. Each event is written as
+ * its length followed by its UTF-8 bytes. The file is truncated each time it
+ * has been fully read. This class is not thread safe.
+ */
+class EventSpillFile {
+
+    private final Path path;
+    private final RandomAccessFile file;
+    private long readPosition = 0;
+    private long writePosition = 0;
+    private long count = 0;
+
+    EventSpillFile() throws IOException {
+        path = Files.createTempFile("o2g-events-", ".spill");
+        path.toFile().deleteOnExit();
+        file = new RandomAccessFile(path.toFile(), "rw");
+    }
+
+    long size() {
+        return count;
+    }
+
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    void write(String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+        file.seek(writePosition);
+        file.writeInt(bytes.length);
+        file.write(bytes);
+
+        writePosition = file.getFilePointer();
+        count++;
+    }
+
+    String read() throws IOException {
+        file.seek(readPosition);
+        byte[] bytes = new byte[file.readInt()];
+        file.readFully(bytes);
+
+        readPosition = file.getFilePointer();
+        count--;
+
+        if (count == 0) {
+            clear();
+        }
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    void clear() throws IOException {
+        readPosition = 0;
+        writePosition = 0;
+        count = 0;
+        file.setLength(0);
+    }
+
+    void close() {
+        try {
+            file.close();
+            Files.deleteIfExists(path);
+        }
+        catch (IOException ignored) {
+        }
+    }
+}
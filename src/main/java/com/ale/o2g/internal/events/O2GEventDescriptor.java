@@ -21,11 +21,34 @@ package com.ale.o2g.internal.events;
 import java.util.EventListener;
 
 import com.ale.o2g.events.O2GEvent;
+import com.ale.o2g.internal.events.EventRegistrar.EventInvoker;
+import com.ale.o2g.internal.events.EventRegistrar.EventType;
 
 /**
- * 
- *
+ * A decoded event with its type information, and the json it has been decoded
+ * from when the queue needs it to spill or merge the event, {@code null}
+ * otherwise.
  */
-public record O2GEventDescriptor(O2GEvent event, Class<? extends EventListener> listener, String methodName) {
+public record O2GEventDescriptor(O2GEvent event, EventType type, String json) {
 
+    public Class<? extends EventListener> listener() {
+        return type.listener();
+    }
+
+    public String methodName() {
+        return type.methodName();
+    }
+
+    public EventInvoker invoker() {
+        return type.invoker();
+    }
+
+    /**
+     * Return the key of this event: the user login name, the call center object
+     * number, the pilot, the RSI point or the node, depending on the event type.
+     * @return the key or {@code null} if the event has no key
+     */
+    public Object key() {
+        return (type.keyExtractor() == null) ? null : type.keyExtractor().apply(event);
+    }
 }
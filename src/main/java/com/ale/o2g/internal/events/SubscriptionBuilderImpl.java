@@ -18,20 +18,28 @@
 */
 package com.ale.o2g.internal.events;
 
+import java.util.EventListener;
+import java.util.function.Function;
+
+import com.ale.o2g.EventOverflowPolicy;
+import com.ale.o2g.EventWaitStrategy;
 import com.ale.o2g.Subscription;
 import com.ale.o2g.Subscription.Builder;
 import com.ale.o2g.Subscription.Filter;
 import com.ale.o2g.events.EventPackage;
+import com.ale.o2g.events.O2GEvent;
 import com.ale.o2g.events.cca.CallCenterAgentEventListener;
 import com.ale.o2g.events.ccp.CallCenterPilotEventListener;
 import com.ale.o2g.events.ccrt.CallCenterRealtimeEventListener;
 import com.ale.o2g.events.comlog.CommunicationLogEventListener;
+import com.ale.o2g.events.common.ChannelInformationEventListener;
 import com.ale.o2g.events.eventsummary.EventSummaryEventListener;
 import com.ale.o2g.events.maintenance.MaintenanceEventListener;
 import com.ale.o2g.events.management.ManagementEventListener;
 import com.ale.o2g.events.routing.RoutingEventListener;
 import com.ale.o2g.events.telephony.TelephonyEventListener;
 import com.ale.o2g.events.users.UsersEventListener;
+import com.ale.o2g.internal.util.AssertUtil;
 import com.ale.o2g.internal.util.EventListenersMap;
 
 /**
@@ -41,17 +49,26 @@ import com.ale.o2g.internal.util.EventListenersMap;
 public class SubscriptionBuilderImpl implements Subscription.Builder {
 
     private final static String[] ALL = { "*" };
+    private final static int MAX_DISPATCH_WORKERS = 1024;
+    private final static int MAX_QUEUE_CAPACITY = 1000000;
     
 	private EventListenersMap listeners = new EventListenersMap();
 	private Filter filter = new Filter();
 	private String version = "1.0";
 	private int timeout = 10;
+	private int dispatchWorkers = 1;
+	private Function<O2GEvent, ?> dispatchKey = null;
+	private int queueCapacity = 1000;
+	private EventOverflowPolicy overflowPolicy = EventOverflowPolicy.BLOCK;
+	private EventWaitStrategy waitStrategy = null;
+	private boolean rtiCoalescing = false;
 
 	@Override
 	public Builder addUsersEventListener(UsersEventListener listener) {
 		filter.addPackages(EventPackage.USERS);
         filter.addPackages(EventPackage.USER);
 		listeners.add(UsersEventListener.class, listener);
+		addChannelInformationListener(listener);
 		return this;
 	}
 	
@@ -120,6 +137,7 @@ public class SubscriptionBuilderImpl implements Subscription.Builder {
             filter.addPackages(ids, EventPackage.TELEPHONY);
         }
 		listeners.add(TelephonyEventListener.class, listener);
+		addChannelInformationListener(listener);
 		return this;
 	}
 
@@ -133,9 +151,17 @@ public class SubscriptionBuilderImpl implements Subscription.Builder {
             filter.addPackages(ids, EventPackage.ROUTING);
 	    }
 		listeners.add(RoutingEventListener.class, listener);
+		addChannelInformationListener(listener);
 		return this;
 	}
 
+	private void addChannelInformationListener(EventListener listener) {
+		if (listener instanceof ChannelInformationEventListener) {
+			// The listener wants to know when the event channel is (re)established
+			listeners.add(ChannelInformationEventListener.class, listener);
+		}
+	}
+
     @Override
     public Builder addCommunicationLogEventListener(CommunicationLogEventListener listener, String[] ids) {
         
@@ -153,6 +179,7 @@ public class SubscriptionBuilderImpl implements Subscription.Builder {
     public Builder addManagementEventListener(ManagementEventListener listener) {
         filter.addPackages(EventPackage.MANAGEMENT);
         listeners.add(ManagementEventListener.class, listener);
+        addChannelInformationListener(listener);
         return this;
     }
 
@@ -209,6 +236,12 @@ public class SubscriptionBuilderImpl implements Subscription.Builder {
 		subscription.setListeners(listeners);
 		subscription.setVersion(version);
 		subscription.setTimeout(timeout);
+		subscription.setDispatchWorkers(dispatchWorkers);
+		subscription.setDispatchKey(dispatchKey);
+		subscription.setQueueCapacity(queueCapacity);
+		subscription.setOverflowPolicy(overflowPolicy);
+		subscription.setWaitStrategy(waitStrategy);
+		subscription.setRtiCoalescing(rtiCoalescing);
 
 		return subscription;
 	}
@@ -262,4 +295,38 @@ public class SubscriptionBuilderImpl implements Subscription.Builder {
     public Builder addCallCenterStatisticsEventListener() {
         return this.addCallCenterStatisticsEventListener(ALL);
     }
+
+    @Override
+    public Builder setParallelDispatch(int workers) {
+        return this.setParallelDispatch(workers, null);
+    }
+
+    @Override
+    public Builder setParallelDispatch(int workers, Function<O2GEvent, ?> keyExtractor) {
+        this.dispatchWorkers = AssertUtil.requireRange(workers, 1, MAX_DISPATCH_WORKERS, "workers");
+        this.dispatchKey = keyExtractor;
+        return this;
+    }
+
+    @Override
+    public Builder setEventQueue(int capacity, EventOverflowPolicy policy) {
+        this.queueCapacity = AssertUtil.requireRange(capacity, 1, MAX_QUEUE_CAPACITY, "capacity");
+        this.overflowPolicy = AssertUtil.requireNotNull(policy, "policy");
+        this.waitStrategy = null;
+        return this;
+    }
+
+    @Override
+    public Builder setEventRingBuffer(int capacity, EventWaitStrategy waitStrategy) {
+        this.queueCapacity = AssertUtil.requireRange(capacity, 1, MAX_QUEUE_CAPACITY, "capacity");
+        this.overflowPolicy = EventOverflowPolicy.BLOCK;
+        this.waitStrategy = AssertUtil.requireNotNull(waitStrategy, "waitStrategy");
+        return this;
+    }
+
+    @Override
+    public Builder setRealtimeEventsCoalescing(boolean enable) {
+        this.rtiCoalescing = enable;
+        return this;
+    }
 }
@@ -18,7 +18,12 @@
 */
 package com.ale.o2g.internal.events;
 
+import java.util.function.Function;
+
+import com.ale.o2g.EventOverflowPolicy;
+import com.ale.o2g.EventWaitStrategy;
 import com.ale.o2g.Subscription;
+import com.ale.o2g.events.O2GEvent;
 import com.ale.o2g.internal.util.EventListenersMap;
 import com.ale.o2g.internal.util.JsonIgnore;
 
@@ -36,6 +41,24 @@ public class SubscriptionImpl extends Subscription {
 	@JsonIgnore
 	private EventListenersMap listeners;
 
+	@JsonIgnore
+	private int dispatchWorkers = 1;
+
+	@JsonIgnore
+	private Function<O2GEvent, ?> dispatchKey;
+
+	@JsonIgnore
+	private int queueCapacity = 1000;
+
+	@JsonIgnore
+	private EventOverflowPolicy overflowPolicy = EventOverflowPolicy.BLOCK;
+
+	@JsonIgnore
+	private EventWaitStrategy waitStrategy = null;
+
+	@JsonIgnore
+	private boolean rtiCoalescing = false;
+
 	@Override
 	public String getVersion() {
 		return version;
@@ -70,4 +93,52 @@ public class SubscriptionImpl extends Subscription {
 	public void setListeners(EventListenersMap listeners) {
 		this.listeners = listeners;
 	}
+
+	public int getDispatchWorkers() {
+		return dispatchWorkers;
+	}
+
+	public void setDispatchWorkers(int dispatchWorkers) {
+		this.dispatchWorkers = dispatchWorkers;
+	}
+
+	public Function<O2GEvent, ?> getDispatchKey() {
+		return dispatchKey;
+	}
+
+	public void setDispatchKey(Function<O2GEvent, ?> dispatchKey) {
+		this.dispatchKey = dispatchKey;
+	}
+
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	public void setQueueCapacity(int queueCapacity) {
+		this.queueCapacity = queueCapacity;
+	}
+
+	public EventOverflowPolicy getOverflowPolicy() {
+		return overflowPolicy;
+	}
+
+	public void setOverflowPolicy(EventOverflowPolicy overflowPolicy) {
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	public EventWaitStrategy getWaitStrategy() {
+		return waitStrategy;
+	}
+
+	public void setWaitStrategy(EventWaitStrategy waitStrategy) {
+		this.waitStrategy = waitStrategy;
+	}
+
+	public boolean isRtiCoalescing() {
+		return rtiCoalescing;
+	}
+
+	public void setRtiCoalescing(boolean rtiCoalescing) {
+		this.rtiCoalescing = rtiCoalescing;
+	}
 }
@@ -33,6 +33,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -40,12 +41,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.ale.o2g.O2GRuntimeException;
-import com.ale.o2g.internal.util.AnnotationExclusionStrategy;
 import com.ale.o2g.internal.util.FileDownloader;
 import com.ale.o2g.internal.util.HttpClientWrapper;
+import com.ale.o2g.internal.util.JsonUtil;
 import com.ale.o2g.types.RestErrorInfo;
+import com.ale.o2g.types.RestResult;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
 
 /**
@@ -67,9 +68,9 @@ public abstract class AbstractRESTService {
     protected HttpClientWrapper httpClient;
     protected FileDownloader fileDownloader;
     
-    protected Gson gson = new GsonBuilder().setExclusionStrategies(new AnnotationExclusionStrategy()).create();
+    protected Gson gson = JsonUtil.GSON;
 
-    protected static Optional<RestErrorInfo> lastError = Optional.empty();
+    private static final ThreadLocal<Optional<RestErrorInfo>> lastError = ThreadLocal.withInitial(Optional::empty);
 
     public AbstractRESTService(HttpClientWrapper httpClient, URI uri) {
         this.uri = uri;
@@ -87,17 +88,12 @@ public abstract class AbstractRESTService {
             HttpResponse<String> httpResponse = response.get();
 
             if (isSucceeded(httpResponse.statusCode())) {
-                lastError = Optional.empty();
+                lastError.set(Optional.empty());
                 return Optional.of(gson.fromJson(httpResponse.body(), objClass));
             }
             else {
 
-                try {
-                    lastError = Optional.of(gson.fromJson(httpResponse.body(), RestErrorInfo.class));
-                }
-                catch (JsonSyntaxException e) {
-                    lastError = Optional.empty();
-                }
+                lastError.set(toError(httpResponse.body()));
                 return Optional.empty();
             }
         }
@@ -114,17 +110,12 @@ public abstract class AbstractRESTService {
             httpResponse = response.get();
 
             if (isSucceeded(httpResponse.statusCode())) {
-                lastError = Optional.empty();
+                lastError.set(Optional.empty());
                 return httpResponse.body();
             }
             else {
 
-                try {
-                    lastError = Optional.of(gson.fromJson(httpResponse.body(), RestErrorInfo.class));
-                }
-                catch (JsonSyntaxException e) {
-                    lastError = Optional.empty();
-                }
+                lastError.set(toError(httpResponse.body()));
                 return null;
             }
         }
@@ -141,18 +132,12 @@ public abstract class AbstractRESTService {
             httpResponse = response.get();
 
             if (isSucceeded(httpResponse.statusCode())) {
-                lastError = Optional.empty();
+                lastError.set(Optional.empty());
                 return httpResponse.body();
             }
             else {
 
-                try {
-                    String error = new String(httpResponse.body(), StandardCharsets.UTF_8);
-                    lastError = Optional.of(gson.fromJson(error, RestErrorInfo.class));
-                }
-                catch (JsonSyntaxException e) {
-                    lastError = Optional.empty();
-                }
+                lastError.set(toError(new String(httpResponse.body(), StandardCharsets.UTF_8)));
                 return null;
             }
         }
@@ -162,60 +147,101 @@ public abstract class AbstractRESTService {
     }
 
     protected <T> T getResult(CompletableFuture<HttpResponse<String>> response, Class<T> objClass) {
+        return valueOf(toResult(get(response), objClass));
+    }
 
-        HttpResponse<String> httpResponse;
-        try {
-            httpResponse = response.get();
+    /**
+     * Return the result of a request sent with a {@link JsonBodyHandler}. The
+     * body is read and bound by the calling thread.
+     */
+    protected <T> T getStreamedResult(CompletableFuture<HttpResponse<Supplier<RestResult<T>>>> response) {
+        return valueOf(get(response).body().get());
+    }
 
-            String body = httpResponse.body();
-            
-            if (isSucceeded(httpResponse.statusCode())) {
-                lastError = Optional.empty();                
-                if (logger.isDebugEnabled()) {
-                	logger.debug("Request succeeded: {} - Result body : {}", httpResponse.statusCode(), body);
-                }
-                
-                return gson.fromJson(body, objClass);
-            }
-            else {
-                if (logger.isDebugEnabled()) {
-                	logger.debug("Request failed: {} - Result body : {}", httpResponse.statusCode(), body);
-                }
+    protected <T> CompletableFuture<RestResult<T>> getResultAsync(CompletableFuture<HttpResponse<String>> response, Class<T> objClass) {
+        return response.thenApply(httpResponse -> toResult(httpResponse, objClass));
+    }
 
-                try {
-                    lastError = Optional.of(gson.fromJson(body, RestErrorInfo.class));
-                }
-                catch (JsonSyntaxException e) {
-                    lastError = Optional.empty();
-                }
-                return null;
+    private <T> RestResult<T> toResult(HttpResponse<String> httpResponse, Class<T> objClass) {
+
+        String body = httpResponse.body();
+        
+        if (isSucceeded(httpResponse.statusCode())) {
+            if (logger.isDebugEnabled()) {
+            	logger.debug("Request succeeded: {} - Result body : {}", httpResponse.statusCode(), body);
             }
+            
+            return RestResult.succeeded(gson.fromJson(body, objClass));
         }
-        catch (InterruptedException | ExecutionException e) {
-            throw new O2GRuntimeException(e);
+        else {
+            if (logger.isDebugEnabled()) {
+            	logger.debug("Request failed: {} - Result body : {}", httpResponse.statusCode(), body);
+            }
+
+            return RestResult.failed(null, toError(body).orElse(null));
         }
     }
 
     protected boolean isSucceeded(CompletableFuture<HttpResponse<String>> response) {
+        return valueOf(toSucceeded(get(response)));
+    }
+
+    protected CompletableFuture<RestResult<Boolean>> isSucceededAsync(CompletableFuture<HttpResponse<String>> response) {
+        return response.thenApply(this::toSucceeded);
+    }
+
+    private RestResult<Boolean> toSucceeded(HttpResponse<String> httpResponse) {
+        if (isSucceeded(httpResponse.statusCode())) {
+            return RestResult.succeeded(true);
+        }
+        else {
+            return RestResult.failed(false, toError(httpResponse.body()).orElse(null));
+        }
+    }
+
+    private Optional<RestErrorInfo> toError(String body) {
         try {
-            HttpResponse<String> httpResponse = response.get();
+            return Optional.ofNullable(gson.fromJson(body, RestErrorInfo.class));
+        }
+        catch (JsonSyntaxException e) {
+            return Optional.empty();
+        }
+    }
 
-            if (isSucceeded(httpResponse.statusCode())) {
-                lastError = Optional.empty();
-                return true;
-            }
-            else {
+    private static <T> T get(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        }
+        catch (InterruptedException | ExecutionException e) {
+            throw new O2GRuntimeException(e);
+        }
+    }
 
-                try {
-                    lastError = Optional.of(gson.fromJson(httpResponse.body(), RestErrorInfo.class));
-                }
-                catch (JsonSyntaxException e) {
-                    lastError = Optional.empty();
-                }
-                return false;
+    /**
+     * Record the error of a result as the last error of the calling thread and
+     * return its value.
+     */
+    private static <T> T valueOf(RestResult<T> result) {
+        lastError.set(result.getError());
+        return result.getValue();
+    }
+
+    /**
+     * Wait for the result of an asynchronous request. The error is recorded as
+     * the last error of the calling thread. The runtime exceptions thrown while
+     * processing the response are thrown as is.
+     */
+    protected static <T> T join(CompletableFuture<RestResult<T>> future) {
+        try {
+            return valueOf(future.get());
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
+            throw new O2GRuntimeException(e);
         }
-        catch (Exception e) {
+        catch (InterruptedException e) {
             throw new O2GRuntimeException(e);
         }
     }
@@ -225,17 +251,12 @@ public abstract class AbstractRESTService {
             HttpResponse<String> httpResponse = response.get();
 
             if (isSucceeded(httpResponse.statusCode())) {
-                lastError = Optional.empty();
+                lastError.set(Optional.empty());
                 return httpResponse;
             }
             else {
 
-                try {
-                    lastError = Optional.of(gson.fromJson(httpResponse.body(), RestErrorInfo.class));
-                }
-                catch (JsonSyntaxException e) {
-                    lastError = Optional.empty();
-                }
+                lastError.set(toError(httpResponse.body()));
                 return httpResponse;
             }
         }
@@ -244,8 +265,13 @@ public abstract class AbstractRESTService {
         }
     }
 
+    /**
+     * Returns the error of the last request sent by the calling thread. Use the
+     * {@link RestResult} of the asynchronous services to get the error of a
+     * given request.
+     */
     public final Optional<RestErrorInfo> getLastError() {
-        return lastError;
+        return lastError.get();
     }
 
     protected Path downloadedFile(String wavPath, CompletableFuture<HttpResponse<Path>> response) {
@@ -253,7 +279,7 @@ public abstract class AbstractRESTService {
             HttpResponse<Path> httpResponse = response.get();
 
             if (isSucceeded(httpResponse.statusCode())) {
-                lastError = Optional.empty();
+                lastError.set(Optional.empty());
 
                 // Get the downloaded file location
                 Path fileDownloaded = httpResponse.body();
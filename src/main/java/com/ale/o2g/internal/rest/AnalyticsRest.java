@@ -215,9 +215,7 @@ public class AnalyticsRest extends AbstractRESTService implements AnalyticsServi
         }
         
         HttpRequest request = HttpUtil.GET(uriGet);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        
-        O2GChargingResult chargingResult = getResult(response, O2GChargingResult.class);
+        O2GChargingResult chargingResult = getStreamedResult(httpClient.sendAsync(request, new JsonBodyHandler<>(gson, O2GChargingResult.class)));
         if (chargingResult == null) {
             return null;
         }
@@ -254,9 +252,7 @@ public class AnalyticsRest extends AbstractRESTService implements AnalyticsServi
         }
         
         HttpRequest request = HttpUtil.GET(uriGet);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        
-        O2GChargingResult chargingResult = getResult(response, O2GChargingResult.class);
+        O2GChargingResult chargingResult = getStreamedResult(httpClient.sendAsync(request, new JsonBodyHandler<>(gson, O2GChargingResult.class)));
         if (chargingResult == null) {
             return null;
         }
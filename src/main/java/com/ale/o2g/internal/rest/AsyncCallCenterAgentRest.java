@@ -0,0 +1,479 @@
+/*
+* Copyright 2021 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.rest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ale.o2g.AsyncCallCenterAgentService;
+import com.ale.o2g.internal.types.cca.O2GAgentConfig;
+import com.ale.o2g.internal.util.AssertUtil;
+import com.ale.o2g.internal.util.HttpClientWrapper;
+import com.ale.o2g.internal.util.HttpUtil;
+import com.ale.o2g.internal.util.URIBuilder;
+import com.ale.o2g.types.RestErrorInfo;
+import com.ale.o2g.types.RestResult;
+import com.ale.o2g.types.cca.IntrusionMode;
+import com.ale.o2g.types.cca.OperatorConfiguration;
+import com.ale.o2g.types.cca.OperatorState;
+import com.ale.o2g.types.cca.WithdrawReason;
+
+/**
+ * 
+ *
+ */
+public class AsyncCallCenterAgentRest extends AbstractRESTService implements AsyncCallCenterAgentService {
+
+    final static Logger logger = LoggerFactory.getLogger(AsyncCallCenterAgentRest.class);
+    
+    private static record LogOnAgentRequest(String proAcdDeviceNumber, String pgGroupNumber, boolean headset) {
+    }
+
+    private static record PgRequest(String pgGroupNumber) {
+    }
+
+    private static record WithdrawAgentRequest(int reasonIndex) {
+    }
+
+    private static record PermanentListeningRequest(String agentNumber) {
+    }
+
+    private static record IntrusionRequest(String agentNumber, IntrusionMode mode) {
+    }
+
+    private static record ChangeIntrusionModeRequest(IntrusionMode mode) {
+    }
+
+    private static record AgentSkillActivation(List<Integer> skills) {
+    }
+
+    static class WithdrawReasons {
+        private List<WithdrawReason> reasons;
+
+        public final List<WithdrawReason> getReasons() {
+            return reasons;
+        }
+    }
+
+    /**
+     * @param httpClient
+     * @param uri
+     */
+    public AsyncCallCenterAgentRest(HttpClientWrapper httpClient, URI uri) {
+        super(httpClient, uri);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<OperatorConfiguration>> getOperatorConfiguration(String loginName) {
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("getOperatorConfiguration() called with: loginName={}", loginName);
+        }
+
+        URI uriGet = URIBuilder.appendPath(uri, "config");
+        if (loginName != null) {
+            uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
+        }
+
+        HttpRequest request = HttpUtil.GET(uriGet);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+
+        return getResultAsync(response, O2GAgentConfig.class).thenApply(result -> result.map(agentConfig -> {
+            if (agentConfig == null) {
+                return null;
+            }
+            else {
+                return agentConfig.toOperatorConfiguration();
+            }
+        }));
+    }
+
+    @Override
+    public CompletableFuture<RestResult<OperatorState>> getOperatorState(String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("getOperatorState() called with: loginName={}", loginName);
+        }
+
+        URI uriGet = URIBuilder.appendPath(uri, "state");
+        if (loginName != null) {
+            uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
+        }
+
+        HttpRequest request = HttpUtil.GET(uriGet);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+
+        return getResultAsync(response, OperatorState.class);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> logonOperator(String proAcdNumber, String pgNumber, boolean headset, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("logonOperator() called with: proAcdNumber={}, pgNumber={}, headset={}, loginName={}", 
+                    proAcdNumber, pgNumber, headset, loginName);
+        }
+
+        URI uriPost = URIBuilder.appendPath(uri, "logon");
+        if (loginName != null) {
+            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
+        }
+
+        String json = gson.toJson(
+                new LogOnAgentRequest(AssertUtil.requireNotEmpty(proAcdNumber, "proAcdNumber"), pgNumber, headset));
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> logoffOperator(String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("logoffOperator() called with: loginName={}", loginName);
+        }
+        
+        URI uriPost = URIBuilder.appendPath(uri, "logoff");
+        if (loginName != null) {
+            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> enterAgentGroup(String pgNumber, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("enterAgentGroup() called with: pgNumber={}, loginName={}", pgNumber, loginName);
+        }
+        
+        URI uriPost = URIBuilder.appendPath(uri, "enterPG");
+        if (loginName != null) {
+            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
+        }
+
+        String json = gson.toJson(new PgRequest(AssertUtil.requireNotEmpty(pgNumber, "pgNumber")));
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+        
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> exitAgentGroup(String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("exitAgentGroup() called with: loginName={}", loginName);
+        }
+        
+        // First get the operator state to get the processing group
+        return this.getOperatorState(loginName).thenCompose(result -> {
+            OperatorState operatorState = result.getValue();
+            if (!result.isSucceeded()) {
+                return CompletableFuture.completedFuture(RestResult.failed(false, result.getError().orElse(null)));
+            }
+            else if (operatorState.getPgNumber() == null) {
+                // The supervisor is NOT in a group return an error
+                return CompletableFuture.completedFuture(RestResult.failed(false, new RestErrorInfo("Requester is not in a group", false) {
+                }));
+            }
+            else {
+                URI uriPost = URIBuilder.appendPath(uri, "exitPG");
+                if (loginName != null) {
+                    uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
+                }
+
+                String json = gson
+                        .toJson(new PgRequest(AssertUtil.requireNotEmpty(operatorState.getPgNumber(), "pgNumber")));
+
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Request=: {}", json);
+                }
+
+                HttpRequest request = HttpUtil.POST(uriPost, json);
+                CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+                return isSucceededAsync(response);
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> setWrapup(String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("setWrapup() called with: loginName={}", loginName);
+        }
+
+        return this.doAgentAction("wrapUp", loginName);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> setReady(String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("setReady() called with: loginName={}", loginName);
+        }
+
+        return this.doAgentAction("ready", loginName);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> setPause(String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("setPause() called with: loginName={}", loginName);
+        }
+
+        return this.doAgentAction("pause", loginName);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> setWithdraw(WithdrawReason reason, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("setWithdraw() called with: reason={}, loginName={}", reason, loginName);
+        }
+
+        URI uriPost = URIBuilder.appendPath(uri, "withdraw");
+        if (loginName != null) {
+            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
+        }
+
+        String json = gson.toJson(new WithdrawAgentRequest(AssertUtil.requireNotNull(reason.getIndex(), "reason")));
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> requestPermanentListening(String agentNumber, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("requestPermanentListening() called with: agentNumber={}, loginName={}", agentNumber, loginName);
+        }
+
+        URI uriPost = URIBuilder.appendPath(uri, "permanentListening");
+        if (loginName != null) {
+            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
+        }
+
+        String json = gson
+                .toJson(new PermanentListeningRequest(AssertUtil.requireNotEmpty(agentNumber, "agentNumber")));
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> requestIntrusion(String agentNumber, IntrusionMode intrusionMode, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("requestIntrusion() called with: agentNumber={}, intrusionMode={}, loginName={}", agentNumber, intrusionMode, loginName);
+        }
+
+        URI uriPost = URIBuilder.appendPath(uri, "intrusion");
+        if (loginName != null) {
+            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
+        }
+
+        String json = gson
+                .toJson(new IntrusionRequest(AssertUtil.requireNotEmpty(agentNumber, "agentNumber"), intrusionMode));
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> changeIntrusionMode(IntrusionMode newIntrusionMode, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("changeIntrusionMode() called with: newIntrusionMode={}, loginName={}", newIntrusionMode, loginName);
+        }
+
+        URI uriPut = URIBuilder.appendPath(uri, "intrusion");
+        if (loginName != null) {
+            uriPut = URIBuilder.appendQuery(uriPut, "loginName", loginName);
+        }
+
+        String json = gson.toJson(new ChangeIntrusionModeRequest(newIntrusionMode));
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.PUT(uriPut, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> requestSupervisorHelp(String loginName) {
+        return this.doAgentAction("supervisorHelp", loginName);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> rejectAgentHelpRequest(String agentNumber, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("rejectAgentHelpRequest() called with: agentNumber={}, loginName={}", agentNumber, loginName);
+        }
+
+        return this.doCancelSupervisorHelpRequest(AssertUtil.requireNotEmpty(agentNumber, "agentNumber"), loginName);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> cancelSupervisorHelpRequest(String supervisorNumber, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("cancelSupervisorHelpRequest() called with: supervisorNumber={}, loginName={}", supervisorNumber, loginName);
+        }
+        return this.doCancelSupervisorHelpRequest(AssertUtil.requireNotEmpty(supervisorNumber, "supervisorNumber"),
+                loginName);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> requestSnaphot(String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("requestSnaphot() called with: loginName={}", loginName);
+        }
+
+        URI uriPost = URIBuilder.appendPath(uri, "state/snapshot");
+        if (loginName != null) {
+            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+
+    }
+
+    @Override
+    public CompletableFuture<RestResult<List<WithdrawReason>>> getWithdrawReasons(String pgNumber, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("getWithdrawReasons() called with: pbNumber={}, loginName={}", pgNumber, loginName);
+        }
+
+        URI uriGet = URIBuilder.appendPath(uri, "withdrawReasons");
+        uriGet = URIBuilder.appendQuery(uriGet, "pgNumber", AssertUtil.requireNotEmpty(pgNumber, "pgNumber"));
+
+        if (loginName != null) {
+            uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
+        }
+
+        HttpRequest request = HttpUtil.GET(uriGet);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+
+        return getResultAsync(response, WithdrawReasons.class).thenApply(result -> result.map(reasons -> {
+            if (reasons == null) {
+                return null;
+            }
+            else {
+                return Collections.unmodifiableList(reasons.getReasons());
+            }
+        }));
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> activateSkills(List<Integer> skills, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("activateSkills() called with: skills={}, loginName={}", skills, loginName);
+        }
+
+        URI uriPost = URIBuilder.appendPath(uri, "config/skills/activate");
+        if (loginName != null) {
+            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
+        }
+
+        String json = gson.toJson(new AgentSkillActivation(skills));
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> deactivateSkills(List<Integer> skills, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("deactivateSkills() called with: skills={}, loginName={}", skills, loginName);
+        }
+
+        URI uriPost = URIBuilder.appendPath(uri, "config/skills/deactivate");
+        if (loginName != null) {
+            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
+        }
+
+        String json = gson.toJson(new AgentSkillActivation(skills));
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    private CompletableFuture<RestResult<Boolean>> doAgentAction(String action, String loginName) {
+        URI uriPost = URIBuilder.appendPath(uri, action);
+        if (loginName != null) {
+            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    private CompletableFuture<RestResult<Boolean>> doCancelSupervisorHelpRequest(String otherNumber, String loginName) {
+
+        URI uriDelete = URIBuilder.appendPath(uri, "intrusion");
+        if (loginName != null) {
+            uriDelete = URIBuilder.appendQuery(uriDelete, "loginName", loginName);
+        }
+
+        HttpRequest request = HttpUtil.DELETE(uriDelete);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+}
@@ -0,0 +1,368 @@
+/*
+* Copyright 2021 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.rest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ale.o2g.AsyncRoutingService;
+import com.ale.o2g.internal.types.routing.ForwardRoute;
+import com.ale.o2g.internal.types.routing.O2GRoutingState;
+import com.ale.o2g.internal.types.routing.OverflowRoute;
+import com.ale.o2g.internal.types.routing.PresentationRoute;
+import com.ale.o2g.internal.util.AssertUtil;
+import com.ale.o2g.internal.util.HttpClientWrapper;
+import com.ale.o2g.internal.util.HttpUtil;
+import com.ale.o2g.internal.util.URIBuilder;
+import com.ale.o2g.types.RestResult;
+import com.ale.o2g.types.routing.Destination;
+import com.ale.o2g.types.routing.DndState;
+import com.ale.o2g.types.routing.Forward;
+import com.ale.o2g.types.routing.Forward.Condition;
+import com.ale.o2g.types.routing.Overflow;
+import com.ale.o2g.types.routing.RoutingCapabilities;
+import com.ale.o2g.types.routing.RoutingState;
+
+/**
+ * 
+ *
+ */
+public class AsyncRoutingRest extends AbstractRESTService implements AsyncRoutingService {
+
+    final static Logger logger = LoggerFactory.getLogger(AsyncRoutingRest.class);
+
+    private static class SetRouteRequest {
+        private Collection<PresentationRoute> presentationRoutes = new ArrayList<PresentationRoute>();
+        
+        public void addPresentationRoute(PresentationRoute p) {
+            presentationRoutes.add(p);
+        }
+    }
+    
+    private static class SetOverflowRouteRequest {
+        private Collection<OverflowRoute> overflowRoutes = new ArrayList<OverflowRoute>();
+        
+        public void addRoute(OverflowRoute p) {
+            overflowRoutes.add(p);
+        }
+    }
+    
+    private static record SetForwardRouteRequest(ForwardRoute forwardRoute) {}
+    
+    public AsyncRoutingRest(HttpClientWrapper httpClient, URI uri) {
+        super(httpClient, uri);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<RoutingCapabilities>> getCapabilities(String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("getCapabilities() called with: loginName={}", loginName);
+        }
+
+        URI uriGet = uri;
+        if (loginName != null) {
+            uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
+        }
+
+        HttpRequest request = HttpUtil.GET(uriGet);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return getResultAsync(response, RoutingCapabilities.class);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> setRemoteExtensionActivation(boolean active, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("setRemoteExtensionActivation() called with: active={}, loginName={}", active, loginName);
+        }
+
+        URI uriPost = uri;
+        if (loginName != null) {
+            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
+        }
+
+        SetRouteRequest setRouteRequest = new SetRouteRequest();
+        setRouteRequest.addPresentationRoute(PresentationRoute.createMobileRouteActivation(active));
+
+        String json = gson.toJson(setRouteRequest);
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+        
+        HttpRequest request = HttpUtil.idempotent(HttpUtil.POST(uriPost, json));
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<DndState>> getDndState(String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("getDndState() called with: loginName={}", loginName);
+        }
+
+        URI uriGet = URIBuilder.appendPath(uri, "dnd");
+        if (loginName != null) {
+            uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
+        }
+
+        HttpRequest request = HttpUtil.GET(uriGet);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        
+        return getResultAsync(response, DndState.class);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> activateDnd(String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("activateDnd() called with: loginName={}", loginName);
+        }
+
+        URI uriPost = URIBuilder.appendPath(uri, "dnd");
+        if (loginName != null) {
+            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
+        }
+
+        HttpRequest request = HttpUtil.idempotent(HttpUtil.POST(uriPost));
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> cancelDnd(String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("cancelDnd() called with: loginName={}", loginName);
+        }
+
+        URI uriDelete = URIBuilder.appendPath(uri, "dnd");
+        if (loginName != null) {
+            uriDelete = URIBuilder.appendQuery(uriDelete, "loginName", loginName);
+        }
+
+        HttpRequest request = HttpUtil.DELETE(uriDelete);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Forward>> getForward(String loginName) {
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("getForward() called with: loginName={}", loginName);
+        }
+
+        URI uriGet = URIBuilder.appendPath(uri, "forwardroute");
+        if (loginName != null) {
+            uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
+        }
+
+        HttpRequest request = HttpUtil.GET(uriGet);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return getResultAsync(response, ForwardRoute.class).thenApply(result -> result.map(forwardRoute -> {
+            if (forwardRoute == null) {
+                return new Forward(Destination.NONE, null, null) {};
+            }
+            else {
+                return forwardRoute.toForward();
+            }
+        }));
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> cancelForward(String loginName) {
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("cancelForward() called with: loginName={}", loginName);
+        }
+
+        URI uriDelete = URIBuilder.appendPath(uri, "forwardroute");
+        if (loginName != null) {
+            uriDelete = URIBuilder.appendQuery(uriDelete, "loginName", loginName);
+        }
+
+        HttpRequest request = HttpUtil.DELETE(uriDelete);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> forwardOnVoiceMail(Condition condition, String loginName) {
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("forwardOnVoiceMail() called with: condition={}, loginName={}", condition, loginName);
+        }
+
+        URI uriPost = URIBuilder.appendPath(uri, "forwardroute");
+        if (loginName != null) {
+            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
+        }
+
+        String json = gson.toJson(new SetForwardRouteRequest(ForwardRoute.createForwardOnVoiceMail(condition)));
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.idempotent(HttpUtil.POST(uriPost, json));
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> forwardOnNumber(String number, Condition condition, String loginName) {
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("forwardOnNumber() called with: number={}, condition={}, loginName={}", number, condition, loginName);
+        }
+
+        URI uriPost = URIBuilder.appendPath(uri, "forwardroute");
+        if (loginName != null) {
+            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
+        }
+
+        String json = gson.toJson(new SetForwardRouteRequest(
+                ForwardRoute.createForwardOnNumber(
+                        AssertUtil.requireNotEmpty(number, "number"), 
+                        condition)));
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.idempotent(HttpUtil.POST(uriPost, json));
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> cancelOverflow(String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("cancelOverflow() called with: loginName={}", loginName);
+        }
+
+        URI uriDelete = URIBuilder.appendPath(uri, "overflowroute");
+        if (loginName != null) {
+            uriDelete = URIBuilder.appendQuery(uriDelete, "loginName", loginName);
+        }
+
+        HttpRequest request = HttpUtil.DELETE(uriDelete);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Overflow>> getOverflow(String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("getOverflow() called with: loginName={}", loginName);
+        }
+
+        URI uriGet = URIBuilder.appendPath(uri, "overflowroute");
+        if (loginName != null) {
+            uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
+        }
+
+        HttpRequest request = HttpUtil.GET(uriGet);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return getResultAsync(response, OverflowRoute.class).thenApply(result -> result.map(overflowRoute -> {
+            if (overflowRoute == null) {
+                return new Overflow(Destination.NONE, null) {};
+            }
+            else {
+                return overflowRoute.toOverflow();
+            }
+        }));
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> overflowOnVoiceMail(Overflow.Condition condition, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("overflowOnVoiceMail() called with: condition={}, loginName={}", condition, loginName);
+        }
+
+        URI uriPost = URIBuilder.appendPath(uri, "overflowroute");
+        if (loginName != null) {
+            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
+        }
+
+        SetOverflowRouteRequest setOverflowRouteRequest = new SetOverflowRouteRequest();
+        setOverflowRouteRequest.addRoute(OverflowRoute.createOverflowOnVoiceMail(condition));
+        
+        String json = gson.toJson(setOverflowRouteRequest);
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+        
+        HttpRequest request = HttpUtil.idempotent(HttpUtil.POST(uriPost, json));
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<RoutingState>> getRoutingState(String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("getRoutingState() called with: loginName={}", loginName);
+        }
+
+        URI uriGet = URIBuilder.appendPath(uri, "state");
+        if (loginName != null) {
+            uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
+        }
+
+        HttpRequest request = HttpUtil.hedgeable(HttpUtil.GET(uriGet));
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return getResultAsync(response, O2GRoutingState.class).thenApply(result -> result.map(routingState -> {
+            if (routingState == null) {
+                return new RoutingState(
+                        false,
+                        new Forward(Destination.NONE, null, null) {},
+                        new Overflow(Destination.NONE, null) {},
+                        new DndState(false) {}
+                        ) {};
+            }
+            else {
+                return routingState.toRoutingState();
+            }
+        }));
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> requestSnapshot(String loginName) {
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("requestSnapshot() called with: loginName={}", loginName);
+        }
+
+        URI uriPost = URIBuilder.appendPath(uri, "state/snapshot");
+        if (loginName != null) {
+            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+}
@@ -0,0 +1,1156 @@
+/*
+* Copyright 2021 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.rest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ale.o2g.AsyncTelephonyService;
+import com.ale.o2g.internal.types.telephony.O2GTelephonicState;
+import com.ale.o2g.internal.util.AssertUtil;
+import com.ale.o2g.internal.util.HexaString;
+import com.ale.o2g.internal.util.HttpClientWrapper;
+import com.ale.o2g.internal.util.HttpUtil;
+import com.ale.o2g.internal.util.URITemplate;
+import com.ale.o2g.types.RestResult;
+import com.ale.o2g.types.telephony.Call;
+import com.ale.o2g.types.telephony.Callback;
+import com.ale.o2g.types.telephony.HuntingGroupStatus;
+import com.ale.o2g.types.telephony.HuntingGroups;
+import com.ale.o2g.types.telephony.MiniMessage;
+import com.ale.o2g.types.telephony.RecordingAction;
+import com.ale.o2g.types.telephony.TelephonicState;
+import com.ale.o2g.types.telephony.call.CorrelatorData;
+import com.ale.o2g.types.telephony.call.Leg;
+import com.ale.o2g.types.telephony.call.Participant;
+import com.ale.o2g.types.telephony.call.acd.CallProfile;
+import com.ale.o2g.types.telephony.call.acd.PilotInfo;
+import com.ale.o2g.types.telephony.call.acd.PilotTransferQueryParameters;
+import com.ale.o2g.types.telephony.device.DeviceState;
+
+/**
+ * 
+ *
+ */
+public class AsyncTelephonyRest extends AbstractRESTService implements AsyncTelephonyService {
+
+    final static Logger logger = LoggerFactory.getLogger(AsyncTelephonyRest.class);
+
+    private static final URITemplate BASIC_CALL = URITemplate.compile("basicCall");
+    private static final URITemplate BASIC_CALL_ANSWER = URITemplate.compile("basicCall/answer");
+    private static final URITemplate BASIC_CALL_DROPME = URITemplate.compile("basicCall/dropme{?loginName}");
+    private static final URITemplate CALL = URITemplate.compile("calls/{+callRef}{?loginName}");
+    private static final URITemplate CALLS = URITemplate.compile("calls{?loginName}");
+    private static final URITemplate CALLS_ALTERNATE = URITemplate.compile("calls/{+callRef}/alternate");
+    private static final URITemplate CALLS_ANSWER = URITemplate.compile("calls/{+callRef}/answer");
+    private static final URITemplate CALLS_ATTACHDATA = URITemplate.compile("calls/{+callRef}/attachdata");
+    private static final URITemplate CALLS_BLINDTRANSFER = URITemplate.compile("calls/{+callRef}/blindtransfer{?loginName}");
+    private static final URITemplate CALLS_CALLBACK = URITemplate.compile("calls/{+callRef}/callback{?loginName}");
+    private static final URITemplate CALLS_DEVICE_LEG = URITemplate.compile("calls/{+callRef}/deviceLegs/{+legId}{?loginName}");
+    private static final URITemplate CALLS_DEVICE_LEGS = URITemplate.compile("calls/{+callRef}/deviceLegs{?loginName}");
+    private static final URITemplate CALLS_DROPME = URITemplate.compile("calls/{+callRef}/dropme{?loginName}");
+    private static final URITemplate CALLS_HOLD = URITemplate.compile("calls/{+callRef}/hold{?loginName}");
+    private static final URITemplate CALLS_MERGE = URITemplate.compile("calls/{+callRef}/merge{?loginName}");
+    private static final URITemplate CALLS_OVERFLOW_TO_VOICE_MAIL = URITemplate.compile("calls/{+callRef}/overflowToVoiceMail{?loginName}");
+    private static final URITemplate CALLS_PARK = URITemplate.compile("calls/{+callRef}/park{?loginName}");
+    private static final URITemplate CALLS_PARTICIPANT = URITemplate.compile("calls/{+callRef}/participants/{+participantId}{?loginName}");
+    private static final URITemplate CALLS_PARTICIPANTS = URITemplate.compile("calls/{+callRef}/participants{?loginName}");
+    private static final URITemplate CALLS_RECONNECT = URITemplate.compile("calls/{+callRef}/reconnect{?loginName}");
+    private static final URITemplate CALLS_RECORDING = URITemplate.compile("calls/{+callRef}/recording{?loginName,action}");
+    private static final URITemplate CALLS_REDIRECT = URITemplate.compile("calls/{+callRef}/redirect{?loginName}");
+    private static final URITemplate CALLS_RETRIEVE = URITemplate.compile("calls/{+callRef}/retrieve");
+    private static final URITemplate CALLS_SENDACCOUNTINFO = URITemplate.compile("calls/{+callRef}/sendaccountinfo");
+    private static final URITemplate CALLS_SEND_DTMF = URITemplate.compile("calls/{+callRef}/sendDtmf");
+    private static final URITemplate CALLS_TRANSFER = URITemplate.compile("calls/{+callRef}/transfer{?loginName}");
+    private static final URITemplate DESK_SHARING = URITemplate.compile("deskSharing{?loginName}");
+    private static final URITemplate DEVICE = URITemplate.compile("devices/{+deviceId}{?loginName}");
+    private static final URITemplate DEVICES = URITemplate.compile("devices{?loginName}");
+    private static final URITemplate DEVICES_INTRUSION = URITemplate.compile("devices/{+deviceId}/intrusion");
+    private static final URITemplate DEVICES_ITHMICRO = URITemplate.compile("devices/{+deviceId}/ithmicro");
+    private static final URITemplate DEVICES_PICKUP = URITemplate.compile("devices/{+deviceId}/pickup");
+    private static final URITemplate DEVICES_UNPARK = URITemplate.compile("devices/{+deviceId}/unpark");
+    private static final URITemplate HUNTING_GROUPS = URITemplate.compile("huntingGroups{?loginName}");
+    private static final URITemplate HUNTING_GROUP_LOG_ON = URITemplate.compile("huntingGroupLogOn{?loginName}");
+    private static final URITemplate HUNTING_GROUP_MEMBER = URITemplate.compile("huntingGroupMember/{+hgNumber}{?loginName}");
+    private static final URITemplate INCOMING_CALLBACK = URITemplate.compile("incomingCallbacks/{+callbackId}{?loginName}");
+    private static final URITemplate INCOMING_CALLBACKS = URITemplate.compile("incomingCallbacks{?loginName}");
+    private static final URITemplate MINI_MESSAGES = URITemplate.compile("miniMessages{?loginName}");
+    private static final URITemplate OUTGOING_CALLBACKS = URITemplate.compile("outgoingCallbacks{?loginName}");
+    private static final URITemplate PILOTS_TRANSFER_INFO = URITemplate.compile("pilots/{+nodeId}/{+pilotNumber}/transferInfo{?loginName}");
+    private static final URITemplate STATE = URITemplate.compile("state{?loginName}");
+    private static final URITemplate STATE_SNAPSHOT = URITemplate.compile("state/snapshot{?loginName}");
+
+    private static class CallList {
+        private Collection<Call> calls;
+    }
+
+    private static class LegList {
+        private Collection<Leg> legs;
+    }
+
+    private static class ParticipantList {
+        private Collection<Participant> participants;
+    }
+
+    private static class DeviceStateList {
+        private Collection<DeviceState> deviceStates;
+    }
+
+    private static class CallbackList {
+        private Collection<Callback> callbacks;
+    }
+
+    private static class SendAssociatedDataRequest {
+        @SuppressWarnings("unused")
+        private String deviceId;
+        @SuppressWarnings("unused")
+        private String associatedData;
+        @SuppressWarnings("unused")
+        private String hexaBinaryAssociatedData;
+
+        public SendAssociatedDataRequest(String deviceId, CorrelatorData correlatorData) {
+            this.deviceId = deviceId;
+            this.associatedData = null;
+
+            byte[] byteValue = correlatorData.asByteArray();
+            if (byteValue == null) {
+                this.hexaBinaryAssociatedData = null;
+            } else {
+                this.hexaBinaryAssociatedData = HexaString.toHexaString(byteValue);
+            }
+        }
+    }
+
+    private static record MakeBasicCallRequest(String deviceId, String callee, boolean autoAnswer) {}
+    private static record DeviceIdRequest(String deviceId) {}
+    private static record MakeCallRequest(String deviceId, String callee, boolean autoAnswer,
+            boolean inhibitProgressTone, String hexaBinaryAssociatedData, String pin, String secretCode,
+            String businessCode, String callingNumber) {}
+    private static record BlindTransferRequest(String transferTo, boolean anonymous) {}
+    private static record HeldCallRequest(String heldCallRef) {}
+    private static record ParkRequest(String parkTo) {}
+    private static record ReconnectRequest(String deviceId, String enquiryCallRef) {}
+    private static record RedirectRequest(String redirectTo, boolean anonymous) {}
+    private static record SendDtmfRequest(String deviceId, String number) {}
+    private static record SendAccountInfoRequest(String deviceId, String accountInfo) {}
+    private static record DSLogOnRequest(String dssDeviceNumber) {}
+    private static record PickupRequest(String otherCallRef, String otherPhoneNumber, boolean autoAnswer) {}
+    private static record MiniMessageRequest(String recipient, String message) {}
+    private static record CallbackRequest(String callee) {}
+    private static record ACRSkills(Collection<CallProfile.Skill> skills) {}
+    private static record PilotQueryParam(String agentNumber, ACRSkills skills, Boolean priorityTransfer,
+            Boolean supervisedTransfer) {}
+
+    public AsyncTelephonyRest(HttpClientWrapper httpClient, URI uri) {
+        super(httpClient, uri);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> basicMakeCall(String deviceId, String callee, boolean autoAnswer) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("basicMakeCall() called with: deviceId={}, callee={}, autoAnswer={}", deviceId, callee, autoAnswer);
+        }
+
+        String json = gson.toJson(new MakeBasicCallRequest(AssertUtil.requireNotEmpty(deviceId, "deviceId"),
+                AssertUtil.requireNotEmpty(callee, "callee"), autoAnswer));
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(BASIC_CALL.expand(uri), json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> basicAnswerCall(String deviceId) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("basicAnswerCall() called with: deviceId={}", deviceId);
+        }
+
+        String json = gson.toJson(new DeviceIdRequest(AssertUtil.requireNotEmpty(deviceId, "deviceId")));
+
+        HttpRequest request = HttpUtil.POST(BASIC_CALL_ANSWER.expand(uri), json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> basicDropMe(String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("basicDropMe() called with: loginName={}", loginName);
+        }
+
+        URI uriPost = BASIC_CALL_DROPME.expand(uri, loginName);
+
+        HttpRequest request = HttpUtil.POST(uriPost);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Collection<Call>>> getCalls(String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("getCalls() called with: loginName={}", loginName);
+        }
+
+        URI uriGet = CALLS.expand(uri, loginName);
+
+        HttpRequest request = HttpUtil.GET(uriGet);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+
+        return getResultAsync(response, CallList.class).thenApply(result -> result.map(calls -> {
+            if (calls == null) {
+                return null;
+            } else {
+                return unmodifiableOrEmpty(calls.calls);
+            }
+        }));
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Call>> getCall(String callRef, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("getCall() called with: callRef={}, loginName={}", callRef, loginName);
+        }
+
+        URI uriGet = CALL.expand(uri, AssertUtil.requireNotEmpty(callRef, "callRef"), loginName);
+
+        HttpRequest request = HttpUtil.GET(uriGet);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+
+        return getResultAsync(response, Call.class);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> makeCall(String deviceId, String callee, boolean autoAnswer, boolean inhibitProgressTone,
+            CorrelatorData correlatorData, String callingNumber, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("makeCall() called with: deviceId={}, callee={}, autoAnswer={}, inhibitProgressTone={}, correlatorData={}, callingNumber={}, loginName={}",
+                    deviceId, callee, autoAnswer, inhibitProgressTone, correlatorData, callingNumber, loginName);
+        }
+
+        URI uriPost = CALLS.expand(uri, loginName);
+
+        String hexaBinaryAssociatedData = null;
+        if (correlatorData != null) {
+            hexaBinaryAssociatedData = correlatorData.asString();
+        }
+
+        String json = gson.toJson(new MakeCallRequest(AssertUtil.requireNotEmpty(deviceId, "deviceId"),
+                AssertUtil.requireNotEmpty(callee, "callee"), autoAnswer, inhibitProgressTone, hexaBinaryAssociatedData,
+                null, null, null, callingNumber));
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    // Deprecated form, not in the interface
+    CompletableFuture<RestResult<Boolean>> makeCallWithAssociatedData(String deviceId, String callee, boolean autoAnswer, boolean inhibitProgressTone,
+            String associatedData, String callingNumber, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("makeCall() called with: deviceId={}, callee={}, autoAnswer={}, inhibitProgressTone={}, associatedData={}, callingNumber={}, loginName={}",
+                    deviceId, callee, autoAnswer, inhibitProgressTone, associatedData, callingNumber, loginName);
+        }
+
+        URI uriPost = CALLS.expand(uri, loginName);
+
+        String json = gson.toJson(new MakeCallRequest(AssertUtil.requireNotEmpty(deviceId, "deviceId"),
+                AssertUtil.requireNotEmpty(callee, "callee"), autoAnswer, inhibitProgressTone, associatedData, null,
+                null, null, callingNumber));
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> makePrivateCall(String deviceId, String callee, boolean autoAnswer, String pin, String secretCode,
+            String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("makePrivateCall() called with: deviceId={}, callee={}, autoAnswer={}, pin=***, secretCode=***, loginName={}",
+                    deviceId, callee, autoAnswer, loginName);
+        }
+
+        URI uriPost = CALLS.expand(uri, loginName);
+
+        String json = gson.toJson(new MakeCallRequest(AssertUtil.requireNotEmpty(deviceId, "deviceId"),
+                AssertUtil.requireNotEmpty(callee, "callee"), autoAnswer, false, null, pin, secretCode, null, null));
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> makeBusinessCall(String deviceId, String callee, boolean autoAnswer, String businessCode,
+            String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("makeBusinessCall() called with: deviceId={}, callee={}, autoAnswer={}, businessCode={}, loginName={}",
+                    deviceId, callee, autoAnswer, businessCode, loginName);
+        }
+
+        URI uriPost = CALLS.expand(uri, loginName);
+
+        String json = gson.toJson(new MakeCallRequest(AssertUtil.requireNotEmpty(deviceId, "deviceId"),
+                AssertUtil.requireNotEmpty(callee, "callee"), autoAnswer, false, null, null, null,
+                AssertUtil.requireNotEmpty(businessCode, "businessCode"), null));
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> alternate(String callRef, String deviceId) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("alternate() called with: callRef={}, deviceId={}", callRef, deviceId);
+        }
+
+        URI uriPost = CALLS_ALTERNATE.expand(uri, AssertUtil.requireNotEmpty(callRef, "callRef"));
+
+        String json = gson.toJson(new DeviceIdRequest(AssertUtil.requireNotEmpty(deviceId, "deviceId")));
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> answer(String callRef, String deviceId) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("answer() called with: callRef={}, deviceId={}", callRef, deviceId);
+        }
+
+        URI uriPost = CALLS_ANSWER.expand(uri, AssertUtil.requireNotEmpty(callRef, "callRef"));
+
+        String json = gson.toJson(new DeviceIdRequest(AssertUtil.requireNotEmpty(deviceId, "deviceId")));
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> attachData(String callRef, String deviceId, CorrelatorData correlatorData) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("attachData() called with: callRef={}, deviceId={}, correlatorData={}", callRef, deviceId, correlatorData);
+        }
+
+        URI uriPost = CALLS_ATTACHDATA.expand(uri, AssertUtil.requireNotEmpty(callRef, "callRef"));
+
+        String json = gson.toJson(
+                new SendAssociatedDataRequest(AssertUtil.requireNotEmpty(deviceId, "deviceId"), correlatorData));
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> blindTransfer(String callRef, String transferTo, boolean anonymous, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("blindTransfer() called with: callRef={}, transferTo={}, anonymous={}, loginName={}",
+                    callRef, transferTo, anonymous, loginName);
+        }
+
+        URI uriPost = CALLS_BLINDTRANSFER.expand(uri, AssertUtil.requireNotEmpty(callRef, "callRef"), loginName);
+
+        String json = gson.toJson(new BlindTransferRequest(AssertUtil.requireNotEmpty(transferTo, "transferTo"), anonymous));
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> callback(String callRef, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("callback() called with: callRef={}, loginName={}", callRef, loginName);
+        }
+
+        URI uriPost = CALLS_CALLBACK.expand(uri, AssertUtil.requireNotEmpty(callRef, "callRef"), loginName);
+
+        HttpRequest request = HttpUtil.POST(uriPost);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Collection<Leg>>> getLegs(String callRef, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("getLegs() called with: callRef={}, loginName={}", callRef, loginName);
+        }
+
+        URI uriGet = CALLS_DEVICE_LEGS.expand(uri, AssertUtil.requireNotEmpty(callRef, "callRef"), loginName);
+
+        HttpRequest request = HttpUtil.GET(uriGet);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+
+        return getResultAsync(response, LegList.class).thenApply(result -> result.map(legs -> {
+            if (legs == null) {
+                return null;
+            } else {
+                return unmodifiableOrEmpty(legs.legs);
+            }
+        }));
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Leg>> getLeg(String callRef, String legId, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("getLeg() called with: callRef={}, legId={}, loginName={}", callRef, legId, loginName);
+        }
+
+        URI uriGet = CALLS_DEVICE_LEG.expand(uri, AssertUtil.requireNotEmpty(callRef, "callRef"), AssertUtil.requireNotEmpty(legId, "legId"), loginName);
+
+        HttpRequest request = HttpUtil.GET(uriGet);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+
+        return getResultAsync(response, Leg.class);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> dropme(String callRef, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("dropme() called with: callRef={}, loginName={}", callRef, loginName);
+        }
+
+        URI uriPost = CALLS_DROPME.expand(uri, AssertUtil.requireNotEmpty(callRef, "callRef"), loginName);
+
+        HttpRequest request = HttpUtil.POST(uriPost);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> hold(String callRef, String deviceId, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("hold() called with: callRef={}, deviceId={}, loginName={}", callRef, deviceId, loginName);
+        }
+
+        URI uriPost = CALLS_HOLD.expand(uri, AssertUtil.requireNotEmpty(callRef, "callRef"), loginName);
+
+        String json = gson.toJson(new DeviceIdRequest(AssertUtil.requireNotEmpty(deviceId, "deviceId")));
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> merge(String callRef, String heldCallRef, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("merge() called with: callRef={}, heldCallRef={}, loginName={}", callRef, heldCallRef, loginName);
+        }
+
+        URI uriPost = CALLS_MERGE.expand(uri, AssertUtil.requireNotEmpty(callRef, "callRef"), loginName);
+
+        String json = gson.toJson(new HeldCallRequest(AssertUtil.requireNotEmpty(heldCallRef, "heldCallRef")));
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> overflowToVoiceMail(String callRef, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("overflowToVoiceMail() called with: callRef={}, loginName={}", callRef, loginName);
+        }
+
+        URI uriPost = CALLS_OVERFLOW_TO_VOICE_MAIL.expand(uri, AssertUtil.requireNotEmpty(callRef, "callRef"), loginName);
+
+        HttpRequest request = HttpUtil.POST(uriPost);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<TelephonicState>> getState(String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("getState() called with: loginName={}", loginName);
+        }
+
+        URI uriGet = STATE.expand(uri, loginName);
+
+        HttpRequest request = HttpUtil.hedgeable(HttpUtil.GET(uriGet));
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+
+        return getResultAsync(response, O2GTelephonicState.class).thenApply(result -> result.map(o2gTelephonicState -> {
+            if (o2gTelephonicState != null) {
+                return o2gTelephonicState.toTelephonicState();
+            } else {
+                return null;
+            }
+        }));
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> park(String callRef, String parkTo, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("park() called with: callRef={}, parkTo={}, loginName={}", callRef, parkTo, loginName);
+        }
+
+        URI uriPost = CALLS_PARK.expand(uri, AssertUtil.requireNotEmpty(callRef, "callRef"), loginName);
+
+        String json = gson.toJson(new ParkRequest(parkTo));
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Collection<Participant>>> getParticipants(String callRef, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("getParticipants() called with: callRef={}, loginName={}", callRef, loginName);
+        }
+
+        URI uriGet = CALLS_PARTICIPANTS.expand(uri, AssertUtil.requireNotEmpty(callRef, "callRef"), loginName);
+
+        HttpRequest request = HttpUtil.GET(uriGet);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+
+        return getResultAsync(response, ParticipantList.class).thenApply(result -> result.map(participants -> {
+            if (participants == null) {
+                return null;
+            } else {
+                return unmodifiableOrEmpty(participants.participants);
+            }
+        }));
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Participant>> getParticipant(String callRef, String participantId, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("getParticipant() called with: callRef={}, participantId={}, loginName={}", callRef, participantId, loginName);
+        }
+
+        URI uriGet = CALLS_PARTICIPANT.expand(uri, AssertUtil.requireNotEmpty(callRef, "callRef"), AssertUtil.requireNotEmpty(participantId, "participantId"), loginName);
+
+        HttpRequest request = HttpUtil.GET(uriGet);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+
+        return getResultAsync(response, Participant.class);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> dropParticipant(String callRef, String participantId, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("dropParticipant() called with: callRef={}, participantId={}, loginName={}", callRef, participantId, loginName);
+        }
+
+        URI uriDelete = CALLS_PARTICIPANT.expand(uri, AssertUtil.requireNotEmpty(callRef, "callRef"), AssertUtil.requireNotEmpty(participantId, "participantId"), loginName);
+
+        HttpRequest request = HttpUtil.DELETE(uriDelete);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> reconnect(String callRef, String deviceId, String enquiryCallRef, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("reconnect() called with: callRef={}, deviceId={}, enquiryCallRef={}, loginName={}",
+                    callRef, deviceId, enquiryCallRef, loginName);
+        }
+
+        URI uriPost = CALLS_RECONNECT.expand(uri, AssertUtil.requireNotEmpty(callRef, "callRef"), loginName);
+
+        String json = gson.toJson(new ReconnectRequest(AssertUtil.requireNotEmpty(deviceId, "deviceId"),
+                AssertUtil.requireNotEmpty(enquiryCallRef, "enquiryCallRef")));
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> doRecordAction(String callRef, RecordingAction action, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("doRecordAction() called with: callRef={}, action={}, loginName={}", callRef, action, loginName);
+        }
+
+        URI uriPost = CALLS_RECORDING.expand(uri, AssertUtil.requireNotEmpty(callRef, "callRef"), loginName,
+                action.toString().toLowerCase());
+
+        HttpRequest request = HttpUtil.POST(uriPost);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> redirect(String callRef, String redirectTo, boolean anonymous, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("redirect() called with: callRef={}, redirectTo={}, anonymous={}, loginName={}",
+                    callRef, redirectTo, anonymous, loginName);
+        }
+
+        URI uriPost = CALLS_REDIRECT.expand(uri, AssertUtil.requireNotEmpty(callRef, "callRef"), loginName);
+
+        String json = gson.toJson(new RedirectRequest(AssertUtil.requireNotEmpty(redirectTo, "transferTo"), anonymous));
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> retrieve(String callRef, String deviceId, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("retrieve() called with: callRef={}, deviceId={}, loginName={}", callRef, deviceId, loginName);
+        }
+
+        URI uriPost = CALLS_RETRIEVE.expand(uri, AssertUtil.requireNotEmpty(callRef, "callRef"));
+
+        String json = gson.toJson(new DeviceIdRequest(AssertUtil.requireNotEmpty(deviceId, "deviceId")));
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> sendDtmf(String callRef, String deviceId, String number) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("sendDtmf() called with: callRef={}, deviceId={}, number={}", callRef, deviceId, number);
+        }
+
+        URI uriPost = CALLS_SEND_DTMF.expand(uri, AssertUtil.requireNotEmpty(callRef, "callRef"));
+
+        String json = gson.toJson(new SendDtmfRequest(AssertUtil.requireNotEmpty(deviceId, "deviceId"),
+                AssertUtil.requireNotEmpty(number, "number")));
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> sendAccountInfo(String callRef, String deviceId, String accountInfo) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("sendAccountInfo() called with: callRef={}, deviceId={}, accountInfo={}", callRef, deviceId, accountInfo);
+        }
+
+        URI uriPost = CALLS_SENDACCOUNTINFO.expand(uri, AssertUtil.requireNotEmpty(callRef, "callRef"));
+
+        String json = gson.toJson(new SendAccountInfoRequest(AssertUtil.requireNotEmpty(deviceId, "deviceId"),
+                AssertUtil.requireNotEmpty(accountInfo, "accountInfo")));
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> transfer(String callRef, String heldCallRef, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("transfer() called with: callRef={}, heldCallRef={}, loginName={}", callRef, heldCallRef, loginName);
+        }
+
+        URI uriPost = CALLS_TRANSFER.expand(uri, AssertUtil.requireNotEmpty(callRef, "callRef"), loginName);
+
+        String json = gson.toJson(new HeldCallRequest(AssertUtil.requireNotEmpty(heldCallRef, "heldCallRef")));
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> deskSharingLogOn(String dssDeviceNumber, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("deskSharingLogOn() called with: dssDeviceNumber={}, loginName={}", dssDeviceNumber, loginName);
+        }
+
+        URI uriPost = DESK_SHARING.expand(uri, loginName);
+
+        String json = gson.toJson(new DSLogOnRequest(AssertUtil.requireNotEmpty(dssDeviceNumber, "dssDeviceNumber")));
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> deskSharingLogOff(String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("deskSharingLogOff() called with: loginName={}", loginName);
+        }
+
+        URI uriDelete = DESK_SHARING.expand(uri, loginName);
+
+        HttpRequest request = HttpUtil.DELETE(uriDelete);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Collection<DeviceState>>> getDevicesState(String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("getDevicesState() called with: loginName={}", loginName);
+        }
+
+        URI uriGet = DEVICES.expand(uri, loginName);
+
+        HttpRequest request = HttpUtil.GET(uriGet);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+
+        return getResultAsync(response, DeviceStateList.class).thenApply(result -> result.map(deviceStates -> {
+            if (deviceStates == null) {
+                return null;
+            } else {
+                return unmodifiableOrEmpty(deviceStates.deviceStates);
+            }
+        }));
+    }
+
+    @Override
+    public CompletableFuture<RestResult<DeviceState>> getDeviceState(String deviceId, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("getDeviceState() called with: deviceId={}, loginName={}", deviceId, loginName);
+        }
+
+        URI uriGet = DEVICE.expand(uri, AssertUtil.requireNotEmpty(deviceId, "deviceId"), loginName);
+
+        HttpRequest request = HttpUtil.hedgeable(HttpUtil.GET(uriGet));
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+
+        return getResultAsync(response, DeviceState.class);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> pickUp(String deviceId, String otherCallRef, String otherPhoneNumber, boolean autoAnswer) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("pickUp() called with: deviceId={}, otherCallRef={}, otherPhoneNumber={}, autoAnswer={}",
+                    deviceId, otherCallRef, otherPhoneNumber, autoAnswer);
+        }
+
+        URI uriPost = DEVICES_PICKUP.expand(uri, AssertUtil.requireNotEmpty(deviceId, "deviceId"));
+
+        String json = gson.toJson(new PickupRequest(AssertUtil.requireNotEmpty(otherCallRef, "otherCallRef"),
+                AssertUtil.requireNotEmpty(otherPhoneNumber, "otherPhoneNumber"), autoAnswer));
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> intrusion(String deviceId) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("intrusion() called with: deviceId={}", deviceId);
+        }
+        
+        URI uriPost = DEVICES_INTRUSION.expand(uri, AssertUtil.requireNotEmpty(deviceId, "deviceId"));
+        HttpRequest request = HttpUtil.POST(uriPost);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> toggleInterphony(String deviceId) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("toggleInterphony() called with: deviceId={}", deviceId);
+        }
+
+        URI uriPost = DEVICES_ITHMICRO.expand(uri, AssertUtil.requireNotEmpty(deviceId, "deviceId"));
+
+        HttpRequest request = HttpUtil.POST(uriPost);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> unPark(String heldCallRef, String deviceId) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("unPark() called with: heldCallRef={}, deviceId={}", heldCallRef, deviceId);
+        }
+
+        URI uriPost = DEVICES_UNPARK.expand(uri, AssertUtil.requireNotEmpty(deviceId, "deviceId"));
+
+        String json = gson.toJson(new HeldCallRequest(AssertUtil.requireNotEmpty(heldCallRef, "heldCallRef")));
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<HuntingGroupStatus>> getHuntingGroupStatus(String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("getHuntingGroupStatus() called with: loginName={}", loginName);
+        }
+
+        URI uriGet = HUNTING_GROUP_LOG_ON.expand(uri, loginName);
+
+        HttpRequest request = HttpUtil.GET(uriGet);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+
+        return getResultAsync(response, HuntingGroupStatus.class);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> huntingGroupLogOn(String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("huntingGroupLogOn() called with: loginName={}", loginName);
+        }
+
+        URI uriPost = HUNTING_GROUP_LOG_ON.expand(uri, loginName);
+
+        HttpRequest request = HttpUtil.POST(uriPost);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> huntingGroupLogOff(String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("huntingGroupLogOff() called with: loginName={}", loginName);
+        }
+
+        URI uriDelete = HUNTING_GROUP_LOG_ON.expand(uri, loginName);
+
+        HttpRequest request = HttpUtil.DELETE(uriDelete);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> addMeToHuntingGroup(String hgNumber, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("addMeToHuntingGroup() called with: hgNumber={}, loginName={}", hgNumber, loginName);
+        }
+
+        URI uriPost = HUNTING_GROUP_MEMBER.expand(uri, AssertUtil.requireNotEmpty(hgNumber, "hgNumber"), loginName);
+
+        HttpRequest request = HttpUtil.POST(uriPost);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> removeMeFromHuntingGroup(String hgNumber, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("removeMeFromHuntingGroup() called with: hgNumber={}, loginName={}", hgNumber, loginName);
+        }
+
+        URI uriDelete = HUNTING_GROUP_MEMBER.expand(uri, AssertUtil.requireNotEmpty(hgNumber, "hgNumber"), loginName);
+
+        HttpRequest request = HttpUtil.DELETE(uriDelete);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<HuntingGroups>> queryHuntingGroups(String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("queryHuntingGroups() called with: loginName={}", loginName);
+        }
+
+        URI uriGet = HUNTING_GROUPS.expand(uri, loginName);
+
+        HttpRequest request = HttpUtil.GET(uriGet);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+
+        return getResultAsync(response, HuntingGroups.class);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Collection<Callback>>> getCallbacks(String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("getCallbacks() called with: loginName={}", loginName);
+        }
+
+        URI uriGet = INCOMING_CALLBACKS.expand(uri, loginName);
+
+        HttpRequest request = HttpUtil.GET(uriGet);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+
+        return getResultAsync(response, CallbackList.class).thenApply(result -> result.map(callbacks -> {
+            if (callbacks == null) {
+                return null;
+            } else {
+                return unmodifiableOrEmpty(callbacks.callbacks);
+            }
+        }));
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> deleteCallbacks(String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("deleteCallbacks() called with: loginName={}", loginName);
+        }
+
+        URI uriDelete = INCOMING_CALLBACKS.expand(uri, loginName);
+
+        HttpRequest request = HttpUtil.DELETE(uriDelete);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<MiniMessage>> getMiniMessage(String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("getMiniMessage() called with: loginName={}", loginName);
+        }
+
+        URI uriGet = MINI_MESSAGES.expand(uri, loginName);
+
+        HttpRequest request = HttpUtil.GET(uriGet);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+
+        return getResultAsync(response, MiniMessage.class);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> sendMiniMessage(String recipient, String message, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("sendMiniMessage() called with: recipient={}, message={}, loginName={}", recipient, message, loginName);
+        }
+
+        URI uriPost = MINI_MESSAGES.expand(uri, loginName);
+
+        String json = gson.toJson(new MiniMessageRequest(AssertUtil.requireNotEmpty(recipient, "recipient"),
+                AssertUtil.requireNotEmpty(message, "message")));
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> requestCallback(String callee, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("requestCallback() called with: callee={}, loginName={}", callee, loginName);
+        }
+
+        URI uriPost = OUTGOING_CALLBACKS.expand(uri, loginName);
+
+        String json = gson.toJson(new CallbackRequest(AssertUtil.requireNotEmpty(callee, "callee")));
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> requestSnapshot(String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("requestSnapshot() called with: loginName={}", loginName);
+        }
+
+        URI uriPost = STATE_SNAPSHOT.expand(uri, loginName);
+
+        HttpRequest request = HttpUtil.POST(uriPost);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> deleteCallback(String callbackId, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("deleteCallback() called with: callbackId={}, loginName={}", callbackId, loginName);
+        }
+
+        URI uriDelete = INCOMING_CALLBACK.expand(uri, AssertUtil.requireNotEmpty(callbackId, "callbackId"), loginName);
+
+        HttpRequest request = HttpUtil.DELETE(uriDelete);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<Boolean>> release(String callRef, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("release() called with: callRef={}, loginName={}", callRef, loginName);
+        }
+
+        URI uriDelete = CALL.expand(uri, AssertUtil.requireNotEmpty(callRef, "callRef"), loginName);
+
+        HttpRequest request = HttpUtil.DELETE(uriDelete);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return isSucceededAsync(response);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<PilotInfo>> getPilotInfo(int nodeId, String pilotNumber, String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("getPilotInfo() called with: nodeId={}, pilotNumber={}, loginName={}", nodeId, pilotNumber, loginName);
+        }
+
+        URI uriPost = PILOTS_TRANSFER_INFO.expand(uri, String.valueOf(AssertUtil.requirePositive(nodeId, "nodeId")),
+                AssertUtil.requireNotEmpty(pilotNumber, "pilotNumber"), loginName);
+
+        HttpRequest request = HttpUtil.POST(uriPost);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return getResultAsync(response, PilotInfo.class);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<PilotInfo>> getPilotInfo(int nodeId, String pilotNumber, PilotTransferQueryParameters pilotTransferQueryParam,
+            String loginName) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("getPilotInfo() called with: nodeId={}, pilotNumber={}, pilotTransferQueryParam={}, loginName={}",
+                    nodeId, pilotNumber, pilotTransferQueryParam, loginName);
+        }
+
+        URI uriPost = PILOTS_TRANSFER_INFO.expand(uri, String.valueOf(AssertUtil.requirePositive(nodeId, "nodeId")),
+                AssertUtil.requireNotEmpty(pilotNumber, "pilotNumber"), loginName);
+
+        AssertUtil.requireNotNull(pilotTransferQueryParam, "pilotTransferQueryParam");
+        ACRSkills skills = null;
+        if (pilotTransferQueryParam.getCallProfile() != null) {
+            skills = new ACRSkills(pilotTransferQueryParam.getCallProfile().getSkills());
+        }
+
+        String json = gson.toJson(new PilotQueryParam(pilotTransferQueryParam.getAgentNumber(), skills,
+                pilotTransferQueryParam.getPriorityTransfer(), pilotTransferQueryParam.getSupervisedTransfer()));
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return getResultAsync(response, PilotInfo.class);
+    }
+
+    @Override
+    public CompletableFuture<RestResult<PilotInfo>> getPilotInfo(int nodeId, String pilotNumber,
+            PilotTransferQueryParameters pilotTransferQueryParam) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("getPilotInfo() called with: nodeId={}, pilotNumber={}, pilotTransferQueryParam={}",
+                    nodeId, pilotNumber, pilotTransferQueryParam);
+        }
+
+        URI uriPost = PILOTS_TRANSFER_INFO.expand(uri, String.valueOf(AssertUtil.requirePositive(nodeId, "nodeId")),
+                AssertUtil.requireNotEmpty(pilotNumber, "pilotNumber"), null);
+
+        AssertUtil.requireNotNull(pilotTransferQueryParam, "pilotTransferQueryParam");
+        ACRSkills skills = null;
+        if (pilotTransferQueryParam.getCallProfile() != null) {
+            skills = new ACRSkills(pilotTransferQueryParam.getCallProfile().getSkills());
+        }
+
+        String json = gson.toJson(new PilotQueryParam(pilotTransferQueryParam.getAgentNumber(), skills,
+                pilotTransferQueryParam.getPriorityTransfer(), pilotTransferQueryParam.getSupervisedTransfer()));
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request=: {}", json);
+        }
+
+        HttpRequest request = HttpUtil.POST(uriPost, json);
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+        return getResultAsync(response, PilotInfo.class);
+    }
+}
@@ -19,24 +19,14 @@
 package com.ale.o2g.internal.rest;
 
 import java.net.URI;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.net.http.HttpResponse.BodyHandlers;
-import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.ale.o2g.AsyncCallCenterAgentService;
 import com.ale.o2g.CallCenterAgentService;
-import com.ale.o2g.internal.types.cca.O2GAgentConfig;
-import com.ale.o2g.internal.util.AssertUtil;
 import com.ale.o2g.internal.util.HttpClientWrapper;
-import com.ale.o2g.internal.util.HttpUtil;
-import com.ale.o2g.internal.util.URIBuilder;
-import com.ale.o2g.types.RestErrorInfo;
 import com.ale.o2g.types.cca.IntrusionMode;
 import com.ale.o2g.types.cca.OperatorConfiguration;
 import com.ale.o2g.types.cca.OperatorState;
@@ -48,83 +38,26 @@ import com.ale.o2g.types.cca.WithdrawReason;
 public class CallCenterAgentRest extends AbstractRESTService implements CallCenterAgentService {
 
 	final static Logger logger = LoggerFactory.getLogger(CallCenterAgentService.class);
-	
-    private static record LogOnAgentRequest(String proAcdDeviceNumber, String pgGroupNumber, boolean headset) {
-    }
-
-    private static record PgRequest(String pgGroupNumber) {
-    }
-
-    private static record WithdrawAgentRequest(int reasonIndex) {
-    }
-
-    private static record PermanentListeningRequest(String agentNumber) {
-    }
-
-    private static record IntrusionRequest(String agentNumber, IntrusionMode mode) {
-    }
 
-    private static record ChangeIntrusionModeRequest(IntrusionMode mode) {
-    }
-
-    private static record AgentSkillActivation(List<Integer> skills) {
-    }
+    private final AsyncCallCenterAgentRest async;
 
-    static class WithdrawReasons {
-        private List<WithdrawReason> reasons;
-
-        public final List<WithdrawReason> getReasons() {
-            return reasons;
-        }
-    }
-
-    /**
-     * @param httpClient
-     * @param uri
-     */
     public CallCenterAgentRest(HttpClientWrapper httpClient, URI uri) {
         super(httpClient, uri);
+        this.async = new AsyncCallCenterAgentRest(httpClient, uri);
+    }
+
+    public AsyncCallCenterAgentService getAsyncService() {
+        return async;
     }
 
     @Override
     public OperatorConfiguration getOperatorConfiguration(String loginName) {
-    	
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("getOperatorConfiguration() called with: loginName={}", loginName);
-    	}
-
-    	URI uriGet = URIBuilder.appendPath(uri, "config");
-        if (loginName != null) {
-            uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.GET(uriGet);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-
-        O2GAgentConfig agentConfig = getResult(response, O2GAgentConfig.class);
-        if (agentConfig == null) {
-            return null;
-        }
-        else {
-            return agentConfig.toOperatorConfiguration();
-        }
+        return join(async.getOperatorConfiguration(loginName));
     }
 
     @Override
     public OperatorState getOperatorState(String loginName) {
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("getOperatorState() called with: loginName={}", loginName);
-    	}
-
-        URI uriGet = URIBuilder.appendPath(uri, "state");
-        if (loginName != null) {
-            uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.GET(uriGet);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-
-        return getResult(response, OperatorState.class);
+        return join(async.getOperatorState(loginName));
     }
 
     @Override
@@ -134,26 +67,7 @@ public class CallCenterAgentRest extends AbstractRESTService implements CallCent
 
     @Override
     public boolean logonOperator(String proAcdNumber, String pgNumber, boolean headset, String loginName) {
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("logonOperator() called with: proAcdNumber={}, pgNumber={}, headset={}, loginName={}", 
-    				proAcdNumber, pgNumber, headset, loginName);
-    	}
-
-        URI uriPost = URIBuilder.appendPath(uri, "logon");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        String json = gson.toJson(
-                new LogOnAgentRequest(AssertUtil.requireNotEmpty(proAcdNumber, "proAcdNumber"), pgNumber, headset));
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.logonOperator(proAcdNumber, pgNumber, headset, loginName));
     }
 
     @Override
@@ -163,18 +77,7 @@ public class CallCenterAgentRest extends AbstractRESTService implements CallCent
 
     @Override
     public boolean logoffOperator(String loginName) {
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("logoffOperator() called with: loginName={}", loginName);
-    	}
-    	
-        URI uriPost = URIBuilder.appendPath(uri, "logoff");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.POST(uriPost);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.logoffOperator(loginName));
     }
 
     @Override
@@ -184,23 +87,7 @@ public class CallCenterAgentRest extends AbstractRESTService implements CallCent
 
     @Override
     public boolean enterAgentGroup(String pgNumber, String loginName) {
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("enterAgentGroup() called with: pgNumber={}, loginName={}", pgNumber, loginName);
-    	}
-    	
-        URI uriPost = URIBuilder.appendPath(uri, "enterPG");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        String json = gson.toJson(new PgRequest(AssertUtil.requireNotEmpty(pgNumber, "pgNumber")));
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-    	
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.enterAgentGroup(pgNumber, loginName));
     }
 
     @Override
@@ -210,37 +97,7 @@ public class CallCenterAgentRest extends AbstractRESTService implements CallCent
 
     @Override
     public boolean exitAgentGroup(String loginName) {
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("exitAgentGroup() called with: loginName={}", loginName);
-    	}
-    	
-        // First get the operator state to get the processing group
-        OperatorState operatorState = this.getOperatorState(loginName);
-        
-        if (operatorState.getPgNumber() == null) {
-            // The supervisor is NOT in a group return an error
-
-            lastError = Optional.ofNullable(new RestErrorInfo("Requester is not in a group", false) {
-            });
-            return false;
-        }
-        else {
-            URI uriPost = URIBuilder.appendPath(uri, "exitPG");
-            if (loginName != null) {
-                uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-            }
-
-            String json = gson
-                    .toJson(new PgRequest(AssertUtil.requireNotEmpty(operatorState.getPgNumber(), "pgNumber")));
-
-            if (logger.isDebugEnabled()) {
-        		logger.debug("Request=: {}", json);
-        	}
-
-            HttpRequest request = HttpUtil.POST(uriPost, json);
-            CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-            return isSucceeded(response);
-        }
+        return join(async.exitAgentGroup(loginName));
     }
 
     @Override
@@ -248,24 +105,9 @@ public class CallCenterAgentRest extends AbstractRESTService implements CallCent
         return this.exitAgentGroup(null);
     }
 
-    private boolean doAgentAction(String action, String loginName) {
-        URI uriPost = URIBuilder.appendPath(uri, action);
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.POST(uriPost);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
-    }
-
     @Override
     public boolean setWrapup(String loginName) {
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("setWrapup() called with: loginName={}", loginName);
-    	}
-
-    	return this.doAgentAction("wrapUp", loginName);
+        return join(async.setWrapup(loginName));
     }
 
     @Override
@@ -275,11 +117,7 @@ public class CallCenterAgentRest extends AbstractRESTService implements CallCent
 
     @Override
     public boolean setReady(String loginName) {
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("setReady() called with: loginName={}", loginName);
-    	}
-
-        return this.doAgentAction("ready", loginName);
+        return join(async.setReady(loginName));
     }
 
     @Override
@@ -289,11 +127,7 @@ public class CallCenterAgentRest extends AbstractRESTService implements CallCent
 
     @Override
     public boolean setPause(String loginName) {
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("setPause() called with: loginName={}", loginName);
-    	}
-
-        return this.doAgentAction("pause", loginName);
+        return join(async.setPause(loginName));
     }
 
     @Override
@@ -303,24 +137,7 @@ public class CallCenterAgentRest extends AbstractRESTService implements CallCent
 
     @Override
     public boolean setWithdraw(WithdrawReason reason, String loginName) {
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("setWithdraw() called with: reason={}, loginName={}", reason, loginName);
-    	}
-
-        URI uriPost = URIBuilder.appendPath(uri, "withdraw");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        String json = gson.toJson(new WithdrawAgentRequest(AssertUtil.requireNotNull(reason.getIndex(), "reason")));
-
-        if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.setWithdraw(reason, loginName));
     }
 
     @Override
@@ -330,25 +147,7 @@ public class CallCenterAgentRest extends AbstractRESTService implements CallCent
 
     @Override
     public boolean requestPermanentListening(String agentNumber, String loginName) {
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("requestPermanentListening() called with: agentNumber={}, loginName={}", agentNumber, loginName);
-    	}
-
-        URI uriPost = URIBuilder.appendPath(uri, "permanentListening");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        String json = gson
-                .toJson(new PermanentListeningRequest(AssertUtil.requireNotEmpty(agentNumber, "agentNumber")));
-
-        if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.requestPermanentListening(agentNumber, loginName));
     }
 
     @Override
@@ -358,25 +157,7 @@ public class CallCenterAgentRest extends AbstractRESTService implements CallCent
 
     @Override
     public boolean requestIntrusion(String agentNumber, IntrusionMode intrusionMode, String loginName) {
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("requestIntrusion() called with: agentNumber={}, intrusionMode={}, loginName={}", agentNumber, intrusionMode, loginName);
-    	}
-
-        URI uriPost = URIBuilder.appendPath(uri, "intrusion");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        String json = gson
-                .toJson(new IntrusionRequest(AssertUtil.requireNotEmpty(agentNumber, "agentNumber"), intrusionMode));
-
-        if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.requestIntrusion(agentNumber, intrusionMode, loginName));
     }
 
     @Override
@@ -386,24 +167,7 @@ public class CallCenterAgentRest extends AbstractRESTService implements CallCent
 
     @Override
     public boolean changeIntrusionMode(IntrusionMode newIntrusionMode, String loginName) {
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("changeIntrusionMode() called with: newIntrusionMode={}, loginName={}", newIntrusionMode, loginName);
-    	}
-
-        URI uriPut = URIBuilder.appendPath(uri, "intrusion");
-        if (loginName != null) {
-            uriPut = URIBuilder.appendQuery(uriPut, "loginName", loginName);
-        }
-
-        String json = gson.toJson(new ChangeIntrusionModeRequest(newIntrusionMode));
-
-        if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.PUT(uriPut, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.changeIntrusionMode(newIntrusionMode, loginName));
     }
 
     @Override
@@ -413,7 +177,7 @@ public class CallCenterAgentRest extends AbstractRESTService implements CallCent
 
     @Override
     public boolean requestSupervisorHelp(String loginName) {
-        return this.doAgentAction("supervisorHelp", loginName);
+        return join(async.requestSupervisorHelp(loginName));
     }
 
     @Override
@@ -421,25 +185,9 @@ public class CallCenterAgentRest extends AbstractRESTService implements CallCent
         return this.requestSupervisorHelp(null);
     }
 
-    private boolean doCancelSupervisorHelpRequest(String otherNumber, String loginName) {
-
-        URI uriDelete = URIBuilder.appendPath(uri, "intrusion");
-        if (loginName != null) {
-            uriDelete = URIBuilder.appendQuery(uriDelete, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.DELETE(uriDelete);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
-    }
-
     @Override
     public boolean rejectAgentHelpRequest(String agentNumber, String loginName) {
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("rejectAgentHelpRequest() called with: agentNumber={}, loginName={}", agentNumber, loginName);
-    	}
-
-        return this.doCancelSupervisorHelpRequest(AssertUtil.requireNotEmpty(agentNumber, "agentNumber"), loginName);
+        return join(async.rejectAgentHelpRequest(agentNumber, loginName));
     }
 
     @Override
@@ -449,11 +197,7 @@ public class CallCenterAgentRest extends AbstractRESTService implements CallCent
 
     @Override
     public boolean cancelSupervisorHelpRequest(String supervisorNumber, String loginName) {
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("cancelSupervisorHelpRequest() called with: supervisorNumber={}, loginName={}", supervisorNumber, loginName);
-    	}
-        return this.doCancelSupervisorHelpRequest(AssertUtil.requireNotEmpty(supervisorNumber, "supervisorNumber"),
-                loginName);
+        return join(async.cancelSupervisorHelpRequest(supervisorNumber, loginName));
     }
 
     @Override
@@ -463,19 +207,7 @@ public class CallCenterAgentRest extends AbstractRESTService implements CallCent
 
     @Override
     public boolean requestSnaphot(String loginName) {
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("requestSnaphot() called with: loginName={}", loginName);
-    	}
-
-        URI uriPost = URIBuilder.appendPath(uri, "state/snapshot");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.POST(uriPost);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
-
+        return join(async.requestSnaphot(loginName));
     }
 
     @Override
@@ -485,27 +217,7 @@ public class CallCenterAgentRest extends AbstractRESTService implements CallCent
 
     @Override
     public List<WithdrawReason> getWithdrawReasons(String pgNumber, String loginName) {
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("getWithdrawReasons() called with: pbNumber={}, loginName={}", pgNumber, loginName);
-    	}
-
-        URI uriGet = URIBuilder.appendPath(uri, "withdrawReasons");
-        uriGet = URIBuilder.appendQuery(uriGet, "pgNumber", AssertUtil.requireNotEmpty(pgNumber, "pgNumber"));
-
-        if (loginName != null) {
-            uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.GET(uriGet);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-
-        WithdrawReasons reasons = getResult(response, WithdrawReasons.class);
-        if (reasons == null) {
-            return null;
-        }
-        else {
-            return Collections.unmodifiableList(reasons.getReasons());
-        }
+        return join(async.getWithdrawReasons(pgNumber, loginName));
     }
 
     @Override
@@ -515,24 +227,7 @@ public class CallCenterAgentRest extends AbstractRESTService implements CallCent
 
     @Override
     public boolean activateSkills(List<Integer> skills, String loginName) {
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("activateSkills() called with: skills={}, loginName={}", skills, loginName);
-    	}
-
-        URI uriPost = URIBuilder.appendPath(uri, "config/skills/activate");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        String json = gson.toJson(new AgentSkillActivation(skills));
-
-        if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.activateSkills(skills, loginName));
     }
 
     @Override
@@ -542,24 +237,7 @@ public class CallCenterAgentRest extends AbstractRESTService implements CallCent
 
     @Override
     public boolean deactivateSkills(List<Integer> skills, String loginName) {
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("deactivateSkills() called with: skills={}, loginName={}", skills, loginName);
-    	}
-
-        URI uriPost = URIBuilder.appendPath(uri, "config/skills/deactivate");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        String json = gson.toJson(new AgentSkillActivation(skills));
-
-        if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.deactivateSkills(skills, loginName));
     }
 
     @Override
@@ -61,6 +61,7 @@ import com.ale.o2g.internal.util.FileUtil;
 import com.ale.o2g.internal.util.HttpClientWrapper;
 import com.ale.o2g.internal.util.HttpUtil;
 import com.ale.o2g.internal.util.URIBuilder;
+import com.ale.o2g.internal.util.URITemplate;
 import com.ale.o2g.types.ccstats.AgentFilter;
 import com.ale.o2g.types.ccstats.Context;
 import com.ale.o2g.types.ccstats.Filter;
@@ -82,6 +83,11 @@ public class CallCenterStatisticsRest extends AbstractRESTService implements Cal
 	final static Logger logger = LoggerFactory.getLogger(CallCenterStatisticsRest.class);
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");        
+
+    private static final URITemplate DAYS_DATA = URITemplate.compile(
+            "scope/{+requesterId}/ctx/{+ctxId}/days/data{?begindate,enddate,format,shortHeader}");
+    private static final URITemplate ONEDAY_DATA = URITemplate.compile(
+            "scope/{+requesterId}/ctx/{+ctxId}/oneday/data{?date,slotType,format,shortHeader}");
     
     // A helper class to retrieve statistics files
     private static class StatAsyncRequest {
@@ -400,27 +406,20 @@ public class CallCenterStatisticsRest extends AbstractRESTService implements Cal
     		logger.debug("getData() called with: context={}, range={}", context, range);
     	}
 
-        URI uriGet = URIBuilder.appendPath(
-                uri, 
-                "scope", 
-                URLEncoder.encode(AssertUtil.requireNotNull(context, "context").getRequesterId(), StandardCharsets.UTF_8),
-                "ctx",
-                AssertUtil.requireNotNull(context, "context").getId(),
-                "days/data"
-                );
-
+        AssertUtil.requireNotNull(context, "context");
         AssertUtil.requireNotNull(range, "range");
-        uriGet = URIBuilder.appendQuery(uriGet, "begindate", range.getFrom().format(DATE_FORMATTER));
-        uriGet = URIBuilder.appendQuery(uriGet, "enddate", range.getTo().format(DATE_FORMATTER));
-        uriGet = URIBuilder.appendQuery(uriGet, "format", "json");
 
-        if (context.hasShortHeaders()) {
-        	uriGet = URIBuilder.appendQuery(uriGet, "shortHeader");
-        }
+        URI uriGet = DAYS_DATA.expand(
+                uri,
+                URLEncoder.encode(context.getRequesterId(), StandardCharsets.UTF_8),
+                context.getId(),
+                range.getFrom().format(DATE_FORMATTER),
+                range.getTo().format(DATE_FORMATTER),
+                "json",
+                context.hasShortHeaders() ? URITemplate.NO_VALUE : null);
 
         HttpRequest request = HttpUtil.GET(uriGet);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());            
-        return getResult(response, StatisticsData.class);
+        return getStreamedResult(httpClient.sendAsync(request, new JsonBodyHandler<>(gson, StatisticsData.class)));
     }
 
     
@@ -462,28 +461,19 @@ public class CallCenterStatisticsRest extends AbstractRESTService implements Cal
     		logger.debug("getData() called with: context={}, date={}, timeInterval={}", context, date, timeInterval);
     	}
 
-        URI uriGet = URIBuilder.appendPath(
-                uri, 
-                "scope", 
-                URLEncoder.encode(AssertUtil.requireNotNull(context, "context").getRequesterId(), StandardCharsets.UTF_8),
-                "ctx",
-                AssertUtil.requireNotNull(context, "context").getId(),
-                "oneday/data"
-                );
+        AssertUtil.requireNotNull(context, "context");
 
-        
-        uriGet = URIBuilder.appendQuery(uriGet, "date", AssertUtil.requireNotNull(date, "date").atStartOfDay().format(DATE_FORMATTER));
-        if (timeInterval != null) {
-            uriGet = URIBuilder.appendQuery(uriGet, "slotType", getSlotType(timeInterval));            
-        }
-        uriGet = URIBuilder.appendQuery(uriGet, "format", "json");
-        if (context.hasShortHeaders()) {
-        	uriGet = URIBuilder.appendQuery(uriGet, "shortHeader");
-        }
+        URI uriGet = ONEDAY_DATA.expand(
+                uri,
+                URLEncoder.encode(context.getRequesterId(), StandardCharsets.UTF_8),
+                context.getId(),
+                AssertUtil.requireNotNull(date, "date").atStartOfDay().format(DATE_FORMATTER),
+                (timeInterval != null) ? getSlotType(timeInterval) : null,
+                "json",
+                context.hasShortHeaders() ? URITemplate.NO_VALUE : null);
 
         HttpRequest request = HttpUtil.GET(uriGet);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());            
-        return getResult(response, StatisticsData.class);
+        return getStreamedResult(httpClient.sendAsync(request, new JsonBodyHandler<>(gson, StatisticsData.class)));
     }
 
     @Override
@@ -155,9 +155,7 @@ public class CommunicationLogRest extends AbstractRESTService implements Communi
         }
 
         HttpRequest request = HttpUtil.GET(uriGet);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        
-        O2GQueryResult o2gQueryResult = getResult(response, O2GQueryResult.class);
+        O2GQueryResult o2gQueryResult = getStreamedResult(httpClient.sendAsync(request, new JsonBodyHandler<>(gson, O2GQueryResult.class)));
         if (o2gQueryResult == null) {
             return null;
         }
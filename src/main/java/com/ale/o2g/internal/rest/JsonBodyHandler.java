@@ -0,0 +1,121 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.rest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscriber;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.net.http.HttpResponse.ResponseInfo;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ale.o2g.O2GRuntimeException;
+import com.ale.o2g.types.RestErrorInfo;
+import com.ale.o2g.types.RestResult;
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+
+/**
+ * A body handler that binds the json response directly from the bytes
+ * received, without copying the whole body in a string first. The body is
+ * only buffered when the debug log is enabled, to log it.
+ * <p>
+ * The binding reads a blocking stream, so it is deferred to the returned
+ * supplier and done by the thread which waits for the result, not by the
+ * executor of the http client. The supplier is {@link Closeable}, to release
+ * a response which is not read.
+ */
+public class JsonBodyHandler<T> implements BodyHandler<Supplier<RestResult<T>>> {
+
+    final static Logger logger = LoggerFactory.getLogger(AbstractRESTService.class);
+
+    private final Gson gson;
+    private final Class<T> objClass;
+
+    public JsonBodyHandler(Gson gson, Class<T> objClass) {
+        this.gson = gson;
+        this.objClass = objClass;
+    }
+
+    @Override
+    public BodySubscriber<Supplier<RestResult<T>>> apply(ResponseInfo responseInfo) {
+        int statusCode = responseInfo.statusCode();
+        boolean succeeded = (statusCode >= 200) && (statusCode <= 299);
+
+        if (logger.isDebugEnabled()) {
+            return BodySubscribers.mapping(BodySubscribers.ofString(StandardCharsets.UTF_8), body -> () -> {
+                logger.debug("Request {}: {} - Result body : {}", succeeded ? "succeeded" : "failed", statusCode, body);
+                return toResult(succeeded, new StringReader(body));
+            });
+        }
+        else {
+            return BodySubscribers.mapping(BodySubscribers.ofInputStream(), in -> new StreamedResult(succeeded, in));
+        }
+    }
+
+    private class StreamedResult implements Supplier<RestResult<T>>, Closeable {
+
+        private final boolean succeeded;
+        private final InputStream in;
+
+        StreamedResult(boolean succeeded, InputStream in) {
+            this.succeeded = succeeded;
+            this.in = in;
+        }
+
+        @Override
+        public RestResult<T> get() {
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                return toResult(succeeded, reader);
+            }
+            catch (IOException | JsonIOException e) {
+                throw new O2GRuntimeException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    private RestResult<T> toResult(boolean succeeded, Reader reader) {
+        if (succeeded) {
+            return RestResult.succeeded(gson.fromJson(reader, objClass));
+        }
+        else {
+            try {
+                return RestResult.failed(null, gson.fromJson(reader, RestErrorInfo.class));
+            }
+            catch (JsonSyntaxException e) {
+                return RestResult.failed(null, null);
+            }
+        }
+    }
+}
@@ -19,26 +19,13 @@
 package com.ale.o2g.internal.rest;
 
 import java.net.URI;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.net.http.HttpResponse.BodyHandlers;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.ale.o2g.AsyncRoutingService;
 import com.ale.o2g.RoutingService;
-import com.ale.o2g.internal.types.routing.ForwardRoute;
-import com.ale.o2g.internal.types.routing.O2GRoutingState;
-import com.ale.o2g.internal.types.routing.OverflowRoute;
-import com.ale.o2g.internal.types.routing.PresentationRoute;
-import com.ale.o2g.internal.util.AssertUtil;
 import com.ale.o2g.internal.util.HttpClientWrapper;
-import com.ale.o2g.internal.util.HttpUtil;
-import com.ale.o2g.internal.util.URIBuilder;
-import com.ale.o2g.types.routing.Destination;
 import com.ale.o2g.types.routing.DndState;
 import com.ale.o2g.types.routing.Forward;
 import com.ale.o2g.types.routing.Forward.Condition;
@@ -52,42 +39,20 @@ import com.ale.o2g.types.routing.RoutingState;
 public class RoutingRest extends AbstractRESTService implements RoutingService {
 	final static Logger logger = LoggerFactory.getLogger(RoutingRest.class);
 
-	private static class SetRouteRequest {
-		private Collection<PresentationRoute> presentationRoutes = new ArrayList<PresentationRoute>();
-		
-		public void addPresentationRoute(PresentationRoute p) {
-			presentationRoutes.add(p);
-		}
-	}
-	
-	private static class SetOverflowRouteRequest {
-		private Collection<OverflowRoute> overflowRoutes = new ArrayList<OverflowRoute>();
-		
-		public void addRoute(OverflowRoute p) {
-			overflowRoutes.add(p);
-		}
-	}
-	
-	private static record SetForwardRouteRequest(ForwardRoute forwardRoute) {}
-	
+	private final AsyncRoutingRest async;
+
 	public RoutingRest(HttpClientWrapper httpClient, URI uri) {
 		super(httpClient, uri);
+		this.async = new AsyncRoutingRest(httpClient, uri);
+	}
+
+	public AsyncRoutingService getAsyncService() {
+		return async;
 	}
 
 	@Override
 	public RoutingCapabilities getCapabilities(String loginName) {
-		if (logger.isDebugEnabled()) {
-			logger.debug("getCapabilities() called with: loginName={}", loginName);
-		}
-
-		URI uriGet = uri;
-        if (loginName != null) {
-        	uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
-        }
-
-		HttpRequest request = HttpUtil.GET(uriGet);
-		CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-		return getResult(response, RoutingCapabilities.class);
+		return join(async.getCapabilities(loginName));
 	}
 
 	@Override
@@ -97,27 +62,7 @@ public class RoutingRest extends AbstractRESTService implements RoutingService {
 
 	@Override
 	public boolean setRemoteExtensionActivation(boolean active, String loginName) {
-		if (logger.isDebugEnabled()) {
-			logger.debug("setRemoteExtensionActivation() called with: active={}, loginName={}", active, loginName);
-		}
-
-		URI uriPost = uri;
-        if (loginName != null) {
-        	uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        SetRouteRequest setRouteRequest = new SetRouteRequest();
-        setRouteRequest.addPresentationRoute(PresentationRoute.createMobileRouteActivation(active));
-
-        String json = gson.toJson(setRouteRequest);
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-        
-		HttpRequest request = HttpUtil.POST(uriPost, json);
-		CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-		return isSucceeded(response);
+		return join(async.setRemoteExtensionActivation(active, loginName));
 	}
 
 	@Override
@@ -127,19 +72,7 @@ public class RoutingRest extends AbstractRESTService implements RoutingService {
 
 	@Override
 	public DndState getDndState(String loginName) {
-		if (logger.isDebugEnabled()) {
-			logger.debug("getDndState() called with: loginName={}", loginName);
-		}
-
-		URI uriGet = URIBuilder.appendPath(uri, "dnd");
-        if (loginName != null) {
-        	uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
-        }
-
-		HttpRequest request = HttpUtil.GET(uriGet);
-		CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-		
-		return getResult(response, DndState.class);
+		return join(async.getDndState(loginName));
 	}
 
 	@Override
@@ -149,18 +82,7 @@ public class RoutingRest extends AbstractRESTService implements RoutingService {
 
 	@Override
 	public boolean activateDnd(String loginName) {
-		if (logger.isDebugEnabled()) {
-			logger.debug("activateDnd() called with: loginName={}", loginName);
-		}
-
-		URI uriPost = URIBuilder.appendPath(uri, "dnd");
-        if (loginName != null) {
-        	uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-		HttpRequest request = HttpUtil.POST(uriPost);
-		CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-		return isSucceeded(response);
+		return join(async.activateDnd(loginName));
 	}
 
 	@Override
@@ -170,18 +92,7 @@ public class RoutingRest extends AbstractRESTService implements RoutingService {
 
 	@Override
 	public boolean cancelDnd(String loginName) {
-		if (logger.isDebugEnabled()) {
-			logger.debug("cancelDnd() called with: loginName={}", loginName);
-		}
-
-		URI uriDelete = URIBuilder.appendPath(uri, "dnd");
-        if (loginName != null) {
-        	uriDelete = URIBuilder.appendQuery(uriDelete, "loginName", loginName);
-        }
-
-		HttpRequest request = HttpUtil.DELETE(uriDelete);
-		CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-		return isSucceeded(response);
+		return join(async.cancelDnd(loginName));
 	}
 
 	@Override
@@ -191,25 +102,7 @@ public class RoutingRest extends AbstractRESTService implements RoutingService {
 
 	@Override
 	public Forward getForward(String loginName) {
-
-		if (logger.isDebugEnabled()) {
-			logger.debug("getForward() called with: loginName={}", loginName);
-		}
-
-		URI uriGet = URIBuilder.appendPath(uri, "forwardroute");
-        if (loginName != null) {
-        	uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
-        }
-
-		HttpRequest request = HttpUtil.GET(uriGet);
-		CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-		ForwardRoute forwardRoute = getResult(response, ForwardRoute.class);
-		if (forwardRoute == null) {
-			return new Forward(Destination.NONE, null, null) {};
-		}
-		else {
-			return forwardRoute.toForward();
-		}
+		return join(async.getForward(loginName));
 	}
 
 	@Override
@@ -219,19 +112,7 @@ public class RoutingRest extends AbstractRESTService implements RoutingService {
 
 	@Override
 	public boolean cancelForward(String loginName) {
-
-		if (logger.isDebugEnabled()) {
-			logger.debug("cancelForward() called with: loginName={}", loginName);
-		}
-
-		URI uriDelete = URIBuilder.appendPath(uri, "forwardroute");
-        if (loginName != null) {
-        	uriDelete = URIBuilder.appendQuery(uriDelete, "loginName", loginName);
-        }
-
-		HttpRequest request = HttpUtil.DELETE(uriDelete);
-		CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-		return isSucceeded(response);
+		return join(async.cancelForward(loginName));
 	}
 
 	@Override
@@ -241,25 +122,7 @@ public class RoutingRest extends AbstractRESTService implements RoutingService {
 
 	@Override
 	public boolean forwardOnVoiceMail(Condition condition, String loginName) {
-
-		if (logger.isDebugEnabled()) {
-			logger.debug("forwardOnVoiceMail() called with: condition={}, loginName={}", condition, loginName);
-		}
-
-		URI uriPost = URIBuilder.appendPath(uri, "forwardroute");
-        if (loginName != null) {
-        	uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        String json = gson.toJson(new SetForwardRouteRequest(ForwardRoute.createForwardOnVoiceMail(condition)));
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-		HttpRequest request = HttpUtil.POST(uriPost, json);
-		CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-		return isSucceeded(response);
+		return join(async.forwardOnVoiceMail(condition, loginName));
 	}
 
 	@Override
@@ -269,28 +132,7 @@ public class RoutingRest extends AbstractRESTService implements RoutingService {
 
 	@Override
 	public boolean forwardOnNumber(String number, Condition condition, String loginName) {
-
-		if (logger.isDebugEnabled()) {
-			logger.debug("forwardOnNumber() called with: number={}, condition={}, loginName={}", number, condition, loginName);
-		}
-
-		URI uriPost = URIBuilder.appendPath(uri, "forwardroute");
-        if (loginName != null) {
-        	uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        String json = gson.toJson(new SetForwardRouteRequest(
-        		ForwardRoute.createForwardOnNumber(
-        				AssertUtil.requireNotEmpty(number, "number"), 
-        				condition)));
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-		HttpRequest request = HttpUtil.POST(uriPost, json);
-		CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-		return isSucceeded(response);
+		return join(async.forwardOnNumber(number, condition, loginName));
 	}
 
 	@Override
@@ -300,18 +142,7 @@ public class RoutingRest extends AbstractRESTService implements RoutingService {
 
 	@Override
 	public boolean cancelOverflow(String loginName) {
-		if (logger.isDebugEnabled()) {
-			logger.debug("cancelOverflow() called with: loginName={}", loginName);
-		}
-
-		URI uriDelete = URIBuilder.appendPath(uri, "overflowroute");
-        if (loginName != null) {
-        	uriDelete = URIBuilder.appendQuery(uriDelete, "loginName", loginName);
-        }
-
-		HttpRequest request = HttpUtil.DELETE(uriDelete);
-		CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-		return isSucceeded(response);
+		return join(async.cancelOverflow(loginName));
 	}
 
 	@Override
@@ -321,24 +152,7 @@ public class RoutingRest extends AbstractRESTService implements RoutingService {
 
 	@Override
 	public Overflow getOverflow(String loginName) {
-		if (logger.isDebugEnabled()) {
-			logger.debug("getOverflow() called with: loginName={}", loginName);
-		}
-
-		URI uriGet = URIBuilder.appendPath(uri, "overflowroute");
-        if (loginName != null) {
-        	uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
-        }
-
-		HttpRequest request = HttpUtil.GET(uriGet);
-		CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-		OverflowRoute overflowRoute = getResult(response, OverflowRoute.class);
-		if (overflowRoute == null) {
-			return new Overflow(Destination.NONE, null) {};
-		}
-		else {
-			return overflowRoute.toOverflow();
-		}
+		return join(async.getOverflow(loginName));
 	}
 
 	@Override
@@ -348,27 +162,7 @@ public class RoutingRest extends AbstractRESTService implements RoutingService {
 
 	@Override
 	public boolean overflowOnVoiceMail(Overflow.Condition condition, String loginName) {
-		if (logger.isDebugEnabled()) {
-			logger.debug("overflowOnVoiceMail() called with: condition={}, loginName={}", condition, loginName);
-		}
-
-		URI uriPost = URIBuilder.appendPath(uri, "overflowroute");
-        if (loginName != null) {
-        	uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        SetOverflowRouteRequest setOverflowRouteRequest = new SetOverflowRouteRequest();
-        setOverflowRouteRequest.addRoute(OverflowRoute.createOverflowOnVoiceMail(condition));
-        
-        String json = gson.toJson(setOverflowRouteRequest);
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-        
-		HttpRequest request = HttpUtil.POST(uriPost, json);
-		CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-		return isSucceeded(response);
+		return join(async.overflowOnVoiceMail(condition, loginName));
 	}
 
 	@Override
@@ -378,29 +172,7 @@ public class RoutingRest extends AbstractRESTService implements RoutingService {
 
 	@Override
 	public RoutingState getRoutingState(String loginName) {
-		if (logger.isDebugEnabled()) {
-			logger.debug("getRoutingState() called with: loginName={}", loginName);
-		}
-
-		URI uriGet = URIBuilder.appendPath(uri, "state");
-        if (loginName != null) {
-        	uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
-        }
-
-		HttpRequest request = HttpUtil.GET(uriGet);
-		CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-		O2GRoutingState routingState = getResult(response, O2GRoutingState.class);
-		if (routingState == null) {
-			return new RoutingState(
-					false,
-					new Forward(Destination.NONE, null, null) {},
-					new Overflow(Destination.NONE, null) {},
-					new DndState(false) {}
-					) {};
-		}
-		else {
-			return routingState.toRoutingState();
-		}
+		return join(async.getRoutingState(loginName));
 	}
 
 	@Override
@@ -410,19 +182,7 @@ public class RoutingRest extends AbstractRESTService implements RoutingService {
 
 	@Override
 	public boolean requestSnapshot(String loginName) {
-
-		if (logger.isDebugEnabled()) {
-			logger.debug("requestSnapshot() called with: loginName={}", loginName);
-		}
-
-		URI uriPost = URIBuilder.appendPath(uri, "state/snapshot");
-        if (loginName != null) {
-        	uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-		HttpRequest request = HttpUtil.POST(uriPost);
-		CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-		return isSucceeded(response);
+		return join(async.requestSnapshot(loginName));
 	}
 
 	@Override
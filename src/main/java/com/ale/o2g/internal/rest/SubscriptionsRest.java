@@ -28,9 +28,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.ale.o2g.Subscription;
+import com.ale.o2g.Subscription.Filter;
 import com.ale.o2g.internal.services.ISubscriptions;
 import com.ale.o2g.internal.types.SubscriptionResult;
 import com.ale.o2g.internal.util.HttpClientWrapper;
+import com.ale.o2g.internal.util.HttpUtil;
 import com.ale.o2g.internal.util.URIBuilder;
 
 /**
@@ -41,6 +43,9 @@ public class SubscriptionsRest  extends AbstractRESTService implements ISubscrip
 
 	final static Logger logger = LoggerFactory.getLogger(SubscriptionsRest.class);
 
+	private static record UpdateRequest(Filter filter) {
+	}
+
 	public SubscriptionsRest(HttpClientWrapper httpClient, URI uri) {
 		super(httpClient, uri);
 	}
@@ -80,4 +85,19 @@ public class SubscriptionsRest  extends AbstractRESTService implements ISubscrip
 		return isSucceeded(response);
 	}
 
+
+	@Override
+	public boolean update(String subscriptionId, Filter filter) {
+		String json = gson.toJson(new UpdateRequest(filter));
+
+    	if (logger.isDebugEnabled()) {
+    		logger.debug("update() called with: subscriptionId={}, filter={}", subscriptionId, json);
+    	}
+
+		HttpRequest request = HttpUtil.PUT(URIBuilder.appendPath(uri, subscriptionId), json);
+
+		CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
+		return isSucceeded(response);
+	}
+
 }
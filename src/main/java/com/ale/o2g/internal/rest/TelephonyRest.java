@@ -19,22 +19,14 @@
 package com.ale.o2g.internal.rest;
 
 import java.net.URI;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.net.http.HttpResponse.BodyHandlers;
 import java.util.Collection;
-import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.ale.o2g.AsyncTelephonyService;
 import com.ale.o2g.TelephonyService;
-import com.ale.o2g.internal.types.telephony.O2GTelephonicState;
-import com.ale.o2g.internal.util.AssertUtil;
-import com.ale.o2g.internal.util.HexaString;
 import com.ale.o2g.internal.util.HttpClientWrapper;
-import com.ale.o2g.internal.util.HttpUtil;
-import com.ale.o2g.internal.util.URIBuilder;
 import com.ale.o2g.types.telephony.Call;
 import com.ale.o2g.types.telephony.Callback;
 import com.ale.o2g.types.telephony.HuntingGroupStatus;
@@ -45,7 +37,6 @@ import com.ale.o2g.types.telephony.TelephonicState;
 import com.ale.o2g.types.telephony.call.CorrelatorData;
 import com.ale.o2g.types.telephony.call.Leg;
 import com.ale.o2g.types.telephony.call.Participant;
-import com.ale.o2g.types.telephony.call.acd.CallProfile;
 import com.ale.o2g.types.telephony.call.acd.PilotInfo;
 import com.ale.o2g.types.telephony.call.acd.PilotTransferQueryParameters;
 import com.ale.o2g.types.telephony.device.DeviceState;
@@ -53,87 +44,20 @@ import com.ale.o2g.types.telephony.device.DeviceState;
 public class TelephonyRest extends AbstractRESTService implements TelephonyService {
     final static Logger logger = LoggerFactory.getLogger(TelephonyRest.class);
 
-    private static class CallList {
-        private Collection<Call> calls;
-    }
-
-    private static class LegList {
-        private Collection<Leg> legs;
-    }
-
-    private static class ParticipantList {
-        private Collection<Participant> participants;
-    }
-
-    private static class DeviceStateList {
-        private Collection<DeviceState> deviceStates;
-    }
-
-    private static class CallbackList {
-        private Collection<Callback> callbacks;
-    }
-
-    private static class SendAssociatedDataRequest {
-        @SuppressWarnings("unused")
-        private String deviceId;
-        @SuppressWarnings("unused")
-        private String associatedData;
-        @SuppressWarnings("unused")
-        private String hexaBinaryAssociatedData;
-
-        public SendAssociatedDataRequest(String deviceId, CorrelatorData correlatorData) {
-            this.deviceId = deviceId;
-            this.associatedData = null;
-
-            byte[] byteValue = correlatorData.asByteArray();
-            if (byteValue == null) {
-                this.hexaBinaryAssociatedData = null;
-            } else {
-                this.hexaBinaryAssociatedData = HexaString.toHexaString(byteValue);
-            }
-        }
-    }
-
-    private static record MakeBasicCallRequest(String deviceId, String callee, boolean autoAnswer) {}
-    private static record DeviceIdRequest(String deviceId) {}
-    private static record MakeCallRequest(String deviceId, String callee, boolean autoAnswer,
-            boolean inhibitProgressTone, String hexaBinaryAssociatedData, String pin, String secretCode,
-            String businessCode, String callingNumber) {}
-    private static record BlindTransferRequest(String transferTo, boolean anonymous) {}
-    private static record HeldCallRequest(String heldCallRef) {}
-    private static record ParkRequest(String parkTo) {}
-    private static record ReconnectRequest(String deviceId, String enquiryCallRef) {}
-    private static record RedirectRequest(String redirectTo, boolean anonymous) {}
-    private static record SendDtmfRequest(String deviceId, String number) {}
-    private static record SendAccountInfoRequest(String deviceId, String accountInfo) {}
-    private static record DSLogOnRequest(String dssDeviceNumber) {}
-    private static record PickupRequest(String otherCallRef, String otherPhoneNumber, boolean autoAnswer) {}
-    private static record MiniMessageRequest(String recipient, String message) {}
-    private static record CallbackRequest(String callee) {}
-    private static record ACRSkills(Collection<CallProfile.Skill> skills) {}
-    private static record PilotQueryParam(String agentNumber, ACRSkills skills, Boolean priorityTransfer,
-            Boolean supervisedTransfer) {}
+    private final AsyncTelephonyRest async;
 
     public TelephonyRest(HttpClientWrapper httpClient, URI uri) {
         super(httpClient, uri);
+        this.async = new AsyncTelephonyRest(httpClient, uri);
+    }
+
+    public AsyncTelephonyService getAsyncService() {
+        return async;
     }
 
     @Override
     public boolean basicMakeCall(String deviceId, String callee, boolean autoAnswer) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("basicMakeCall() called with: deviceId={}, callee={}, autoAnswer={}", deviceId, callee, autoAnswer);
-        }
-
-        String json = gson.toJson(new MakeBasicCallRequest(AssertUtil.requireNotEmpty(deviceId, "deviceId"),
-                AssertUtil.requireNotEmpty(callee, "callee"), autoAnswer));
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(URIBuilder.appendPath(uri, "basicCall"), json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.basicMakeCall(deviceId, callee, autoAnswer));
     }
 
     @Override
@@ -147,31 +71,12 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public boolean basicAnswerCall(String deviceId) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("basicAnswerCall() called with: deviceId={}", deviceId);
-        }
-
-        String json = gson.toJson(new DeviceIdRequest(AssertUtil.requireNotEmpty(deviceId, "deviceId")));
-
-        HttpRequest request = HttpUtil.POST(URIBuilder.appendPath(uri, "basicCall/answer"), json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.basicAnswerCall(deviceId));
     }
 
     @Override
     public boolean basicDropMe(String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("basicDropMe() called with: loginName={}", loginName);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "basicCall/dropme");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.POST(uriPost);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.basicDropMe(loginName));
     }
 
     @Override
@@ -185,24 +90,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public Collection<Call> getCalls(String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("getCalls() called with: loginName={}", loginName);
-        }
-
-        URI uriGet = URIBuilder.appendPath(uri, "calls");
-        if (loginName != null) {
-            uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.GET(uriGet);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-
-        CallList calls = getResult(response, CallList.class);
-        if (calls == null) {
-            return null;
-        } else {
-            return unmodifiableOrEmpty(calls.calls);
-        }
+        return join(async.getCalls(loginName));
     }
 
     @Override
@@ -216,19 +104,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public Call getCall(String callRef, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("getCall() called with: callRef={}, loginName={}", callRef, loginName);
-        }
-
-        URI uriGet = URIBuilder.appendPath(uri, "calls", AssertUtil.requireNotEmpty(callRef, "callRef"));
-        if (loginName != null) {
-            uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.GET(uriGet);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-
-        return getResult(response, Call.class);
+        return join(async.getCall(callRef, loginName));
     }
 
     @Override
@@ -243,32 +119,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
     @Override
     public boolean makeCall(String deviceId, String callee, boolean autoAnswer, boolean inhibitProgressTone,
             CorrelatorData correlatorData, String callingNumber, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("makeCall() called with: deviceId={}, callee={}, autoAnswer={}, inhibitProgressTone={}, correlatorData={}, callingNumber={}, loginName={}",
-                    deviceId, callee, autoAnswer, inhibitProgressTone, correlatorData, callingNumber, loginName);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "calls");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        String hexaBinaryAssociatedData = null;
-        if (correlatorData != null) {
-            hexaBinaryAssociatedData = correlatorData.asString();
-        }
-
-        String json = gson.toJson(new MakeCallRequest(AssertUtil.requireNotEmpty(deviceId, "deviceId"),
-                AssertUtil.requireNotEmpty(callee, "callee"), autoAnswer, inhibitProgressTone, hexaBinaryAssociatedData,
-                null, null, null, callingNumber));
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.makeCall(deviceId, callee, autoAnswer, inhibitProgressTone, correlatorData, callingNumber, loginName));
     }
 
     @Override
@@ -286,27 +137,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
     @Deprecated
     public boolean makeCall(String deviceId, String callee, boolean autoAnswer, boolean inhibitProgressTone,
             String associatedData, String callingNumber, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("makeCall() called with: deviceId={}, callee={}, autoAnswer={}, inhibitProgressTone={}, associatedData={}, callingNumber={}, loginName={}",
-                    deviceId, callee, autoAnswer, inhibitProgressTone, associatedData, callingNumber, loginName);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "calls");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        String json = gson.toJson(new MakeCallRequest(AssertUtil.requireNotEmpty(deviceId, "deviceId"),
-                AssertUtil.requireNotEmpty(callee, "callee"), autoAnswer, inhibitProgressTone, associatedData, null,
-                null, null, callingNumber));
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.makeCallWithAssociatedData(deviceId, callee, autoAnswer, inhibitProgressTone, associatedData, callingNumber, loginName));
     }
 
     @Override
@@ -343,26 +174,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
     @Override
     public boolean makePrivateCall(String deviceId, String callee, boolean autoAnswer, String pin, String secretCode,
             String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("makePrivateCall() called with: deviceId={}, callee={}, autoAnswer={}, pin=***, secretCode=***, loginName={}",
-                    deviceId, callee, autoAnswer, loginName);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "calls");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        String json = gson.toJson(new MakeCallRequest(AssertUtil.requireNotEmpty(deviceId, "deviceId"),
-                AssertUtil.requireNotEmpty(callee, "callee"), autoAnswer, false, null, pin, secretCode, null, null));
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.makePrivateCall(deviceId, callee, autoAnswer, pin, secretCode, loginName));
     }
 
     @Override
@@ -378,27 +190,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
     @Override
     public boolean makeBusinessCall(String deviceId, String callee, boolean autoAnswer, String businessCode,
             String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("makeBusinessCall() called with: deviceId={}, callee={}, autoAnswer={}, businessCode={}, loginName={}",
-                    deviceId, callee, autoAnswer, businessCode, loginName);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "calls");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        String json = gson.toJson(new MakeCallRequest(AssertUtil.requireNotEmpty(deviceId, "deviceId"),
-                AssertUtil.requireNotEmpty(callee, "callee"), autoAnswer, false, null, null, null,
-                AssertUtil.requireNotEmpty(businessCode, "businessCode"), null));
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.makeBusinessCall(deviceId, callee, autoAnswer, businessCode, loginName));
     }
 
     @Override
@@ -413,83 +205,22 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public boolean alternate(String callRef, String deviceId) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("alternate() called with: callRef={}, deviceId={}", callRef, deviceId);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "calls", AssertUtil.requireNotEmpty(callRef, "callRef"), "alternate");
-
-        String json = gson.toJson(new DeviceIdRequest(AssertUtil.requireNotEmpty(deviceId, "deviceId")));
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.alternate(callRef, deviceId));
     }
 
     @Override
     public boolean answer(String callRef, String deviceId) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("answer() called with: callRef={}, deviceId={}", callRef, deviceId);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "calls", AssertUtil.requireNotEmpty(callRef, "callRef"), "answer");
-
-        String json = gson.toJson(new DeviceIdRequest(AssertUtil.requireNotEmpty(deviceId, "deviceId")));
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.answer(callRef, deviceId));
     }
 
     @Override
     public boolean attachData(String callRef, String deviceId, CorrelatorData correlatorData) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("attachData() called with: callRef={}, deviceId={}, correlatorData={}", callRef, deviceId, correlatorData);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "calls", AssertUtil.requireNotEmpty(callRef, "callRef"), "attachdata");
-
-        String json = gson.toJson(
-                new SendAssociatedDataRequest(AssertUtil.requireNotEmpty(deviceId, "deviceId"), correlatorData));
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.attachData(callRef, deviceId, correlatorData));
     }
 
     @Override
     public boolean blindTransfer(String callRef, String transferTo, boolean anonymous, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("blindTransfer() called with: callRef={}, transferTo={}, anonymous={}, loginName={}",
-                    callRef, transferTo, anonymous, loginName);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "calls", AssertUtil.requireNotEmpty(callRef, "callRef"), "blindtransfer");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        String json = gson.toJson(new BlindTransferRequest(AssertUtil.requireNotEmpty(transferTo, "transferTo"), anonymous));
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.blindTransfer(callRef, transferTo, anonymous, loginName));
     }
 
     @Override
@@ -512,18 +243,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public boolean callback(String callRef, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("callback() called with: callRef={}, loginName={}", callRef, loginName);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "calls", AssertUtil.requireNotEmpty(callRef, "callRef"), "callback");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.POST(uriPost);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.callback(callRef, loginName));
     }
 
     @Override
@@ -537,24 +257,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public Collection<Leg> getLegs(String callRef, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("getLegs() called with: callRef={}, loginName={}", callRef, loginName);
-        }
-
-        URI uriGet = URIBuilder.appendPath(uri, "calls", AssertUtil.requireNotEmpty(callRef, "callRef"), "deviceLegs");
-        if (loginName != null) {
-            uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.GET(uriGet);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-
-        LegList legs = getResult(response, LegList.class);
-        if (legs == null) {
-            return null;
-        } else {
-            return unmodifiableOrEmpty(legs.legs);
-        }
+        return join(async.getLegs(callRef, loginName));
     }
 
     @Override
@@ -568,21 +271,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public Leg getLeg(String callRef, String legId, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("getLeg() called with: callRef={}, legId={}, loginName={}", callRef, legId, loginName);
-        }
-
-        URI uriGet = URIBuilder.appendPath(uri, "calls", AssertUtil.requireNotEmpty(callRef, "callRef"), "deviceLegs",
-                AssertUtil.requireNotEmpty(legId, "legId"));
-
-        if (loginName != null) {
-            uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.GET(uriGet);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-
-        return getResult(response, Leg.class);
+        return join(async.getLeg(callRef, legId, loginName));
     }
 
     @Override
@@ -596,18 +285,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public boolean dropme(String callRef, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("dropme() called with: callRef={}, loginName={}", callRef, loginName);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "calls", AssertUtil.requireNotEmpty(callRef, "callRef"), "dropme");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.POST(uriPost);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.dropme(callRef, loginName));
     }
 
     @Override
@@ -621,24 +299,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public boolean hold(String callRef, String deviceId, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("hold() called with: callRef={}, deviceId={}, loginName={}", callRef, deviceId, loginName);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "calls", AssertUtil.requireNotEmpty(callRef, "callRef"), "hold");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        String json = gson.toJson(new DeviceIdRequest(AssertUtil.requireNotEmpty(deviceId, "deviceId")));
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.hold(callRef, deviceId, loginName));
     }
 
     @Override
@@ -652,24 +313,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public boolean merge(String callRef, String heldCallRef, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("merge() called with: callRef={}, heldCallRef={}, loginName={}", callRef, heldCallRef, loginName);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "calls", AssertUtil.requireNotEmpty(callRef, "callRef"), "merge");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        String json = gson.toJson(new HeldCallRequest(AssertUtil.requireNotEmpty(heldCallRef, "heldCallRef")));
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.merge(callRef, heldCallRef, loginName));
     }
 
     @Override
@@ -683,18 +327,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public boolean overflowToVoiceMail(String callRef, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("overflowToVoiceMail() called with: callRef={}, loginName={}", callRef, loginName);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "calls", AssertUtil.requireNotEmpty(callRef, "callRef"), "overflowToVoiceMail");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.POST(uriPost);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.overflowToVoiceMail(callRef, loginName));
     }
 
     @Override
@@ -708,24 +341,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public TelephonicState getState(String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("getState() called with: loginName={}", loginName);
-        }
-
-        URI uriGet = URIBuilder.appendPath(uri, "state");
-        if (loginName != null) {
-            uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.GET(uriGet);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-
-        O2GTelephonicState o2gTelephonicState = getResult(response, O2GTelephonicState.class);
-        if (o2gTelephonicState != null) {
-            return o2gTelephonicState.toTelephonicState();
-        } else {
-            return null;
-        }
+        return join(async.getState(loginName));
     }
 
     @Override
@@ -739,24 +355,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public boolean park(String callRef, String parkTo, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("park() called with: callRef={}, parkTo={}, loginName={}", callRef, parkTo, loginName);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "calls", AssertUtil.requireNotEmpty(callRef, "callRef"), "park");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        String json = gson.toJson(new ParkRequest(parkTo));
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.park(callRef, parkTo, loginName));
     }
 
     @Override
@@ -779,24 +378,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public Collection<Participant> getParticipants(String callRef, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("getParticipants() called with: callRef={}, loginName={}", callRef, loginName);
-        }
-
-        URI uriGet = URIBuilder.appendPath(uri, "calls", AssertUtil.requireNotEmpty(callRef, "callRef"), "participants");
-        if (loginName != null) {
-            uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.GET(uriGet);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-
-        ParticipantList participants = getResult(response, ParticipantList.class);
-        if (participants == null) {
-            return null;
-        } else {
-            return unmodifiableOrEmpty(participants.participants);
-        }
+        return join(async.getParticipants(callRef, loginName));
     }
 
     @Override
@@ -810,20 +392,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public Participant getParticipant(String callRef, String participantId, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("getParticipant() called with: callRef={}, participantId={}, loginName={}", callRef, participantId, loginName);
-        }
-
-        URI uriGet = URIBuilder.appendPath(uri, "calls", AssertUtil.requireNotEmpty(callRef, "callRef"), "participants",
-                AssertUtil.requireNotEmpty(participantId, "participantId"));
-        if (loginName != null) {
-            uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.GET(uriGet);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-
-        return getResult(response, Participant.class);
+        return join(async.getParticipant(callRef, participantId, loginName));
     }
 
     @Override
@@ -837,19 +406,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public boolean dropParticipant(String callRef, String participantId, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("dropParticipant() called with: callRef={}, participantId={}, loginName={}", callRef, participantId, loginName);
-        }
-
-        URI uriDelete = URIBuilder.appendPath(uri, "calls", AssertUtil.requireNotEmpty(callRef, "callRef"),
-                "participants", AssertUtil.requireNotEmpty(participantId, "participantId"));
-        if (loginName != null) {
-            uriDelete = URIBuilder.appendQuery(uriDelete, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.DELETE(uriDelete);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.dropParticipant(callRef, participantId, loginName));
     }
 
     @Override
@@ -863,26 +420,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public boolean reconnect(String callRef, String deviceId, String enquiryCallRef, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("reconnect() called with: callRef={}, deviceId={}, enquiryCallRef={}, loginName={}",
-                    callRef, deviceId, enquiryCallRef, loginName);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "calls", AssertUtil.requireNotEmpty(callRef, "callRef"), "reconnect");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        String json = gson.toJson(new ReconnectRequest(AssertUtil.requireNotEmpty(deviceId, "deviceId"),
-                AssertUtil.requireNotEmpty(enquiryCallRef, "enquiryCallRef")));
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.reconnect(callRef, deviceId, enquiryCallRef, loginName));
     }
 
     @Override
@@ -896,20 +434,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public boolean doRecordAction(String callRef, RecordingAction action, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("doRecordAction() called with: callRef={}, action={}, loginName={}", callRef, action, loginName);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "calls", AssertUtil.requireNotEmpty(callRef, "callRef"), "recording");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        uriPost = URIBuilder.appendQuery(uriPost, "action", action.toString().toLowerCase());
-
-        HttpRequest request = HttpUtil.POST(uriPost);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.doRecordAction(callRef, action, loginName));
     }
 
     @Override
@@ -923,25 +448,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public boolean redirect(String callRef, String redirectTo, boolean anonymous, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("redirect() called with: callRef={}, redirectTo={}, anonymous={}, loginName={}",
-                    callRef, redirectTo, anonymous, loginName);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "calls", AssertUtil.requireNotEmpty(callRef, "callRef"), "redirect");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        String json = gson.toJson(new RedirectRequest(AssertUtil.requireNotEmpty(redirectTo, "transferTo"), anonymous));
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.redirect(callRef, redirectTo, anonymous, loginName));
     }
 
     @Override
@@ -964,21 +471,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public boolean retrieve(String callRef, String deviceId, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("retrieve() called with: callRef={}, deviceId={}, loginName={}", callRef, deviceId, loginName);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "calls", AssertUtil.requireNotEmpty(callRef, "callRef"), "retrieve");
-
-        String json = gson.toJson(new DeviceIdRequest(AssertUtil.requireNotEmpty(deviceId, "deviceId")));
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.retrieve(callRef, deviceId, loginName));
     }
 
     @Override
@@ -992,64 +485,17 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public boolean sendDtmf(String callRef, String deviceId, String number) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("sendDtmf() called with: callRef={}, deviceId={}, number={}", callRef, deviceId, number);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "calls", AssertUtil.requireNotEmpty(callRef, "callRef"), "sendDtmf");
-
-        String json = gson.toJson(new SendDtmfRequest(AssertUtil.requireNotEmpty(deviceId, "deviceId"),
-                AssertUtil.requireNotEmpty(number, "number")));
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.sendDtmf(callRef, deviceId, number));
     }
 
     @Override
     public boolean sendAccountInfo(String callRef, String deviceId, String accountInfo) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("sendAccountInfo() called with: callRef={}, deviceId={}, accountInfo={}", callRef, deviceId, accountInfo);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "calls", AssertUtil.requireNotEmpty(callRef, "callRef"), "sendaccountinfo");
-
-        String json = gson.toJson(new SendAccountInfoRequest(AssertUtil.requireNotEmpty(deviceId, "deviceId"),
-                AssertUtil.requireNotEmpty(accountInfo, "accountInfo")));
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.sendAccountInfo(callRef, deviceId, accountInfo));
     }
 
     @Override
     public boolean transfer(String callRef, String heldCallRef, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("transfer() called with: callRef={}, heldCallRef={}, loginName={}", callRef, heldCallRef, loginName);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "calls", AssertUtil.requireNotEmpty(callRef, "callRef"), "transfer");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        String json = gson.toJson(new HeldCallRequest(AssertUtil.requireNotEmpty(heldCallRef, "heldCallRef")));
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.transfer(callRef, heldCallRef, loginName));
     }
 
     @Override
@@ -1063,24 +509,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public boolean deskSharingLogOn(String dssDeviceNumber, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("deskSharingLogOn() called with: dssDeviceNumber={}, loginName={}", dssDeviceNumber, loginName);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "deskSharing");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        String json = gson.toJson(new DSLogOnRequest(AssertUtil.requireNotEmpty(dssDeviceNumber, "dssDeviceNumber")));
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.deskSharingLogOn(dssDeviceNumber, loginName));
     }
 
     @Override
@@ -1094,18 +523,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public boolean deskSharingLogOff(String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("deskSharingLogOff() called with: loginName={}", loginName);
-        }
-
-        URI uriDelete = URIBuilder.appendPath(uri, "deskSharing");
-        if (loginName != null) {
-            uriDelete = URIBuilder.appendQuery(uriDelete, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.DELETE(uriDelete);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.deskSharingLogOff(loginName));
     }
 
     @Override
@@ -1119,24 +537,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public Collection<DeviceState> getDevicesState(String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("getDevicesState() called with: loginName={}", loginName);
-        }
-
-        URI uriGet = URIBuilder.appendPath(uri, "devices");
-        if (loginName != null) {
-            uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.GET(uriGet);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-
-        DeviceStateList deviceStates = getResult(response, DeviceStateList.class);
-        if (deviceStates == null) {
-            return null;
-        } else {
-            return unmodifiableOrEmpty(deviceStates.deviceStates);
-        }
+        return join(async.getDevicesState(loginName));
     }
 
     @Override
@@ -1150,19 +551,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public DeviceState getDeviceState(String deviceId, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("getDeviceState() called with: deviceId={}, loginName={}", deviceId, loginName);
-        }
-
-        URI uriGet = URIBuilder.appendPath(uri, "devices", AssertUtil.requireNotEmpty(deviceId, "deviceId"));
-        if (loginName != null) {
-            uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.GET(uriGet);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-
-        return getResult(response, DeviceState.class);
+        return join(async.getDeviceState(deviceId, loginName));
     }
 
     @Override
@@ -1176,23 +565,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public boolean pickUp(String deviceId, String otherCallRef, String otherPhoneNumber, boolean autoAnswer) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("pickUp() called with: deviceId={}, otherCallRef={}, otherPhoneNumber={}, autoAnswer={}",
-                    deviceId, otherCallRef, otherPhoneNumber, autoAnswer);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "devices", AssertUtil.requireNotEmpty(deviceId, "deviceId"), "pickup");
-
-        String json = gson.toJson(new PickupRequest(AssertUtil.requireNotEmpty(otherCallRef, "otherCallRef"),
-                AssertUtil.requireNotEmpty(otherPhoneNumber, "otherPhoneNumber"), autoAnswer));
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.pickUp(deviceId, otherCallRef, otherPhoneNumber, autoAnswer));
     }
 
     @Override
@@ -1207,64 +580,22 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public boolean intrusion(String deviceId) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("intrusion() called with: deviceId={}", deviceId);
-        }
-        
-        URI uriPost = URIBuilder.appendPath(uri, "devices", AssertUtil.requireNotEmpty(deviceId, "deviceId"),
-				"intrusion");
-		HttpRequest request = HttpUtil.POST(uriPost);
-		CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-		return isSucceeded(response);
+        return join(async.intrusion(deviceId));
 	}
 
     @Override
     public boolean toggleInterphony(String deviceId) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("toggleInterphony() called with: deviceId={}", deviceId);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "devices", AssertUtil.requireNotEmpty(deviceId, "deviceId"), "ithmicro");
-
-        HttpRequest request = HttpUtil.POST(uriPost);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.toggleInterphony(deviceId));
     }
 
     @Override
     public boolean unPark(String heldCallRef, String deviceId) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("unPark() called with: heldCallRef={}, deviceId={}", heldCallRef, deviceId);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "devices", AssertUtil.requireNotEmpty(deviceId, "deviceId"), "unpark");
-
-        String json = gson.toJson(new HeldCallRequest(AssertUtil.requireNotEmpty(heldCallRef, "heldCallRef")));
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.unPark(heldCallRef, deviceId));
     }
 
     @Override
     public HuntingGroupStatus getHuntingGroupStatus(String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("getHuntingGroupStatus() called with: loginName={}", loginName);
-        }
-
-        URI uriGet = URIBuilder.appendPath(uri, "huntingGroupLogOn");
-        if (loginName != null) {
-            uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.GET(uriGet);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-
-        return getResult(response, HuntingGroupStatus.class);
+        return join(async.getHuntingGroupStatus(loginName));
     }
 
     @Override
@@ -1278,18 +609,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public boolean huntingGroupLogOn(String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("huntingGroupLogOn() called with: loginName={}", loginName);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "huntingGroupLogOn");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.POST(uriPost);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.huntingGroupLogOn(loginName));
     }
 
     @Override
@@ -1303,18 +623,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public boolean huntingGroupLogOff(String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("huntingGroupLogOff() called with: loginName={}", loginName);
-        }
-
-        URI uriDelete = URIBuilder.appendPath(uri, "huntingGroupLogOn");
-        if (loginName != null) {
-            uriDelete = URIBuilder.appendQuery(uriDelete, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.DELETE(uriDelete);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.huntingGroupLogOff(loginName));
     }
 
     @Override
@@ -1328,18 +637,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public boolean addMeToHuntingGroup(String hgNumber, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("addMeToHuntingGroup() called with: hgNumber={}, loginName={}", hgNumber, loginName);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "huntingGroupMember", AssertUtil.requireNotEmpty(hgNumber, "hgNumber"));
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.POST(uriPost);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.addMeToHuntingGroup(hgNumber, loginName));
     }
 
     @Override
@@ -1371,18 +669,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public boolean removeMeFromHuntingGroup(String hgNumber, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("removeMeFromHuntingGroup() called with: hgNumber={}, loginName={}", hgNumber, loginName);
-        }
-
-        URI uriDelete = URIBuilder.appendPath(uri, "huntingGroupMember", AssertUtil.requireNotEmpty(hgNumber, "hgNumber"));
-        if (loginName != null) {
-            uriDelete = URIBuilder.appendQuery(uriDelete, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.DELETE(uriDelete);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.removeMeFromHuntingGroup(hgNumber, loginName));
     }
 
     @Override
@@ -1414,19 +701,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public HuntingGroups queryHuntingGroups(String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("queryHuntingGroups() called with: loginName={}", loginName);
-        }
-
-        URI uriGet = URIBuilder.appendPath(uri, "huntingGroups");
-        if (loginName != null) {
-            uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.GET(uriGet);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-
-        return getResult(response, HuntingGroups.class);
+        return join(async.queryHuntingGroups(loginName));
     }
 
     @Override
@@ -1440,24 +715,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public Collection<Callback> getCallbacks(String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("getCallbacks() called with: loginName={}", loginName);
-        }
-
-        URI uriGet = URIBuilder.appendPath(uri, "incomingCallbacks");
-        if (loginName != null) {
-            uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.GET(uriGet);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-
-        CallbackList callbacks = getResult(response, CallbackList.class);
-        if (callbacks == null) {
-            return null;
-        } else {
-            return unmodifiableOrEmpty(callbacks.callbacks);
-        }
+        return join(async.getCallbacks(loginName));
     }
 
     @Override
@@ -1471,18 +729,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public boolean deleteCallbacks(String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("deleteCallbacks() called with: loginName={}", loginName);
-        }
-
-        URI uriDelete = URIBuilder.appendPath(uri, "incomingCallbacks");
-        if (loginName != null) {
-            uriDelete = URIBuilder.appendQuery(uriDelete, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.DELETE(uriDelete);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.deleteCallbacks(loginName));
     }
 
     @Override
@@ -1496,19 +743,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public MiniMessage getMiniMessage(String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("getMiniMessage() called with: loginName={}", loginName);
-        }
-
-        URI uriGet = URIBuilder.appendPath(uri, "miniMessages");
-        if (loginName != null) {
-            uriGet = URIBuilder.appendQuery(uriGet, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.GET(uriGet);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-
-        return getResult(response, MiniMessage.class);
+        return join(async.getMiniMessage(loginName));
     }
 
     @Override
@@ -1522,25 +757,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public boolean sendMiniMessage(String recipient, String message, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("sendMiniMessage() called with: recipient={}, message={}, loginName={}", recipient, message, loginName);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "miniMessages");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        String json = gson.toJson(new MiniMessageRequest(AssertUtil.requireNotEmpty(recipient, "recipient"),
-                AssertUtil.requireNotEmpty(message, "message")));
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.sendMiniMessage(recipient, message, loginName));
     }
 
     @Override
@@ -1554,24 +771,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public boolean requestCallback(String callee, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("requestCallback() called with: callee={}, loginName={}", callee, loginName);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "outgoingCallbacks");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        String json = gson.toJson(new CallbackRequest(AssertUtil.requireNotEmpty(callee, "callee")));
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.requestCallback(callee, loginName));
     }
 
     @Override
@@ -1585,18 +785,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public boolean requestSnapshot(String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("requestSnapshot() called with: loginName={}", loginName);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "state/snapshot");
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.POST(uriPost);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return isSucceeded(response);
+        return join(async.requestSnapshot(loginName));
     }
 
     @Override
@@ -1610,19 +799,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public boolean deleteCallback(String callbackId, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("deleteCallback() called with: callbackId={}, loginName={}", callbackId, loginName);
-        }
-
-		URI uriDelete = URIBuilder.appendPath(uri, "incomingCallbacks",
-				AssertUtil.requireNotEmpty(callbackId, "callbackId"));
-		if (loginName != null) {
-			uriDelete = URIBuilder.appendQuery(uriDelete, "loginName", loginName);
-		}
-
-		HttpRequest request = HttpUtil.DELETE(uriDelete);
-		CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-		return isSucceeded(response);
+        return join(async.deleteCallback(callbackId, loginName));
 	}
 
     @Override
@@ -1636,18 +813,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public boolean release(String callRef, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("release() called with: callRef={}, loginName={}", callRef, loginName);
-        }
-
-		URI uriDelete = URIBuilder.appendPath(uri, "calls", AssertUtil.requireNotEmpty(callRef, "callRef"));
-		if (loginName != null) {
-			uriDelete = URIBuilder.appendQuery(uriDelete, "loginName", loginName);
-		}
-
-		HttpRequest request = HttpUtil.DELETE(uriDelete);
-		CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-		return isSucceeded(response);
+        return join(async.release(callRef, loginName));
 	}
 
     @Override
@@ -1661,20 +827,7 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
 
     @Override
     public PilotInfo getPilotInfo(int nodeId, String pilotNumber, String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("getPilotInfo() called with: nodeId={}, pilotNumber={}, loginName={}", nodeId, pilotNumber, loginName);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "pilots", String.valueOf(AssertUtil.requirePositive(nodeId, "nodeId")),
-                AssertUtil.requireNotEmpty(pilotNumber, "pilotNumber"), "transferInfo");
-
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        HttpRequest request = HttpUtil.POST(uriPost);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return getResult(response, PilotInfo.class);
+        return join(async.getPilotInfo(nodeId, pilotNumber, loginName));
     }
 
     @Override
@@ -1689,58 +842,12 @@ public class TelephonyRest extends AbstractRESTService implements TelephonyServi
     @Override
     public PilotInfo getPilotInfo(int nodeId, String pilotNumber, PilotTransferQueryParameters pilotTransferQueryParam,
             String loginName) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("getPilotInfo() called with: nodeId={}, pilotNumber={}, pilotTransferQueryParam={}, loginName={}",
-                    nodeId, pilotNumber, pilotTransferQueryParam, loginName);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "pilots", String.valueOf(AssertUtil.requirePositive(nodeId, "nodeId")),
-                AssertUtil.requireNotEmpty(pilotNumber, "pilotNumber"), "transferInfo");
-
-        if (loginName != null) {
-            uriPost = URIBuilder.appendQuery(uriPost, "loginName", loginName);
-        }
-
-        AssertUtil.requireNotNull(pilotTransferQueryParam, "pilotTransferQueryParam");
-        ACRSkills skills = null;
-        if (pilotTransferQueryParam.getCallProfile() != null) {
-            skills = new ACRSkills(pilotTransferQueryParam.getCallProfile().getSkills());
-        }
-
-        String json = gson.toJson(new PilotQueryParam(pilotTransferQueryParam.getAgentNumber(), skills,
-                pilotTransferQueryParam.getPriorityTransfer(), pilotTransferQueryParam.getSupervisedTransfer()));
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return getResult(response, PilotInfo.class);
+        return join(async.getPilotInfo(nodeId, pilotNumber, pilotTransferQueryParam, loginName));
     }
 
     @Override
     public PilotInfo getPilotInfo(int nodeId, String pilotNumber,
             PilotTransferQueryParameters pilotTransferQueryParam) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("getPilotInfo() called with: nodeId={}, pilotNumber={}, pilotTransferQueryParam={}",
-                    nodeId, pilotNumber, pilotTransferQueryParam);
-        }
-
-        URI uriPost = URIBuilder.appendPath(uri, "pilots", String.valueOf(AssertUtil.requirePositive(nodeId, "nodeId")),
-                AssertUtil.requireNotEmpty(pilotNumber, "pilotNumber"), "transferInfo");
-
-        AssertUtil.requireNotNull(pilotTransferQueryParam, "pilotTransferQueryParam");
-        ACRSkills skills = null;
-        if (pilotTransferQueryParam.getCallProfile() != null) {
-            skills = new ACRSkills(pilotTransferQueryParam.getCallProfile().getSkills());
-        }
-
-        String json = gson.toJson(new PilotQueryParam(pilotTransferQueryParam.getAgentNumber(), skills,
-                pilotTransferQueryParam.getPriorityTransfer(), pilotTransferQueryParam.getSupervisedTransfer()));
-        
-    	if (logger.isDebugEnabled()) {
-    		logger.debug("Request=: {}", json);
-    	}
-
-        HttpRequest request = HttpUtil.POST(uriPost, json);
-        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
-        return getResult(response, PilotInfo.class);
+        return join(async.getPilotInfo(nodeId, pilotNumber, pilotTransferQueryParam));
     }
 }
@@ -101,7 +101,7 @@ public class UsersRest extends AbstractRESTService implements UsersService {
     		logger.debug("getByLoginName() called with: loginName={}", loginName);
     	}
 
-    	HttpRequest request = HttpUtil.GET(URIBuilder.appendPath(uri, AssertUtil.requireNotEmpty(loginName, "loginName")));
+    	HttpRequest request = HttpUtil.hedgeable(HttpUtil.GET(URIBuilder.appendPath(uri, AssertUtil.requireNotEmpty(loginName, "loginName"))));
 		CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(request, BodyHandlers.ofString());
 		return getResult(response, User.class);
 	}
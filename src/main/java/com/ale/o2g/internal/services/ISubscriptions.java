@@ -19,6 +19,7 @@
 package com.ale.o2g.internal.services;
 
 import com.ale.o2g.Subscription;
+import com.ale.o2g.Subscription.Filter;
 import com.ale.o2g.internal.types.SubscriptionResult;
 
 /**
@@ -29,4 +30,5 @@ public interface ISubscriptions extends IService {
 
 	SubscriptionResult create(Subscription subscription);	
 	boolean delete(String subscriptionId);
+	boolean update(String subscriptionId, Filter filter);
 }
@@ -35,7 +35,7 @@ public abstract class AbstractLoopingThread {
     
     public AbstractLoopingThread(String name) {
         
-        runningThread = new Thread(() -> {
+        runningThread = ThreadUtil.newThread(() -> {
 
             try {
                 logger.debug("Start {} thread", name);
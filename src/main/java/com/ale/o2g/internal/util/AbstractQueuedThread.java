@@ -18,8 +18,6 @@
 */
 package com.ale.o2g.internal.util;
 
-import java.util.concurrent.BlockingQueue;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,10 +28,10 @@ public abstract class AbstractQueuedThread<E> extends AbstractLoopingThread {
 
     final static Logger logger = LoggerFactory.getLogger(AbstractQueuedThread.class);
 
-    private BlockingQueue<E> queue;
+    private MessageQueue<E> queue;
 
 
-    public AbstractQueuedThread(BlockingQueue<E> queue, String name) {
+    public AbstractQueuedThread(MessageQueue<E> queue, String name) {
         super(name);
         this.queue = queue;
     }
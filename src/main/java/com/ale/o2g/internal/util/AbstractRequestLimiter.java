@@ -0,0 +1,151 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.util;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.ale.o2g.RequestLimiter;
+
+/**
+ *
+ */
+public abstract class AbstractRequestLimiter implements RequestLimiter {
+
+    private final int maxQueued;
+    private final Deque<CompletableFuture<Void>> queue = new ArrayDeque<CompletableFuture<Void>>();
+    private int inFlight = 0;
+    private long rejected = 0;
+
+    protected AbstractRequestLimiter(int maxQueued) {
+        if (maxQueued < 0) {
+            throw new IllegalArgumentException("maxQueued must not be negative");
+        }
+        this.maxQueued = maxQueued;
+    }
+
+    /**
+     * Returns whether a new request can be sent. Called with the lock held.
+     */
+    protected abstract boolean tryAcquire(int inFlight);
+
+    /**
+     * Updates the limiter with a completed request. Called with the lock held,
+     * before the request is removed from the in flight requests.
+     */
+    protected abstract void onRelease(int inFlight, long latencyNanos, boolean overloaded);
+
+    /**
+     * Called with the lock held when requests are waiting after a permit has
+     * been refused.
+     */
+    protected void onQueued() {
+    }
+
+    @Override
+    public CompletableFuture<Void> acquire() {
+        synchronized (this) {
+            if (queue.isEmpty() && tryAcquire(inFlight)) {
+                inFlight++;
+                return CompletableFuture.completedFuture(null);
+            }
+
+            if (queue.size() >= maxQueued) {
+                rejected++;
+                return CompletableFuture.failedFuture(new RejectedExecutionException("Too many pending requests"));
+            }
+
+            CompletableFuture<Void> permit = new CompletableFuture<Void>();
+            queue.add(permit);
+            onQueued();
+
+            // A cancelled request does not wait for a permit anymore
+            permit.whenComplete((granted, exception) -> {
+                if (permit.isCancelled()) {
+                    synchronized (this) {
+                        queue.remove(permit);
+                    }
+                }
+            });
+            return permit;
+        }
+    }
+
+    @Override
+    public void release(Duration latency, boolean overloaded) {
+        synchronized (this) {
+            onRelease(inFlight, latency.toNanos(), overloaded);
+            inFlight--;
+        }
+        drain();
+    }
+
+    /**
+     * Grants a permit to the waiting requests, as long as the limiter allows
+     * it.
+     */
+    protected void drain() {
+        List<CompletableFuture<Void>> granted = new ArrayList<CompletableFuture<Void>>();
+        synchronized (this) {
+            while (!queue.isEmpty() && tryAcquire(inFlight)) {
+                inFlight++;
+                granted.add(queue.poll());
+            }
+            if (!queue.isEmpty()) {
+                onQueued();
+            }
+        }
+
+        // Complete out of the lock, the requests are sent by the completion
+        int cancelled = 0;
+        for (CompletableFuture<Void> permit : granted) {
+            if (!permit.complete(null)) {
+                cancelled++;
+            }
+        }
+
+        // The permits of the requests cancelled meanwhile are given to the next ones
+        if (cancelled > 0) {
+            synchronized (this) {
+                inFlight -= cancelled;
+            }
+            drain();
+        }
+    }
+
+    @Override
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    @Override
+    public synchronized int getQueued() {
+        return queue.size();
+    }
+
+    @Override
+    public synchronized long getRejected() {
+        return rejected;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.util;
+
+import java.time.Duration;
+
+/**
+ *
+ */
+public class AdaptiveRequestLimiter extends AbstractRequestLimiter {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private double limit;
+
+    // Sequence of the completed requests, and the sequence up to which the
+    // requests were already in flight at the last decrease
+    private long released = 0;
+    private long recoveryEnd = 0;
+
+    public AdaptiveRequestLimiter(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold, int maxQueued) {
+        super(maxQueued);
+        if ((minLimit <= 0) || (minLimit > initialLimit) || (initialLimit > maxLimit)) {
+            throw new IllegalArgumentException("Limits must be positive and minLimit <= initialLimit <= maxLimit");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.limit = initialLimit;
+    }
+
+    @Override
+    protected boolean tryAcquire(int inFlight) {
+        return inFlight < (int) limit;
+    }
+
+    @Override
+    protected void onRelease(int inFlight, long latencyNanos, boolean overloaded) {
+        released++;
+        if (overloaded || (latencyNanos > latencyThresholdNanos)) {
+            // Decrease once per window: the requests sent before the last decrease report the same congestion
+            if (released > recoveryEnd) {
+                limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+                recoveryEnd = released + inFlight - 1;
+            }
+        }
+        else if (inFlight >= (int) limit) {
+            // Only grow when the limit is reached, an idle client says nothing about the server
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    @Override
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.util;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Date;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Read the dates sent by O2G, in ISO 8601 format, without going through the
+ * default Gson date adapter which first tries the locale date formats and
+ * fails with an exception on each date. The dates in another format, and the
+ * serialization, are left to the default adapter.
+ */
+public class DateAdapterFactory implements TypeAdapterFactory {
+
+    static final long INVALID = Long.MIN_VALUE;
+
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        if (type.getRawType() != Date.class) {
+            return null;
+        }
+
+        final TypeAdapter<Date> delegate = gson.getDelegateAdapter(this, TypeToken.get(Date.class));
+
+        @SuppressWarnings("unchecked")
+        TypeAdapter<T> adapter = (TypeAdapter<T>) new TypeAdapter<Date>() {
+
+            @Override
+            public void write(JsonWriter out, Date value) throws IOException {
+                delegate.write(out, value);
+            }
+
+            @Override
+            public Date read(JsonReader in) throws IOException {
+                if (in.peek() != JsonToken.STRING) {
+                    return delegate.read(in);
+                }
+
+                String value = in.nextString();
+                long time = parseIsoDateTime(value);
+                if (time != INVALID) {
+                    return new Date(time);
+                }
+                return delegate.fromJsonTree(new JsonPrimitive(value));
+            }
+        };
+        return adapter;
+    }
+
+    /**
+     * Parse a date time in the ISO 8601 format used by O2G:
+     * {@code yyyy-MM-ddTHH:mm:ss[.SSS...](Z|+HH:mm|-HH:mm)}.
+     * 
+     * @return the number of milliseconds since the epoch, or {@link #INVALID} if
+     *         the value has another format
+     */
+    static long parseIsoDateTime(String value) {
+        int length = value.length();
+        if ((length < 20) || (value.charAt(4) != '-') || (value.charAt(7) != '-') || (value.charAt(10) != 'T')
+                || (value.charAt(13) != ':') || (value.charAt(16) != ':')) {
+            return INVALID;
+        }
+
+        int year = digits(value, 0, 4);
+        int month = digits(value, 5, 7);
+        int day = digits(value, 8, 10);
+        int hour = digits(value, 11, 13);
+        int minute = digits(value, 14, 16);
+        int second = digits(value, 17, 19);
+        if ((year < 0) || (month < 1) || (month > 12) || (day < 1) || (day > 31) || (hour < 0) || (hour > 23)
+                || (minute < 0) || (minute > 59) || (second < 0) || (second > 59)) {
+            return INVALID;
+        }
+
+        // Fraction of second, the digits after the milliseconds are ignored
+        int pos = 19;
+        int millis = 0;
+        if (value.charAt(pos) == '.') {
+            int start = ++pos;
+            while ((pos < length) && isDigit(value.charAt(pos))) {
+                if (pos - start < 3) {
+                    millis = millis * 10 + (value.charAt(pos) - '0');
+                }
+                pos++;
+            }
+            if (pos == start) {
+                return INVALID;
+            }
+            for (int i = pos - start; i < 3; i++) {
+                millis *= 10;
+            }
+        }
+
+        int offsetSeconds;
+        if ((pos == length - 1) && (value.charAt(pos) == 'Z')) {
+            offsetSeconds = 0;
+        }
+        else if ((pos == length - 6) && ((value.charAt(pos) == '+') || (value.charAt(pos) == '-'))
+                && (value.charAt(pos + 3) == ':')) {
+            int offsetHour = digits(value, pos + 1, pos + 3);
+            int offsetMinute = digits(value, pos + 4, pos + 6);
+            if ((offsetHour < 0) || (offsetHour > 18) || (offsetMinute < 0) || (offsetMinute > 59)) {
+                return INVALID;
+            }
+            offsetSeconds = (offsetHour * 3600 + offsetMinute * 60) * ((value.charAt(pos) == '-') ? -1 : 1);
+        }
+        else {
+            return INVALID;
+        }
+
+        long epochDay;
+        try {
+            epochDay = LocalDate.of(year, month, day).toEpochDay();
+        }
+        catch (DateTimeException e) {
+            // Day out of the month
+            return INVALID;
+        }
+        long epochSecond = epochDay * 86400 + hour * 3600 + minute * 60 + second - offsetSeconds;
+        return epochSecond * 1000 + millis;
+    }
+
+    private static int digits(String value, int start, int end) {
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static boolean isDigit(char c) {
+        return (c >= '0') && (c <= '9');
+    }
+}
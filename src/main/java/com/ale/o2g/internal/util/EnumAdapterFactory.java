@@ -47,24 +47,23 @@ public class EnumAdapterFactory implements TypeAdapterFactory {
         }
 
         final Map<String, T> enumValue = new HashMap<String, T>();
+        final Map<T, String> enumName = new HashMap<T, String>();
         for (T constant : rawType.getEnumConstants()) {
             
             try {
                 Field field = rawType.getField(((Enum<?>) constant).name());
                 SerializedName annotation = field.getAnnotation(SerializedName.class);
-                if (annotation != null) {
-                    enumValue.put(annotation.value(), constant);
-                }
-                else {
-                    enumValue.put(((Enum<?>) constant).name(), constant);
-                }
+                String name = (annotation != null) ? annotation.value() : ((Enum<?>) constant).name();
+                enumValue.put(name, constant);
+                enumName.put(constant, name);
             } 
             catch (NoSuchFieldException e) {
                 // ignore
             }            
         }
         
-        final JsonEnumDeserializerFallback fallback = rawType.getAnnotation(JsonEnumDeserializerFallback.class);
+        JsonEnumDeserializerFallback fallback = rawType.getAnnotation(JsonEnumDeserializerFallback.class);
+        final T fallbackValue = (fallback != null) ? enumValue.get(fallback.value()) : null;
         
         return new TypeAdapter<T>() {
 
@@ -74,7 +73,8 @@ public class EnumAdapterFactory implements TypeAdapterFactory {
                     out.nullValue();
                 } 
                 else {
-                    out.value(value.toString());
+                    // Same name as the one read, like the default Gson enum adapter
+                    out.value(enumName.get(value));
                 }
             }
 
@@ -85,16 +85,8 @@ public class EnumAdapterFactory implements TypeAdapterFactory {
                     return null;
                 } 
                 else {
-                    String value = in.nextString();
-                    if (enumValue.containsKey(value)) {
-                        return enumValue.get(value);
-                    }
-                    else if (fallback != null) {
-                        return enumValue.get(fallback.value());
-                    }
-                    else {
-                        return null;
-                    }
+                    T value = enumValue.get(in.nextString());
+                    return (value != null) ? value : fallbackValue;
                 }
             }
         };
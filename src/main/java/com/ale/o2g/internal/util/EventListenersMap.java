@@ -18,35 +18,25 @@
 */
 package com.ale.o2g.internal.util;
 
-import java.util.ArrayList;
 import java.util.EventListener;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
- * 
- *
+ * The listeners registered for each listener interface. Listeners can be added
+ * while the events are dispatched, possibly by several threads.
  */
 public class EventListenersMap {
 
-	private Map<Class<? extends EventListener>, List<EventListener>> mapEventListeners = new HashMap<Class<? extends EventListener>, List<EventListener>>();
+	private Map<Class<? extends EventListener>, List<EventListener>> mapEventListeners = new ConcurrentHashMap<Class<? extends EventListener>, List<EventListener>>();
 	
 	public void add(Class<? extends EventListener> type, EventListener eventListener) {
-		
-		if (!mapEventListeners.containsKey(type)) {
-			mapEventListeners.put(type, new ArrayList<EventListener>());
-		}
-		
-		mapEventListeners.get(type).add(eventListener);
+		mapEventListeners.computeIfAbsent(type, t -> new CopyOnWriteArrayList<EventListener>()).add(eventListener);
 	}
 	
     public List<EventListener> getListeners(Class<? extends EventListener> type) {
-        if (mapEventListeners.containsKey(type)) {
-            return mapEventListeners.get(type);
-        }
-        else {
-            return null;
-        }
+        return mapEventListeners.get(type);
     }
 }
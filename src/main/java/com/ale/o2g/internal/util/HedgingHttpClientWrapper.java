@@ -0,0 +1,194 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.util;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ale.o2g.HedgingPolicy;
+
+/**
+ * 
+ */
+public class HedgingHttpClientWrapper implements HttpClientWrapper {
+
+    final static Logger logger = LoggerFactory.getLogger(HedgingHttpClientWrapper.class);
+
+    // The latencies of the last WINDOW requests are kept, the delay is computed every REFRESH requests
+    private static final int WINDOW = 1024;
+    private static final int REFRESH = 64;
+    private static final int MIN_SAMPLES = 32;
+
+    // Unused budget is accumulated up to this number of duplicate requests
+    private static final double MAX_TOKENS = 10;
+
+    private class Hedge<T> {
+
+        private final HttpRequest request;
+        private final BodyHandler<T> responseBodyHandler;
+        private final long start = System.nanoTime();
+        private final List<CompletableFuture<HttpResponse<T>>> attempts = new ArrayList<CompletableFuture<HttpResponse<T>>>(2);
+        private final CompletableFuture<HttpResponse<T>> result = new CompletableFuture<HttpResponse<T>>();
+
+        Hedge(HttpRequest request, BodyHandler<T> responseBodyHandler) {
+            this.request = request;
+            this.responseBodyHandler = responseBodyHandler;
+        }
+
+        void send() {
+            CompletableFuture<HttpResponse<T>> attempt = sendAttempt();
+
+            synchronized (this) {
+                if (result.isDone()) {
+                    // The hedged request has been answered meanwhile
+                    attempt.cancel(true);
+                    attempt.thenAccept(HttpUtil::discard);
+                    return;
+                }
+                attempts.add(attempt);
+            }
+            attempt.whenComplete((httpResponse, exception) -> onCompletion(attempt, httpResponse, exception));
+        }
+
+        private CompletableFuture<HttpResponse<T>> sendAttempt() {
+            try {
+                return httpClient.sendAsync(request, responseBodyHandler);
+            }
+            catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        private void onCompletion(CompletableFuture<HttpResponse<T>> attempt, HttpResponse<T> httpResponse, Throwable exception) {
+            List<CompletableFuture<HttpResponse<T>>> losers;
+            synchronized (this) {
+                if (result.isDone()) {
+                    // The losing attempt has completed before being cancelled
+                    HttpUtil.discard(httpResponse);
+                    return;
+                }
+
+                attempts.remove(attempt);
+                if ((exception != null) && !attempts.isEmpty()) {
+                    // Wait for the other attempt
+                    return;
+                }
+
+                losers = new ArrayList<CompletableFuture<HttpResponse<T>>>(attempts);
+            }
+
+            if (exception == null) {
+                record(System.nanoTime() - start);
+                result.complete(httpResponse);
+            }
+            else {
+                result.completeExceptionally((exception instanceof CompletionException) && (exception.getCause() != null) ? exception.getCause() : exception);
+            }
+
+            for (CompletableFuture<HttpResponse<T>> loser : losers) {
+                loser.cancel(true);
+            }
+        }
+    }
+
+    private final HttpClientWrapper httpClient;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final double budget;
+
+    private final long[] latencies = new long[WINDOW];
+    private long samples = 0;
+    private long delayNanos = -1;
+    private double tokens = 0;
+
+    public HedgingHttpClientWrapper(HttpClientWrapper httpClient, HedgingPolicy hedgingPolicy) {
+        this.httpClient = httpClient;
+        this.percentile = hedgingPolicy.getPercentile();
+        this.minDelayNanos = hedgingPolicy.getMinDelay().toNanos();
+        this.budget = hedgingPolicy.getBudget();
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, BodyHandler<T> responseBodyHandler) {
+        if (!HttpUtil.isHedgeable(request)) {
+            return httpClient.sendAsync(request, responseBodyHandler);
+        }
+
+        long delay;
+        synchronized (this) {
+            tokens = Math.min(MAX_TOKENS, tokens + budget);
+            delay = delayNanos;
+        }
+
+        Hedge<T> hedge = new Hedge<T>(request, responseBodyHandler);
+        hedge.send();
+
+        // Until enough latencies are known, the request is not hedged
+        if (delay >= 0) {
+            CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS).execute(() -> {
+                if (!hedge.result.isDone() && tryAcquireToken()) {
+                    logger.debug("Hedge {} {} after {} ms", request.method(), request.uri(), TimeUnit.NANOSECONDS.toMillis(delay));
+                    hedge.send();
+                }
+            });
+        }
+
+        return hedge.result;
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, BodyHandler<T> responseBodyHandler) throws IOException, InterruptedException {
+        return httpClient.send(request, responseBodyHandler);
+    }
+
+    private synchronized boolean tryAcquireToken() {
+        if (tokens >= 1) {
+            tokens -= 1;
+            return true;
+        }
+        else {
+            return false;
+        }
+    }
+
+    private synchronized void record(long latency) {
+        latencies[(int) (samples % WINDOW)] = latency;
+        samples++;
+
+        if ((samples == MIN_SAMPLES) || ((samples > MIN_SAMPLES) && (samples % REFRESH == 0))) {
+            int size = (int) Math.min(samples, WINDOW);
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+
+            int index = Math.max(0, (int) Math.ceil(percentile / 100 * size) - 1);
+            delayNanos = Math.max(minDelayNanos, sorted[index]);
+        }
+    }
+}
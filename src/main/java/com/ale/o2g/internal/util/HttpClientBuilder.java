@@ -28,6 +28,7 @@ import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandler;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 
@@ -42,6 +43,8 @@ import javax.net.ssl.X509ExtendedTrustManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.ale.o2g.HttpClientConfiguration;
+
 
 public class HttpClientBuilder {
 
@@ -50,9 +53,15 @@ public class HttpClientBuilder {
 		final static Logger logger = LoggerFactory.getLogger(DefaultHttpClientWrapper.class);
 		
 		private HttpClient httpClient;
+		private Duration requestTimeout;
 		
 		public DefaultHttpClientWrapper(HttpClient httpClient) {
+			this(httpClient, null);
+		}
+
+		public DefaultHttpClientWrapper(HttpClient httpClient, Duration requestTimeout) {
 			this.httpClient = httpClient;
+			this.requestTimeout = requestTimeout;
 		}
 
 		@Override
@@ -63,6 +72,11 @@ public class HttpClientBuilder {
 	    		logger.debug("sendAsync: {}", request);
 	    	}
 
+	    	// The services requests are sent asynchronously, the event channel is opened with send()
+	    	if ((requestTimeout != null) && request.timeout().isEmpty()) {
+	    		request = HttpRequest.newBuilder(request, (name, value) -> true).timeout(requestTimeout).build();
+	    	}
+
 			return this.httpClient.sendAsync(request, responseBodyHandler);
 		}
 
@@ -126,9 +140,32 @@ public class HttpClientBuilder {
     }
 
     public HttpClientWrapper build(ExecutorService executorService) throws Exception {
+        return this.build(executorService, null);
+    }
+
+    /**
+     * Build an http client with the given configuration. The executor of the
+     * configuration, if any, replaces the given executor service.
+     */
+    public HttpClientWrapper build(ExecutorService executorService, HttpClientConfiguration configuration) throws Exception {
 
 		Builder builder = HttpClient.newBuilder().cookieHandler(new CookieManager());
 
+		Duration requestTimeout = null;
+		if (configuration != null) {
+			if (configuration.getVersion() != null) {
+				builder.version(configuration.getVersion());
+			}
+			if (configuration.getConnectTimeout() != null) {
+				builder.connectTimeout(configuration.getConnectTimeout());
+			}
+			if (configuration.getExecutor() != null) {
+				builder.executor(configuration.getExecutor());
+				executorService = null;
+			}
+			requestTimeout = configuration.getRequestTimeout();
+		}
+
 		if (executorService != null) {
 		    builder.executor(executorService);
 		}
@@ -152,6 +189,18 @@ public class HttpClientBuilder {
             builder = builder.sslContext(sc);
 		}
 
-		return new DefaultHttpClientWrapper(builder.build());
+		HttpClientWrapper httpClientWrapper = new DefaultHttpClientWrapper(builder.build(), requestTimeout);
+		if ((configuration != null) && (configuration.getRequestLimiter() != null)) {
+			httpClientWrapper = new LimitedHttpClientWrapper(httpClientWrapper, configuration.getRequestLimiter());
+		}
+		if ((configuration != null) && (configuration.getHedgingPolicy() != null)) {
+			// The duplicate requests go through the limiter, and a hedged request is retried as a whole
+			httpClientWrapper = new HedgingHttpClientWrapper(httpClientWrapper, configuration.getHedgingPolicy());
+		}
+		if ((configuration != null) && (configuration.getRetryPolicy() != null)) {
+			httpClientWrapper = new RetryingHttpClientWrapper(httpClientWrapper, configuration.getRetryPolicy());
+		}
+
+		return httpClientWrapper;
 	}
 }
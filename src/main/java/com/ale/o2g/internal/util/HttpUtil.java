@@ -20,6 +20,8 @@ package com.ale.o2g.internal.util;
 
 import java.net.URI;
 import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
 
 /**
  *
@@ -67,4 +69,65 @@ public class HttpUtil {
 				.build();
 
 	}
+
+	/**
+	 * Marks a request that sets a state, and can be sent again without side
+	 * effect even if it is a POST.
+	 */
+	public static HttpRequest idempotent(HttpRequest request) {
+		return new IdempotentHttpRequest(request);
+	}
+
+	public static boolean isIdempotent(HttpRequest request) {
+		return switch (request.method()) {
+			case "GET", "HEAD", "PUT", "DELETE", "OPTIONS" -> true;
+			default -> request instanceof IdempotentHttpRequest;
+		};
+	}
+
+	/**
+	 * Marks a latency critical read request, that can be hedged.
+	 */
+	public static HttpRequest hedgeable(HttpRequest request) {
+		return new HedgeableHttpRequest(request);
+	}
+
+	public static boolean isHedgeable(HttpRequest request) {
+		return request instanceof HedgeableHttpRequest;
+	}
+
+	/**
+	 * Returns a copy of the request with a timeout no longer than the specified
+	 * one. The copy keeps the idempotent or hedgeable mark of the request.
+	 */
+	public static HttpRequest withTimeout(HttpRequest request, Duration timeout) {
+		if (request.timeout().isPresent() && (request.timeout().get().compareTo(timeout) <= 0)) {
+			return request;
+		}
+
+		HttpRequest copy = HttpRequest.newBuilder(request, (name, value) -> true).timeout(timeout).build();
+		if (request instanceof HedgeableHttpRequest) {
+			return hedgeable(copy);
+		}
+		else if (request instanceof IdempotentHttpRequest) {
+			return idempotent(copy);
+		}
+		else {
+			return copy;
+		}
+	}
+
+	/**
+	 * Releases the body of a response which is not returned to the caller. A
+	 * streamed body keeps the connection busy until it is closed.
+	 */
+	public static void discard(HttpResponse<?> response) {
+		if ((response != null) && (response.body() instanceof AutoCloseable body)) {
+			try {
+				body.close();
+			}
+			catch (Exception ignored) {
+			}
+		}
+	}
 }
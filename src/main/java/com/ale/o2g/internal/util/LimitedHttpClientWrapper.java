@@ -0,0 +1,122 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.util;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import com.ale.o2g.RequestLimiter;
+
+/**
+ * 
+ */
+public class LimitedHttpClientWrapper implements HttpClientWrapper {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int SERVICE_UNAVAILABLE = 503;
+
+    private final HttpClientWrapper httpClient;
+    private final RequestLimiter limiter;
+
+    public LimitedHttpClientWrapper(HttpClientWrapper httpClient, RequestLimiter limiter) {
+        this.httpClient = httpClient;
+        this.limiter = limiter;
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, BodyHandler<T> responseBodyHandler) {
+        CompletableFuture<HttpResponse<T>> result = new CompletableFuture<HttpResponse<T>>();
+        CompletableFuture<Void> permit = limiter.acquire();
+
+        permit.whenComplete((granted, permitException) -> {
+            if (permitException != null) {
+                result.completeExceptionally(permitException);
+                return;
+            }
+            else if (result.isDone()) {
+                // Cancelled just as the permit was granted, give it back without sending
+                limiter.release(Duration.ZERO, false);
+                return;
+            }
+
+            long start = System.nanoTime();
+
+            CompletableFuture<HttpResponse<T>> response;
+            try {
+                response = httpClient.sendAsync(request, responseBodyHandler);
+            }
+            catch (RuntimeException e) {
+                limiter.release(Duration.ZERO, false);
+                result.completeExceptionally(e);
+                return;
+            }
+
+            response.whenComplete((httpResponse, exception) -> {
+                limiter.release(Duration.ofNanos(System.nanoTime() - start), isOverloaded(httpResponse, exception));
+
+                if (exception != null) {
+                    result.completeExceptionally((exception instanceof CompletionException) && (exception.getCause() != null) ? exception.getCause() : exception);
+                }
+                else if (!result.complete(httpResponse)) {
+                    // The caller has given up, release the connection
+                    HttpUtil.discard(httpResponse);
+                }
+            });
+
+            // A request cancelled while it is sent is cancelled downstream
+            result.whenComplete((httpResponse, exception) -> {
+                if (result.isCancelled()) {
+                    response.cancel(false);
+                }
+            });
+        });
+
+        // A request cancelled while it waits for its permit leaves the queue
+        result.whenComplete((httpResponse, exception) -> {
+            if (result.isCancelled()) {
+                permit.cancel(false);
+            }
+        });
+
+        return result;
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, BodyHandler<T> responseBodyHandler) throws IOException, InterruptedException {
+        // The event channel is long-lived, it is not limited
+        return httpClient.send(request, responseBodyHandler);
+    }
+
+    private static boolean isOverloaded(HttpResponse<?> httpResponse, Throwable exception) {
+        if (exception != null) {
+            Throwable cause = (exception instanceof CompletionException) ? exception.getCause() : exception;
+            return (cause instanceof HttpTimeoutException) || (cause instanceof ConnectException);
+        }
+        else {
+            return (httpResponse.statusCode() == TOO_MANY_REQUESTS) || (httpResponse.statusCode() == SERVICE_UNAVAILABLE);
+        }
+    }
+}
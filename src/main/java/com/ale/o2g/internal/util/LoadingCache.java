@@ -0,0 +1,175 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.util;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * A cache bounded in size and in time to live. The least recently used entry
+ * is evicted when the cache is full. A {@code null} time to live means the
+ * entries do not expire. Concurrent misses on the same key wait
+ * for a single load. The {@code null} values are not cached.
+ */
+public class LoadingCache<K, V> {
+
+    private static class Slot<V> {
+        final CompletableFuture<V> future = new CompletableFuture<>();
+        long expiresAt;
+    }
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+    private final Map<K, Slot<V>> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public LoadingCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    /**
+     * Creates a cache which reads the time from the specified clock, in
+     * nanoseconds.
+     */
+    public LoadingCache(int maxSize, Duration ttl, LongSupplier nanoTime) {
+        this.maxSize = maxSize;
+        this.ttlNanos = (ttl == null) ? -1 : ttl.toNanos();
+        this.nanoTime = nanoTime;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Slot<V>> eldest) {
+                return size() > LoadingCache.this.maxSize;
+            }
+        };
+    }
+
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Slot<V> entry;
+        boolean load = false;
+
+        synchronized (entries) {
+            entry = entries.get(key);
+            if ((entry != null) && entry.future.isDone() && (ttlNanos >= 0) && (nanoTime.getAsLong() - entry.expiresAt > 0)) {
+                entries.remove(key);
+                entry = null;
+            }
+
+            if (entry == null) {
+                entry = new Slot<>();
+                entries.put(key, entry);
+                load = true;
+                misses.incrementAndGet();
+            }
+            else {
+                hits.incrementAndGet();
+            }
+        }
+
+        if (load) {
+            V value;
+            try {
+                value = loader.apply(key);
+            }
+            catch (Throwable e) {
+                // Release the waiting callers whatever the failure
+                remove(key, entry);
+                entry.future.completeExceptionally(e);
+                throw e;
+            }
+
+            synchronized (entries) {
+                if (value == null) {
+                    entries.remove(key, entry);
+                }
+                else {
+                    entry.expiresAt = nanoTime.getAsLong() + ttlNanos;
+                }
+            }
+            entry.future.complete(value);
+            return value;
+        }
+
+        try {
+            return entry.future.join();
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private void remove(K key, Slot<V> entry) {
+        synchronized (entries) {
+            entries.remove(key, entry);
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Removes the loaded entries matching the predicate. An entry still loading
+     * is removed too, so that its value is not cached.
+     */
+    public void invalidateIf(BiPredicate<? super K, ? super V> predicate) {
+        synchronized (entries) {
+            entries.entrySet().removeIf(e -> !e.getValue().future.isDone() || predicate.test(e.getKey(), e.getValue().future.getNow(null)));
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+}
@@ -0,0 +1,141 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.util;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ale.o2g.RetryPolicy;
+
+/**
+ * 
+ */
+public class RetryingHttpClientWrapper implements HttpClientWrapper {
+
+    final static Logger logger = LoggerFactory.getLogger(RetryingHttpClientWrapper.class);
+
+    private static final int BAD_GATEWAY = 502;
+    private static final int SERVICE_UNAVAILABLE = 503;
+    private static final int GATEWAY_TIMEOUT = 504;
+
+    private final HttpClientWrapper httpClient;
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final long deadlineNanos;
+
+    public RetryingHttpClientWrapper(HttpClientWrapper httpClient, RetryPolicy retryPolicy) {
+        this.httpClient = httpClient;
+        this.maxAttempts = retryPolicy.getMaxAttempts();
+        this.initialBackoffNanos = retryPolicy.getInitialBackoff().toNanos();
+        this.maxBackoffNanos = retryPolicy.getMaxBackoff().toNanos();
+        this.deadlineNanos = retryPolicy.getDeadline().toNanos();
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, BodyHandler<T> responseBodyHandler) {
+        if ((maxAttempts == 1) || !HttpUtil.isIdempotent(request)) {
+            return httpClient.sendAsync(request, responseBodyHandler);
+        }
+
+        // Each attempt is bounded by the time remaining before the deadline
+        CompletableFuture<HttpResponse<T>> result = new CompletableFuture<HttpResponse<T>>();
+        send(HttpUtil.withTimeout(request, Duration.ofNanos(deadlineNanos)), responseBodyHandler, 1, System.nanoTime() + deadlineNanos, result);
+        return result;
+    }
+
+    private <T> void send(HttpRequest request, BodyHandler<T> responseBodyHandler, int attempt, long deadline,
+            CompletableFuture<HttpResponse<T>> result) {
+
+        CompletableFuture<HttpResponse<T>> response;
+        try {
+            response = httpClient.sendAsync(request, responseBodyHandler);
+        }
+        catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+
+        response.whenComplete((httpResponse, exception) -> {
+            Throwable cause = (exception instanceof CompletionException) && (exception.getCause() != null) ? exception.getCause() : exception;
+
+            if ((attempt < maxAttempts) && isTransient(httpResponse, cause)) {
+                long delay = backoff(attempt);
+                long remaining = deadline - System.nanoTime() - delay;
+                if (remaining > 0) {
+                    logger.debug("Retry {} {} in {} ms, attempt {} failed: {}", request.method(), request.uri(),
+                            TimeUnit.NANOSECONDS.toMillis(delay), attempt, (cause != null) ? cause : httpResponse.statusCode());
+
+                    // The failed response is not returned, release its connection
+                    HttpUtil.discard(httpResponse);
+
+                    HttpRequest retry = HttpUtil.withTimeout(request, Duration.ofNanos(remaining));
+                    CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS)
+                            .execute(() -> send(retry, responseBodyHandler, attempt + 1, deadline, result));
+                    return;
+                }
+            }
+
+            if (cause != null) {
+                result.completeExceptionally(cause);
+            }
+            else {
+                result.complete(httpResponse);
+            }
+        });
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, BodyHandler<T> responseBodyHandler) throws IOException, InterruptedException {
+        // The event channel is reopened according to the session monitoring policy
+        return httpClient.send(request, responseBodyHandler);
+    }
+
+    /**
+     * Full jitter: a random delay between zero and the exponential backoff.
+     */
+    private long backoff(int attempt) {
+        long backoff = initialBackoffNanos << Math.min(attempt - 1, 30);
+        if ((backoff <= 0) || (backoff > maxBackoffNanos)) {
+            backoff = maxBackoffNanos;
+        }
+        return ThreadLocalRandom.current().nextLong(backoff + 1);
+    }
+
+    private static boolean isTransient(HttpResponse<?> httpResponse, Throwable exception) {
+        if (exception != null) {
+            // Connection failures and timeouts, not the limiter rejections
+            return exception instanceof IOException;
+        }
+        else {
+            int statusCode = httpResponse.statusCode();
+            return (statusCode == BAD_GATEWAY) || (statusCode == SERVICE_UNAVAILABLE) || (statusCode == GATEWAY_TIMEOUT);
+        }
+    }
+}
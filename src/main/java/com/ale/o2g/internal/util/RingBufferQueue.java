@@ -0,0 +1,223 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import com.ale.o2g.EventWaitStrategy;
+
+/**
+ * A bounded multi-producers, single consumer queue on a preallocated ring
+ * buffer. Producers claim a sequence with a compare and set once its slot is
+ * free, and publish their element in the slot, the consumer waits for the
+ * slot to be filled.
+ * There is no lock and no allocation on {@code put} and {@code take}. When
+ * the buffer is full, producers wait for the consumer.
+ */
+public class RingBufferQueue<E> implements MessageQueue<E> {
+
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+    private static final VarHandle HEAD;
+    private static final VarHandle CONSUMER_WAITING;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(RingBufferQueue.class, "head", long.class);
+            CONSUMER_WAITING = lookup.findVarHandle(RingBufferQueue.class, "consumerWaiting", boolean.class);
+        }
+        catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long PRODUCER_PARK_NANOS = 50_000;
+
+    private final Object[] buffer;
+    private final int mask;
+    private final EventWaitStrategy waitStrategy;
+
+    // Next sequence to claim by the producers
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong blocked = new AtomicLong();
+
+    // Next sequence to read by the consumer
+    @SuppressWarnings("unused")
+    private volatile long head = 0;
+    
+    @SuppressWarnings("unused")
+    private volatile boolean consumerWaiting = false;
+    private volatile Thread consumer = null;
+
+    /**
+     * Create a ring buffer.
+     * @param capacity     the capacity, rounded up to a power of two
+     * @param waitStrategy the way the threads wait for the buffer
+     */
+    public RingBufferQueue(int capacity, EventWaitStrategy waitStrategy) {
+        int size = (capacity <= 1) ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new Object[size];
+        this.mask = size - 1;
+        this.waitStrategy = waitStrategy;
+    }
+
+    private static void checkInterrupted() throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+
+        // Claim the sequence only once its slot is free, an interrupted producer leaves no hole for the consumer
+        long sequence;
+        boolean waiting = false;
+        int counter = 0;
+        for (;;) {
+            sequence = tail.get();
+            if (sequence - (long) HEAD.getAcquire(this) >= buffer.length) {
+                if (!waiting) {
+                    blocked.incrementAndGet();
+                    waiting = true;
+                }
+                checkInterrupted();
+                counter = idle(counter, PRODUCER_PARK_NANOS);
+            }
+            else if (tail.compareAndSet(sequence, sequence + 1)) {
+                break;
+            }
+        }
+
+        int index = (int) sequence & mask;
+        if (waitStrategy == EventWaitStrategy.PARK) {
+            // The volatile write orders the publication before the read of the consumer state
+            SLOT.setVolatile(buffer, index, e);
+            if ((boolean) CONSUMER_WAITING.getVolatile(this)) {
+                LockSupport.unpark(consumer);
+            }
+        }
+        else {
+            SLOT.setRelease(buffer, index, e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E take() throws InterruptedException {
+
+        long sequence = (long) HEAD.getOpaque(this);
+        int index = (int) sequence & mask;
+
+        Object e = SLOT.getAcquire(buffer, index);
+        if (e == null) {
+            int counter = 0;
+            while ((e = SLOT.getAcquire(buffer, index)) == null) {
+                checkInterrupted();
+
+                if ((waitStrategy == EventWaitStrategy.PARK) && (counter >= SPIN_TRIES + YIELD_TRIES)) {
+                    e = park(index);
+                    if (e != null) {
+                        break;
+                    }
+                }
+                else {
+                    counter = idle(counter, 0);
+                }
+            }
+        }
+
+        // Free the slot before moving the head, producers only reuse it once the head has passed
+        SLOT.setRelease(buffer, index, null);
+        HEAD.setRelease(this, sequence + 1);
+
+        return (E) e;
+    }
+
+    private Object park(int index) {
+        consumer = Thread.currentThread();
+        CONSUMER_WAITING.setVolatile(this, true);
+        try {
+            // Check again once the producers can see the flag
+            Object e = SLOT.getVolatile(buffer, index);
+            if (e == null) {
+                LockSupport.park(this);
+                e = SLOT.getAcquire(buffer, index);
+            }
+            return e;
+        }
+        finally {
+            CONSUMER_WAITING.setVolatile(this, false);
+        }
+    }
+
+    private int idle(int counter, long parkNanos) {
+        switch (waitStrategy) {
+        case BUSY_SPIN:
+            Thread.onSpinWait();
+            break;
+            
+        case YIELD:
+            if (counter < SPIN_TRIES) {
+                Thread.onSpinWait();
+            }
+            else {
+                Thread.yield();
+            }
+            break;
+            
+        case PARK:
+            if (counter < SPIN_TRIES) {
+                Thread.onSpinWait();
+            }
+            else if (counter < SPIN_TRIES + YIELD_TRIES) {
+                Thread.yield();
+            }
+            else {
+                LockSupport.parkNanos(parkNanos);
+            }
+            break;
+        }
+        
+        return counter + 1;
+    }
+
+    public int capacity() {
+        return buffer.length;
+    }
+
+    @Override
+    public int size() {
+        long size = tail.get() - (long) HEAD.getAcquire(this);
+        return (int) Math.max(0, Math.min(size, buffer.length));
+    }
+
+    public long received() {
+        return tail.get();
+    }
+
+    public long blocked() {
+        return blocked.get();
+    }
+}
@@ -0,0 +1,46 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates the SDK threads and executors. This is the Java 16 implementation,
+ * it always uses platform threads. The multi-release jar built with the
+ * {@code java21} profile provides a version which uses virtual threads when
+ * the {@value #VIRTUAL_THREADS_PROPERTY} system property is set to
+ * {@code true}.
+ */
+public class ThreadUtil {
+
+    public static final String VIRTUAL_THREADS_PROPERTY = "o2g.virtual.threads";
+
+    public static boolean isVirtual() {
+        return false;
+    }
+
+    public static ExecutorService newExecutor() {
+        return Executors.newCachedThreadPool();
+    }
+
+    public static Thread newThread(Runnable runnable, String name) {
+        return new Thread(runnable, name);
+    }
+}
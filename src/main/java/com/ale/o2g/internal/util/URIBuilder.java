@@ -18,12 +18,9 @@
 */
 package com.ale.o2g.internal.util;
 
-import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
-import java.util.stream.Collectors;
 
 /**
  * An utility class to build URI
@@ -43,34 +40,13 @@ public class URIBuilder {
 
         String uriValue = uri.toString();
 
-        if (uriValue.indexOf('?') >= 0) {
-            if (queryValue == null) {
-                return URI.create(String.format("%s&%s", uriValue, queryName));
-            }
-            else {
-                try {
-                    return URI.create(String.format("%s&%s=%s", uriValue, queryName,
-                            URLEncoder.encode(queryValue, StandardCharsets.UTF_8.toString())));
-                }
-                catch (UnsupportedEncodingException e) {
-                    throw new IllegalArgumentException(String.format("Unable to create a query string with value %s", queryValue), e);
-                }
-            }
-        }
-        else {
-            if (queryValue == null) {
-                return URI.create(String.format("%s?%s", uriValue, queryName));
-            }
-            else {
-                try {
-                    return URI.create(String.format("%s?%s=%s", uriValue, queryName,
-                            URLEncoder.encode(queryValue, StandardCharsets.UTF_8.toString())));
-                }
-                catch (UnsupportedEncodingException e) {
-                    throw new IllegalArgumentException(String.format("Unable to create a query string with value %s", queryValue), e);
-                }
-            }
+        StringBuilder builder = new StringBuilder(uriValue.length() + queryName.length() + 32);
+        builder.append(uriValue).append((uriValue.indexOf('?') >= 0) ? '&' : '?').append(queryName);
+        if (queryValue != null) {
+            builder.append('=').append(URLEncoder.encode(queryValue, StandardCharsets.UTF_8));
         }
+
+        return URI.create(builder.toString());
     }
 
     public static URI appendQuery(URI uri, String queryName) {
@@ -79,21 +55,23 @@ public class URIBuilder {
 
     public static URI appendPath(URI uri, String... paths) {
 
-        String joined = Arrays.stream(paths)
-                .map(String::trim)
-                .map(s -> {
-                    if (s.startsWith("/")) return s;
-                    else return String.format("/%s", s);
-                })
-                .collect(Collectors.joining());
-        
         String base = uri.toString();
-        if (!base.endsWith("/") && !joined.startsWith("/")) {
-            return URI.create(String.format("%s/%s", uri, joined));
+
+        StringBuilder builder = new StringBuilder(base.length() + 64);
+        builder.append(base);
+        if ((paths.length == 0) && !base.endsWith("/")) {
+            builder.append('/');
         }
-        else {
-            return URI.create(String.format("%s%s", uri, joined));   
+
+        for (String path : paths) {
+            String segment = path.trim();
+            if (!segment.startsWith("/")) {
+                builder.append('/');
+            }
+            builder.append(segment);
         }
+
+        return URI.create(builder.toString());
     }
     
     public static URI getBaseUri(URI uri) {
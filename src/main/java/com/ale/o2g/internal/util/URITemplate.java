@@ -0,0 +1,221 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.util;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A compiled URI template, relative to the uri of a service. The template is
+ * parsed once, typically in a static field of the service, and each expansion
+ * builds the uri in a single pass.
+ * <p>
+ * The following expressions of RFC 6570 are supported:
+ * <ul>
+ * <li>{@code {var}}: a path value, all the characters except the unreserved
+ * ones are percent-encoded.</li>
+ * <li>{@code {+var}}: a path value inserted as is, only the characters that
+ * are not allowed in a uri are percent-encoded.</li>
+ * <li>{@code {?var1,var2}}: query parameters, encoded like
+ * {@link URIBuilder#appendQuery(URI, String, String)}. A {@code null} value is
+ * omitted, an empty value gives {@code name=} and {@link #NO_VALUE} gives the
+ * parameter name alone.</li>
+ * </ul>
+ * For example {@code "calls/{+callRef}/hold{?loginName}"}.
+ */
+public final class URITemplate {
+
+    private static final int SIMPLE = 0;
+    private static final int RESERVED = 1;
+    private static final int QUERY = 2;
+
+    /**
+     * The query value of a parameter given by its name alone, like
+     * {@code shortHeader}. It is recognized by identity, not by its content.
+     */
+    public static final String NO_VALUE = new String();
+
+    private static final String HEX = "0123456789ABCDEF";
+    private static final boolean[] UNRESERVED = new boolean[128];
+    private static final boolean[] ALLOWED = new boolean[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            UNRESERVED[c] = true;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            UNRESERVED[c] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            UNRESERVED[c] = true;
+        }
+        for (char c : "-._~".toCharArray()) {
+            UNRESERVED[c] = true;
+        }
+
+        System.arraycopy(UNRESERVED, 0, ALLOWED, 0, UNRESERVED.length);
+        for (char c : ":/?#[]@!$&'()*+,;=%".toCharArray()) {
+            ALLOWED[c] = true;
+        }
+    }
+
+    private final String template;
+    private final String[] literals;
+    private final int[] operators;
+    private final String[][] names;
+    private final int variableCount;
+
+    private URITemplate(String template, String[] literals, int[] operators, String[][] names) {
+        this.template = template;
+        this.literals = literals;
+        this.operators = operators;
+        this.names = names;
+
+        int count = 0;
+        for (String[] expressionNames : names) {
+            count += expressionNames.length;
+        }
+        this.variableCount = count;
+    }
+
+    /**
+     * Compiles the given template.
+     * 
+     * @throws IllegalArgumentException if the template is malformed.
+     */
+    public static URITemplate compile(String template) {
+        List<String> literals = new ArrayList<String>();
+        List<Integer> operators = new ArrayList<Integer>();
+        List<String[]> names = new ArrayList<String[]>();
+
+        int start = 0;
+        int open;
+        while ((open = template.indexOf('{', start)) >= 0) {
+            int close = template.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed expression in " + template);
+            }
+            literals.add(template.substring(start, open));
+
+            String expression = template.substring(open + 1, close);
+            int operator = SIMPLE;
+            if (expression.startsWith("+")) {
+                operator = RESERVED;
+                expression = expression.substring(1);
+            }
+            else if (expression.startsWith("?") || expression.startsWith("&")) {
+                operator = QUERY;
+                expression = expression.substring(1);
+            }
+
+            String[] expressionNames = expression.split(",");
+            if ((operator != QUERY) && (expressionNames.length != 1)) {
+                throw new IllegalArgumentException("Only query expressions can have several variables in " + template);
+            }
+            operators.add(operator);
+            names.add(expressionNames);
+
+            start = close + 1;
+        }
+        literals.add(template.substring(start));
+
+        return new URITemplate(template, literals.toArray(new String[0]), operators.stream().mapToInt(Integer::intValue).toArray(),
+                names.toArray(new String[0][]));
+    }
+
+    /**
+     * Expands this template relative to the given uri. The values are given in
+     * the order of the variables in the template.
+     * 
+     * @throws IllegalArgumentException if the number of values does not match
+     *                                  the template, or if a path value is
+     *                                  {@code null}.
+     */
+    public URI expand(URI uri, String... values) {
+        if (values.length != variableCount) {
+            throw new IllegalArgumentException(String.format("%s expects %d values", template, variableCount));
+        }
+
+        String base = uri.toString();
+        StringBuilder builder = new StringBuilder(base.length() + template.length() + 32);
+        builder.append(base);
+
+        // The template is a path relative to the uri, unless it only adds a query
+        boolean relativePath = !literals[0].isEmpty() || ((operators.length > 0) && (operators[0] != QUERY));
+        if (relativePath && !base.endsWith("/")) {
+            builder.append('/');
+        }
+
+        boolean hasQuery = base.indexOf('?') >= 0;
+        int index = 0;
+        for (int i = 0; i < operators.length; i++) {
+            builder.append(literals[i]);
+
+            if (operators[i] == QUERY) {
+                for (String name : names[i]) {
+                    String value = values[index++];
+                    if (value != null) {
+                        builder.append(hasQuery ? '&' : '?').append(name);
+                        if (value != NO_VALUE) {
+                            builder.append('=').append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+                        }
+                        hasQuery = true;
+                    }
+                }
+            }
+            else {
+                String value = values[index++];
+                if (value == null) {
+                    throw new IllegalArgumentException(String.format("No value for %s in %s", names[i][0], template));
+                }
+                encode(builder, value, (operators[i] == RESERVED) ? ALLOWED : UNRESERVED);
+            }
+        }
+        builder.append(literals[operators.length]);
+
+        return URI.create(builder.toString());
+    }
+
+    private static void encode(StringBuilder builder, String value, boolean[] allowed) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c < 128) && allowed[c]) {
+                builder.append(c);
+            }
+            else {
+                // Encode the whole code point, a surrogate pair is one character
+                int codePoint = value.codePointAt(i);
+                if (Character.isSupplementaryCodePoint(codePoint)) {
+                    i++;
+                }
+                for (byte b : new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8)) {
+                    builder.append('%').append(HEX.charAt((b >> 4) & 0x0F)).append(HEX.charAt(b & 0x0F));
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+}
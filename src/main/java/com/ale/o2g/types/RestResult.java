@@ -0,0 +1,120 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.types;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * {@code RestResult} is the outcome of a single service invocation. It holds
+ * the value returned by the O2G server and, when the request has failed, the
+ * {@link RestErrorInfo} describing the error.
+ * <p>
+ * Unlike the last error of a service, a {@code RestResult} is not shared: each
+ * invocation has its own, so it can be used safely by concurrent requests.
+ * When the request has failed, the value is the one the synchronous service
+ * returns in case of error: {@code false} or {@code null}. When the request
+ * could not be sent at all, for example by a {@code Batch}, the value is
+ * {@code null} whatever its type, so a failed {@code RestResult<Boolean>} can
+ * hold a {@code null} value.
+ * 
+ * @param <T> the type of the value
+ */
+public final class RestResult<T> {
+
+    private final T value;
+    private final RestErrorInfo error;
+    private final boolean succeeded;
+
+    private RestResult(T value, RestErrorInfo error, boolean succeeded) {
+        this.value = value;
+        this.error = error;
+        this.succeeded = succeeded;
+    }
+
+    /**
+     * Returns a succeeded result holding the specified value.
+     * 
+     * @param <T>   the type of the value
+     * @param value the value
+     * @return the result.
+     */
+    public static <T> RestResult<T> succeeded(T value) {
+        return new RestResult<T>(value, null, true);
+    }
+
+    /**
+     * Returns a failed result.
+     * 
+     * @param <T>   the type of the value
+     * @param value the value returned in case of error, can be {@code null}
+     * @param error the error, or {@code null} if the server has not given any
+     *              detail
+     * @return the result.
+     */
+    public static <T> RestResult<T> failed(T value, RestErrorInfo error) {
+        return new RestResult<T>(value, error, false);
+    }
+
+    /**
+     * Returns whether the request has succeeded.
+     * 
+     * @return {@code true} if the request has succeeded; {@code false} otherwise.
+     */
+    public final boolean isSucceeded() {
+        return succeeded;
+    }
+
+    /**
+     * Returns the value of this result.
+     * 
+     * @return the value.
+     */
+    public final T getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the error of this result.
+     * 
+     * @return the error, or an empty optional if the request has succeeded or if
+     *         the server has not given any detail.
+     */
+    public final Optional<RestErrorInfo> getError() {
+        return Optional.ofNullable(error);
+    }
+
+    /**
+     * Returns a result holding the value converted by the specified function,
+     * with the same error. The function is applied even if the request has
+     * failed, so it must accept a {@code null} value.
+     * 
+     * @param <U>    the type of the converted value
+     * @param mapper the function
+     * @return the converted result.
+     */
+    public <U> RestResult<U> map(Function<? super T, ? extends U> mapper) {
+        return new RestResult<U>(mapper.apply(value), error, succeeded);
+    }
+
+    @Override
+    public String toString() {
+        return succeeded ? "RestResult[value=" + value + "]" : "RestResult[failed, value=" + value + "]";
+    }
+}
@@ -0,0 +1,111 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.ale.o2g.types.RestResult;
+
+public class BatchTest {
+
+    private static List<String> loginNames(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "agent" + i).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testMaxInFlight() {
+        List<CompletableFuture<RestResult<Boolean>>> requests = new ArrayList<>();
+
+        CompletableFuture<Map<String, RestResult<Boolean>>> future = Batch.run(loginNames(10), 3, loginName -> {
+            CompletableFuture<RestResult<Boolean>> request = new CompletableFuture<>();
+            requests.add(request);
+            return request;
+        });
+
+        assertEquals(3, requests.size());
+
+        requests.get(0).complete(RestResult.succeeded(true));
+        assertEquals(4, requests.size());
+
+        // Complete the requests in reverse order of sending
+        while (!future.isDone()) {
+            for (int i = requests.size() - 1; i >= 0; i--) {
+                requests.get(i).complete(RestResult.succeeded(true));
+            }
+        }
+
+        assertEquals(10, requests.size());
+        assertEquals(loginNames(10), List.copyOf(future.join().keySet()));
+        assertTrue(future.join().values().stream().allMatch(RestResult::isSucceeded));
+    }
+
+    @Test
+    public void testResultPerItem() {
+        Map<String, RestResult<Boolean>> results = Batch.run(loginNames(4), (String loginName) -> switch (loginName) {
+            case "agent0" -> CompletableFuture.completedFuture(RestResult.succeeded(true));
+            case "agent1" -> CompletableFuture.completedFuture(RestResult.<Boolean>failed(false, null));
+            case "agent2" -> CompletableFuture.<RestResult<Boolean>>failedFuture(new IOException("unreachable"));
+            default -> throw new IllegalArgumentException("bad login name");
+        }).join();
+
+        assertTrue(results.get("agent0").isSucceeded());
+        assertFalse(results.get("agent1").isSucceeded());
+        assertFalse(results.get("agent1").getValue());
+
+        RestResult<Boolean> failed = results.get("agent2");
+        assertFalse(failed.isSucceeded());
+        assertNull(failed.getValue());
+        assertEquals("java.io.IOException: unreachable", failed.getError().get().getHelpMessage());
+        assertTrue(failed.getError().get().isCanRetry());
+
+        // Only an I/O error can be retried
+        failed = results.get("agent3");
+        assertFalse(failed.isSucceeded());
+        assertNull(failed.getValue());
+        assertFalse(failed.getError().get().isCanRetry());
+    }
+
+    @Test
+    public void testCompletedRequests() {
+        Map<String, RestResult<Boolean>> results = Batch.run(loginNames(100000), 1,
+                loginName -> CompletableFuture.completedFuture(RestResult.succeeded(true))).join();
+
+        assertEquals(100000, results.size());
+    }
+
+    @Test
+    public void testEmpty() {
+        assertTrue(Batch.run(List.<String>of(), loginName -> CompletableFuture.completedFuture(RestResult.succeeded(true))).join().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> Batch.run(loginNames(1), 0, loginName -> null));
+    }
+}
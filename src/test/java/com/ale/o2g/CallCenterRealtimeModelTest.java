@@ -0,0 +1,163 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.ale.o2g.CallCenterRealtimeModel.Snapshot;
+import com.ale.o2g.events.ccrt.AgentServiceState;
+import com.ale.o2g.events.ccrt.OnAgentRtiChangedEvent;
+import com.ale.o2g.events.ccrt.OnPilotRtiChangedEvent;
+import com.ale.o2g.events.ccrt.OnQueueRtiChangedEvent;
+import com.ale.o2g.test.AbstractJsonTest;
+import com.ale.o2g.types.ccrt.RtiObjects;
+
+public class CallCenterRealtimeModelTest extends AbstractJsonTest {
+
+    private CallCenterRealtimeModel model;
+
+    @Override
+    protected void beforeEach() {
+        model = CallCenterRealtimeModel.create(Duration.ZERO);
+        model.reset(gson.fromJson("""
+                {
+                    "agents": [
+                        { "number": "60119", "name": "Agent1", "key": 1 },
+                        { "number": "60120", "name": "Agent2", "key": 2 },
+                        { "number": "60121", "name": "Agent3", "key": 3 }
+                    ],
+                    "pilots": [ { "number": "60100", "name": "Support", "key": 10 } ],
+                    "queues": [
+                        { "number": "60200", "name": "Queue1", "key": 20 },
+                        { "number": "60201", "name": "Queue2", "key": 21 }
+                    ]
+                }
+                """, RtiObjects.class));
+    }
+
+    private void agent(String json) {
+        model.onAgentRtiChanged(gson.fromJson(json, OnAgentRtiChangedEvent.class));
+    }
+
+    @Test
+    void testSeeded() {
+        Snapshot snapshot = model.getSnapshot();
+        assertEquals(3, snapshot.getAgentCount(AgentServiceState.UNKNOWN));
+        assertEquals(0, snapshot.getAgentCount(AgentServiceState.LOGGED_IN));
+        assertEquals(Map.of("60100", 0), snapshot.getWaitingCallsByPilot());
+        assertEquals(0, snapshot.getNbOfQueuedCalls());
+        assertEquals(3, model.getAgents().size());
+        assertEquals("Agent2", model.getAgent(2).getName());
+        assertNull(model.getAgent(2).getServiceState());
+    }
+
+    @Test
+    void testAgentsByServiceState() {
+        agent("{ \"afeKey\": 1, \"serviceState\": \"LoggedIn\" }");
+        agent("{ \"afeKey\": 2, \"serviceState\": \"LoggedIn\" }");
+        agent("{ \"afeKey\": 3, \"serviceState\": \"Withdrawn\" }");
+        agent("{ \"afeKey\": 2, \"serviceState\": \"Assigned\" }");
+
+        // An event without service state keeps the state
+        agent("{ \"afeKey\": 1, \"phoneState\": \"Idle\" }");
+
+        Snapshot snapshot = model.getSnapshot();
+        assertEquals(1, snapshot.getAgentCount(AgentServiceState.LOGGED_IN));
+        assertEquals(1, snapshot.getAgentCount(AgentServiceState.ASSIGNED));
+        assertEquals(1, snapshot.getAgentCount(AgentServiceState.WITHDRAWN));
+        assertEquals(0, snapshot.getAgentCount(AgentServiceState.UNKNOWN));
+        assertEquals(AgentServiceState.LOGGED_IN, model.getAgent(1).getServiceState());
+    }
+
+    @Test
+    void testServedACDCallsByProcessingGroup() {
+        agent("{ \"afeKey\": 1, \"currentPG\": \"PG1\", \"nbOfServedACDCalls\": 3 }");
+        agent("{ \"afeKey\": 2, \"currentPG\": \"PG1\", \"nbOfServedACDCalls\": 2 }");
+        agent("{ \"afeKey\": 3, \"currentPG\": \"PG2\", \"nbOfServedACDCalls\": 4 }");
+        assertEquals(Map.of("PG1", 5, "PG2", 4), model.getSnapshot().getServedACDCallsByProcessingGroup());
+
+        agent("{ \"afeKey\": 1, \"nbOfServedACDCalls\": 4 }");
+        agent("{ \"afeKey\": 2, \"currentPG\": \"PG2\" }");
+        assertEquals(Map.of("PG1", 4, "PG2", 6), model.getSnapshot().getServedACDCallsByProcessingGroup());
+
+        // The counter is reset
+        agent("{ \"afeKey\": 1, \"nbOfServedACDCalls\": 0 }");
+        assertEquals(Map.of("PG2", 6), model.getSnapshot().getServedACDCallsByProcessingGroup());
+    }
+
+    @Test
+    void testWaitingCalls() {
+        model.onPilotRtiChanged(gson.fromJson("{ \"afeKey\": 10, \"nbOfWaitingCalls\": 4 }", OnPilotRtiChangedEvent.class));
+        model.onQueueRtiChanged(gson.fromJson("{ \"afeKey\": 20, \"nbOfWaitingCalls\": 3 }", OnQueueRtiChangedEvent.class));
+        model.onQueueRtiChanged(gson.fromJson("{ \"afeKey\": 21, \"nbOfWaitingCalls\": 1 }", OnQueueRtiChangedEvent.class));
+        assertEquals(Map.of("60100", 4), model.getSnapshot().getWaitingCallsByPilot());
+        assertEquals(4, model.getSnapshot().getNbOfQueuedCalls());
+
+        model.onPilotRtiChanged(gson.fromJson("{ \"afeKey\": 10, \"nbOfWaitingCalls\": 0 }", OnPilotRtiChangedEvent.class));
+        model.onQueueRtiChanged(gson.fromJson("{ \"afeKey\": 20, \"nbOfWaitingCalls\": 0 }", OnQueueRtiChangedEvent.class));
+        model.onQueueRtiChanged(gson.fromJson("{ \"afeKey\": 21, \"incomingTraffic\": 2 }", OnQueueRtiChangedEvent.class));
+        assertEquals(Map.of("60100", 0), model.getSnapshot().getWaitingCallsByPilot());
+        assertEquals(1, model.getSnapshot().getNbOfQueuedCalls());
+    }
+
+    @Test
+    void testSnapshotIsImmutable() {
+        Snapshot before = model.getSnapshot();
+        assertSame(before, model.getSnapshot());
+
+        agent("{ \"afeKey\": 1, \"serviceState\": \"LoggedIn\" }");
+
+        Snapshot after = model.getSnapshot();
+        assertNotSame(before, after);
+        assertEquals(0, before.getAgentCount(AgentServiceState.LOGGED_IN));
+        assertEquals(1, after.getAgentCount(AgentServiceState.LOGGED_IN));
+
+        // Built once until the next change
+        assertSame(after, model.getSnapshot());
+    }
+
+    @Test
+    void testRefreshPeriod() throws Exception {
+        model = CallCenterRealtimeModel.create(Duration.ofMillis(500));
+
+        // The first change is published at once, the next ones at the end of the period
+        agent("{ \"afeKey\": 1, \"serviceState\": \"LoggedIn\" }");
+        Snapshot first = model.getSnapshot();
+        assertEquals(1, first.getAgentCount(AgentServiceState.LOGGED_IN));
+
+        agent("{ \"afeKey\": 2, \"serviceState\": \"LoggedIn\" }");
+        agent("{ \"afeKey\": 3, \"serviceState\": \"LoggedIn\" }");
+        assertSame(first, model.getSnapshot());
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((model.getSnapshot() == first) && (System.nanoTime() < deadline)) {
+            Thread.sleep(10);
+        }
+        assertEquals(3, model.getSnapshot().getAgentCount(AgentServiceState.LOGGED_IN));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.ale.o2g;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+public class HttpClientConfigurationTest {
+
+    @Test
+    public void testDefaultConfiguration() {
+        HttpClientConfiguration configuration = HttpClientConfiguration.newBuilder().build();
+
+        assertNull(configuration.getVersion());
+        assertNull(configuration.getConnectTimeout());
+        assertNull(configuration.getRequestTimeout());
+        assertNull(configuration.getExecutor());
+        assertFalse(configuration.isSharedWithEventing());
+    }
+
+    @Test
+    public void testConfiguration() {
+        HttpClientConfiguration configuration = HttpClientConfiguration.newBuilder()
+                .setVersion(HttpClient.Version.HTTP_2)
+                .setConnectTimeout(Duration.ofSeconds(5))
+                .setRequestTimeout(Duration.ofSeconds(30))
+                .setSharedWithEventing(true)
+                .build();
+
+        assertEquals(HttpClient.Version.HTTP_2, configuration.getVersion());
+        assertEquals(Duration.ofSeconds(5), configuration.getConnectTimeout());
+        assertEquals(Duration.ofSeconds(30), configuration.getRequestTimeout());
+        assertTrue(configuration.isSharedWithEventing());
+    }
+
+    @Test
+    public void testInvalidTimeout() {
+        assertThrows(IllegalArgumentException.class, () -> HttpClientConfiguration.newBuilder().setConnectTimeout(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> HttpClientConfiguration.newBuilder().setRequestTimeout(Duration.ofSeconds(-1)));
+    }
+}
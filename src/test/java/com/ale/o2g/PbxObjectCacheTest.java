@@ -0,0 +1,173 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+import com.ale.o2g.events.management.OnPbxObjectInstanceCreatedEvent;
+import com.ale.o2g.events.management.OnPbxObjectInstanceDeletedEvent;
+import com.ale.o2g.events.management.OnPbxObjectInstanceModifiedEvent;
+import com.ale.o2g.test.AbstractJsonTest;
+import com.ale.o2g.types.management.Model;
+import com.ale.o2g.types.management.PbxObject;
+
+public class PbxObjectCacheTest extends AbstractJsonTest {
+
+    private static final String ACD2 = "Application_Configuration/1/ACD2";
+    private static final String OPERATOR = ACD2 + "/1/ACD2_Operator";
+    private static final String OPERATOR_DATA = OPERATOR + "/60119/ACD2_Operator_data";
+
+    private ManagementService service;
+    private PbxObjectCache cache;
+
+    @Override
+    protected void beforeEach() {
+        service = mock(ManagementService.class);
+        cache = PbxObjectCache.create(service, 100, Duration.ofMinutes(1));
+    }
+
+    private String event(String objectName, String objectId, String fatherName, String fatherId) {
+        return "{ \"nodeId\": 1, \"object\": { \"objectName\": \"" + objectName + "\", \"objectId\": \"" + objectId + "\" },"
+                + " \"father\": { \"objectName\": \"" + fatherName + "\", \"objectId\": \"" + fatherId + "\" } }";
+    }
+
+    private PbxObject object(String definition, String objectId) {
+        PbxObject object = mock(PbxObject.class);
+        when(service.getObject(1, definition, objectId)).thenReturn(object);
+        return object;
+    }
+
+    private Model model(String name) {
+        Model model = mock(Model.class);
+        when(model.getName()).thenReturn(name);
+        return model;
+    }
+
+    @Test
+    void testObjectsCached() {
+        PbxObject subscriber = object("Subscriber", "35000");
+        when(service.getObject(1, "Subscriber", "35000", "name")).thenReturn(mock(PbxObject.class));
+        for (int i = 0; i < 3; i++) {
+            assertSame(subscriber, cache.getObject(1, "Subscriber", "35000"));
+        }
+        cache.getObject(1, "Subscriber", "35000", "name");
+        cache.getObject(1, "Subscriber", "35000", "name");
+
+        verify(service, times(1)).getObject(1, "Subscriber", "35000");
+        verify(service, times(1)).getObject(1, "Subscriber", "35000", "name");
+        assertEquals(2, cache.getMissCount());
+        assertEquals(3, cache.getHitCount());
+    }
+
+    @Test
+    void testModifiedObjectInvalidated() {
+        object("Subscriber", "35000");
+        object("Subscriber", "35001");
+        cache.getObject(1, "Subscriber", "35000");
+        cache.getObject(1, "Subscriber", "35001");
+
+        cache.pbxObjectInstanceModified(gson.fromJson(event("Subscriber", "35000", "Node", "1"), OnPbxObjectInstanceModifiedEvent.class));
+        cache.getObject(1, "Subscriber", "35000");
+        cache.getObject(1, "Subscriber", "35001");
+
+        verify(service, times(2)).getObject(1, "Subscriber", "35000");
+        verify(service, times(1)).getObject(1, "Subscriber", "35001");
+    }
+
+    @Test
+    void testDeletedObjectInvalidatedWithFatherAndSubObjects() {
+        object(ACD2, "1");
+        object(OPERATOR, "60119");
+        object(OPERATOR, "60120");
+        object(OPERATOR_DATA, "1");
+        cache.getObject(1, ACD2, "1");
+        cache.getObject(1, OPERATOR, "60119");
+        cache.getObject(1, OPERATOR, "60120");
+        cache.getObject(1, OPERATOR_DATA, "1");
+
+        cache.pbxObjectInstanceDeleted(gson.fromJson(event("ACD2_Operator", "60119", "ACD2", "1"), OnPbxObjectInstanceDeletedEvent.class));
+        assertEquals(1, cache.getInstanceCount());
+
+        cache.getObject(1, ACD2, "1");
+        cache.getObject(1, OPERATOR, "60119");
+        cache.getObject(1, OPERATOR, "60120");
+        cache.getObject(1, OPERATOR_DATA, "1");
+        verify(service, times(2)).getObject(1, ACD2, "1");
+        verify(service, times(2)).getObject(1, OPERATOR, "60119");
+        verify(service, times(1)).getObject(1, OPERATOR, "60120");
+        verify(service, times(2)).getObject(1, OPERATOR_DATA, "1");
+    }
+
+    @Test
+    void testCreatedObjectInvalidatesFather() {
+        object(ACD2, "1");
+        object(OPERATOR, "60120");
+        cache.getObject(1, ACD2, "1");
+        cache.getObject(1, OPERATOR, "60120");
+
+        cache.pbxObjectInstanceCreated(gson.fromJson(event("ACD2_Operator", "60121", "ACD2", "1"), OnPbxObjectInstanceCreatedEvent.class));
+        cache.getObject(1, ACD2, "1");
+        cache.getObject(1, OPERATOR, "60120");
+
+        verify(service, times(2)).getObject(1, ACD2, "1");
+        verify(service, times(1)).getObject(1, OPERATOR, "60120");
+    }
+
+    @Test
+    void testWarmUp() {
+        Model global = model("root");
+        Model subscriber = model("Subscriber");
+        Model trunk = model("Trunk_Group");
+        when(global.getChildModels()).thenReturn(List.of(subscriber, trunk));
+        when(service.getObjectModel(1, null)).thenReturn(global);
+        when(service.getObjectModel(1, "Subscriber")).thenReturn(subscriber);
+        when(service.getObjectModel(1, "Trunk_Group")).thenReturn(trunk);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            assertEquals(2, cache.warmUp(1, null, 2, executor).join());
+        }
+        finally {
+            executor.shutdown();
+        }
+
+        assertSame(subscriber, cache.getObjectModel(1, "Subscriber"));
+        assertSame(trunk, cache.getObjectModel(1, "Trunk_Group"));
+        verify(service, times(1)).getObjectModel(1, null);
+        verify(service, times(1)).getObjectModel(1, "Subscriber");
+        verify(service, times(1)).getObjectModel(1, "Trunk_Group");
+
+        // The models are not invalidated by the instance events
+        cache.pbxObjectInstanceModified(gson.fromJson(event("Subscriber", "35000", "Node", "1"), OnPbxObjectInstanceModifiedEvent.class));
+        cache.getObjectModel(1, "Subscriber");
+        verify(service, times(1)).getObjectModel(1, "Subscriber");
+    }
+}
@@ -0,0 +1,155 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+
+import com.ale.o2g.events.common.OnChannelInformationEvent;
+import com.ale.o2g.events.routing.OnRoutingStateChangedEvent;
+import com.ale.o2g.test.AbstractJsonTest;
+import com.ale.o2g.types.routing.RoutingState;
+
+public class RoutingStateCacheTest extends AbstractJsonTest {
+
+    private RoutingService service;
+
+    @Override
+    protected void beforeEach() {
+        service = mock(RoutingService.class);
+    }
+
+    private RoutingState state(boolean dnd) {
+        return gson.fromJson("{ \"dndState\": { \"activate\": " + dnd + " } }", RoutingState.class);
+    }
+
+    private OnRoutingStateChangedEvent event(String loginName, boolean dnd) {
+        return gson.fromJson("{ \"loginName\": \"" + loginName + "\", \"routingState\": { \"dndState\": { \"activate\": " + dnd + " } } }",
+                OnRoutingStateChangedEvent.class);
+    }
+
+    @Test
+    void testFilledLazily() {
+        RoutingState state = state(true);
+        when(service.getRoutingState("oxe1000")).thenReturn(state);
+
+        RoutingStateCache cache = RoutingStateCache.create(service, 10);
+        assertSame(state, cache.getRoutingState("oxe1000"));
+        assertTrue(cache.getDndState("oxe1000").isActivated());
+
+        verify(service, times(1)).getRoutingState("oxe1000");
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void testFailureNotCached() {
+        RoutingStateCache cache = RoutingStateCache.create(service, 10);
+        assertNull(cache.getRoutingState("oxe1000"));
+        assertNull(cache.getForward("oxe1000"));
+        assertEquals(2, cache.getMissCount());
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    void testUpdatedFromEvents() {
+        when(service.getRoutingState("oxe1000")).thenReturn(state(false));
+
+        RoutingStateCache cache = RoutingStateCache.create(service, 10);
+        assertFalse(cache.getDndState("oxe1000").isActivated());
+
+        cache.onRoutingStateChanged(event("oxe1000", true));
+        assertTrue(cache.getDndState("oxe1000").isActivated());
+
+        // The events fill the cache too
+        cache.onRoutingStateChanged(event("oxe1001", true));
+        assertTrue(cache.getDndState("oxe1001").isActivated());
+
+        verify(service, times(1)).getRoutingState("oxe1000");
+        verify(service, times(0)).getRoutingState("oxe1001");
+    }
+
+    @Test
+    void testInvalidatedOnReconnection() {
+        when(service.getRoutingState("oxe1000")).thenReturn(state(false));
+
+        RoutingStateCache cache = RoutingStateCache.create(service, 10);
+        cache.getRoutingState("oxe1000");
+        cache.OnChannelInformation(gson.fromJson("{}", OnChannelInformationEvent.class));
+        assertEquals(0, cache.getSize());
+
+        cache.getRoutingState("oxe1000");
+        verify(service, times(2)).getRoutingState("oxe1000");
+    }
+
+    @Test
+    void testInvalidatedDuringRead() {
+        RoutingStateCache cache = RoutingStateCache.create(service, 10);
+        when(service.getRoutingState("oxe1000")).thenAnswer(invocation -> {
+            // The state read is outdated by the invalidation
+            cache.invalidate("oxe1000");
+            return state(false);
+        });
+
+        cache.getRoutingState("oxe1000");
+        assertEquals(0, cache.getSize());
+
+        cache.getRoutingState("oxe1000");
+        verify(service, times(2)).getRoutingState("oxe1000");
+    }
+
+    @Test
+    void testRemovedByEventDuringRead() {
+        RoutingStateCache cache = RoutingStateCache.create(service, 10);
+        when(service.getRoutingState("oxe1000")).thenAnswer(invocation -> {
+            // An event without routing state outdates the state read
+            cache.onRoutingStateChanged(gson.fromJson("{ \"loginName\": \"oxe1000\" }", OnRoutingStateChangedEvent.class));
+            return state(false);
+        });
+
+        cache.getRoutingState("oxe1000");
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEvicted() {
+        RoutingStateCache cache = RoutingStateCache.create(service, 2);
+        cache.onRoutingStateChanged(event("oxe1000", true));
+        cache.onRoutingStateChanged(event("oxe1001", true));
+
+        // oxe1000 becomes the most recently used
+        cache.getRoutingState("oxe1000");
+        cache.onRoutingStateChanged(event("oxe1002", true));
+
+        assertEquals(2, cache.getSize());
+        assertTrue(cache.getDndState("oxe1000").isActivated());
+        assertTrue(cache.getDndState("oxe1002").isActivated());
+        assertNull(cache.getRoutingState("oxe1001"));
+        assertEquals(1, cache.getMissCount());
+    }
+}
@@ -20,9 +20,14 @@
 package com.ale.o2g;
 
 import static com.ale.o2g.test.ExtendAssert.assertJsonEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.ale.o2g.events.EventPackage;
 import com.ale.o2g.events.cca.CallCenterAgentEventAdapter;
 import com.ale.o2g.events.ccp.CallCenterPilotEventAdapter;
 import com.ale.o2g.events.telephony.TelephonyEventAdapter;
@@ -162,4 +167,109 @@ public class SubscriptionTest extends AbstractJsonTest {
 
         assertJsonEquals(expectedJson, json);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testParallelDispatchNotSerialized() throws Exception {
+        Subscription subscription = Subscription.newBuilder()
+                .addTelephonyEventListener(new TelephonyEventAdapter() {}, new String[]{"1001"})
+                .setParallelDispatch(4)
+                .setEventQueue(5000, EventOverflowPolicy.SPILL_TO_DISK)
+                .setVersion("1.0")
+                .setTimeout(10)
+                .build();
+
+        String json = gson.toJson(subscription);
+
+        String expectedJson = """
+                {
+                  "version":"1.0",
+                  "timeout":10,
+                  "filter":{
+                    "selectors":[
+                      {"ids":["1001"],"names":["telephony"]}
+                    ]
+                  }
+                }
+                """;
+
+        assertJsonEquals(expectedJson, json);
+    }
+
+    @Test
+    public void testFilterAddIds() throws Exception {
+        Subscription subscription = Subscription.newBuilder()
+                .addTelephonyEventListener(new TelephonyEventAdapter() {}, new String[]{"1001"})
+                .addUsersEventListener(new UsersEventAdapter() {})
+                .build();
+
+        Subscription.Filter filter = new Subscription.Filter(subscription.getFilter());
+        assertTrue(filter.addIds(EventPackage.TELEPHONY, new String[]{"1001", "1002"}));
+        assertFalse(filter.addIds(EventPackage.TELEPHONY, new String[]{"1002"}));
+        assertTrue(filter.addIds(EventPackage.AGENT, new String[]{"3001"}));
+
+        // Subscribed for all the ids
+        assertFalse(filter.addIds(EventPackage.USERS, new String[]{"oxe1000"}));
+
+        String expectedJson = """
+                {
+                  "selectors":[
+                    {"ids":["1001","1002"],"names":["telephony"]},
+                    {"names":["userManagement"]},
+                    {"names":["user"]},
+                    {"ids":["3001"],"names":["agent"]}
+                  ]
+                }
+                """;
+
+        assertJsonEquals(expectedJson, gson.toJson(filter));
+
+        // The subscription filter is unchanged
+        assertJsonEquals("""
+                {
+                  "selectors":[
+                    {"ids":["1001"],"names":["telephony"]},
+                    {"names":["userManagement"]},
+                    {"names":["user"]}
+                  ]
+                }
+                """, gson.toJson(subscription.getFilter()));
+    }
+
+    @Test
+    public void testFilterRemoveIds() throws Exception {
+        Subscription.Filter filter = new Subscription.Filter();
+        filter.addPackages(new String[]{"1001", "1002"}, EventPackage.TELEPHONY);
+        filter.addPackages(List.of("3001", "3002"), List.of(EventPackage.AGENT, EventPackage.RTI));
+        filter.addPackages(EventPackage.ROUTING);
+
+        assertTrue(filter.removeIds(EventPackage.TELEPHONY, new String[]{"1001"}));
+        assertFalse(filter.removeIds(EventPackage.TELEPHONY, new String[]{"1001"}));
+        assertTrue(filter.removeIds(EventPackage.RTI, new String[]{"3001"}));
+        assertFalse(filter.removeIds(EventPackage.ROUTING, new String[]{"1001"}));
+
+        String expectedJson = """
+                {
+                  "selectors":[
+                    {"ids":["1002"],"names":["telephony"]},
+                    {"ids":["3001","3002"],"names":["agent"]},
+                    {"ids":["3002"],"names":["rti"]},
+                    {"names":["routingManagement"]}
+                  ]
+                }
+                """;
+
+        assertJsonEquals(expectedJson, gson.toJson(filter));
+
+        // Removing the last id removes the package
+        assertTrue(filter.removeIds(EventPackage.TELEPHONY, new String[]{"1002"}));
+        assertJsonEquals("""
+                {
+                  "selectors":[
+                    {"ids":["3001","3002"],"names":["agent"]},
+                    {"ids":["3002"],"names":["rti"]},
+                    {"names":["routingManagement"]}
+                  ]
+                }
+                """, gson.toJson(filter));
+    }
+}
@@ -0,0 +1,165 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g;
+
+import static com.ale.o2g.test.ExtendAssert.assertContainsStrict;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import com.ale.o2g.events.common.OnChannelInformationEvent;
+import com.ale.o2g.events.telephony.OnCallCreatedEvent;
+import com.ale.o2g.events.telephony.OnCallModifiedEvent;
+import com.ale.o2g.events.telephony.OnCallRemovedEvent;
+import com.ale.o2g.events.telephony.OnTelephonyStateEvent;
+import com.ale.o2g.test.AbstractJsonTest;
+import com.ale.o2g.types.RestResult;
+import com.ale.o2g.types.telephony.Call;
+import com.ale.o2g.types.telephony.TelephonicState;
+import com.ale.o2g.types.telephony.call.Leg;
+import com.ale.o2g.types.telephony.call.MediaState;
+import com.ale.o2g.types.telephony.call.Participant;
+
+public class TelephonyStateCacheTest extends AbstractJsonTest {
+
+    private AsyncTelephonyService service;
+    private TelephonyStateCache cache;
+
+    @Override
+    protected void beforeEach() {
+        service = mock(AsyncTelephonyService.class);
+        cache = TelephonyStateCache.create(service);
+    }
+
+    private TelephonicState state(String calls) {
+        return gson.fromJson("{ \"calls\": " + calls + " }", TelephonicState.class);
+    }
+
+    private void supervise(String loginName, String calls) {
+        when(service.getState(loginName)).thenReturn(CompletableFuture.completedFuture(RestResult.succeeded(state(calls))));
+        assertTrue(cache.supervise(loginName).join());
+    }
+
+    @Test
+    void testSeededFromState() {
+        assertNull(cache.getCalls("oxe1000"));
+
+        supervise("oxe1000", """
+                [ { "callRef": "c1", "callData": { "state": "ACTIVE" },
+                    "legs": [ { "deviceId": "1000" } ],
+                    "participants": [ { "participantId": "p1" } ] } ]
+                """);
+
+        assertTrue(cache.isSynchronized("oxe1000"));
+        assertContainsStrict(List.of("c1"), cache.getCalls("oxe1000"), Call::getCallRef);
+        assertEquals(MediaState.ACTIVE, cache.getCall("c1", "oxe1000").getCallData().getState());
+        assertContainsStrict(List.of("1000"), cache.getLegs("c1", "oxe1000"), Leg::getDeviceId);
+        assertContainsStrict(List.of("p1"), cache.getParticipants("c1", "oxe1000"), Participant::getId);
+        assertNull(cache.getLegs("c2", "oxe1000"));
+        assertNull(cache.getCalls("oxe1001"));
+    }
+
+    @Test
+    void testUpdatedFromEvents() {
+        supervise("oxe1000", "[]");
+
+        cache.onCallCreated(gson.fromJson("""
+                { "loginName": "oxe1000", "callRef": "c1", "callData": { "state": "RINGING_OUTGOING" },
+                  "legs": [ { "deviceId": "1000" } ],
+                  "participants": [ { "participantId": "p1" } ] }
+                """, OnCallCreatedEvent.class));
+        assertEquals(MediaState.RINGING_OUTGOING, cache.getCall("c1", "oxe1000").getCallData().getState());
+
+        cache.onCallModified(gson.fromJson("""
+                { "loginName": "oxe1000", "callRef": "c1", "callData": { "state": "ACTIVE" },
+                  "addedLegs": [ { "deviceId": "1001" } ],
+                  "removedLegs": [ { "deviceId": "1000" } ],
+                  "addedParticipants": [ { "participantId": "p2" } ],
+                  "removedParticipantIds": [ "p1" ] }
+                """, OnCallModifiedEvent.class));
+        assertEquals(MediaState.ACTIVE, cache.getCall("c1", "oxe1000").getCallData().getState());
+        assertContainsStrict(List.of("1001"), cache.getLegs("c1", "oxe1000"), Leg::getDeviceId);
+        assertContainsStrict(List.of("p2"), cache.getParticipants("c1", "oxe1000"), Participant::getId);
+
+        // The call reference changes, the content is kept
+        cache.onCallModified(gson.fromJson("""
+                { "loginName": "oxe1000", "callRef": "c2", "previousCallRef": "c1" }
+                """, OnCallModifiedEvent.class));
+        assertContainsStrict(List.of("c2"), cache.getCalls("oxe1000"), Call::getCallRef);
+        assertEquals(MediaState.ACTIVE, cache.getCall("c2", "oxe1000").getCallData().getState());
+        assertContainsStrict(List.of("1001"), cache.getLegs("c2", "oxe1000"), Leg::getDeviceId);
+
+        cache.onCallRemoved(gson.fromJson("""
+                { "loginName": "oxe1000", "callRef": "c2" }
+                """, OnCallRemovedEvent.class));
+        assertTrue(cache.getCalls("oxe1000").isEmpty());
+
+        // Events of users that are not supervised are ignored
+        cache.onCallCreated(gson.fromJson("""
+                { "loginName": "oxe1001", "callRef": "c3" }
+                """, OnCallCreatedEvent.class));
+        assertNull(cache.getCalls("oxe1001"));
+    }
+
+    @Test
+    void testResynchronizedAfterReconnection() {
+        supervise("oxe1000", """
+                [ { "callRef": "c1" } ]
+                """);
+        when(service.requestSnapshot("oxe1000")).thenReturn(CompletableFuture.completedFuture(RestResult.succeeded(true)));
+
+        cache.OnChannelInformation(gson.fromJson("{ \"text\": \"channel established\" }", OnChannelInformationEvent.class));
+        verify(service).requestSnapshot("oxe1000");
+        assertFalse(cache.isSynchronized("oxe1000"));
+        assertNull(cache.getCalls("oxe1000"));
+
+        cache.onTelephonyState(gson.fromJson("""
+                { "loginName": "oxe1000", "state": { "calls": [ { "callRef": "c2" } ] } }
+                """, OnTelephonyStateEvent.class));
+        assertTrue(cache.isSynchronized("oxe1000"));
+        assertContainsStrict(List.of("c2"), cache.getCalls("oxe1000"), Call::getCallRef);
+    }
+
+    @Test
+    void testSnapshotRequestedWhenModifiedWhileLoading() {
+        CompletableFuture<RestResult<TelephonicState>> pending = new CompletableFuture<>();
+        when(service.getState("oxe1000")).thenReturn(pending);
+        when(service.requestSnapshot("oxe1000")).thenReturn(CompletableFuture.completedFuture(RestResult.succeeded(true)));
+
+        CompletableFuture<Boolean> supervised = cache.supervise("oxe1000");
+        cache.onCallCreated(gson.fromJson("""
+                { "loginName": "oxe1000", "callRef": "c1" }
+                """, OnCallCreatedEvent.class));
+        pending.complete(RestResult.succeeded(state("[]")));
+
+        // The loaded state is outdated, a snapshot has been requested
+        assertTrue(supervised.join());
+        verify(service).requestSnapshot("oxe1000");
+        assertFalse(cache.isSynchronized("oxe1000"));
+    }
+}
@@ -0,0 +1,221 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.ale.o2g.events.users.OnUserDeletedEvent;
+import com.ale.o2g.events.users.OnUserInfoChangedEvent;
+import com.ale.o2g.test.AbstractJsonTest;
+import com.ale.o2g.types.users.User;
+
+public class UserDirectoryCacheTest extends AbstractJsonTest {
+
+    private UsersService usersService;
+    private UserManagementService userManagementService;
+
+    @Override
+    protected void beforeEach() {
+        usersService = mock(UsersService.class);
+        userManagementService = mock(UserManagementService.class);
+    }
+
+    private User user(String loginName, String companyPhone) {
+        return gson.fromJson("{ \"loginName\": \"" + loginName + "\", \"companyPhone\": \"" + companyPhone + "\" }", User.class);
+    }
+
+    @Test
+    void testLookupsCached() {
+        User user = user("oxe1000", "1000");
+        when(usersService.getByLoginName("oxe1000")).thenReturn(user);
+        when(usersService.getByCompanyPhone("1000")).thenReturn(user);
+        when(userManagementService.getLogin("1000")).thenReturn("oxe1000");
+
+        UserDirectoryCache cache = UserDirectoryCache.create(usersService, userManagementService, 100, Duration.ofMinutes(1));
+        for (int i = 0; i < 3; i++) {
+            assertSame(user, cache.getByLoginName("oxe1000"));
+            assertSame(user, cache.getByCompanyPhone("1000"));
+            assertEquals("oxe1000", cache.getLogin("1000"));
+        }
+
+        verify(usersService, times(1)).getByLoginName("oxe1000");
+        verify(usersService, times(1)).getByCompanyPhone("1000");
+        verify(userManagementService, times(1)).getLogin("1000");
+        assertEquals(3, cache.getMissCount());
+        assertEquals(6, cache.getHitCount());
+    }
+
+    @Test
+    void testNotFoundNotCached() {
+        UserDirectoryCache cache = UserDirectoryCache.create(usersService, null, 100, Duration.ofMinutes(1));
+        assertNull(cache.getByCompanyPhone("0123456789"));
+        assertNull(cache.getByCompanyPhone("0123456789"));
+        verify(usersService, times(2)).getByCompanyPhone("0123456789");
+
+        assertThrows(IllegalStateException.class, () -> cache.getLogin("1000"));
+    }
+
+    @Test
+    void testExpired() {
+        when(usersService.getByLoginName("oxe1000")).thenReturn(user("oxe1000", "1000"));
+
+        AtomicLong nanoTime = new AtomicLong();
+        UserDirectoryCache cache = new UserDirectoryCache(usersService, null, 100, Duration.ofSeconds(10), nanoTime::get);
+        cache.getByLoginName("oxe1000");
+
+        nanoTime.addAndGet(Duration.ofSeconds(10).toNanos());
+        cache.getByLoginName("oxe1000");
+        verify(usersService, times(1)).getByLoginName("oxe1000");
+
+        nanoTime.incrementAndGet();
+        cache.getByLoginName("oxe1000");
+        verify(usersService, times(2)).getByLoginName("oxe1000");
+    }
+
+    @Test
+    void testLeastRecentlyUsedEvicted() {
+        when(usersService.getByLoginName("oxe1000")).thenReturn(user("oxe1000", "1000"));
+        when(usersService.getByLoginName("oxe1001")).thenReturn(user("oxe1001", "1001"));
+        when(usersService.getByLoginName("oxe1002")).thenReturn(user("oxe1002", "1002"));
+
+        UserDirectoryCache cache = UserDirectoryCache.create(usersService, null, 2, Duration.ofMinutes(1));
+        cache.getByLoginName("oxe1000");
+        cache.getByLoginName("oxe1001");
+        cache.getByLoginName("oxe1000");
+        cache.getByLoginName("oxe1002");
+
+        // oxe1001 has been evicted
+        cache.getByLoginName("oxe1000");
+        cache.getByLoginName("oxe1001");
+        verify(usersService, times(1)).getByLoginName("oxe1000");
+        verify(usersService, times(2)).getByLoginName("oxe1001");
+    }
+
+    @Test
+    void testSingleFlight() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        User user = user("oxe1000", "1000");
+        when(usersService.getByCompanyPhone("1000")).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return user;
+        });
+
+        UserDirectoryCache cache = UserDirectoryCache.create(usersService, null, 100, Duration.ofMinutes(1));
+        List<CompletableFuture<User>> lookups = new ArrayList<>();
+        lookups.add(CompletableFuture.supplyAsync(() -> cache.getByCompanyPhone("1000")));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 4; i++) {
+            lookups.add(CompletableFuture.supplyAsync(() -> cache.getByCompanyPhone("1000")));
+        }
+
+        // The waiting lookups are counted as hits when they reach the cache
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((cache.getHitCount() < 4) && (System.nanoTime() < deadline)) {
+            Thread.yield();
+        }
+        assertEquals(4, cache.getHitCount());
+
+        release.countDown();
+        for (CompletableFuture<User> lookup : lookups) {
+            assertSame(user, lookup.get(5, TimeUnit.SECONDS));
+        }
+        verify(usersService, times(1)).getByCompanyPhone("1000");
+    }
+
+    @Test
+    void testFailedLoadNotCached() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(usersService.getByLoginName("oxe1000")).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw new StackOverflowError();
+        }).thenReturn(user("oxe1000", "1000"));
+
+        UserDirectoryCache cache = UserDirectoryCache.create(usersService, null, 100, Duration.ofMinutes(1));
+        CompletableFuture<User> lookup = CompletableFuture.supplyAsync(() -> cache.getByLoginName("oxe1000"));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        CompletableFuture<User> waiting = CompletableFuture.supplyAsync(() -> cache.getByLoginName("oxe1000"));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((cache.getHitCount() < 1) && (System.nanoTime() < deadline)) {
+            Thread.yield();
+        }
+        release.countDown();
+
+        // The waiting lookup gets the error too, and the failure is not cached
+        ExecutionException e = assertThrows(ExecutionException.class, () -> lookup.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(StackOverflowError.class, e.getCause());
+        e = assertThrows(ExecutionException.class, () -> waiting.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(StackOverflowError.class, e.getCause());
+
+        assertEquals("oxe1000", cache.getByLoginName("oxe1000").getLoginName());
+        verify(usersService, times(2)).getByLoginName("oxe1000");
+    }
+
+    @Test
+    void testInvalidatedByEvents() {
+        when(usersService.getByLoginName("oxe1000")).thenReturn(user("oxe1000", "1000"));
+        when(usersService.getByCompanyPhone("1000")).thenReturn(user("oxe1000", "1000"));
+        when(userManagementService.getLogin("1000")).thenReturn("oxe1000");
+        when(usersService.getByLoginName("oxe1001")).thenReturn(user("oxe1001", "1001"));
+
+        UserDirectoryCache cache = UserDirectoryCache.create(usersService, userManagementService, 100, Duration.ofMinutes(1));
+        cache.getByLoginName("oxe1000");
+        cache.getByCompanyPhone("1000");
+        cache.getLogin("1000");
+        cache.getByLoginName("oxe1001");
+
+        cache.onUserInfoChanged(gson.fromJson("{ \"loginName\": \"oxe1000\" }", OnUserInfoChangedEvent.class));
+        cache.getByLoginName("oxe1000");
+        cache.getByCompanyPhone("1000");
+        cache.getLogin("1000");
+        cache.getByLoginName("oxe1001");
+
+        cache.onUserDeleted(gson.fromJson("{ \"loginName\": \"oxe1001\" }", OnUserDeletedEvent.class));
+        cache.getByLoginName("oxe1001");
+
+        verify(usersService, times(2)).getByLoginName("oxe1000");
+        verify(usersService, times(2)).getByCompanyPhone("1000");
+        verify(userManagementService, times(2)).getLogin("1000");
+        verify(usersService, times(2)).getByLoginName("oxe1001");
+    }
+}
@@ -20,13 +20,16 @@
 package com.ale.o2g.events.ccrt;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDateTime;
 
 import org.junit.jupiter.api.Test;
 
 import com.ale.o2g.test.AbstractJsonTest;
+import com.ale.o2g.types.ccrt.AgentAttributes;
 
 public class OnAgentRtiChangedEventTest extends AbstractJsonTest {
 
@@ -120,4 +123,24 @@ public class OnAgentRtiChangedEventTest extends AbstractJsonTest {
         assertEquals(0, event.getWithdrawReason());
         assertEquals(0, event.getKey());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testPartialEvent() {
+        String json = """
+        {
+            "nbOfServedACDCalls": 0,
+            "serviceState": "Withdrawn",
+            "afeKey": 1234
+        }
+        """;
+
+        OnAgentRtiChangedEvent event = gson.fromJson(json, OnAgentRtiChangedEvent.class);
+
+        assertTrue(event.isSet(AgentAttributes.NbOfServedACDCalls));
+        assertTrue(event.isSet(AgentAttributes.ServiceState));
+        assertFalse(event.isSet(AgentAttributes.NbOfRefusedACDCalls));
+        assertFalse(event.isSet(AgentAttributes.CurrentPG));
+        assertEquals(0, event.getNbOfServedACDCalls());
+        assertEquals(0, event.getNbOfRefusedACDCalls());
+    }
+}
@@ -0,0 +1,141 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.ale.o2g.events.telephony.OnCallModifiedEvent;
+
+class ChunkEventReaderTest {
+
+    private static InputStream streamOf(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // A stream which returns one byte at a time, like a slow network
+    private static InputStream slowStreamOf(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+    }
+
+    @Test
+    void testLines() throws IOException {
+        ChunkEventReader reader = new ChunkEventReader(streamOf("{\"eventName\":\"OnA\"}\n{\"eventName\":\"OnB\"}\n \n{}"));
+
+        assertEquals("{\"eventName\":\"OnA\"}", reader.next());
+        assertEquals("{\"eventName\":\"OnB\"}", reader.next());
+        assertEquals("{}", reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testPrettyPrinted() throws IOException {
+        String event = """
+                {
+                  "eventName": "OnCallModified",
+                  "loginName": "oxe1000",
+                  "callRef": "1234",
+                  "callData": {
+                    "tags": [ { "name": "a", "value": "b" } ]
+                  }
+                }""";
+        ChunkEventReader reader = new ChunkEventReader(slowStreamOf(event + "\r\n" + event + "\r\n"));
+
+        assertEquals(event, reader.next());
+
+        OnCallModifiedEvent e = (OnCallModifiedEvent) EventBuilder.get(reader.next()).event();
+        assertEquals("1234", e.getCallRef());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testStrings() throws IOException {
+        // Braces and escaped quotes in strings, multi bytes characters
+        String event = "{\"eventName\":\"OnA\",\"text\":\"}{ \\\"quoted\\\" \\\\\",\"name\":\"Élodie 日本\"}";
+        ChunkEventReader reader = new ChunkEventReader(slowStreamOf(event + "\n" + event));
+
+        assertEquals(event, reader.next());
+        assertEquals(event, reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testBufferGrowth() throws IOException {
+        StringBuilder builder = new StringBuilder("{\"eventName\":\"OnA\",\"values\":[");
+        for (int i = 0; i < 1000; i++) {
+            builder.append(i).append(',');
+        }
+        builder.append("0]}");
+        String event = builder.toString();
+
+        ChunkEventReader reader = new ChunkEventReader(streamOf("{}\n" + event + "\n{}"), 16, 8192);
+
+        assertEquals("{}", reader.next());
+        assertEquals(event, reader.next());
+        assertEquals("{}", reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testMaxEventSize() throws IOException {
+        StringBuilder builder = new StringBuilder("{\"eventName\":\"OnA\",\"values\":[");
+        for (int i = 0; i < 1000; i++) {
+            builder.append(i).append(',');
+        }
+        builder.append("0]}");
+
+        ChunkEventReader reader = new ChunkEventReader(streamOf("{}\n" + builder + "\n{}"), 16, 1024);
+
+        assertEquals("{}", reader.next());
+        assertThrows(IOException.class, () -> reader.next());
+    }
+
+    @Test
+    void testEventBytes() throws IOException {
+        String event = "{\"eventName\":\"OnA\",\"name\":\"Élodie\"}";
+        ChunkEventReader reader = new ChunkEventReader(slowStreamOf("\n" + event + "\n"));
+
+        assertTrue(reader.nextEvent());
+        assertEquals(event, new String(reader.eventBytes(), reader.eventOffset(), reader.eventLength(), StandardCharsets.UTF_8));
+        assertFalse(reader.nextEvent());
+    }
+
+    @Test
+    void testTruncatedEvent() throws IOException {
+        ChunkEventReader reader = new ChunkEventReader(streamOf("{\"eventName\":\"OnA\"}\n{\"eventName\":"));
+
+        assertEquals("{\"eventName\":\"OnA\"}", reader.next());
+        assertNull(reader.next());
+    }
+}
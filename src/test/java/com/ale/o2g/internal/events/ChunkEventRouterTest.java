@@ -0,0 +1,96 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.ale.o2g.EventOverflowPolicy;
+import com.ale.o2g.events.telephony.OnCallModifiedEvent;
+
+class ChunkEventRouterTest {
+
+    private static List<EventQueue> createQueues(int count) {
+        List<EventQueue> queues = new ArrayList<EventQueue>();
+        for (int i = 0; i < count; i++) {
+            queues.add(new EventQueue(100, EventOverflowPolicy.BLOCK));
+        }
+        return queues;
+    }
+
+    private static O2GEventDescriptor callModified(String loginName, String callRef) {
+        return EventBuilder.get("{\"eventName\":\"OnCallModified\", "
+                + "\"loginName\":\"" + loginName + "\","
+                + "\"callRef\":\"" + callRef + "\""
+                + "}");
+    }
+
+    @Test
+    void testDefaultKeys() {
+        assertEquals("oxe1000", callModified("oxe1000", "1").key());
+        assertEquals("60100", EventBuilder.get("{\"eventName\":\"OnQueueRtiChanged\", \"number\":\"60100\"}").key());
+        assertEquals("12340", EventBuilder.get("{\"eventName\":\"OnPilotCallRemoved\", \"pilot\":\"12340\"}").key());
+        assertEquals(7, EventBuilder.get("{\"eventName\":\"OnCtiLinkDown\", \"nodeId\":\"7\"}").key());
+        assertNull(EventBuilder.get("{\"eventName\":\"OnChannelInformation\", \"text\":\"ok\"}").key());
+    }
+
+    @Test
+    void testSameKeyKeepsOrder() throws InterruptedException {
+        List<EventQueue> queues = createQueues(8);
+        ChunkEventRouter router = new ChunkEventRouter(queues, null);
+
+        for (int i = 0; i < 10; i++) {
+            router.push(callModified("oxe1000", Integer.toString(i)));
+        }
+
+        EventQueue queue = queues.get(router.indexOf(callModified("oxe1000", "x")));
+        assertEquals(10, queue.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Integer.toString(i), ((OnCallModifiedEvent) queue.take().event()).getCallRef());
+        }
+    }
+
+    @Test
+    void testKeysAreSpread() {
+        ChunkEventRouter router = new ChunkEventRouter(createQueues(4), null);
+
+        int[] counts = new int[4];
+        for (int i = 0; i < 400; i++) {
+            counts[router.indexOf(callModified("oxe" + (1000 + i), "1"))]++;
+        }
+
+        for (int count : counts) {
+            assertNotEquals(0, count);
+        }
+    }
+
+    @Test
+    void testCustomKey() {
+        ChunkEventRouter router = new ChunkEventRouter(createQueues(4), 
+                e -> ((OnCallModifiedEvent) e).getCallRef());
+
+        assertEquals(router.indexOf(callModified("oxe1000", "1234")), router.indexOf(callModified("oxe1001", "1234")));
+    }
+}
@@ -1,14 +1,21 @@
 package com.ale.o2g.internal.events;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import com.ale.o2g.events.O2GEvent;
 import com.ale.o2g.events.cca.OnAgentSkillChangedEvent;
 import com.ale.o2g.events.cca.OnAgentStateChangedEvent;
+import com.ale.o2g.events.ccp.CallCenterPilotEventAdapter;
+import com.ale.o2g.events.ccp.CallCenterPilotEventListener;
 import com.ale.o2g.events.ccp.OnPilotCallCreatedEvent;
 import com.ale.o2g.events.ccp.OnPilotCallQueuedEvent;
 import com.ale.o2g.events.ccp.OnPilotCallRemovedEvent;
@@ -223,4 +230,78 @@ class EventBuilderTest {
         assertEquals(skills.get(12).getLevel(), 6);
         assertEquals(skills.get(12).isActive(), false);
     }
+
+    @Test
+    void testUnknownOrMissingEventName() {
+        
+        assertNull(EventBuilder.get("{\"eventName\":\"OnUnknown\", \"loginName\":\"oxe123\"}"));
+        assertNull(EventBuilder.get("{\"loginName\":\"oxe123\"}"));
+        assertNull(EventBuilder.get("[]"));
+    }
+
+    @Test
+    void testEventNameNotFirst() {
+        
+        String sEvent = "{\"loginName\":\"oxe123\","
+                + "\"state\":{"
+                + "\"mainState\":\"LOG_ON\""
+                + "},"
+                + "\"eventName\":\"OnAgentStateChanged\""
+                + "}";
+        
+        O2GEventDescriptor eventDescriptor = EventBuilder.get(sEvent);
+        assertNotNull(eventDescriptor);
+        
+        OnAgentStateChangedEvent e = (OnAgentStateChangedEvent)eventDescriptor.event();
+        assertEquals("OnAgentStateChanged", e.getName());
+        assertEquals("oxe123", e.getLoginName());
+        assertEquals(OperatorMainState.LOG_ON, e.getState().getMainState());
+    }
+
+    @Test
+    void testFromBytes() {
+        
+        String sEvent = "{\"eventName\":\"OnAgentStateChanged\","
+                + "\"loginName\":\"Élodie\","
+                + "\"state\":{"
+                + "\"mainState\":\"LOG_ON\""
+                + "}"
+                + "}";
+        byte[] bytes = ("\n" + sEvent + "\n").getBytes(StandardCharsets.UTF_8);
+        int length = sEvent.getBytes(StandardCharsets.UTF_8).length;
+        
+        O2GEventDescriptor eventDescriptor = EventBuilder.get(bytes, 1, length, false);
+        assertNotNull(eventDescriptor);
+        assertNull(eventDescriptor.json());
+        
+        OnAgentStateChangedEvent e = (OnAgentStateChangedEvent)eventDescriptor.event();
+        assertEquals("Élodie", e.getLoginName());
+        assertEquals(OperatorMainState.LOG_ON, e.getState().getMainState());
+        
+        assertEquals(sEvent, EventBuilder.get(bytes, 1, length, true).json());
+    }
+
+    @Test
+    void testInvoker() {
+        
+        String sEvent = "{\"eventName\":\"OnPilotCallRemoved\", "
+                + "\"callRef\":\"12345678\","
+                + "\"pilot\":\"12340\""
+                + "}";
+        
+        O2GEventDescriptor eventDescriptor = EventBuilder.get(sEvent);
+        assertNotNull(eventDescriptor);
+        assertEquals(CallCenterPilotEventListener.class, eventDescriptor.listener());
+        
+        List<OnPilotCallRemovedEvent> received = new ArrayList<OnPilotCallRemovedEvent>();
+        eventDescriptor.invoker().invoke(new CallCenterPilotEventAdapter() {
+            @Override
+            public void onPilotCallRemoved(OnPilotCallRemovedEvent e) {
+                received.add(e);
+            }
+        }, eventDescriptor.event());
+        
+        assertEquals(1, received.size());
+        assertEquals("12345678", received.get(0).getCallRef());
+    }
 }
@@ -0,0 +1,225 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.ale.o2g.EventOverflowPolicy;
+import com.ale.o2g.events.ccrt.AgentPhoneState;
+import com.ale.o2g.events.ccrt.OnAgentRtiChangedEvent;
+import com.ale.o2g.events.telephony.OnCallModifiedEvent;
+import com.ale.o2g.events.telephony.OnTelephonyStateEvent;
+
+class EventQueueTest {
+
+    private static O2GEventDescriptor callModified(String loginName, String callRef) {
+        return EventBuilder.get("{\"eventName\":\"OnCallModified\", "
+                + "\"loginName\":\"" + loginName + "\","
+                + "\"callRef\":\"" + callRef + "\""
+                + "}");
+    }
+
+    private static O2GEventDescriptor telephonyState(String loginName) {
+        return EventBuilder.get("{\"eventName\":\"OnTelephonyState\", \"loginName\":\"" + loginName + "\"}");
+    }
+
+    private static O2GEventDescriptor agentRti(String number, String attributes) {
+        return EventBuilder.get("{\"eventName\":\"OnAgentRtiChanged\", \"number\":\"" + number + "\", " + attributes + "}");
+    }
+
+    private static String callRefOf(O2GEventDescriptor eventDescriptor) {
+        return ((OnCallModifiedEvent) eventDescriptor.event()).getCallRef();
+    }
+
+    @Test
+    void testBlock() throws InterruptedException {
+        EventQueue queue = new EventQueue(2, EventOverflowPolicy.BLOCK);
+        queue.put(callModified("oxe1000", "1"));
+        queue.put(callModified("oxe1000", "2"));
+
+        Thread producer = new Thread(() -> {
+            try {
+                queue.put(callModified("oxe1000", "3"));
+            }
+            catch (InterruptedException ignored) {
+            }
+        });
+        producer.start();
+
+        // The producer waits for room in the queue
+        while (queue.getStatistics().getBlocked() == 0) {
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+        assertEquals(2, queue.size());
+
+        assertEquals("1", callRefOf(queue.take()));
+        producer.join(5000);
+
+        assertEquals("2", callRefOf(queue.take()));
+        assertEquals("3", callRefOf(queue.take()));
+        assertEquals(3, queue.getStatistics().getReceived());
+        assertEquals(2, queue.getStatistics().getMaxSize());
+    }
+
+    @Test
+    void testDropOldestPerKey() throws InterruptedException {
+        EventQueue queue = new EventQueue(3, EventOverflowPolicy.DROP_OLDEST);
+        queue.put(callModified("oxe1000", "1"));
+        queue.put(callModified("oxe1001", "2"));
+        queue.put(callModified("oxe1000", "3"));
+
+        // Drop the oldest event of the same user
+        queue.put(callModified("oxe1000", "4"));
+
+        // No pending event for this user, drop the oldest one
+        queue.put(callModified("oxe1002", "5"));
+
+        assertEquals(2, queue.getStatistics().getDropped());
+        assertEquals("3", callRefOf(queue.take()));
+        assertEquals("4", callRefOf(queue.take()));
+        assertEquals("5", callRefOf(queue.take()));
+    }
+
+    @Test
+    void testCoalesce() throws InterruptedException {
+        EventQueue queue = new EventQueue(10, EventOverflowPolicy.COALESCE);
+        queue.put(telephonyState("oxe1000"));
+        queue.put(telephonyState("oxe1001"));
+        queue.put(callModified("oxe1001", "1"));
+
+        O2GEventDescriptor newest = telephonyState("oxe1000");
+        queue.put(newest);
+
+        assertEquals(3, queue.size());
+        assertEquals(1, queue.getStatistics().getCoalesced());
+
+        // The newest state replaces the pending one at its position
+        assertSame(newest, queue.take());
+        assertEquals("oxe1001", ((OnTelephonyStateEvent) queue.take().event()).getLoginName());
+        assertEquals("1", callRefOf(queue.take()));
+
+        // Not pending anymore, a new state is queued
+        queue.put(telephonyState("oxe1000"));
+        queue.put(callModified("oxe1000", "2"));
+        assertEquals(2, queue.size());
+        assertInstanceOf(OnTelephonyStateEvent.class, queue.take().event());
+    }
+
+    @Test
+    void testCoalesceKeepsKeyOrder() throws InterruptedException {
+        EventQueue queue = new EventQueue(10, EventOverflowPolicy.COALESCE);
+        O2GEventDescriptor s1 = telephonyState("oxe1000");
+        O2GEventDescriptor c1 = callModified("oxe1000", "1");
+        O2GEventDescriptor s2 = telephonyState("oxe1000");
+        queue.put(s1);
+        queue.put(c1);
+        queue.put(s2);
+
+        // The newer state must not be delivered before the call event queued after the older one
+        assertEquals(3, queue.size());
+        assertEquals(0, queue.getStatistics().getCoalesced());
+        assertSame(s1, queue.take());
+        assertSame(c1, queue.take());
+        assertSame(s2, queue.take());
+    }
+
+    @Test
+    void testCoalesceHotKey() throws InterruptedException {
+        EventQueue queue = new EventQueue(10, EventOverflowPolicy.BLOCK, true);
+        queue.put(agentRti("1000", "\"nbOfServedACDCalls\":0"));
+        queue.put(callModified("oxe1000", "1"));
+        queue.put(agentRti("1001", "\"nbOfServedACDCalls\":5"));
+
+        // A hot key keeps its position while the other events are pending
+        for (int i = 1; i <= 100; i++) {
+            queue.put(agentRti("1000", "\"nbOfServedACDCalls\":" + i));
+        }
+
+        assertEquals(3, queue.size());
+        assertEquals(100, queue.getStatistics().getCoalesced());
+
+        OnAgentRtiChangedEvent hot = (OnAgentRtiChangedEvent) queue.take().event();
+        assertEquals("1000", hot.getNumber());
+        assertEquals(100, hot.getNbOfServedACDCalls());
+        assertEquals("1", callRefOf(queue.take()));
+        assertEquals("1001", ((OnAgentRtiChangedEvent) queue.take().event()).getNumber());
+    }
+
+    @Test
+    void testSpillToDisk() throws InterruptedException {
+        EventQueue queue = new EventQueue(2, EventOverflowPolicy.SPILL_TO_DISK);
+        try {
+            for (int i = 0; i < 5; i++) {
+                queue.put(callModified("oxe1000", Integer.toString(i)));
+            }
+
+            assertEquals(2, queue.size());
+            assertEquals(3, queue.getStatistics().getSpilled());
+            assertEquals(3, queue.getStatistics().getSpillSize());
+
+            assertEquals("0", callRefOf(queue.take()));
+
+            // Keep the order while events are on the disk
+            queue.put(callModified("oxe1000", "5"));
+            for (int i = 1; i <= 5; i++) {
+                assertEquals(Integer.toString(i), callRefOf(queue.take()));
+            }
+
+            assertEquals(0, queue.getStatistics().getSpillSize());
+            assertTrue(queue.getStatistics().getDropped() == 0);
+        }
+        finally {
+            queue.close();
+        }
+    }
+
+    @Test
+    void testRealtimeCoalescing() throws InterruptedException {
+        EventQueue queue = new EventQueue(10, EventOverflowPolicy.BLOCK, true);
+        queue.put(agentRti("1000", "\"phoneState\":\"AcdConversation\", \"nbOfServedACDCalls\":1"));
+        queue.put(agentRti("1001", "\"nbOfServedACDCalls\":5"));
+        queue.put(agentRti("1000", "\"nbOfServedACDCalls\":2"));
+
+        assertEquals(2, queue.size());
+        assertEquals(1, queue.getStatistics().getCoalesced());
+
+        // The changed attributes of both events are kept
+        OnAgentRtiChangedEvent merged = (OnAgentRtiChangedEvent) queue.take().event();
+        assertEquals("1000", merged.getNumber());
+        assertEquals(2, merged.getNbOfServedACDCalls());
+        assertEquals(AgentPhoneState.ACD_TALKING, merged.getPhoneState());
+        assertEquals("1001", ((OnAgentRtiChangedEvent) queue.take().event()).getNumber());
+    }
+
+    @Test
+    void testNoRealtimeCoalescingByDefault() throws InterruptedException {
+        EventQueue queue = new EventQueue(10, EventOverflowPolicy.COALESCE);
+        queue.put(agentRti("1000", "\"nbOfServedACDCalls\":1"));
+        queue.put(agentRti("1000", "\"nbOfServedACDCalls\":2"));
+
+        assertEquals(2, queue.size());
+    }
+}
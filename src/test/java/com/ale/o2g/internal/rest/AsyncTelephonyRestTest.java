@@ -0,0 +1,129 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.rest;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.net.ConnectException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.Test;
+
+import com.ale.o2g.O2GRuntimeException;
+import com.ale.o2g.test.AbstractRestServiceTest;
+import com.ale.o2g.types.RestErrorInfo;
+import com.ale.o2g.types.RestResult;
+import com.ale.o2g.types.telephony.TelephonicState;
+
+class AsyncTelephonyRestTest extends AbstractRestServiceTest<AsyncTelephonyRest> {
+
+    protected AsyncTelephonyRestTest() {
+        super(AsyncTelephonyRest.class, "https://o2g/rest/api");
+    }
+
+    @Test void testMakeCall() throws Exception {
+        defineResponse(200, "");
+
+        CompletableFuture<RestResult<Boolean>> result = service.makeCall("12000", "12300", true, false, null, null, "oxe12000");
+
+        assertTrue(result.get().isSucceeded());
+        assertTrue(result.get().getValue());
+        assertTrue(result.get().getError().isEmpty());
+        assertCalledWith(POST, "/calls?loginName=oxe12000",
+                "{\"deviceId\":\"12000\",\"callee\":\"12300\",\"autoAnswer\":true,\"inhibitProgressTone\":false}");
+    }
+
+    @Test void testGetStateError() throws Exception {
+        defineResponse(403, "{\"httpStatus\":\"FORBIDDEN\",\"code\":403,\"helpMessage\":\"Not allowed\"}");
+
+        RestResult<TelephonicState> result = service.getState("oxe12000").get();
+
+        assertFalse(result.isSucceeded());
+        assertNull(result.getValue());
+        assertTrue(result.getError().isPresent());
+        assertEquals("Not allowed", result.getError().get().getHelpMessage());
+    }
+
+    @Test void testLastErrorIsPerThread() throws Exception {
+        defineResponse(403, "{\"httpStatus\":\"FORBIDDEN\",\"code\":403,\"helpMessage\":\"Not allowed\"}");
+        TelephonyRest telephony = new TelephonyRest(httpClientMock, service.uri);
+
+        assertNull(telephony.getState("oxe12000"));
+        assertEquals("Not allowed", telephony.getLastError().get().getHelpMessage());
+
+        // Another thread does not see the error, and does not clear it
+        defineResponses(List.of(mockResponse(200, "{\"calls\":[]}"), mockResponse(200, "{\"calls\":[]}")));
+        CompletableFuture<Optional<RestErrorInfo>> otherError = CompletableFuture.supplyAsync(() -> {
+            Optional<RestErrorInfo> error = telephony.getLastError();
+            telephony.getState("oxe12001");
+            return error;
+        });
+        assertTrue(otherError.get().isEmpty());
+        assertEquals("Not allowed", telephony.getLastError().get().getHelpMessage());
+
+        telephony.getState("oxe12000");
+        assertTrue(telephony.getLastError().isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test void testRequestsDoNotWait() throws Exception {
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        when(httpClientMock.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenAnswer(i -> {
+                    CompletableFuture<HttpResponse<String>> response = new CompletableFuture<>();
+                    responses.add(response);
+                    return response;
+                });
+
+        // The requests are all sent before any response is received
+        List<CompletableFuture<RestResult<TelephonicState>>> states = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            states.add(service.getState("oxe" + i));
+        }
+        assertEquals(100, responses.size());
+        assertFalse(states.get(0).isDone());
+
+        responses.forEach(r -> r.complete(mockResponse(200, "{\"calls\":[]}")));
+        for (CompletableFuture<RestResult<TelephonicState>> state : states) {
+            assertTrue(state.get().getValue().getCalls().isEmpty());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test void testConnectionFailure() throws Exception {
+        when(httpClientMock.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(CompletableFuture.failedFuture(new ConnectException("refused")));
+
+        CompletableFuture<RestResult<Boolean>> result = service.answer("ccccc1", "12000");
+        CompletionException e = assertThrows(CompletionException.class, () -> result.join());
+        assertTrue(e.getCause() instanceof ConnectException);
+
+        // The synchronous service keeps wrapping the failure
+        TelephonyRest telephony = new TelephonyRest(httpClientMock, service.uri);
+        assertThrows(O2GRuntimeException.class, () -> telephony.answer("ccccc1", "12000"));
+    }
+}
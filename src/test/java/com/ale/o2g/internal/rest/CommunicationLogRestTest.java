@@ -23,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.Iterator;
 
 import org.junit.jupiter.api.Test;
 
@@ -61,6 +62,32 @@ class CommunicationLogRestTest extends AbstractRestServiceTest<CommunicationLogR
 		assertNotNull(result);
 	}
 
+	@Test
+	void testGetComRecords_Streamed() throws Exception {
+
+		defineResponse(200, "{\"records\":[{\"recordId\":1023,\"comRef\":\"12345abcdef\",\"beginDate\":\"2026-03-08T10:15:30.000Z\"},"
+				+ "{\"recordId\":1024,\"comRef\":\"Caf\u00e9\"}],\"offset\":0,\"limit\":10,\"count\":2}");
+
+		QueryResult result = service.getComRecords(null, null, false, null);
+
+		Iterator<ComRecord> records = result.iterator();
+		ComRecord record = records.next();
+		assertEquals(1023L, record.getId());
+		assertEquals(1772964930000L, record.getBegin().getTime());
+		assertEquals("Caf\u00e9", records.next().getCallRef());
+		assertFalse(records.hasNext());
+		assertTrue(service.getLastError().isEmpty());
+	}
+
+	@Test
+	void testGetComRecords_Error() throws Exception {
+
+		defineResponse(403, "{\"httpStatus\":\"FORBIDDEN\",\"code\":403,\"helpMessage\":\"Not allowed\"}");
+
+		assertNull(service.getComRecords(null, null, false, null));
+		assertEquals("Not allowed", service.getLastError().get().getHelpMessage());
+	}
+
 	@Test
 	void testGetComRecord() throws Exception {
 
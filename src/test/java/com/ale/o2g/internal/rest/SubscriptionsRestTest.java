@@ -24,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 
 import com.ale.o2g.Subscription;
+import com.ale.o2g.events.EventPackage;
 import com.ale.o2g.events.telephony.TelephonyEventAdapter;
 import com.ale.o2g.internal.types.SubscriptionResult;
 import com.ale.o2g.test.AbstractRestServiceTest;
@@ -93,5 +94,34 @@ class SubscriptionsRestTest extends AbstractRestServiceTest<SubscriptionsRest> {
 		// Assert the result
 		assertNotNull(result);
 	}
-	
+
+	@Test
+	void testUpdateSubsription() throws Exception {
+
+		// Define the response
+		defineResponse(200, "");
+
+		Subscription.Filter filter = new Subscription.Filter();
+		filter.addPackages(new String[]{"1000", "1002"}, EventPackage.TELEPHONY);
+
+		// Call the method
+		boolean result = service.update("123abced", filter);
+
+		// Verify Called URI
+		assertCalledWith(PUT, "/123abced", "{"
+				+ "\"filter\":{"
+					+ "\"selectors\":["
+						+ "{"
+							+ "\"ids\":[\"1000\",\"1002\"],"
+							+ "\"names\":[\"telephony\"]"
+						+ "}"
+					+ "]"
+				+ "}"
+			+ "}"
+		);
+
+		// Assert the result
+		assertTrue(result);
+	}
+
 }
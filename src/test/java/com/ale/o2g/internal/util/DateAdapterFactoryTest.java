@@ -0,0 +1,81 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Instant;
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ *
+ */
+class DateAdapterFactoryTest {
+
+    private static long millis(String isoInstant) {
+        return Instant.parse(isoInstant).toEpochMilli();
+    }
+
+    @Test
+    void testParseIsoDateTime() {
+        assertEquals(millis("2026-03-08T10:15:30Z"), DateAdapterFactory.parseIsoDateTime("2026-03-08T10:15:30.000Z"));
+        assertEquals(millis("2026-03-08T10:15:30Z"), DateAdapterFactory.parseIsoDateTime("2026-03-08T10:15:30Z"));
+        assertEquals(millis("2026-03-08T10:15:30.500Z"), DateAdapterFactory.parseIsoDateTime("2026-03-08T10:15:30.5Z"));
+        assertEquals(millis("2026-03-08T10:15:30.123Z"), DateAdapterFactory.parseIsoDateTime("2026-03-08T10:15:30.123456Z"));
+        assertEquals(millis("2026-03-08T10:15:30Z"), DateAdapterFactory.parseIsoDateTime("2026-03-08T11:15:30.000+01:00"));
+        assertEquals(millis("2026-03-08T10:15:30Z"), DateAdapterFactory.parseIsoDateTime("2026-03-08T08:45:30-01:30"));
+        assertEquals(-1L, DateAdapterFactory.parseIsoDateTime("1969-12-31T23:59:59.999Z"));
+    }
+
+    @Test
+    void testParseOtherFormat() {
+        assertEquals(DateAdapterFactory.INVALID, DateAdapterFactory.parseIsoDateTime("2026-03-08"));
+        assertEquals(DateAdapterFactory.INVALID, DateAdapterFactory.parseIsoDateTime("2026-03-08T10:15:30"));
+        assertEquals(DateAdapterFactory.INVALID, DateAdapterFactory.parseIsoDateTime("2026-02-30T10:15:30Z"));
+        assertEquals(DateAdapterFactory.INVALID, DateAdapterFactory.parseIsoDateTime("2026-03-08T25:15:30Z"));
+        assertEquals(DateAdapterFactory.INVALID, DateAdapterFactory.parseIsoDateTime("2026-03-08T10:15:30.Z"));
+        assertEquals(DateAdapterFactory.INVALID, DateAdapterFactory.parseIsoDateTime("2026-03-08T10:15:30+0100"));
+        assertEquals(DateAdapterFactory.INVALID, DateAdapterFactory.parseIsoDateTime("Mar 8, 2026, 10:15:30 AM"));
+    }
+
+    @Test
+    void testSameAsDefaultAdapter() {
+        Gson defaultGson = new Gson();
+        for (String value : new String[] { "\"2026-03-08T10:15:30.000Z\"", "\"2026-03-08T11:15:30+01:00\"", "\"2026-03-08T10:15Z\"", "null" }) {
+            assertEquals(defaultGson.fromJson(value, Date.class), JsonUtil.GSON.fromJson(value, Date.class), value);
+        }
+    }
+
+    @Test
+    void testSerialization() {
+        Gson defaultGson = new GsonBuilder().create();
+        Date date = new Date(millis("2026-03-08T10:15:30Z"));
+
+        String json = JsonUtil.GSON.toJson(date);
+        assertEquals(defaultGson.toJson(date), json);
+        assertEquals(defaultGson.fromJson(json, Date.class), JsonUtil.GSON.fromJson(json, Date.class));
+        assertNull(JsonUtil.GSON.fromJson("null", Date.class));
+    }
+}
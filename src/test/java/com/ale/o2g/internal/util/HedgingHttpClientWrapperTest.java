@@ -0,0 +1,151 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.ale.o2g.HedgingPolicy;
+
+/**
+ *
+ */
+class HedgingHttpClientWrapperTest {
+
+    private static final HttpRequest REQUEST = HttpUtil.hedgeable(HttpUtil.GET(URI.create("https://o2g/api/rest/1.0/telephony/state")));
+
+    private static class PendingHttpClient implements HttpClientWrapper {
+
+        private final List<CompletableFuture<HttpResponse<?>>> sent = new CopyOnWriteArrayList<>();
+        private volatile boolean immediate = true;
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, BodyHandler<T> responseBodyHandler) {
+            CompletableFuture<HttpResponse<T>> response = new CompletableFuture<>();
+            if (immediate) {
+                response.complete(mock(HttpResponse.class));
+            }
+            sent.add((CompletableFuture<HttpResponse<?>>) (CompletableFuture<?>) response);
+            return response;
+        }
+
+        @Override
+        public <T> HttpResponse<T> send(HttpRequest request, BodyHandler<T> responseBodyHandler) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static HttpClientWrapper warmedUp(PendingHttpClient pending, double budget, Duration minDelay) {
+        HttpClientWrapper httpClient = new HedgingHttpClientWrapper(pending, HedgingPolicy.newBuilder()
+                .setMinDelay(minDelay)
+                .setBudget(budget)
+                .build());
+
+        // Learn the latencies, the requests are not hedged meanwhile
+        for (int i = 0; i < 32; i++) {
+            httpClient.sendAsync(REQUEST, BodyHandlers.ofString()).join();
+        }
+        pending.sent.clear();
+        pending.immediate = false;
+        return httpClient;
+    }
+
+    @Test
+    void testHedgedResponseWins() throws Exception {
+        PendingHttpClient pending = new PendingHttpClient();
+        HttpClientWrapper httpClient = warmedUp(pending, 0.1, Duration.ofMillis(500));
+
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(REQUEST, BodyHandlers.ofString());
+        assertEquals(1, pending.sent.size());
+
+        // The duplicate request is sent after the delay
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((pending.sent.size() < 2) && (System.nanoTime() < deadline)) {
+            Thread.sleep(5);
+        }
+        assertEquals(2, pending.sent.size());
+
+        HttpResponse<?> hedgedResponse = mock(HttpResponse.class);
+        pending.sent.get(1).complete(hedgedResponse);
+
+        assertSame(hedgedResponse, response.get(1, TimeUnit.SECONDS));
+        assertTrue(pending.sent.get(0).isCancelled());
+    }
+
+    @Test
+    void testFailureWaitsForOtherAttempt() throws Exception {
+        PendingHttpClient pending = new PendingHttpClient();
+        HttpClientWrapper httpClient = warmedUp(pending, 0.1, Duration.ofMillis(20));
+
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(REQUEST, BodyHandlers.ofString());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((pending.sent.size() < 2) && (System.nanoTime() < deadline)) {
+            Thread.sleep(5);
+        }
+
+        pending.sent.get(0).completeExceptionally(new IOException("reset"));
+        assertFalse(response.isDone());
+
+        HttpResponse<?> hedgedResponse = mock(HttpResponse.class);
+        pending.sent.get(1).complete(hedgedResponse);
+        assertSame(hedgedResponse, response.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testBudget() throws Exception {
+        PendingHttpClient pending = new PendingHttpClient();
+
+        // 33 requests with a budget of 1% give no token for a duplicate request
+        HttpClientWrapper httpClient = warmedUp(pending, 0.01, Duration.ofMillis(20));
+
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(REQUEST, BodyHandlers.ofString());
+        Thread.sleep(200);
+        assertEquals(1, pending.sent.size());
+
+        pending.sent.get(0).complete(mock(HttpResponse.class));
+        assertTrue(response.isDone());
+    }
+
+    @Test
+    void testNotHedgeable() {
+        PendingHttpClient pending = new PendingHttpClient();
+        HttpClientWrapper httpClient = warmedUp(pending, 1, Duration.ofMillis(20));
+
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(HttpUtil.GET(REQUEST.uri()), BodyHandlers.ofString());
+        assertSame(pending.sent.get(0), response);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.ale.o2g.RequestLimiter;
+
+/**
+ *
+ */
+class LimitedHttpClientWrapperTest {
+
+    private static final HttpRequest REQUEST = HttpUtil.GET(URI.create("https://o2g/api/rest/1.0/telephony/state"));
+
+    private static class PendingHttpClient implements HttpClientWrapper {
+
+        private final List<CompletableFuture<HttpResponse<?>>> sent = new CopyOnWriteArrayList<>();
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, BodyHandler<T> responseBodyHandler) {
+            CompletableFuture<HttpResponse<T>> response = new CompletableFuture<>();
+            sent.add((CompletableFuture<HttpResponse<?>>) (CompletableFuture<?>) response);
+            return response;
+        }
+
+        @Override
+        public <T> HttpResponse<T> send(HttpRequest request, BodyHandler<T> responseBodyHandler) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @Test
+    void testCancelQueuedRequest() throws Exception {
+        PendingHttpClient pending = new PendingHttpClient();
+        RequestLimiter limiter = RequestLimiter.adaptive(1, 1, 1, Duration.ofSeconds(1), 10);
+        HttpClientWrapper httpClient = new LimitedHttpClientWrapper(pending, limiter);
+
+        // The limiter is saturated by the first request, the next ones wait
+        CompletableFuture<HttpResponse<String>> first = httpClient.sendAsync(REQUEST, BodyHandlers.ofString());
+        CompletableFuture<HttpResponse<String>> cancelled = httpClient.sendAsync(REQUEST, BodyHandlers.ofString());
+        CompletableFuture<HttpResponse<String>> last = httpClient.sendAsync(REQUEST, BodyHandlers.ofString());
+        assertEquals(1, pending.sent.size());
+        assertEquals(2, limiter.getQueued());
+
+        // A cancelled request leaves the queue and is never sent
+        cancelled.cancel(false);
+        assertEquals(1, limiter.getQueued());
+
+        HttpResponse<?> response = mock(HttpResponse.class);
+        pending.sent.get(0).complete(response);
+        assertSame(response, first.get(1, TimeUnit.SECONDS));
+
+        assertEquals(2, pending.sent.size());
+        assertEquals(1, limiter.getInFlight());
+        assertEquals(0, limiter.getQueued());
+
+        pending.sent.get(1).complete(response);
+        assertSame(response, last.get(1, TimeUnit.SECONDS));
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void testCancelSentRequest() throws Exception {
+        PendingHttpClient pending = new PendingHttpClient();
+        RequestLimiter limiter = RequestLimiter.adaptive(1, 1, 1, Duration.ofSeconds(1), 10);
+        HttpClientWrapper httpClient = new LimitedHttpClientWrapper(pending, limiter);
+
+        CompletableFuture<HttpResponse<String>> response = httpClient.sendAsync(REQUEST, BodyHandlers.ofString());
+        assertEquals(1, limiter.getInFlight());
+
+        // The request is cancelled downstream, and its permit is given back
+        response.cancel(false);
+        assertTrue(pending.sent.get(0).isCancelled());
+        assertEquals(0, limiter.getInFlight());
+    }
+}
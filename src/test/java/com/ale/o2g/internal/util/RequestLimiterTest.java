@@ -0,0 +1,145 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.ale.o2g.RequestLimiter;
+
+/**
+ *
+ */
+class RequestLimiterTest {
+
+    private static final Duration FAST = Duration.ofMillis(10);
+    private static final Duration SLOW = Duration.ofSeconds(2);
+
+    @Test
+    void testQueueAndReject() {
+        RequestLimiter limiter = RequestLimiter.adaptive(2, 1, 10, Duration.ofSeconds(1), 1);
+
+        assertTrue(limiter.acquire().isDone());
+        assertTrue(limiter.acquire().isDone());
+
+        CompletableFuture<Void> queued = limiter.acquire();
+        assertFalse(queued.isDone());
+
+        CompletableFuture<Void> rejected = limiter.acquire();
+        ExecutionException e = assertThrows(ExecutionException.class, () -> rejected.get());
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(1, limiter.getQueued());
+        assertEquals(1L, limiter.getRejected());
+
+        limiter.release(FAST, false);
+        assertTrue(queued.isDone());
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(0, limiter.getQueued());
+    }
+
+    @Test
+    void testAdaptiveLimit() {
+        RequestLimiter limiter = RequestLimiter.adaptive(4, 2, 5, Duration.ofSeconds(1), 100);
+
+        // About a full window of fast requests increases the limit by one
+        for (int i = 0; i < 4; i++) {
+            limiter.acquire();
+        }
+        for (int i = 0; i < 5; i++) {
+            limiter.release(FAST, false);
+            limiter.acquire();
+        }
+        assertEquals(5, limiter.getLimit());
+
+        // Slow or overloaded responses decrease it, once per window, down to the minimum
+        limiter.release(SLOW, false);
+        assertEquals(4, limiter.getLimit());
+        for (int i = 0; i < 30; i++) {
+            limiter.release(FAST, true);
+            limiter.acquire();
+        }
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    void testOneDecreasePerWindow() {
+        RequestLimiter limiter = RequestLimiter.adaptive(10, 2, 10, Duration.ofSeconds(1), 100);
+
+        // A burst of slow responses of the same window decreases the limit once
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire();
+        }
+        for (int i = 0; i < 10; i++) {
+            limiter.release(SLOW, false);
+        }
+        assertEquals(9, limiter.getLimit());
+
+        // The requests sent after the decrease can decrease it again
+        limiter.acquire();
+        limiter.release(SLOW, false);
+        assertEquals(8, limiter.getLimit());
+    }
+
+    @Test
+    void testIdleClientDoesNotGrow() {
+        RequestLimiter limiter = RequestLimiter.adaptive(4, 2, 10, Duration.ofSeconds(1), 100);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire();
+            limiter.release(FAST, false);
+        }
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void testTokenBucket() throws Exception {
+        RequestLimiter limiter = RequestLimiter.tokenBucket(5, 2, 10);
+
+        assertTrue(limiter.acquire().isDone());
+        assertTrue(limiter.acquire().isDone());
+
+        CompletableFuture<Void> queued = limiter.acquire();
+        assertFalse(queued.isDone());
+        assertEquals(1, limiter.getQueued());
+
+        // Granted when the next token is available
+        queued.get(5, TimeUnit.SECONDS);
+        assertEquals(3, limiter.getInFlight());
+    }
+
+    @Test
+    void testInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> RequestLimiter.adaptive(1, 2, 10, SLOW, 10));
+        assertThrows(IllegalArgumentException.class, () -> RequestLimiter.adaptive(2, 1, 10, SLOW, -1));
+        assertThrows(IllegalArgumentException.class, () -> RequestLimiter.tokenBucket(0, 1, 10));
+    }
+}
@@ -0,0 +1,230 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.ale.o2g.RetryPolicy;
+
+/**
+ *
+ */
+class RetryingHttpClientWrapperTest {
+
+    private static final URI URI = java.net.URI.create("https://o2g/api/rest/1.0/telephony/calls");
+
+    private static class ScriptedHttpClient implements HttpClientWrapper {
+
+        private final Deque<Object> outcomes = new ArrayDeque<Object>();
+        private final List<HttpRequest> requests = new ArrayList<HttpRequest>();
+        private int sent = 0;
+
+        ScriptedHttpClient then(Object outcome) {
+            outcomes.add(outcome);
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, BodyHandler<T> responseBodyHandler) {
+            sent++;
+            requests.add(request);
+            Object outcome = outcomes.poll();
+            if (outcome instanceof Throwable exception) {
+                return CompletableFuture.failedFuture(exception);
+            }
+            else if (outcome instanceof HttpResponse<?> response) {
+                return CompletableFuture.completedFuture((HttpResponse<T>) response);
+            }
+            else {
+                HttpResponse<T> response = mock(HttpResponse.class);
+                when(response.statusCode()).thenReturn((Integer) outcome);
+                return CompletableFuture.completedFuture(response);
+            }
+        }
+
+        @Override
+        public <T> HttpResponse<T> send(HttpRequest request, BodyHandler<T> responseBodyHandler) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class StreamedBody extends ByteArrayInputStream {
+
+        private boolean closed = false;
+
+        StreamedBody() {
+            super("{}".getBytes());
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HttpResponse<InputStream> streamed(int statusCode, StreamedBody body) {
+        HttpResponse<InputStream> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(statusCode);
+        when(response.body()).thenReturn(body);
+        return response;
+    }
+
+    private static RetryPolicy policy(int maxAttempts, Duration deadline) {
+        return RetryPolicy.newBuilder()
+                .setMaxAttempts(maxAttempts)
+                .setBackoff(Duration.ofMillis(1), Duration.ofMillis(5))
+                .setDeadline(deadline)
+                .build();
+    }
+
+    private static int statusOf(HttpClientWrapper httpClient, HttpRequest request) throws Exception {
+        return httpClient.sendAsync(request, BodyHandlers.ofString()).get(5, TimeUnit.SECONDS).statusCode();
+    }
+
+    @Test
+    void testRetryIdempotentRequest() throws Exception {
+        ScriptedHttpClient scripted = new ScriptedHttpClient().then(new ConnectException()).then(503).then(200);
+        HttpClientWrapper httpClient = new RetryingHttpClientWrapper(scripted, policy(3, Duration.ofSeconds(5)));
+
+        assertEquals(200, statusOf(httpClient, HttpUtil.GET(URI)));
+        assertEquals(3, scripted.sent);
+    }
+
+    @Test
+    void testCloseRetriedResponse() throws Exception {
+        StreamedBody unavailable = new StreamedBody();
+        StreamedBody ok = new StreamedBody();
+        ScriptedHttpClient scripted = new ScriptedHttpClient().then(streamed(503, unavailable)).then(streamed(200, ok));
+        HttpClientWrapper httpClient = new RetryingHttpClientWrapper(scripted, policy(3, Duration.ofSeconds(5)));
+
+        HttpResponse<InputStream> response = httpClient.sendAsync(HttpUtil.GET(URI), BodyHandlers.ofInputStream()).get(5, TimeUnit.SECONDS);
+        assertEquals(200, response.statusCode());
+        assertSame(ok, response.body());
+
+        // The body of the retried response is released, not the returned one
+        assertTrue(unavailable.closed);
+        assertFalse(ok.closed);
+    }
+
+    @Test
+    void testMaxAttempts() throws Exception {
+        ScriptedHttpClient scripted = new ScriptedHttpClient().then(503).then(503).then(200);
+        HttpClientWrapper httpClient = new RetryingHttpClientWrapper(scripted, policy(2, Duration.ofSeconds(5)));
+
+        assertEquals(503, statusOf(httpClient, HttpUtil.DELETE(URI)));
+        assertEquals(2, scripted.sent);
+    }
+
+    @Test
+    void testNoRetryOfPost() throws Exception {
+        ScriptedHttpClient scripted = new ScriptedHttpClient().then(503).then(200);
+        HttpClientWrapper httpClient = new RetryingHttpClientWrapper(scripted, policy(3, Duration.ofSeconds(5)));
+
+        assertEquals(503, statusOf(httpClient, HttpUtil.POST(URI, "{}")));
+        assertEquals(1, scripted.sent);
+    }
+
+    @Test
+    void testRetryOfIdempotentPost() throws Exception {
+        ScriptedHttpClient scripted = new ScriptedHttpClient().then(502).then(200);
+        HttpClientWrapper httpClient = new RetryingHttpClientWrapper(scripted, policy(3, Duration.ofSeconds(5)));
+
+        assertEquals(200, statusOf(httpClient, HttpUtil.idempotent(HttpUtil.POST(URI))));
+        assertEquals(2, scripted.sent);
+    }
+
+    @Test
+    void testNoRetryOfClientErrors() throws Exception {
+        ScriptedHttpClient scripted = new ScriptedHttpClient().then(404).then(new RejectedExecutionException());
+        HttpClientWrapper httpClient = new RetryingHttpClientWrapper(scripted, policy(3, Duration.ofSeconds(5)));
+
+        assertEquals(404, statusOf(httpClient, HttpUtil.GET(URI)));
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> httpClient.sendAsync(HttpUtil.GET(URI), BodyHandlers.ofString()).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+        assertEquals(2, scripted.sent);
+    }
+
+    @Test
+    void testAttemptTimeout() throws Exception {
+        ScriptedHttpClient scripted = new ScriptedHttpClient().then(503).then(503).then(200);
+        HttpClientWrapper httpClient = new RetryingHttpClientWrapper(scripted, policy(3, Duration.ofSeconds(5)));
+
+        assertEquals(200, statusOf(httpClient, HttpUtil.hedgeable(HttpUtil.GET(URI))));
+        assertEquals(3, scripted.sent);
+
+        // Each attempt times out at the deadline, and stays hedgeable
+        Duration previous = Duration.ofSeconds(5);
+        for (HttpRequest request : scripted.requests) {
+            Duration timeout = request.timeout().get();
+            assertTrue(timeout.compareTo(previous) <= 0);
+            assertTrue(HttpUtil.isHedgeable(request));
+            assertEquals(URI, request.uri());
+            previous = timeout;
+        }
+        assertTrue(previous.compareTo(Duration.ofSeconds(5)) < 0);
+    }
+
+    @Test
+    void testDeadline() throws Exception {
+        ScriptedHttpClient scripted = new ScriptedHttpClient().then(new IOException("reset")).then(200);
+        RetryPolicy retryPolicy = RetryPolicy.newBuilder()
+                .setBackoff(Duration.ofSeconds(1), Duration.ofSeconds(1))
+                .setDeadline(Duration.ofMillis(1))
+                .build();
+        HttpClientWrapper httpClient = new RetryingHttpClientWrapper(scripted, retryPolicy);
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> httpClient.sendAsync(HttpUtil.GET(URI), BodyHandlers.ofString()).get(5, TimeUnit.SECONDS));
+        assertEquals("reset", e.getCause().getMessage());
+        assertEquals(1, scripted.sent);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.ale.o2g.EventWaitStrategy;
+
+class RingBufferQueueTest {
+
+    @Test
+    void testCapacity() {
+        assertEquals(1, new RingBufferQueue<Integer>(1, EventWaitStrategy.PARK).capacity());
+        assertEquals(4, new RingBufferQueue<Integer>(3, EventWaitStrategy.PARK).capacity());
+        assertEquals(1024, new RingBufferQueue<Integer>(1024, EventWaitStrategy.PARK).capacity());
+    }
+
+    @Test
+    void testWrapAround() throws InterruptedException {
+        RingBufferQueue<Integer> queue = new RingBufferQueue<Integer>(4, EventWaitStrategy.BUSY_SPIN);
+
+        for (int i = 0; i < 100; i += 3) {
+            queue.put(i);
+            queue.put(i + 1);
+            queue.put(i + 2);
+            assertEquals(3, queue.size());
+
+            assertEquals(i, queue.take());
+            assertEquals(i + 1, queue.take());
+            assertEquals(i + 2, queue.take());
+        }
+
+        assertEquals(0, queue.size());
+        assertEquals(0, queue.blocked());
+    }
+
+    private static void checkProducers(EventWaitStrategy waitStrategy, int producers, int count, int capacity) throws InterruptedException {
+        RingBufferQueue<Integer> queue = new RingBufferQueue<Integer>(capacity, waitStrategy);
+
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    for (int i = 0; i < count; i++) {
+                        queue.put(producer * count + i);
+                    }
+                }
+                catch (InterruptedException ignored) {
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        // Each producer's elements are received in order
+        int[] next = new int[producers];
+        for (int i = 0; i < producers * count; i++) {
+            int value = queue.take();
+            int producer = value / count;
+            assertEquals(next[producer]++, value % count);
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(producers * count, queue.received());
+    }
+
+    @Test
+    void testProducersBusySpin() throws InterruptedException {
+        // Spinning producers starve the consumer when there are fewer cores than threads, they never wait here
+        checkProducers(EventWaitStrategy.BUSY_SPIN, 2, 500, 1024);
+    }
+
+    @Test
+    void testProducersYield() throws InterruptedException {
+        checkProducers(EventWaitStrategy.YIELD, 4, 20000, 64);
+    }
+
+    @Test
+    void testProducersPark() throws InterruptedException {
+        checkProducers(EventWaitStrategy.PARK, 4, 20000, 64);
+    }
+
+    @Test
+    void testInterruptedProducer() throws InterruptedException {
+        RingBufferQueue<Integer> queue = new RingBufferQueue<Integer>(1, EventWaitStrategy.PARK);
+        queue.put(1);
+
+        Thread producer = new Thread(() -> {
+            try {
+                queue.put(2);
+            }
+            catch (InterruptedException ignored) {
+            }
+        });
+        producer.start();
+        while (queue.blocked() == 0) {
+            Thread.onSpinWait();
+        }
+        producer.interrupt();
+        producer.join(5000);
+
+        // The interrupted put has not claimed a slot, the next element follows
+        assertEquals(1, queue.take());
+        queue.put(3);
+        assertEquals(3, queue.take());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void testInterrupt() throws InterruptedException {
+        RingBufferQueue<Integer> queue = new RingBufferQueue<Integer>(4, EventWaitStrategy.PARK);
+
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedException.class, () -> queue.take());
+    }
+}
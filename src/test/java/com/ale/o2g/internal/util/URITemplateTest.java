@@ -0,0 +1,93 @@
+/*
+* Copyright 2026 ALE International
+*
+* Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+* software and associated documentation files (the "Software"), to deal in the Software 
+* without restriction, including without limitation the rights to use, copy, modify, merge, 
+* publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons 
+* to whom the Software is furnished to do so, subject to the following conditions:
+* 
+* The above copyright notice and this permission notice shall be included in all copies or 
+* substantial portions of the Software.
+* 
+* THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING 
+* BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND 
+* NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, 
+* DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, 
+* OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.ale.o2g.internal.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.URI;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ */
+class URITemplateTest {
+
+    private static final URI BASE = URI.create("https://o2g/api/rest/1.0/telephony");
+
+    @Test
+    void testPathAndQuery() {
+        URITemplate template = URITemplate.compile("calls/{+callRef}/hold{?loginName}");
+
+        assertEquals(URI.create("https://o2g/api/rest/1.0/telephony/calls/abc123/hold?loginName=oxe32000"),
+                template.expand(BASE, "abc123", "oxe32000"));
+        assertEquals(URI.create("https://o2g/api/rest/1.0/telephony/calls/abc123/hold"),
+                template.expand(BASE, "abc123", null));
+    }
+
+    @Test
+    void testSameAsURIBuilder() {
+        URITemplate template = URITemplate.compile("scope/{+requester}/ctx/{+ctx}/days/data{?begindate,enddate,format,shortHeader}");
+
+        URI expected = URIBuilder.appendPath(BASE, "scope", "sup1", "ctx", "ctx1", "days/data");
+        expected = URIBuilder.appendQuery(expected, "begindate", "2026-01-01 00:00");
+        expected = URIBuilder.appendQuery(expected, "enddate", "2026-01-02 00:00");
+        expected = URIBuilder.appendQuery(expected, "format", "json");
+        expected = URIBuilder.appendQuery(expected, "shortHeader");
+
+        assertEquals(expected, template.expand(BASE, "sup1", "ctx1", "2026-01-01 00:00", "2026-01-02 00:00", "json", URITemplate.NO_VALUE));
+    }
+
+    @Test
+    void testEmptyQueryValue() {
+        URITemplate template = URITemplate.compile("users{?filter}");
+
+        assertEquals(URIBuilder.appendQuery(URIBuilder.appendPath(BASE, "users"), "filter", ""), template.expand(BASE, ""));
+        assertEquals(URI.create("https://o2g/api/rest/1.0/telephony/users?filter="), template.expand(BASE, ""));
+        assertEquals(URI.create("https://o2g/api/rest/1.0/telephony/users?filter"), template.expand(BASE, URITemplate.NO_VALUE));
+    }
+
+    @Test
+    void testEncoding() {
+        assertEquals(URI.create("https://o2g/api/rest/1.0/telephony/users/john%20doe%2F%C3%A9"),
+                URITemplate.compile("users/{name}").expand(BASE, "john doe/é"));
+        assertEquals(URI.create("https://o2g/api/rest/1.0/telephony/users/john%20doe/%C3%A9"),
+                URITemplate.compile("users/{+name}").expand(BASE, "john doe/é"));
+    }
+
+    @Test
+    void testQueryOnly() {
+        URITemplate template = URITemplate.compile("{?loginName}");
+
+        assertEquals(URI.create("https://o2g/api/rest/1.0/routing/dnd?loginName=oxe32000"),
+                template.expand(URI.create("https://o2g/api/rest/1.0/routing/dnd"), "oxe32000"));
+        assertEquals(URI.create("https://o2g/api/rest/1.0/routing?a=b&loginName=oxe32000"),
+                template.expand(URI.create("https://o2g/api/rest/1.0/routing?a=b"), "oxe32000"));
+    }
+
+    @Test
+    void testInvalidValues() {
+        URITemplate template = URITemplate.compile("calls/{+callRef}{?loginName}");
+
+        assertThrows(IllegalArgumentException.class, () -> template.expand(BASE, "abc123"));
+        assertThrows(IllegalArgumentException.class, () -> template.expand(BASE, null, "oxe32000"));
+        assertThrows(IllegalArgumentException.class, () -> URITemplate.compile("calls/{callRef"));
+    }
+}
@@ -51,6 +51,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import com.ale.o2g.internal.rest.JsonBodyHandler;
 import com.ale.o2g.internal.util.HttpClientWrapper;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
@@ -126,7 +127,40 @@ public abstract class AbstractRestServiceTest<T> {
     protected void defineResponses(List<HttpResponse<String>> responses) {
         Iterator<HttpResponse<String>> iterator = responses.iterator();
         when(httpClientMock.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
-                .thenAnswer(i -> CompletableFuture.completedFuture(iterator.next()));
+                .thenAnswer(i -> {
+                    HttpResponse<String> response = iterator.next();
+                    if (i.getArgument(1) instanceof JsonBodyHandler<?> handler) {
+                        return CompletableFuture.completedFuture(applyBodyHandler(handler, response));
+                    }
+                    return CompletableFuture.completedFuture(response);
+                });
+    }
+
+    /**
+     * Feed the mocked body to a streaming body handler, as the http client does.
+     */
+    private static <B> HttpResponse<B> applyBodyHandler(HttpResponse.BodyHandler<B> handler, HttpResponse<String> response)
+            throws Exception {
+        int statusCode = response.statusCode();
+        HttpResponse.ResponseInfo info = mock(HttpResponse.ResponseInfo.class);
+        when(info.statusCode()).thenReturn(statusCode);
+
+        HttpResponse.BodySubscriber<B> subscriber = handler.apply(info);
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override public void request(long n) {}
+            @Override public void cancel() {}
+        });
+        if (response.body() != null) {
+            subscriber.onNext(List.of(ByteBuffer.wrap(response.body().getBytes(StandardCharsets.UTF_8))));
+        }
+        subscriber.onComplete();
+        B body = subscriber.getBody().toCompletableFuture().get();
+
+        @SuppressWarnings("unchecked")
+        HttpResponse<B> streamedResponse = mock(HttpResponse.class);
+        when(streamedResponse.statusCode()).thenReturn(statusCode);
+        when(streamedResponse.body()).thenReturn(body);
+        return streamedResponse;
     }
 
     /* -------------------------------